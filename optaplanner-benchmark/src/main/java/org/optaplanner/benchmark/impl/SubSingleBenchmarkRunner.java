@@ -18,11 +18,13 @@ package org.optaplanner.benchmark.impl;
 
 import java.util.concurrent.Callable;
 
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
 import org.optaplanner.core.api.score.ScoreManager;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.solver.DefaultSolver;
@@ -95,7 +97,16 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         }
         randomSeed = solverConfig.getRandomSeed();
         // Defensive copy of solverConfig for every SingleBenchmarkResult to reset Random, tabu lists, ...
-        DefaultSolverFactory<Solution_> solverFactory = new DefaultSolverFactory<>(new SolverConfig(solverConfig));
+        solverConfig = new SolverConfig(solverConfig);
+        if (subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
+                .containsKey(SingleStatisticType.CONSTRAINT_PROFILE)) {
+            ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
+            // Other score calculation types warn through the statistic instead of failing the benchmark
+            if (scoreDirectorFactoryConfig != null && scoreDirectorFactoryConfig.getConstraintProviderClass() != null) {
+                scoreDirectorFactoryConfig.setConstraintStreamProfilingEnabled(true);
+            }
+        }
+        DefaultSolverFactory<Solution_> solverFactory = new DefaultSolverFactory<>(solverConfig);
         DefaultSolver<Solution_> solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
 
         for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
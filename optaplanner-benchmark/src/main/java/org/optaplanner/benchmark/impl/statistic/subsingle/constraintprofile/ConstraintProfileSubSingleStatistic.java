@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.AbstractSolver;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Requires constraint stream profiling,
+ * which the benchmark runner enables automatically if a constraintProviderClass is configured.
+ */
+public class ConstraintProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfileStatisticPoint> {
+
+    @XmlTransient
+    private ConstraintProfileSubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public ConstraintProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILE);
+        listener = new ConstraintProfileSubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((AbstractSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class ConstraintProfileSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        // The profile is cumulative and expensive to build, so there is no need to sample it at every step
+        private static final long SAMPLE_INTERVAL_MILLIS = 1000L;
+
+        private boolean profilingEnabled;
+        private long nextSampleTimeMillisSpent;
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            profilingEnabled = phaseScope.getScoreDirector().getConstraintProfileMap() != null;
+            if (!profilingEnabled) {
+                logger.warn("The subSingleStatistic ({}) cannot function properly" +
+                        " because constraint stream profiling is not supported on the ScoreDirector.",
+                        singleStatisticType);
+            }
+            nextSampleTimeMillisSpent = phaseScope.calculateSolverTimeMillisSpentUpToNow() + SAMPLE_INTERVAL_MILLIS;
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+            long timeMillisSpent = phaseScope.calculateSolverTimeMillisSpentUpToNow();
+            if (profilingEnabled && timeMillisSpent >= nextSampleTimeMillisSpent) {
+                addPoints(timeMillisSpent, phaseScope.getScoreDirector());
+                nextSampleTimeMillisSpent = timeMillisSpent + SAMPLE_INTERVAL_MILLIS;
+            }
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            if (profilingEnabled) {
+                addPoints(phaseScope.calculateSolverTimeMillisSpentUpToNow(), phaseScope.getScoreDirector());
+            }
+        }
+
+        private void addPoints(long timeMillisSpent, InnerScoreDirector<Solution_, ?> scoreDirector) {
+            for (ConstraintProfile constraintProfile : scoreDirector.getConstraintProfileMap().values()) {
+                pointList.add(new ConstraintProfileStatisticPoint(
+                        timeMillisSpent,
+                        constraintProfile.getConstraintPackage(),
+                        constraintProfile.getConstraintName(),
+                        constraintProfile.getPropagationTimeNanos(),
+                        constraintProfile.getTupleCount()));
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfileStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "propagationTimeNanos", "tupleCount");
+    }
+
+    @Override
+    protected ConstraintProfileStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfileStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> constraintIdToSeriesMap = new LinkedHashMap<>();
+        for (ConstraintProfileStatisticPoint point : getPointList()) {
+            XYSeries series = constraintIdToSeriesMap.computeIfAbsent(point.getConstraintId(),
+                    k -> new XYSeries(point.getConstraintName()));
+            series.add(point.getTimeMillisSpent(), point.getPropagationTimeNanos() / 1_000_000.0);
+        }
+        XYPlot plot = createPlot(benchmarkReport);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer();
+        plot.setRenderer(renderer);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : constraintIdToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profile statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "ConstraintProfileStatistic"));
+    }
+
+    private XYPlot createPlot(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Score calculation time spent (ms)");
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
@@ -46,4 +46,18 @@ public @interface ValueRangeProvider {
      */
     String id();
 
+    /**
+     * Only applies to a {@link ValueRangeProvider} on a planning entity.
+     * If true, the value range of each entity is extracted at most once per phase
+     * and its values are kept as indexes into the values of all entities,
+     * so checking if an entity's value range contains a value (for example for a swap move) is O(1).
+     * <p>
+     * Use this when the member is expensive to call, for example when it filters a large value list,
+     * or when swap moves are rejected by many value ranges.
+     * The value range must be countable.
+     *
+     * @return true to precompute the value range of each entity
+     */
+    boolean precomputed() default false;
+
 }
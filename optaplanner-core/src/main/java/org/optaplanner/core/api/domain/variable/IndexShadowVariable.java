@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.domain.variable;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+
+/**
+ * Specifies that a bean property (or a field) is the index of this planning value
+ * in the {@link PlanningListVariable} that holds it, which implies it's a shadow variable.
+ * The property type must be {@link Integer}: it is null if no list holds this planning value.
+ * <p>
+ * It is specified on a getter of a java bean property (or a field) of a {@link PlanningEntity} class.
+ */
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface IndexShadowVariable {
+
+    /**
+     * The source variable must be a {@link PlanningListVariable}.
+     *
+     * @return the variable property name of the {@link PlanningListVariable} on the entity that holds the values
+     */
+    String sourceVariableName();
+
+}
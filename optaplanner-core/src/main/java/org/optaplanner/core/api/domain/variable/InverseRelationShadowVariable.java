@@ -30,6 +30,9 @@ import org.optaplanner.core.api.solver.Solver;
  * Specifies that a bean property (or a field) is the inverse of a {@link PlanningVariable}, which implies it's a shadow
  * variable.
  * <p>
+ * The inverse of a {@link PlanningListVariable} is the entity whose list holds this planning value,
+ * so it must not be a {@link java.util.Collection}.
+ * <p>
  * It is specified on a getter of a java bean property (or a field) of a {@link PlanningEntity} class.
  */
 @Target({ METHOD, FIELD })
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.domain.variable;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+
+/**
+ * Specifies that a bean property (or a field) is a {@link List} of planning values
+ * that can be changed and should be optimized by the optimization algorithms.
+ * The order of the elements in the list matters, for example the visits of a vehicle in Vehicle Routing.
+ * <p>
+ * Every planning value of the value range is in exactly 1 list, once the solution is initialized.
+ * The solver changes the list in place, so the property must not return an unmodifiable list.
+ * <p>
+ * Unlike a {@link PlanningVariableGraphType#CHAINED chained} {@link PlanningVariable},
+ * the position of a planning value doesn't need to be found by walking a chain.
+ * To know which entity holds a planning value and at which index,
+ * use an {@link InverseRelationShadowVariable} and an {@link IndexShadowVariable} on the planning value class.
+ * <p>
+ * It is specified on a getter of a java bean property (or directly on a field) of a {@link PlanningEntity} class.
+ */
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface PlanningListVariable {
+
+    /**
+     * Any {@link ValueRangeProvider} annotation on a {@link PlanningSolution}
+     * will automatically be registered with its {@link ValueRangeProvider#id()}.
+     * <p>
+     * There should be at least 1 element in this array.
+     * Every planning value of that range must be in the list of exactly 1 planning entity.
+     *
+     * @return 1 (or more) registered {@link ValueRangeProvider#id()}
+     */
+    String[] valueRangeProviderRefs() default {};
+
+}
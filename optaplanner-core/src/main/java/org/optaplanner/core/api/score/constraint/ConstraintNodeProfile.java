@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.constraint;
+
+/**
+ * The score calculation cost of a single node (such as a filter, a join or a groupBy)
+ * of the network that a constraint stream implementation builds for a {@link ConstraintProfile constraint}.
+ * <p>
+ * A node shared by multiple constraints is reported in full in the {@link ConstraintProfile} of each of them.
+ */
+public final class ConstraintNodeProfile {
+
+    private final String nodeType;
+    private final String nodeDescription;
+    private final long propagationTimeNanos;
+    private final long tupleCount;
+
+    /**
+     * @param nodeType never null, for example {@code Filter}, {@code Join} or {@code Group}
+     * @param nodeDescription never null
+     * @param propagationTimeNanos {@code >= 0}
+     * @param tupleCount {@code >= 0}
+     */
+    public ConstraintNodeProfile(String nodeType, String nodeDescription, long propagationTimeNanos, long tupleCount) {
+        this.nodeType = nodeType;
+        this.nodeDescription = nodeDescription;
+        this.propagationTimeNanos = propagationTimeNanos;
+        this.tupleCount = tupleCount;
+    }
+
+    /**
+     * @return never null, for example {@code Filter}, {@code Join} or {@code Group}
+     */
+    public String getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getNodeDescription() {
+        return nodeDescription;
+    }
+
+    /**
+     * @return {@code >= 0}, the time spent propagating tuples through this node, in nanoseconds
+     */
+    public long getPropagationTimeNanos() {
+        return propagationTimeNanos;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tuples this node propagated (inserts, updates and retracts)
+     */
+    public long getTupleCount() {
+        return tupleCount;
+    }
+
+    @Override
+    public String toString() {
+        return nodeDescription + " (" + tupleCount + " tuples in " + propagationTimeNanos + " ns)";
+    }
+
+}
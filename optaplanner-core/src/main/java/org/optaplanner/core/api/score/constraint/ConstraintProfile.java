@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.constraint;
+
+import java.util.List;
+
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+
+/**
+ * The score calculation cost of a single {@link Constraint},
+ * broken down by the {@link ConstraintNodeProfile nodes} that calculate it.
+ * Only available if {@link ScoreDirectorFactoryConfig#getConstraintStreamProfilingEnabled()} is true.
+ * <p>
+ * Because nodes can be shared by multiple constraints,
+ * the sum of all {@link #getPropagationTimeNanos()} can exceed the total score calculation time.
+ */
+public final class ConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final List<ConstraintNodeProfile> nodeProfileList;
+
+    /**
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @param nodeProfileList never null
+     */
+    public ConstraintProfile(String constraintPackage, String constraintName,
+            List<ConstraintNodeProfile> nodeProfileList) {
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.nodeProfileList = nodeProfileList;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * To create a constraintId, use {@link ConstraintMatchTotal#composeConstraintId(String, String)}.
+     *
+     * @return never null
+     */
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    /**
+     * @return never null, in network order
+     */
+    public List<ConstraintNodeProfile> getNodeProfileList() {
+        return nodeProfileList;
+    }
+
+    /**
+     * @return {@code >= 0}, the sum of the {@link ConstraintNodeProfile#getPropagationTimeNanos()} of every node
+     */
+    public long getPropagationTimeNanos() {
+        long propagationTimeNanos = 0L;
+        for (ConstraintNodeProfile nodeProfile : nodeProfileList) {
+            propagationTimeNanos += nodeProfile.getPropagationTimeNanos();
+        }
+        return propagationTimeNanos;
+    }
+
+    /**
+     * @return {@code >= 0}, the sum of the {@link ConstraintNodeProfile#getTupleCount()} of every node
+     */
+    public long getTupleCount() {
+        long tupleCount = 0L;
+        for (ConstraintNodeProfile nodeProfile : nodeProfileList) {
+            tupleCount += nodeProfile.getTupleCount();
+        }
+        return tupleCount;
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + " (" + getTupleCount() + " tuples in " + getPropagationTimeNanos() + " ns)";
+    }
+
+}
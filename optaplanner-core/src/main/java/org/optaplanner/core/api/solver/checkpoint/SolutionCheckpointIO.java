@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.checkpoint;
+
+import java.io.File;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.checkpoint.SolverCheckpointConfig;
+
+/**
+ * Reads or writes the best {@link PlanningSolution} of a checkpoint of a {@link Solver}
+ * from or to a {@link File}.
+ * <p>
+ * The methods have the same signature as those of the {@code SolutionFileIO} of optaplanner-persistence-common,
+ * so a subclass of any of its implementations can just implement this interface too.
+ * <p>
+ * An implementation must have a public no-arg constructor, see {@link SolverCheckpointConfig}.
+ * It must be thread-safe, because it writes off the solver thread.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface SolutionCheckpointIO<Solution_> {
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param inputSolutionFile never null
+     * @return never null
+     */
+    Solution_ read(File inputSolutionFile);
+
+    /**
+     * This method is thread-safe.
+     * It is never called from the solver thread.
+     *
+     * @param solution never null, never changed by the solver while it is being written
+     * @param outputSolutionFile never null, parent directory already exists
+     */
+    void write(Solution_ solution, File outputSolutionFile);
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.event;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.ProblemFactChange;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * A {@link BestSolutionChangedEvent} that also tells which planning variables changed
+ * since the previous best solution event, so a listener can forward only those changes
+ * (for example to a user interface or a database) instead of comparing the entire {@link PlanningSolution}.
+ * Delivered to a {@link BestSolutionDeltaListener}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BestSolutionDeltaEvent<Solution_> extends BestSolutionChangedEvent<Solution_> {
+
+    private final List<PlanningVariableChange> variableChangeList;
+    private final boolean variableChangeListComplete;
+
+    /**
+     * @param solver never null
+     * @param timeMillisSpent {@code >= 0L}
+     * @param newBestSolution never null
+     * @param newBestScore never null
+     * @param variableChangeList never null
+     * @param variableChangeListComplete false if the variableChangeList doesn't cover all changes
+     */
+    public BestSolutionDeltaEvent(Solver<Solution_> solver, long timeMillisSpent,
+            Solution_ newBestSolution, Score newBestScore,
+            List<PlanningVariableChange> variableChangeList, boolean variableChangeListComplete) {
+        super(solver, timeMillisSpent, newBestSolution, newBestScore);
+        this.variableChangeList = variableChangeList;
+        this.variableChangeListComplete = variableChangeListComplete;
+    }
+
+    /**
+     * Every genuine planning variable that has a different value in {@link #getNewBestSolution()}
+     * than in the best solution of the previous event (or the problem given to {@link Solver#solve(Object)}
+     * for the first event).
+     * Each {@link PlanningVariableChange#getEntity() entity} is an instance of {@link #getNewBestSolution()}.
+     * <p>
+     * Only reliable if {@link #isVariableChangeListComplete()} returns true.
+     *
+     * @return never null, empty if {@link #isVariableChangeListComplete()} returns false
+     */
+    public List<PlanningVariableChange> getVariableChangeList() {
+        return variableChangeList;
+    }
+
+    /**
+     * A {@link ProblemFactChange} can add or remove entities and change problem facts,
+     * which a list of variable changes can't express.
+     * The same goes for a {@link BestSolutionDeltaListener} that was added while the {@link Solver} was solving.
+     * In those cases, read the entire {@link #getNewBestSolution()} instead.
+     *
+     * @return true if {@link #getVariableChangeList()} contains every change since the previous event
+     */
+    public boolean isVariableChangeListComplete() {
+        return variableChangeListComplete;
+    }
+
+}
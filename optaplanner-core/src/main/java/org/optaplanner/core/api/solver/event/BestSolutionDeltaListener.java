@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.event;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * A {@link SolverEventListener} that receives a {@link BestSolutionDeltaEvent}
+ * with the changed planning variables, instead of a plain {@link BestSolutionChangedEvent}.
+ * <p>
+ * The changes are recorded from the variable change notifications the score director already receives,
+ * so nothing extra is cloned or compared.
+ * That recording only happens while such a listener is added,
+ * so add it before calling {@link Solver#solve(Object)}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@FunctionalInterface
+public interface BestSolutionDeltaListener<Solution_> extends SolverEventListener<Solution_> {
+
+    @Override
+    default void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
+        bestSolutionDeltaChanged((BestSolutionDeltaEvent<Solution_>) event);
+    }
+
+    /**
+     * As defined by {@link SolverEventListener#bestSolutionChanged(BestSolutionChangedEvent)}.
+     *
+     * @param event never null
+     */
+    void bestSolutionDeltaChanged(BestSolutionDeltaEvent<Solution_> event);
+
+}
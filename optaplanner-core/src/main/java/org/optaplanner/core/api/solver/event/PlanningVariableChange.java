@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.event;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+/**
+ * A genuine {@link PlanningVariable} of a {@link PlanningEntity} that has a different value
+ * in the new best {@link PlanningSolution} than in the previous best {@link PlanningSolution}.
+ * <p>
+ * This class is immutable.
+ *
+ * @see BestSolutionDeltaEvent#getVariableChangeList()
+ */
+public final class PlanningVariableChange {
+
+    private final Object entity;
+    private final String variableName;
+    private final Object newValue;
+
+    /**
+     * @param entity never null
+     * @param variableName never null
+     * @param newValue sometimes null
+     */
+    public PlanningVariableChange(Object entity, String variableName, Object newValue) {
+        this.entity = entity;
+        this.variableName = variableName;
+        this.newValue = newValue;
+    }
+
+    /**
+     * @return never null, a {@link PlanningEntity} instance of the new best {@link PlanningSolution}
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return never null, the name of the genuine {@link PlanningVariable}
+     */
+    public String getVariableName() {
+        return variableName;
+    }
+
+    /**
+     * @return sometimes null, the value of the variable in the new best {@link PlanningSolution}
+     */
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return entity + "." + variableName + " = " + newValue;
+    }
+
+}
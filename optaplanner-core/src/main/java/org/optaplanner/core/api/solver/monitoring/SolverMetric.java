@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.monitoring;
+
+/**
+ * A metric that a {@link org.optaplanner.core.api.solver.Solver} reports to its {@link SolverMetricsRegistry}.
+ * <p>
+ * Counters are reported through {@link SolverMetricsRegistry#increment(SolverMetric, String, long)},
+ * timers through {@link SolverMetricsRegistry#recordNanos(SolverMetric, long)}
+ * and gauges through {@link SolverMetricsRegistry#gauge(SolverMetric, String, double)}.
+ */
+public enum SolverMetric {
+    /**
+     * Counter of the number of score calculations, updated after every step.
+     */
+    SCORE_CALCULATION_COUNT("optaplanner.solver.score.calculation.count", null),
+    /**
+     * Gauge of the average number of score calculations per second since solving started, updated after every step.
+     */
+    SCORE_CALCULATION_SPEED("optaplanner.solver.score.calculation.speed", null),
+    /**
+     * Counter of the number of moves evaluated by the move selector of a local search phase,
+     * tagged by that phase.
+     */
+    MOVE_EVALUATED_COUNT("optaplanner.solver.move.evaluated.count", "phase"),
+    /**
+     * Counter of the number of moves accepted by the acceptor of a local search phase,
+     * tagged by that phase.
+     */
+    MOVE_ACCEPTED_COUNT("optaplanner.solver.move.accepted.count", "phase"),
+    /**
+     * Timer of every step of every phase.
+     */
+    STEP_TIME("optaplanner.solver.step.time", null),
+    /**
+     * Gauge of the best score, tagged by score level.
+     */
+    BEST_SCORE("optaplanner.solver.best.score", "level"),
+    /**
+     * Timer of processing a batch of {@link org.optaplanner.core.api.solver.ProblemFactChange}s,
+     * including the score calculation and the new best solution.
+     */
+    PROBLEM_FACT_CHANGE_TIME("optaplanner.solver.problem.fact.change.time", null),
+    /**
+     * Timer of cloning the working solution into a new best solution.
+     */
+    SOLUTION_CLONE_TIME("optaplanner.solver.solution.clone.time", null);
+
+    private final String meterName;
+    private final String tagKey;
+
+    SolverMetric(String meterName, String tagKey) {
+        this.meterName = meterName;
+        this.tagKey = tagKey;
+    }
+
+    /**
+     * @return never null, dot separated, for example {@code optaplanner.solver.step.time}
+     */
+    public String getMeterName() {
+        return meterName;
+    }
+
+    /**
+     * @return null if the metric is not tagged, otherwise the key of its tag
+     */
+    public String getTagKey() {
+        return tagKey;
+    }
+
+}
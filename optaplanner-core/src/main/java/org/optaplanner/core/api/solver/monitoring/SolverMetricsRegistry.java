@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.monitoring;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.SolverConfig;
+
+/**
+ * Receives the live {@link SolverMetric}s of every {@link Solver} built from a {@link SolverConfig}
+ * with {@link SolverConfig#setMetricsRegistry(SolverMetricsRegistry)}.
+ * <p>
+ * The metrics are reported from the solver thread, at most once per step (never per move),
+ * so an implementation should return fast but doesn't need to be lock free.
+ * Multiple solvers (for example of the same {@link org.optaplanner.core.api.solver.SolverManager})
+ * can report to the same instance concurrently, so an implementation must be thread-safe.
+ * <p>
+ * If no metrics registry is configured, no metrics are collected at all.
+ */
+public interface SolverMetricsRegistry {
+
+    /**
+     * @param metric never null
+     * @param tagValue null if {@link SolverMetric#getTagKey()} is null
+     * @param amount at least 0
+     */
+    void increment(SolverMetric metric, String tagValue, long amount);
+
+    /**
+     * @param metric never null
+     * @param nanos at least 0, in nanoseconds
+     */
+    void recordNanos(SolverMetric metric, long nanos);
+
+    /**
+     * @param metric never null
+     * @param tagValue null if {@link SolverMetric#getTagKey()} is null
+     * @param value the latest value
+     */
+    void gauge(SolverMetric metric, String tagValue, double value);
+
+}
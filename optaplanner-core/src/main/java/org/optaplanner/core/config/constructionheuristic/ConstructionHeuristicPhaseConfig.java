@@ -41,6 +41,10 @@ import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelec
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -51,7 +55,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "placementThreadCount"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -88,6 +93,14 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     protected List<MoveSelectorConfig> moveSelectorConfigList = null;
@@ -95,6 +108,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    protected Integer placementThreadCount = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -147,6 +162,17 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * @return sometimes null, if not null, every placement is split over this number of placement threads
+     */
+    public Integer getPlacementThreadCount() {
+        return placementThreadCount;
+    }
+
+    public void setPlacementThreadCount(Integer placementThreadCount) {
+        this.placementThreadCount = placementThreadCount;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -182,6 +208,11 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withPlacementThreadCount(Integer placementThreadCount) {
+        this.placementThreadCount = placementThreadCount;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -196,6 +227,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        placementThreadCount = ConfigUtils.inheritOverwritableProperty(placementThreadCount,
+                inheritedConfig.getPlacementThreadCount());
         return this;
     }
 
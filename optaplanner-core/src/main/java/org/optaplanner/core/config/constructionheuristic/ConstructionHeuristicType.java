@@ -63,6 +63,17 @@ public enum ConstructionHeuristicType {
      * A specific form of {@link #ALLOCATE_FROM_POOL}.
      */
     CHEAPEST_INSERTION,
+    /**
+     * A specific form of {@link #ALLOCATE_FROM_POOL}.
+     * Assign the entity with the largest score loss between its best and its k-th best value to its best value.
+     */
+    REGRET_INSERTION,
+    /**
+     * A specific form of {@link #ALLOCATE_FROM_POOL}.
+     * Greedy randomized adaptive search procedure:
+     * assign a random entity-value combination from the few best ones (the restricted candidate list).
+     */
+    GRASP,
     /**
      * Put all entity-value combinations in a pool.
      * Assign the best entity to best value.
@@ -83,6 +94,8 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_ENTITY_FROM_QUEUE:
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
+            case GRASP:
             case ALLOCATE_FROM_POOL:
                 return EntitySorterManner.DECREASING_DIFFICULTY_IF_AVAILABLE;
             default:
@@ -104,6 +117,8 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_ENTITY_FROM_QUEUE:
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
+            case GRASP:
             case ALLOCATE_FROM_POOL:
                 return ValueSorterManner.INCREASING_STRENGTH_IF_AVAILABLE;
             default:
@@ -123,7 +138,9 @@ public enum ConstructionHeuristicType {
                 WEAKEST_FIT_DECREASING,
                 STRONGEST_FIT,
                 STRONGEST_FIT_DECREASING,
-                CHEAPEST_INSERTION
+                CHEAPEST_INSERTION,
+                REGRET_INSERTION,
+                GRASP
         };
     }
 
@@ -24,11 +24,15 @@ import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 
 @XmlType(propOrder = {
-        "pickEarlyType"
+        "pickEarlyType",
+        "regretK",
+        "restrictedCandidateListSize"
 })
 public class ConstructionHeuristicForagerConfig extends AbstractConfig<ConstructionHeuristicForagerConfig> {
 
     private ConstructionHeuristicPickEarlyType pickEarlyType = null;
+    private Integer regretK = null;
+    private Integer restrictedCandidateListSize = null;
 
     public ConstructionHeuristicPickEarlyType getPickEarlyType() {
         return pickEarlyType;
@@ -38,9 +42,55 @@ public class ConstructionHeuristicForagerConfig extends AbstractConfig<Construct
         this.pickEarlyType = pickEarlyType;
     }
 
+    /**
+     * @return sometimes null, if not null, the entity with the largest score loss
+     *         between its best and its k-th best move is picked, instead of the move with the best score
+     */
+    public Integer getRegretK() {
+        return regretK;
+    }
+
+    public void setRegretK(Integer regretK) {
+        this.regretK = regretK;
+    }
+
+    /**
+     * @return sometimes null, if not null, a random move is picked from this number of best moves,
+     *         instead of the move with the best score
+     */
+    public Integer getRestrictedCandidateListSize() {
+        return restrictedCandidateListSize;
+    }
+
+    public void setRestrictedCandidateListSize(Integer restrictedCandidateListSize) {
+        this.restrictedCandidateListSize = restrictedCandidateListSize;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public ConstructionHeuristicForagerConfig withPickEarlyType(ConstructionHeuristicPickEarlyType pickEarlyType) {
+        this.pickEarlyType = pickEarlyType;
+        return this;
+    }
+
+    public ConstructionHeuristicForagerConfig withRegretK(Integer regretK) {
+        this.regretK = regretK;
+        return this;
+    }
+
+    public ConstructionHeuristicForagerConfig withRestrictedCandidateListSize(Integer restrictedCandidateListSize) {
+        this.restrictedCandidateListSize = restrictedCandidateListSize;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicForagerConfig inherit(ConstructionHeuristicForagerConfig inheritedConfig) {
         pickEarlyType = ConfigUtils.inheritOverwritableProperty(pickEarlyType, inheritedConfig.getPickEarlyType());
+        regretK = ConfigUtils.inheritOverwritableProperty(regretK, inheritedConfig.getRegretK());
+        restrictedCandidateListSize = ConfigUtils.inheritOverwritableProperty(restrictedCandidateListSize,
+                inheritedConfig.getRestrictedCandidateListSize());
         return this;
     }
 
@@ -36,11 +36,16 @@ import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelec
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 
 @XmlType(propOrder = {
         "entitySelectorConfig",
-        "moveSelectorConfigList"
+        "moveSelectorConfigList",
+        "entityBatchSize"
 })
 public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPlacerConfig> {
 
@@ -63,10 +68,20 @@ public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPla
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     protected List<MoveSelectorConfig> moveSelectorConfigList = null;
 
+    protected Integer entityBatchSize = null;
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -83,11 +98,29 @@ public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPla
         this.moveSelectorConfigList = moveSelectorConfigList;
     }
 
+    /**
+     * @return sometimes null, if not null, every step places up to this number of entities,
+     *         each one on top of the previous ones, to reduce the overhead per step
+     */
+    public Integer getEntityBatchSize() {
+        return entityBatchSize;
+    }
+
+    public void setEntityBatchSize(Integer entityBatchSize) {
+        this.entityBatchSize = entityBatchSize;
+    }
+
+    public QueuedEntityPlacerConfig withEntityBatchSize(Integer entityBatchSize) {
+        this.entityBatchSize = entityBatchSize;
+        return this;
+    }
+
     @Override
     public QueuedEntityPlacerConfig inherit(QueuedEntityPlacerConfig inheritedConfig) {
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
+        entityBatchSize = ConfigUtils.inheritOverwritableProperty(entityBatchSize, inheritedConfig.getEntityBatchSize());
         return this;
     }
 
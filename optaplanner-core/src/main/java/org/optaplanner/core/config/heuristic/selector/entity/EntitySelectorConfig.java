@@ -50,6 +50,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSo
         "sorterOrder",
         "sorterClass",
         "probabilityWeightFactoryClass",
+        "indictmentWeighted",
         "selectedCountLimit"
 })
 public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
@@ -82,6 +83,7 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
     protected Class<? extends SelectionSorter> sorterClass = null;
 
     protected Class<? extends SelectionProbabilityWeightFactory> probabilityWeightFactoryClass = null;
+    protected Boolean indictmentWeighted = null;
 
     protected Long selectedCountLimit = null;
 
@@ -203,6 +205,14 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
         this.probabilityWeightFactoryClass = probabilityWeightFactoryClass;
     }
 
+    public Boolean getIndictmentWeighted() {
+        return indictmentWeighted;
+    }
+
+    public void setIndictmentWeighted(Boolean indictmentWeighted) {
+        this.indictmentWeighted = indictmentWeighted;
+    }
+
     public Long getSelectedCountLimit() {
         return selectedCountLimit;
     }
@@ -235,6 +245,8 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                 sorterClass, inheritedConfig.getSorterClass());
         probabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 probabilityWeightFactoryClass, inheritedConfig.getProbabilityWeightFactoryClass());
+        indictmentWeighted = ConfigUtils.inheritOverwritableProperty(
+                indictmentWeighted, inheritedConfig.getIndictmentWeighted());
         selectedCountLimit = ConfigUtils.inheritOverwritableProperty(
                 selectedCountLimit, inheritedConfig.getSelectedCountLimit());
         return this;
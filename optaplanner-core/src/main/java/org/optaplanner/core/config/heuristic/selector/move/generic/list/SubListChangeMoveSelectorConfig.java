@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic.list;
+
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+/**
+ * Moves a sub list of consecutive planning values of a planning list variable to another position,
+ * in the same list or another list.
+ */
+@XmlType(propOrder = {
+        "entitySelectorConfig",
+        "minimumSubListSize",
+        "maximumSubListSize",
+        "selectReversingMoveToo"
+})
+public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListChangeMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "subListChangeMoveSelector";
+
+    @XmlElement(name = "entitySelector")
+    private EntitySelectorConfig entitySelectorConfig = null;
+    private Integer minimumSubListSize = null;
+    private Integer maximumSubListSize = null;
+    private Boolean selectReversingMoveToo = null;
+
+    public EntitySelectorConfig getEntitySelectorConfig() {
+        return entitySelectorConfig;
+    }
+
+    public void setEntitySelectorConfig(EntitySelectorConfig entitySelectorConfig) {
+        this.entitySelectorConfig = entitySelectorConfig;
+    }
+
+    public Integer getMinimumSubListSize() {
+        return minimumSubListSize;
+    }
+
+    public void setMinimumSubListSize(Integer minimumSubListSize) {
+        this.minimumSubListSize = minimumSubListSize;
+    }
+
+    public Integer getMaximumSubListSize() {
+        return maximumSubListSize;
+    }
+
+    public void setMaximumSubListSize(Integer maximumSubListSize) {
+        this.maximumSubListSize = maximumSubListSize;
+    }
+
+    public Boolean getSelectReversingMoveToo() {
+        return selectReversingMoveToo;
+    }
+
+    public void setSelectReversingMoveToo(Boolean selectReversingMoveToo) {
+        this.selectReversingMoveToo = selectReversingMoveToo;
+    }
+
+    @Override
+    public SubListChangeMoveSelectorConfig inherit(SubListChangeMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
+        minimumSubListSize = ConfigUtils.inheritOverwritableProperty(minimumSubListSize,
+                inheritedConfig.getMinimumSubListSize());
+        maximumSubListSize = ConfigUtils.inheritOverwritableProperty(maximumSubListSize,
+                inheritedConfig.getMaximumSubListSize());
+        selectReversingMoveToo = ConfigUtils.inheritOverwritableProperty(selectReversingMoveToo,
+                inheritedConfig.getSelectReversingMoveToo());
+        return this;
+    }
+
+    @Override
+    public SubListChangeMoveSelectorConfig copyConfig() {
+        return new SubListChangeMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        visitCommonReferencedClasses(classVisitor);
+        if (entitySelectorConfig != null) {
+            entitySelectorConfig.visitReferencedClasses(classVisitor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelectorConfig + ")";
+    }
+
+}
@@ -34,6 +34,10 @@ import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelec
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
@@ -43,7 +47,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "moveScoreDeltaCacheEnabled"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -70,6 +75,14 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     private MoveSelectorConfig moveSelectorConfig = null;
@@ -78,6 +91,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    protected Boolean moveScoreDeltaCacheEnabled = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -114,6 +129,24 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * Reuses the score delta of a move that was evaluated in an earlier step,
+     * as long as none of its planning entities have changed since.
+     * Only useful if the moveSelector selects the same move instances every step,
+     * for example with a {@code PHASE} cacheType.
+     * The reused score is an estimate if a constraint depends on entities that the move doesn't change,
+     * so this trades search quality for speed. The step score is always calculated.
+     *
+     * @return null means false
+     */
+    public Boolean getMoveScoreDeltaCacheEnabled() {
+        return moveScoreDeltaCacheEnabled;
+    }
+
+    public void setMoveScoreDeltaCacheEnabled(Boolean moveScoreDeltaCacheEnabled) {
+        this.moveScoreDeltaCacheEnabled = moveScoreDeltaCacheEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -138,6 +171,11 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withMoveScoreDeltaCacheEnabled(boolean moveScoreDeltaCacheEnabled) {
+        this.moveScoreDeltaCacheEnabled = moveScoreDeltaCacheEnabled;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -147,6 +185,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        moveScoreDeltaCacheEnabled = ConfigUtils.inheritOverwritableProperty(moveScoreDeltaCacheEnabled,
+                inheritedConfig.getMoveScoreDeltaCacheEnabled());
         return this;
     }
 
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.config.partitionedsearch;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -35,12 +36,15 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 
 @XmlType(propOrder = {
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
         "runnablePartThreadLimit",
+        "repartitionInterval",
+        "boundaryLocalSearchPhaseConfig",
         "phaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
@@ -58,6 +62,11 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
 
     protected String runnablePartThreadLimit = null;
 
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration repartitionInterval = null;
+    @XmlElement(name = "boundaryLocalSearch")
+    protected LocalSearchPhaseConfig boundaryLocalSearchPhaseConfig = null;
+
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
                     type = ConstructionHeuristicPhaseConfig.class),
@@ -118,6 +127,43 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.runnablePartThreadLimit = runnablePartThreadLimit;
     }
 
+    /**
+     * If set, the partitions are solved in rounds of about this duration.
+     * After each round, the working solution (which includes the best solution of every partition)
+     * is split again, so unbalanced or badly cut partitions don't keep the other CPU cores idle.
+     * <p/>
+     * Then {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer)} may return
+     * more partitions than {@link #getRunnablePartThreadLimit()}:
+     * each partition gets an equal time slice of the round, which starts when a thread picks it up,
+     * and each thread picks the next partition that hasn't started yet as soon as its current partition finishes.
+     * <p/>
+     * Defaults to null, which splits only once and runs every partition on its own thread until the phase ends.
+     *
+     * @return sometimes null
+     */
+    public Duration getRepartitionInterval() {
+        return repartitionInterval;
+    }
+
+    public void setRepartitionInterval(Duration repartitionInterval) {
+        this.repartitionInterval = repartitionInterval;
+    }
+
+    /**
+     * A short {@link LocalSearchPhaseConfig local search} on the entire working solution between two rounds,
+     * to fix the constraints across the boundaries of the partitions.
+     * Requires a {@link #getRepartitionInterval()} and its own termination.
+     *
+     * @return sometimes null
+     */
+    public LocalSearchPhaseConfig getBoundaryLocalSearchPhaseConfig() {
+        return boundaryLocalSearchPhaseConfig;
+    }
+
+    public void setBoundaryLocalSearchPhaseConfig(LocalSearchPhaseConfig boundaryLocalSearchPhaseConfig) {
+        this.boundaryLocalSearchPhaseConfig = boundaryLocalSearchPhaseConfig;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -135,6 +181,10 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
+        repartitionInterval = ConfigUtils.inheritOverwritableProperty(repartitionInterval,
+                inheritedConfig.getRepartitionInterval());
+        boundaryLocalSearchPhaseConfig = ConfigUtils.inheritConfig(boundaryLocalSearchPhaseConfig,
+                inheritedConfig.getBoundaryLocalSearchPhaseConfig());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
         return this;
@@ -151,6 +201,9 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
             getTerminationConfig().visitReferencedClasses(classVisitor);
         }
         classVisitor.accept(solutionPartitionerClass);
+        if (boundaryLocalSearchPhaseConfig != null) {
+            boundaryLocalSearchPhaseConfig.visitReferencedClasses(classVisitor);
+        }
         if (phaseConfigList != null) {
             phaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
         }
@@ -50,6 +50,7 @@ import org.optaplanner.core.impl.score.director.drools.KieRuntimeBuilderWrapper;
         "scoreDrlFileList",
         "droolsAlphaNetworkCompilationEnabled",
         "kieBaseConfigurationProperties",
+        "constraintStreamProfilingEnabled",
         "initializingScoreTrend",
         "assertionScoreDirectorFactory"
 })
@@ -82,6 +83,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> kieBaseConfigurationProperties = null;
 
+    protected Boolean constraintStreamProfilingEnabled = null;
+
     // TODO: this should be rather an enum?
     protected String initializingScoreTrend = null;
 
@@ -189,6 +192,21 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.kieBaseConfigurationProperties = kieBaseConfigurationProperties;
     }
 
+    /**
+     * Profiling measures the time spent in and the tuples passing through each constraint stream node,
+     * which adds overhead to every score calculation.
+     * Only supported with a {@link #getConstraintProviderClass() constraintProviderClass}.
+     *
+     * @return null means false
+     */
+    public Boolean getConstraintStreamProfilingEnabled() {
+        return constraintStreamProfilingEnabled;
+    }
+
+    public void setConstraintStreamProfilingEnabled(Boolean constraintStreamProfilingEnabled) {
+        this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
+    }
+
     public String getInitializingScoreTrend() {
         return initializingScoreTrend;
     }
@@ -280,6 +298,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamProfilingEnabled(boolean constraintStreamProfilingEnabled) {
+        this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig withInitializingScoreTrend(String initializingScoreTrend) {
         this.initializingScoreTrend = initializingScoreTrend;
         return this;
@@ -317,6 +340,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 droolsAlphaNetworkCompilationEnabled, inheritedConfig.getDroolsAlphaNetworkCompilationEnabled());
         kieBaseConfigurationProperties = ConfigUtils.inheritMergeableMapProperty(
                 kieBaseConfigurationProperties, inheritedConfig.getKieBaseConfigurationProperties());
+        constraintStreamProfilingEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamProfilingEnabled, inheritedConfig.getConstraintStreamProfilingEnabled());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
                 initializingScoreTrend, inheritedConfig.getInitializingScoreTrend());
         assertionScoreDirectorFactory = ConfigUtils.inheritOverwritableProperty(
@@ -46,6 +46,7 @@ import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
@@ -55,6 +56,7 @@ import org.optaplanner.core.config.phase.NoChangePhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.checkpoint.SolverCheckpointConfig;
 import org.optaplanner.core.config.solver.random.RandomType;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -82,6 +84,7 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
         "domainAccessType",
         "scoreDirectorFactoryConfig",
         "terminationConfig",
+        "checkpointConfig",
         "phaseConfigList"
 })
 public class SolverConfig extends AbstractConfig<SolverConfig> {
@@ -252,6 +255,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     @XmlElement(name = "termination")
     private TerminationConfig terminationConfig;
 
+    @XmlElement(name = "checkpoint")
+    protected SolverCheckpointConfig checkpointConfig = null;
+
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
                     type = ConstructionHeuristicPhaseConfig.class),
@@ -263,6 +269,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     })
     protected List<PhaseConfig> phaseConfigList = null;
 
+    @XmlTransient
+    protected SolverMetricsRegistry metricsRegistry = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -420,6 +429,17 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.terminationConfig = terminationConfig;
     }
 
+    /**
+     * @return null if the solver doesn't write checkpoints
+     */
+    public SolverCheckpointConfig getCheckpointConfig() {
+        return checkpointConfig;
+    }
+
+    public void setCheckpointConfig(SolverCheckpointConfig checkpointConfig) {
+        this.checkpointConfig = checkpointConfig;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -428,6 +448,20 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.phaseConfigList = phaseConfigList;
     }
 
+    /**
+     * @return null if no metrics are collected
+     */
+    public SolverMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * @param metricsRegistry sometimes null, receives the live metrics of every {@link Solver} built from this config
+     */
+    public void setMetricsRegistry(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -554,6 +588,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withCheckpointConfig(SolverCheckpointConfig checkpointConfig) {
+        this.checkpointConfig = checkpointConfig;
+        return this;
+    }
+
     public SolverConfig withPhaseList(List<PhaseConfig> phaseConfigList) {
         this.phaseConfigList = phaseConfigList;
         return this;
@@ -564,6 +603,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMetricsRegistry(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        return this;
+    }
+
     // ************************************************************************
     // Smart getters
     // ************************************************************************
@@ -621,7 +665,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         scoreDirectorFactoryConfig = ConfigUtils.inheritConfig(scoreDirectorFactoryConfig,
                 inheritedConfig.getScoreDirectorFactoryConfig());
         terminationConfig = ConfigUtils.inheritConfig(terminationConfig, inheritedConfig.getTerminationConfig());
+        checkpointConfig = ConfigUtils.inheritConfig(checkpointConfig, inheritedConfig.getCheckpointConfig());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(phaseConfigList, inheritedConfig.getPhaseConfigList());
+        metricsRegistry = ConfigUtils.inheritOverwritableProperty(metricsRegistry, inheritedConfig.getMetricsRegistry());
         return this;
     }
 
@@ -644,6 +690,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         if (terminationConfig != null) {
             terminationConfig.visitReferencedClasses(classVisitor);
         }
+        if (checkpointConfig != null) {
+            checkpointConfig.visitReferencedClasses(classVisitor);
+        }
         if (phaseConfigList != null) {
             phaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
         }
@@ -28,7 +28,8 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "solverPoolingEnabled"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -38,6 +39,7 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean solverPoolingEnabled = null;
 
     // Future features:
     // throttlingDelay
@@ -66,6 +68,22 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If enabled, a {@link org.optaplanner.core.api.solver.Solver} that finished a problem
+     * is kept and reused for a later problem, instead of building a new one for every problem.
+     * At most {@link #resolveParallelSolverCount()} idle solvers are kept.
+     * Useful when solving many small problems, where building the solver is a large part of the job.
+     *
+     * @return null means false
+     */
+    public Boolean getSolverPoolingEnabled() {
+        return solverPoolingEnabled;
+    }
+
+    public void setSolverPoolingEnabled(Boolean solverPoolingEnabled) {
+        this.solverPoolingEnabled = solverPoolingEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -80,6 +98,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withSolverPoolingEnabled(boolean solverPoolingEnabled) {
+        this.solverPoolingEnabled = solverPoolingEnabled;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -126,6 +149,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        solverPoolingEnabled = ConfigUtils.inheritOverwritableProperty(solverPoolingEnabled,
+                inheritedConfig.getSolverPoolingEnabled());
         return this;
     }
 
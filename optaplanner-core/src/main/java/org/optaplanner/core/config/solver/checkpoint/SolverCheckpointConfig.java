@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver.checkpoint;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.checkpoint.SolutionCheckpointIO;
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
+
+/**
+ * Periodically writes the best solution and the progress of a {@link Solver} to a local directory,
+ * so {@code DefaultSolver.solveFromCheckpoint(problem)} can resume from it after a restart of the JVM.
+ */
+@XmlType(propOrder = {
+        "checkpointDirectory",
+        "checkpointInterval",
+        "solutionCheckpointIOClass"
+})
+public class SolverCheckpointConfig extends AbstractConfig<SolverCheckpointConfig> {
+
+    public static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(1L);
+
+    private File checkpointDirectory = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    private Duration checkpointInterval = null;
+    private Class<? extends SolutionCheckpointIO> solutionCheckpointIOClass = null;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    public File getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    public void setCheckpointDirectory(File checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+    }
+
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public Class<? extends SolutionCheckpointIO> getSolutionCheckpointIOClass() {
+        return solutionCheckpointIOClass;
+    }
+
+    public void setSolutionCheckpointIOClass(Class<? extends SolutionCheckpointIO> solutionCheckpointIOClass) {
+        this.solutionCheckpointIOClass = solutionCheckpointIOClass;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public SolverCheckpointConfig withCheckpointDirectory(File checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+        return this;
+    }
+
+    public SolverCheckpointConfig withCheckpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+        return this;
+    }
+
+    public SolverCheckpointConfig withSolutionCheckpointIOClass(
+            Class<? extends SolutionCheckpointIO> solutionCheckpointIOClass) {
+        this.solutionCheckpointIOClass = solutionCheckpointIOClass;
+        return this;
+    }
+
+    // ************************************************************************
+    // Smart getters
+    // ************************************************************************
+
+    public Duration determineCheckpointInterval() {
+        if (checkpointInterval == null) {
+            return DEFAULT_CHECKPOINT_INTERVAL;
+        }
+        if (checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+            throw new IllegalArgumentException("The checkpointInterval (" + checkpointInterval
+                    + ") must be positive.");
+        }
+        return checkpointInterval;
+    }
+
+    @Override
+    public SolverCheckpointConfig inherit(SolverCheckpointConfig inheritedConfig) {
+        checkpointDirectory = ConfigUtils.inheritOverwritableProperty(checkpointDirectory,
+                inheritedConfig.getCheckpointDirectory());
+        checkpointInterval = ConfigUtils.inheritOverwritableProperty(checkpointInterval,
+                inheritedConfig.getCheckpointInterval());
+        solutionCheckpointIOClass = ConfigUtils.inheritOverwritableProperty(solutionCheckpointIOClass,
+                inheritedConfig.getSolutionCheckpointIOClass());
+        return this;
+    }
+
+    @Override
+    public SolverCheckpointConfig copyConfig() {
+        return new SolverCheckpointConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        classVisitor.accept(solutionCheckpointIOClass);
+    }
+
+}
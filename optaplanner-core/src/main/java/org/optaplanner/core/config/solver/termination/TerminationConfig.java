@@ -45,6 +45,8 @@ import org.optaplanner.core.impl.solver.termination.Termination;
         "unimprovedHoursSpentLimit",
         "unimprovedDaysSpentLimit",
         "unimprovedScoreDifferenceThreshold",
+        "diminishedReturnsSpentLimit",
+        "diminishedReturnsScoreThreshold",
         "bestScoreLimit",
         "bestScoreFeasible",
         "stepCountLimit",
@@ -75,6 +77,10 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
     private Long unimprovedDaysSpentLimit = null;
     private String unimprovedScoreDifferenceThreshold = null;
 
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    private Duration diminishedReturnsSpentLimit = null;
+    private String diminishedReturnsScoreThreshold = null;
+
     private String bestScoreLimit = null;
     private Boolean bestScoreFeasible = null;
 
@@ -206,6 +212,22 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
         this.unimprovedScoreDifferenceThreshold = unimprovedScoreDifferenceThreshold;
     }
 
+    public Duration getDiminishedReturnsSpentLimit() {
+        return diminishedReturnsSpentLimit;
+    }
+
+    public void setDiminishedReturnsSpentLimit(Duration diminishedReturnsSpentLimit) {
+        this.diminishedReturnsSpentLimit = diminishedReturnsSpentLimit;
+    }
+
+    public String getDiminishedReturnsScoreThreshold() {
+        return diminishedReturnsScoreThreshold;
+    }
+
+    public void setDiminishedReturnsScoreThreshold(String diminishedReturnsScoreThreshold) {
+        this.diminishedReturnsScoreThreshold = diminishedReturnsScoreThreshold;
+    }
+
     public String getBestScoreLimit() {
         return bestScoreLimit;
     }
@@ -333,6 +355,16 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
         return this;
     }
 
+    public TerminationConfig withDiminishedReturnsSpentLimit(Duration diminishedReturnsSpentLimit) {
+        this.diminishedReturnsSpentLimit = diminishedReturnsSpentLimit;
+        return this;
+    }
+
+    public TerminationConfig withDiminishedReturnsScoreThreshold(String diminishedReturnsScoreThreshold) {
+        this.diminishedReturnsScoreThreshold = diminishedReturnsScoreThreshold;
+        return this;
+    }
+
     public TerminationConfig withBestScoreLimit(String bestScoreLimit) {
         this.bestScoreLimit = bestScoreLimit;
         return this;
@@ -543,6 +575,10 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 inheritedConfig.getUnimprovedDaysSpentLimit());
         unimprovedScoreDifferenceThreshold = ConfigUtils.inheritOverwritableProperty(unimprovedScoreDifferenceThreshold,
                 inheritedConfig.getUnimprovedScoreDifferenceThreshold());
+        diminishedReturnsSpentLimit = ConfigUtils.inheritOverwritableProperty(diminishedReturnsSpentLimit,
+                inheritedConfig.getDiminishedReturnsSpentLimit());
+        diminishedReturnsScoreThreshold = ConfigUtils.inheritOverwritableProperty(diminishedReturnsScoreThreshold,
+                inheritedConfig.getDiminishedReturnsScoreThreshold());
         bestScoreLimit = ConfigUtils.inheritOverwritableProperty(bestScoreLimit,
                 inheritedConfig.getBestScoreLimit());
         bestScoreFeasible = ConfigUtils.inheritOverwritableProperty(bestScoreFeasible,
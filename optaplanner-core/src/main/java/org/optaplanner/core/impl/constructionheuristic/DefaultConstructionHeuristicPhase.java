@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.constructionheuristic;
 
+import java.util.Iterator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -38,6 +40,7 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
 
     protected EntityPlacer<Solution_> entityPlacer;
     protected ConstructionHeuristicDecider<Solution_> decider;
+    protected int entityBatchSize = 1;
 
     // TODO make this configurable or make it constant
     protected final boolean skipBestSolutionCloningInSteps = true;
@@ -55,6 +58,10 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         this.decider = decider;
     }
 
+    public void setEntityBatchSize(int entityBatchSize) {
+        this.entityBatchSize = entityBatchSize;
+    }
+
     @Override
     public String getPhaseTypeString() {
         return "Construction Heuristics";
@@ -69,44 +76,59 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         ConstructionHeuristicPhaseScope<Solution_> phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope);
         phaseStarted(phaseScope);
 
-        for (Placement<Solution_> placement : entityPlacer) {
-            ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
-            stepStarted(stepScope);
-            decider.decideNextStep(stepScope, placement);
-            if (stepScope.getStep() == null) {
-                if (termination.isPhaseTerminated(phaseScope)) {
-                    logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
-                } else if (stepScope.getSelectedMoveCount() == 0L) {
-                    logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
-                            + " Terminating phase early.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+        try {
+            Iterator<Placement<Solution_>> placementIterator = entityPlacer.iterator();
+            while (placementIterator.hasNext()) {
+                ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                boolean doable = true;
+                if (entityBatchSize == 1) {
+                    decider.decideNextStep(stepScope, placementIterator.next());
                 } else {
-                    throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
-                            + ") has selected move count (" + stepScope.getSelectedMoveCount()
-                            + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
+                    doable = decider.decideNextBatchStep(stepScope, placementIterator, entityBatchSize);
+                }
+                if (stepScope.getStep() == null) {
+                    if (termination.isPhaseTerminated(phaseScope)) {
+                        logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
+                                logIndentation,
+                                stepScope.getStepIndex(),
+                                stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+                    } else if (stepScope.getSelectedMoveCount() == 0L) {
+                        logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
+                                + " Terminating phase early.",
+                                logIndentation,
+                                stepScope.getStepIndex(),
+                                stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+                    } else {
+                        throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
+                                + ") has selected move count (" + stepScope.getSelectedMoveCount()
+                                + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
+                    }
+                    // Although stepStarted has been called, stepEnded is not called for this step
+                    break;
+                }
+                doStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+                if (!doable || termination.isPhaseTerminated(phaseScope)) {
+                    break;
                 }
-                // Although stepStarted has been called, stepEnded is not called for this step
-                break;
-            }
-            doStep(stepScope);
-            stepEnded(stepScope);
-            phaseScope.setLastCompletedStepScope(stepScope);
-            if (termination.isPhaseTerminated(phaseScope)) {
-                break;
             }
+        } catch (RuntimeException | Error e) {
+            // phaseEnded() isn't called, but the decider might still hold threads that would outlive the solver
+            decider.phaseFailed(phaseScope);
+            throw e;
         }
         phaseEnded(phaseScope);
     }
 
     private void doStep(ConstructionHeuristicStepScope<Solution_> stepScope) {
         Move<Solution_> step = stepScope.getStep();
-        Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
-        stepScope.setUndoStep(undoStep);
+        // A batch step is already done by the decider, because each placement builds on the previous one
+        if (stepScope.getUndoStep() == null) {
+            Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
+            stepScope.setUndoStep(undoStep);
+        }
         predictWorkingStepScore(stepScope, step);
         if (!skipBestSolutionCloningInSteps) {
             // Causes a planning clone, which is expensive
@@ -20,6 +20,7 @@ import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
 import java.util.concurrent.ThreadFactory;
 
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
 import org.optaplanner.core.config.constructionheuristic.decider.forager.ConstructionHeuristicForagerConfig;
@@ -33,6 +34,7 @@ import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSe
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.ForkJoinConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
@@ -40,7 +42,11 @@ import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedListValuePlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -63,14 +69,23 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         DefaultConstructionHeuristicPhase<Solution_> phase =
                 new DefaultConstructionHeuristicPhase<>(phaseIndex, solverConfigPolicy.getLogIndentation(),
                         bestSolutionRecaller, buildPhaseTermination(phaseConfigPolicy, solverTermination));
-        phase.setDecider(buildDecider(phaseConfigPolicy, phase.getTermination()));
         ConstructionHeuristicType constructionHeuristicType_ = defaultIfNull(
                 phaseConfig.getConstructionHeuristicType(), ConstructionHeuristicType.ALLOCATE_ENTITY_FROM_QUEUE);
+        phase.setDecider(buildDecider(phaseConfigPolicy, phase.getTermination(), constructionHeuristicType_));
         phaseConfigPolicy
                 .setEntitySorterManner(phaseConfig.getEntitySorterManner() != null ? phaseConfig.getEntitySorterManner()
                         : constructionHeuristicType_.getDefaultEntitySorterManner());
         phaseConfigPolicy.setValueSorterManner(phaseConfig.getValueSorterManner() != null ? phaseConfig.getValueSorterManner()
                 : constructionHeuristicType_.getDefaultValueSorterManner());
+        ListVariableDescriptor<Solution_> listVariableDescriptor =
+                phaseConfigPolicy.getSolutionDescriptor().getListVariableDescriptor();
+        if (listVariableDescriptor != null && phaseConfig.getEntityPlacerConfig() == null
+                && ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
+            // A planning list variable is initialized by inserting its values, not by assigning its entities
+            phase.setEntityPlacer(buildListValuePlacer(phaseConfigPolicy, listVariableDescriptor));
+            applyAssertions(phase, phaseConfigPolicy);
+            return phase;
+        }
         EntityPlacerConfig entityPlacerConfig_;
         if (phaseConfig.getEntityPlacerConfig() == null) {
             entityPlacerConfig_ = buildUnfoldedEntityPlacerConfig(phaseConfigPolicy, constructionHeuristicType_);
@@ -91,6 +106,64 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         EntityPlacer<Solution_> entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
                 .buildEntityPlacer(phaseConfigPolicy);
         phase.setEntityPlacer(entityPlacer);
+        if (entityPlacerConfig_ instanceof QueuedEntityPlacerConfig) {
+            Integer entityBatchSize = ((QueuedEntityPlacerConfig) entityPlacerConfig_).getEntityBatchSize();
+            if (entityBatchSize != null) {
+                phase.setEntityBatchSize(buildEntityBatchSize(phaseConfigPolicy, entityPlacerConfig_, entityBatchSize));
+            }
+        }
+        applyAssertions(phase, phaseConfigPolicy);
+        return phase;
+    }
+
+    private EntityPlacer<Solution_> buildListValuePlacer(HeuristicConfigPolicy<Solution_> configPolicy,
+            ListVariableDescriptor<Solution_> listVariableDescriptor) {
+        ConstructionHeuristicType constructionHeuristicType = phaseConfig.getConstructionHeuristicType();
+        if (constructionHeuristicType != null
+                && constructionHeuristicType != ConstructionHeuristicType.ALLOCATE_ENTITY_FROM_QUEUE) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a constructionHeuristicType (" + constructionHeuristicType
+                    + ") which isn't supported for the @" + PlanningListVariable.class.getSimpleName()
+                    + " (" + listVariableDescriptor.getSimpleEntityAndVariableName() + ").\n"
+                    + "Maybe remove the constructionHeuristicType.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (!variableDescriptor.isListVariable()) {
+                    throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                            + ") has no entityPlacerConfig and no moveSelectorConfigList"
+                            + " and the @" + PlanningListVariable.class.getSimpleName()
+                            + " (" + listVariableDescriptor.getSimpleEntityAndVariableName()
+                            + ") isn't the only genuine variable: there is also the variable ("
+                            + variableDescriptor.getSimpleEntityAndVariableName() + ").\n"
+                            + "Maybe add another construction heuristic phase with an entityPlacerConfig"
+                            + " for the other genuine variables.");
+                }
+            }
+        }
+        return new QueuedListValuePlacer<>(listVariableDescriptor);
+    }
+
+    private int buildEntityBatchSize(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntityPlacerConfig entityPlacerConfig, int entityBatchSize) {
+        if (entityBatchSize < 1) {
+            throw new IllegalArgumentException("The entityPlacerConfig (" + entityPlacerConfig
+                    + ") has an entityBatchSize (" + entityBatchSize + ") which is less than 1.");
+        }
+        if (configPolicy.getMoveThreadCount() != null || phaseConfig.getPlacementThreadCount() != null) {
+            throw new IllegalArgumentException("The entityPlacerConfig (" + entityPlacerConfig
+                    + ") has an entityBatchSize (" + entityBatchSize
+                    + ") and the moves are evaluated by other threads, which can't see the earlier placements"
+                    + " of the same batch.\n"
+                    + "Maybe remove the entityBatchSize, the moveThreadCount or the placementThreadCount.");
+        }
+        return entityBatchSize;
+    }
+
+    private void applyAssertions(DefaultConstructionHeuristicPhase<Solution_> phase,
+            HeuristicConfigPolicy<Solution_> phaseConfigPolicy) {
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             phase.setAssertStepScoreFromScratch(true);
@@ -99,21 +172,33 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             phase.setAssertExpectedStepScore(true);
             phase.setAssertShadowVariablesAreNotStaleAfterStep(true);
         }
-        return phase;
     }
 
     private ConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
-            Termination<Solution_> termination) {
-        ConstructionHeuristicForagerConfig foragerConfig_ = phaseConfig.getForagerConfig() == null
-                ? new ConstructionHeuristicForagerConfig()
-                : phaseConfig.getForagerConfig();
+            Termination<Solution_> termination, ConstructionHeuristicType constructionHeuristicType) {
+        ConstructionHeuristicForagerConfig foragerConfig_ = buildForagerConfig(constructionHeuristicType);
         ConstructionHeuristicForager<Solution_> forager =
                 ConstructionHeuristicForagerFactory.<Solution_> create(foragerConfig_)
                         .buildForager(configPolicy);
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
-        if (moveThreadCount == null) {
+        Integer placementThreadCount = phaseConfig.getPlacementThreadCount();
+        if (placementThreadCount != null) {
+            if (placementThreadCount < 1) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") has a placementThreadCount (" + placementThreadCount + ") which is less than 1.");
+            }
+            if (moveThreadCount != null) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") has a placementThreadCount (" + placementThreadCount
+                        + ") and the solver has a moveThreadCount (" + moveThreadCount + ").\n"
+                        + "Maybe remove one of them, because they both evaluate the placements in parallel.");
+            }
+            ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
+            decider = new ForkJoinConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
+                    threadFactory, placementThreadCount);
+        } else if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -146,6 +231,27 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return decider;
     }
 
+    private ConstructionHeuristicForagerConfig buildForagerConfig(ConstructionHeuristicType constructionHeuristicType) {
+        ConstructionHeuristicForagerConfig foragerConfig_ = phaseConfig.getForagerConfig() == null
+                ? new ConstructionHeuristicForagerConfig()
+                : phaseConfig.getForagerConfig().copyConfig();
+        switch (constructionHeuristicType) {
+            case REGRET_INSERTION:
+                if (foragerConfig_.getRegretK() == null) {
+                    foragerConfig_.setRegretK(2);
+                }
+                break;
+            case GRASP:
+                if (foragerConfig_.getRestrictedCandidateListSize() == null) {
+                    foragerConfig_.setRestrictedCandidateListSize(3);
+                }
+                break;
+            default:
+                break;
+        }
+        return foragerConfig_;
+    }
+
     private EntityPlacerConfig buildUnfoldedEntityPlacerConfig(HeuristicConfigPolicy<Solution_> phaseConfigPolicy,
             ConstructionHeuristicType constructionHeuristicType) {
         switch (constructionHeuristicType) {
@@ -166,6 +272,8 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 }
                 return new QueuedValuePlacerConfig();
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
+            case GRASP:
             case ALLOCATE_FROM_POOL:
                 if (!ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
                     return PooledEntityPlacerFactory.unfoldNew(phaseConfigPolicy, checkSingleMoveSelectorConfig());
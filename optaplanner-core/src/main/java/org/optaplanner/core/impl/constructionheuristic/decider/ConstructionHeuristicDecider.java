@@ -16,6 +16,11 @@
 
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
@@ -23,6 +28,7 @@ import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -87,6 +93,15 @@ public class ConstructionHeuristicDecider<Solution_> {
         forager.phaseEnded(phaseScope);
     }
 
+    /**
+     * Called instead of {@link #phaseEnded(ConstructionHeuristicPhaseScope)} if the phase throws an exception.
+     *
+     * @param phaseScope never null
+     */
+    public void phaseFailed(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        // Hook method
+    }
+
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         forager.solvingEnded(solverScope);
     }
@@ -111,6 +126,77 @@ public class ConstructionHeuristicDecider<Solution_> {
         pickMove(stepScope);
     }
 
+    /**
+     * Decides the steps of up to entityBatchSize placements as 1 {@link CompositeMove} step.
+     * Each placement is foraged on top of the steps of the previous placements in the batch,
+     * so those steps are already done when this method returns: the {@link ConstructionHeuristicStepScope#getUndoStep()}
+     * is set too.
+     *
+     * @param stepScope never null
+     * @param placementIterator never null, with at least 1 placement left
+     * @param entityBatchSize at least 1
+     * @return false if a later placement in the batch had no doable selected move,
+     *         so the phase must terminate after this step, like it does for a single placement without one
+     */
+    public boolean decideNextBatchStep(ConstructionHeuristicStepScope<Solution_> stepScope,
+            Iterator<Placement<Solution_>> placementIterator, int entityBatchSize) {
+        InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+        List<Move<Solution_>> placementStepList = new ArrayList<>(entityBatchSize);
+        List<Move<Solution_>> undoPlacementStepList = new ArrayList<>(entityBatchSize);
+        long selectedMoveCount = 0L;
+        Score<?> batchScore = null;
+        boolean doable = true;
+        do {
+            if (batchScore != null) {
+                // Forage the next placement from scratch, but compare with the score after the previous placement
+                forager.stepStarted(stepScope);
+                stepScope.setPlacementStartingScore(batchScore);
+                stepScope.setStep(null);
+            }
+            decideNextStep(stepScope, placementIterator.next());
+            long placementSelectedMoveCount = stepScope.getSelectedMoveCount();
+            selectedMoveCount += placementSelectedMoveCount;
+            Move<Solution_> placementStep = stepScope.getStep();
+            if (placementStep == null) {
+                if (batchScore != null && !termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                    // The placement is already consumed, so it cannot be left to the phase to handle
+                    if (placementSelectedMoveCount != 0L) {
+                        throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
+                                + ") has selected move count (" + placementSelectedMoveCount
+                                + ") for placement (" + placementStepList.size()
+                                + ") of its batch but failed to pick a nextStep (" + placementStep + ").");
+                    }
+                    logger.warn("{}    No doable selected move for placement ({}) of the batch at step index ({}),"
+                            + " time spent ({}). Terminating phase early after this step.",
+                            logIndentation,
+                            placementStepList.size(),
+                            stepScope.getStepIndex(),
+                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+                    doable = false;
+                }
+                break;
+            }
+            undoPlacementStepList.add(placementStep.doMove(scoreDirector));
+            placementStepList.add(placementStep);
+            batchScore = stepScope.getScore();
+        } while (placementStepList.size() < entityBatchSize && placementIterator.hasNext()
+                && !termination.isPhaseTerminated(stepScope.getPhaseScope()));
+        stepScope.setSelectedMoveCount(selectedMoveCount);
+        if (placementStepList.isEmpty()) {
+            return true;
+        }
+        Move<Solution_> step = CompositeMove.buildMove(placementStepList);
+        stepScope.setStep(step);
+        if (logger.isDebugEnabled()) {
+            stepScope.setStepString(step.toString());
+        }
+        stepScope.setScore(batchScore);
+        // Undo in reverse order
+        Collections.reverse(undoPlacementStepList);
+        stepScope.setUndoStep(CompositeMove.buildMove(undoPlacementStepList));
+        return doable;
+    }
+
     protected void pickMove(ConstructionHeuristicStepScope<Solution_> stepScope) {
         ConstructionHeuristicMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
@@ -131,7 +217,7 @@ public class ConstructionHeuristicDecider<Solution_> {
         });
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
-                    (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+                    (Score_) moveScope.getStepScope().getPlacementStartingScore());
         }
         logger.trace("{}        Move index ({}), score ({}), move ({}).",
                 logIndentation,
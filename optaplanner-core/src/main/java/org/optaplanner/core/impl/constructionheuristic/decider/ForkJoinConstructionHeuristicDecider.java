@@ -0,0 +1,225 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Splits the moves of every {@link Placement} in contiguous slices, one per placement thread,
+ * evaluates those slices in parallel (each on its own child {@link InnerScoreDirector})
+ * and waits for all of them (fork join), before the forager receives the scores in the original move order.
+ * <p>
+ * Unlike {@link MultiThreadedConstructionHeuristicDecider}, there is no operation queue or result queue:
+ * a placement is selected entirely before any move is evaluated
+ * and each placement thread receives a single task per step.
+ * That makes it faster for placements with many moves (such as {@code BEST_FIT}),
+ * but a forager that quits early still waits until the entire placement is evaluated.
+ * It is reproducible because the forager receives the same moves in the same order as the single threaded decider.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ForkJoinConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int placementThreadCount;
+
+    protected ExecutorService executor;
+    protected List<PlacementEvaluator<?>> placementEvaluatorList;
+    /**
+     * The last step, which the placement threads haven't done yet on their child score director.
+     */
+    protected Move<Solution_> unappliedStep;
+    protected Score<?> unappliedStepScore;
+
+    public ForkJoinConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int placementThreadCount) {
+        super(logIndentation, termination, forager);
+        this.threadFactory = threadFactory;
+        this.placementThreadCount = placementThreadCount;
+    }
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        executor = Executors.newFixedThreadPool(placementThreadCount, threadFactory);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        placementEvaluatorList = new ArrayList<>(placementThreadCount);
+        for (int i = 0; i < placementThreadCount; i++) {
+            placementEvaluatorList.add(new PlacementEvaluator<>(
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)));
+        }
+        unappliedStep = null;
+        unappliedStepScore = null;
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.addChildThreadsScoreCalculationCount(shutdownPlacementThreads());
+    }
+
+    @Override
+    public void phaseFailed(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseFailed(phaseScope);
+        shutdownPlacementThreads();
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        // Normally already done at the end of the phase
+        shutdownPlacementThreads();
+    }
+
+    /**
+     * @return the score calculation count of the placement threads
+     */
+    private long shutdownPlacementThreads() {
+        if (executor == null) {
+            return 0L;
+        }
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Fork join Construction Heuristic");
+        long childThreadsScoreCalculationCount = 0L;
+        for (PlacementEvaluator<?> placementEvaluator : placementEvaluatorList) {
+            childThreadsScoreCalculationCount += placementEvaluator.scoreDirector.getCalculationCount();
+            placementEvaluator.scoreDirector.close();
+        }
+        executor = null;
+        placementEvaluatorList = null;
+        unappliedStep = null;
+        unappliedStepScore = null;
+        return childThreadsScoreCalculationCount;
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        List<Move<Solution_>> moveList = new ArrayList<>();
+        for (Move<Solution_> move : placement) {
+            moveList.add(move);
+        }
+        int moveCount = moveList.size();
+        // Every placement thread gets a task, even without moves, to do the unapplied step
+        int sliceSize = (moveCount + placementThreadCount - 1) / placementThreadCount;
+        List<Future<List<Score<?>>>> futureList = new ArrayList<>(placementThreadCount);
+        for (int i = 0; i < placementThreadCount; i++) {
+            int fromIndex = Math.min(i * sliceSize, moveCount);
+            int toIndex = Math.min(fromIndex + sliceSize, moveCount);
+            PlacementEvaluator<?> placementEvaluator = placementEvaluatorList.get(i);
+            List<Move<Solution_>> moveSlice = moveList.subList(fromIndex, toIndex);
+            Move<Solution_> step = unappliedStep;
+            Score<?> stepScore = unappliedStepScore;
+            futureList.add(executor.submit(() -> placementEvaluator.evaluate(step, stepScore, moveSlice)));
+        }
+        List<Score<?>> scoreList = new ArrayList<>(moveCount);
+        for (int i = 0; i < placementThreadCount; i++) {
+            scoreList.addAll(joinSlice(futureList.get(i), i));
+        }
+        for (int moveIndex = 0; moveIndex < moveCount; moveIndex++) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope,
+                    moveIndex, moveList.get(moveIndex));
+            moveScope.setScore((Score) scoreList.get(moveIndex));
+            logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                    logIndentation,
+                    moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+            forager.addMove(moveScope);
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        pickMove(stepScope);
+        // The phase does the step on the solver thread, the placement threads do it at the start of the next step
+        unappliedStep = stepScope.getStep();
+        unappliedStepScore = stepScope.getScore();
+    }
+
+    private List<Score<?>> joinSlice(Future<List<Score<?>>> future, int placementThreadIndex) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The placement thread with index (" + placementThreadIndex
+                    + ") was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The placement thread with index (" + placementThreadIndex
+                    + ") has thrown an exception. Relayed here in the parent thread.", e.getCause());
+        }
+    }
+
+    /**
+     * Only used by 1 placement thread at a time.
+     */
+    protected class PlacementEvaluator<Score_ extends Score<Score_>> {
+
+        protected final InnerScoreDirector<Solution_, Score_> scoreDirector;
+        protected Score_ lastStepScore;
+
+        public PlacementEvaluator(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+            this.scoreDirector = scoreDirector;
+            lastStepScore = scoreDirector.calculateScore();
+        }
+
+        /**
+         * @param step sometimes null, the step to do before evaluating the moves
+         * @param stepScore null if step is null
+         * @param moveSlice never null, the moves of the solver thread's score director
+         * @return never null, the score of each move, in the same order
+         */
+        public List<Score<?>> evaluate(Move<Solution_> step, Score<?> stepScore, List<Move<Solution_>> moveSlice) {
+            if (step != null) {
+                step.rebase(scoreDirector).doMove(scoreDirector);
+                // There is no need to recalculate the score, but we still need to set it
+                scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), stepScore);
+                lastStepScore = (Score_) stepScore;
+            }
+            List<Score<?>> scoreList = new ArrayList<>(moveSlice.size());
+            for (Move<Solution_> move : moveSlice) {
+                Move<Solution_> rebasedMove = move.rebase(scoreDirector);
+                scoreList.add(scoreDirector.doAndProcessMove(rebasedMove, assertMoveScoreFromScratch));
+                if (assertExpectedUndoMoveScore) {
+                    scoreDirector.assertExpectedUndoMoveScore(rebasedMove, lastStepScore);
+                }
+            }
+            return scoreList;
+        }
+
+    }
+
+}
@@ -34,6 +34,26 @@ public class ConstructionHeuristicForagerFactory<Solution_> {
     }
 
     public ConstructionHeuristicForager<Solution_> buildForager(HeuristicConfigPolicy<Solution_> configPolicy) {
+        Integer regretK = foragerConfig.getRegretK();
+        Integer restrictedCandidateListSize = foragerConfig.getRestrictedCandidateListSize();
+        if (regretK != null || restrictedCandidateListSize != null) {
+            if (regretK != null && restrictedCandidateListSize != null) {
+                throw new IllegalArgumentException("The foragerConfig (" + foragerConfig
+                        + ") has both a regretK (" + regretK
+                        + ") and a restrictedCandidateListSize (" + restrictedCandidateListSize + ").");
+            }
+            if (foragerConfig.getPickEarlyType() != null
+                    && foragerConfig.getPickEarlyType() != ConstructionHeuristicPickEarlyType.NEVER) {
+                throw new IllegalArgumentException("The foragerConfig (" + foragerConfig
+                        + ") has a pickEarlyType (" + foragerConfig.getPickEarlyType()
+                        + ") which isn't supported with a regretK or a restrictedCandidateListSize,"
+                        + " because those need to see all the moves before picking one.");
+            }
+            if (regretK != null) {
+                return new RegretConstructionHeuristicForager<>(regretK);
+            }
+            return new GraspConstructionHeuristicForager<>(restrictedCandidateListSize);
+        }
         ConstructionHeuristicPickEarlyType pickEarlyType_;
         if (foragerConfig.getPickEarlyType() == null) {
             pickEarlyType_ = configPolicy.getScoreDirectorFactory().getInitializingScoreTrend().isOnlyDown()
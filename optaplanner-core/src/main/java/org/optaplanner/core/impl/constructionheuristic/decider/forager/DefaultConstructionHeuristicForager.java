@@ -71,8 +71,7 @@ public class DefaultConstructionHeuristicForager<Solution_> extends AbstractCons
             case NEVER:
                 break;
             case FIRST_NON_DETERIORATING_SCORE:
-                Score lastStepScore = moveScope.getStepScope().getPhaseScope()
-                        .getLastCompletedStepScope().getScore();
+                Score lastStepScore = moveScope.getStepScope().getPlacementStartingScore();
                 if (((Score) moveScope.getScore()).withInitScore(0).compareTo(lastStepScore.withInitScore(0)) >= 0) {
                     earlyPickedMoveScope = moveScope;
                 }
@@ -83,8 +82,7 @@ public class DefaultConstructionHeuristicForager<Solution_> extends AbstractCons
                 }
                 break;
             case FIRST_FEASIBLE_SCORE_OR_NON_DETERIORATING_HARD:
-                Score lastStepScore2 = moveScope.getStepScope().getPhaseScope()
-                        .getLastCompletedStepScope().getScore();
+                Score lastStepScore2 = moveScope.getStepScope().getPlacementStartingScore();
                 Score lastStepScoreDifference = ((Score) moveScope.getScore()).withInitScore(0)
                         .subtract(lastStepScore2.withInitScore(0));
                 if (lastStepScoreDifference.isFeasible()) {
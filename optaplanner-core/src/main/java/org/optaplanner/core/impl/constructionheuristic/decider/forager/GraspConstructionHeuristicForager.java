@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.constructionheuristic.decider.forager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+
+/**
+ * Picks a random move from the restricted candidate list: the moves with the best scores.
+ * That's the construction part of a greedy randomized adaptive search procedure (GRASP).
+ */
+public class GraspConstructionHeuristicForager<Solution_> extends AbstractConstructionHeuristicForager<Solution_> {
+
+    protected final int restrictedCandidateListSize;
+
+    protected long selectedMoveCount;
+    /**
+     * The best move scopes, in descending score order.
+     */
+    protected List<ConstructionHeuristicMoveScope<Solution_>> restrictedCandidateList;
+
+    public GraspConstructionHeuristicForager(int restrictedCandidateListSize) {
+        if (restrictedCandidateListSize < 1) {
+            throw new IllegalArgumentException("The restrictedCandidateListSize (" + restrictedCandidateListSize
+                    + ") must be at least 1.");
+        }
+        this.restrictedCandidateListSize = restrictedCandidateListSize;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void stepStarted(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        selectedMoveCount = 0L;
+        restrictedCandidateList = new ArrayList<>(restrictedCandidateListSize + 1);
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        restrictedCandidateList = null;
+    }
+
+    @Override
+    public void addMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+        selectedMoveCount++;
+        Score score = moveScope.getScore();
+        int index = restrictedCandidateList.size();
+        while (index > 0 && score.compareTo(restrictedCandidateList.get(index - 1).getScore()) > 0) {
+            index--;
+        }
+        if (index < restrictedCandidateListSize) {
+            restrictedCandidateList.add(index, moveScope);
+            if (restrictedCandidateList.size() > restrictedCandidateListSize) {
+                restrictedCandidateList.remove(restrictedCandidateListSize);
+            }
+        }
+    }
+
+    @Override
+    public boolean isQuitEarly() {
+        return false;
+    }
+
+    @Override
+    public ConstructionHeuristicMoveScope<Solution_> pickMove(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        stepScope.setSelectedMoveCount(selectedMoveCount);
+        if (restrictedCandidateList.isEmpty()) {
+            return null;
+        }
+        int index = stepScope.getWorkingRandom().nextInt(restrictedCandidateList.size());
+        return restrictedCandidateList.get(index);
+    }
+
+}
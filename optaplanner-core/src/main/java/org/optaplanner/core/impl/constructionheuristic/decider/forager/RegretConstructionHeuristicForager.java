@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.constructionheuristic.decider.forager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+
+/**
+ * Picks the best move of the entity with the largest regret:
+ * the score loss between the best and the k-th best move of that entity.
+ * An entity with less than k moves has an infinite regret, because postponing it risks losing its few options.
+ * <p>
+ * Only useful if the placement contains the moves of multiple entities, such as in a pooled entity placer.
+ */
+public class RegretConstructionHeuristicForager<Solution_> extends AbstractConstructionHeuristicForager<Solution_> {
+
+    protected final int regretK;
+
+    protected long selectedMoveCount;
+    protected Map<Object, EntityRegret> entityRegretMap;
+    protected List<EntityRegret> entityRegretList;
+
+    public RegretConstructionHeuristicForager(int regretK) {
+        if (regretK < 2) {
+            throw new IllegalArgumentException("The regretK (" + regretK + ") must be at least 2.");
+        }
+        this.regretK = regretK;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void stepStarted(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        selectedMoveCount = 0L;
+        entityRegretMap = new IdentityHashMap<>();
+        entityRegretList = new ArrayList<>();
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        entityRegretMap = null;
+        entityRegretList = null;
+    }
+
+    @Override
+    public void addMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+        selectedMoveCount++;
+        Collection<? extends Object> planningEntities = moveScope.getMove().getPlanningEntities();
+        if (planningEntities.size() != 1) {
+            throw new IllegalStateException("The move (" + moveScope.getMove() + ") has planningEntities ("
+                    + planningEntities + ") which aren't exactly 1 entity.\n"
+                    + "Maybe use a regretK only with moves that each initialize 1 entity.");
+        }
+        Object entity = planningEntities.iterator().next();
+        EntityRegret entityRegret = entityRegretMap.get(entity);
+        if (entityRegret == null) {
+            // Keeps the order deterministic, unlike iterating the IdentityHashMap
+            entityRegret = new EntityRegret();
+            entityRegretMap.put(entity, entityRegret);
+            entityRegretList.add(entityRegret);
+        }
+        entityRegret.addMove(moveScope);
+    }
+
+    @Override
+    public boolean isQuitEarly() {
+        return false;
+    }
+
+    @Override
+    public ConstructionHeuristicMoveScope<Solution_> pickMove(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        stepScope.setSelectedMoveCount(selectedMoveCount);
+        EntityRegret pickedEntityRegret = null;
+        for (EntityRegret entityRegret : entityRegretList) {
+            if (pickedEntityRegret == null || entityRegret.compareTo(pickedEntityRegret) > 0) {
+                pickedEntityRegret = entityRegret;
+            }
+        }
+        return pickedEntityRegret == null ? null : pickedEntityRegret.bestMoveScope;
+    }
+
+    protected class EntityRegret implements Comparable<EntityRegret> {
+
+        protected ConstructionHeuristicMoveScope<Solution_> bestMoveScope = null;
+        /**
+         * The k best scores, in descending order.
+         */
+        protected final Score[] bestScores = new Score[regretK];
+        protected int bestScoreCount = 0;
+
+        protected void addMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+            Score score = moveScope.getScore();
+            int index = bestScoreCount;
+            while (index > 0 && score.compareTo(bestScores[index - 1]) > 0) {
+                if (index < regretK) {
+                    bestScores[index] = bestScores[index - 1];
+                }
+                index--;
+            }
+            if (index < regretK) {
+                bestScores[index] = score;
+                if (bestScoreCount < regretK) {
+                    bestScoreCount++;
+                }
+            }
+            if (index == 0) {
+                bestMoveScope = moveScope;
+            }
+        }
+
+        protected boolean hasInfiniteRegret() {
+            return bestScoreCount < regretK;
+        }
+
+        protected Score getRegret() {
+            return bestScores[0].subtract(bestScores[regretK - 1]);
+        }
+
+        @Override
+        public int compareTo(EntityRegret other) {
+            if (hasInfiniteRegret() != other.hasInfiniteRegret()) {
+                return hasInfiniteRegret() ? 1 : -1;
+            }
+            if (!hasInfiniteRegret()) {
+                int regretComparison = getRegret().compareTo(other.getRegret());
+                if (regretComparison != 0) {
+                    return regretComparison;
+                }
+            }
+            return bestScores[0].compareTo(other.bestScores[0]);
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.placer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListAssignMove;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Places every unassigned planning value of a {@link ListVariableDescriptor planning list variable}, one at a time,
+ * at every position of the list of every movable entity, so the forager picks the cheapest insertion.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class QueuedListValuePlacer<Solution_> extends AbstractEntityPlacer<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected InnerScoreDirector<Solution_, ?> scoreDirector;
+    protected SingletonInverseVariableSupply inverseVariableSupply;
+    protected List<Object> valueList;
+
+    public QueuedListValuePlacer(ListVariableDescriptor<Solution_> variableDescriptor) {
+        this.variableDescriptor = variableDescriptor;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        scoreDirector = phaseScope.getScoreDirector();
+        inverseVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new SingletonInverseVariableDemand<>(variableDescriptor));
+        valueList = new ArrayList<>();
+        variableDescriptor.extractAllValues(scoreDirector.getWorkingSolution()).createOriginalIterator()
+                .forEachRemaining(valueList::add);
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        scoreDirector = null;
+        inverseVariableSupply = null;
+        valueList = null;
+    }
+
+    @Override
+    public Iterator<Placement<Solution_>> iterator() {
+        return new QueuedListValuePlacingIterator();
+    }
+
+    private class QueuedListValuePlacingIterator extends UpcomingSelectionIterator<Placement<Solution_>> {
+
+        private int valueIndex = 0;
+
+        @Override
+        protected Placement<Solution_> createUpcomingSelection() {
+            while (valueIndex < valueList.size()) {
+                Object value = valueList.get(valueIndex);
+                valueIndex++;
+                if (inverseVariableSupply.getInverseSingleton(value) == null) {
+                    List<Move<Solution_>> moveList = buildAssignMoveList(value);
+                    if (moveList.isEmpty()) {
+                        return noUpcomingSelection();
+                    }
+                    return new Placement<>(moveList.iterator());
+                }
+            }
+            return noUpcomingSelection();
+        }
+
+        private List<Move<Solution_>> buildAssignMoveList(Object value) {
+            EntityDescriptor<Solution_> entityDescriptor = variableDescriptor.getEntityDescriptor();
+            List<Move<Solution_>> moveList = new ArrayList<>();
+            for (Object entity : entityDescriptor.extractEntities(scoreDirector.getWorkingSolution())) {
+                if (!entityDescriptor.isMovable(scoreDirector, entity)) {
+                    continue;
+                }
+                int listSize = variableDescriptor.getListSize(entity);
+                for (int destinationIndex = 0; destinationIndex <= listSize; destinationIndex++) {
+                    moveList.add(new ListAssignMove<>(variableDescriptor, value, entity, destinationIndex));
+                }
+            }
+            return moveList;
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + variableDescriptor + ")";
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.constructionheuristic.scope;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 
@@ -32,6 +33,7 @@ public class ConstructionHeuristicStepScope<Solution_> extends AbstractStepScope
     private String stepString = null;
     private Move<Solution_> undoStep = null;
     private Long selectedMoveCount = null;
+    private Score<?> placementStartingScore = null;
 
     public ConstructionHeuristicStepScope(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         this(phaseScope, phaseScope.getNextStepIndex());
@@ -90,8 +92,23 @@ public class ConstructionHeuristicStepScope<Solution_> extends AbstractStepScope
         this.selectedMoveCount = selectedMoveCount;
     }
 
+    public void setPlacementStartingScore(Score<?> placementStartingScore) {
+        this.placementStartingScore = placementStartingScore;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
 
+    /**
+     * @return never null, the score before the current placement,
+     *         which is the score of the last completed step unless this step already placed other entities
+     */
+    public Score<?> getPlacementStartingScore() {
+        if (placementStartingScore != null) {
+            return placementStartingScore;
+        }
+        return phaseScope.getLastCompletedStepScope().getScore();
+    }
+
 }
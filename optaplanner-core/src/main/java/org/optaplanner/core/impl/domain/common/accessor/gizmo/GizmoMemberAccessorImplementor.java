@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -76,6 +77,15 @@ public class GizmoMemberAccessorImplementor {
     final static String GENERIC_TYPE_FIELD = "genericType";
     final static String ANNOTATED_ELEMENT_FIELD = "annotatedElement";
 
+    /**
+     * Used to write the generated classes to disk ahead of time.
+     *
+     * @return never null, the bytecode of every member accessor class generated so far, by class name
+     */
+    public static Map<String, byte[]> getClassNameToBytecodeMap() {
+        return Collections.unmodifiableMap(classNameToBytecode);
+    }
+
     /**
      * Generates the constructor and implementations of MemberAccessor
      * methods for the given MemberDescriptor using the given ClassCreator
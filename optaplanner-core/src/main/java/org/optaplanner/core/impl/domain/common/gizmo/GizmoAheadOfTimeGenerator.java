@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.common.gizmo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.common.accessor.gizmo.GizmoMemberAccessorImplementor;
+import org.optaplanner.core.impl.domain.solution.cloner.gizmo.GizmoSolutionClonerImplementor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Generates the Gizmo {@link MemberAccessor} and {@link SolutionCloner} classes of a domain at build time,
+ * for applications that don't use optaplanner-quarkus.
+ * It writes them as class files, together with the {@link GizmoClassRegistry#REGISTRY_RESOURCE},
+ * so a {@link SolverFactory} with {@link DomainAccessType#GIZMO} uses them instead of generating them at bootstrap.
+ * Gizmo is then only needed at build time.
+ * <p>
+ * Run it after compilation with the compiled classes on the classpath,
+ * for example with the exec-maven-plugin in the process-classes phase:
+ * {@code GizmoAheadOfTimeGenerator <outputDirectory> <solverConfigResource>...}
+ * <p>
+ * Just like Gizmo at bootstrap, it only supports planning annotations on public members.
+ */
+public final class GizmoAheadOfTimeGenerator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: " + GizmoAheadOfTimeGenerator.class.getSimpleName()
+                    + " <outputDirectory> <solverConfigResource>...");
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        List<SolverConfig> solverConfigList = new ArrayList<>(args.length - 1);
+        for (int i = 1; i < args.length; i++) {
+            solverConfigList.add(SolverConfig.createFromXmlResource(args[i]));
+        }
+        generate(outputDirectory, solverConfigList);
+    }
+
+    /**
+     * @param outputDirectory never null, usually the directory of the compiled classes
+     * @param solverConfigList never null
+     * @return never null, the names of the generated classes
+     * @throws IOException if the class files or the registry cannot be written
+     */
+    public static Set<String> generate(Path outputDirectory, List<SolverConfig> solverConfigList) throws IOException {
+        for (SolverConfig solverConfig : solverConfigList) {
+            generateInMemory(solverConfig);
+        }
+        // Sorted to keep the build reproducible
+        Map<String, byte[]> classNameToBytecodeMap = new TreeMap<>();
+        classNameToBytecodeMap.putAll(GizmoMemberAccessorImplementor.getClassNameToBytecodeMap());
+        classNameToBytecodeMap.putAll(GizmoSolutionClonerImplementor.getClassNameToBytecodeMap());
+        for (Map.Entry<String, byte[]> entry : classNameToBytecodeMap.entrySet()) {
+            Path classFile = outputDirectory.resolve(entry.getKey().replace('.', '/') + ".class");
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, entry.getValue());
+        }
+        Path registryFile = outputDirectory.resolve(GizmoClassRegistry.REGISTRY_RESOURCE);
+        Files.createDirectories(registryFile.getParent());
+        Files.write(registryFile, classNameToBytecodeMap.keySet(), StandardCharsets.UTF_8);
+        return Collections.unmodifiableSet(classNameToBytecodeMap.keySet());
+    }
+
+    private static void generateInMemory(SolverConfig solverConfig) {
+        if (solverConfig.getSolutionClass() == null
+                || ConfigUtils.isEmptyCollection(solverConfig.getEntityClassList())) {
+            throw new IllegalArgumentException("The solver configuration must have a solutionClass ("
+                    + solverConfig.getSolutionClass() + ") and at least 1 entityClass ("
+                    + solverConfig.getEntityClassList() + ").");
+        }
+        // Building the descriptor generates the member accessors of all annotated members and the solution cloner
+        SolutionDescriptor<?> solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(DomainAccessType.GIZMO,
+                solverConfig.getSolutionClass(), null, null, solverConfig.getEntityClassList());
+        // The @PlanningId member accessors are otherwise only generated lazily, when solving
+        for (Class<?> problemFactOrEntityClass : solutionDescriptor.getProblemFactOrEntityClassSet()) {
+            ConfigUtils.findPlanningIdMemberAccessor(problemFactOrEntityClass, DomainAccessType.GIZMO,
+                    Collections.emptyMap());
+        }
+    }
+
+    private GizmoAheadOfTimeGenerator() {
+    }
+
+}
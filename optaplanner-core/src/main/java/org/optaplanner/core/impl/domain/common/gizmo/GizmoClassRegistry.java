@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.common.gizmo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+
+/**
+ * Finds the Gizmo generated classes that {@link GizmoAheadOfTimeGenerator} wrote at build time,
+ * so they don't need to be generated at bootstrap.
+ * It does not depend on Gizmo itself.
+ */
+public final class GizmoClassRegistry {
+
+    /**
+     * Lists the fully qualified name of every generated class, one per line.
+     */
+    public static final String REGISTRY_RESOURCE = "META-INF/optaplanner/gizmo-classes.txt";
+
+    /**
+     * @param classLoader never null, the {@link ClassLoader} of the domain classes
+     * @return null if no classes were generated ahead of time
+     */
+    public static GizmoClassRegistry load(ClassLoader classLoader) {
+        List<String> classNameList = readClassNameList(classLoader);
+        if (classNameList.isEmpty()) {
+            return null;
+        }
+        Map<String, MemberAccessor> memberAccessorMap = new HashMap<>(classNameList.size());
+        Map<String, SolutionCloner> solutionClonerMap = new HashMap<>();
+        for (String className : classNameList) {
+            Object instance = newInstance(classLoader, className);
+            if (instance instanceof MemberAccessor) {
+                memberAccessorMap.put(className, (MemberAccessor) instance);
+            } else if (instance instanceof SolutionCloner) {
+                solutionClonerMap.put(className, (SolutionCloner) instance);
+            } else {
+                throw new IllegalStateException("The generated class (" + className
+                        + ") listed in the resource (" + REGISTRY_RESOURCE + ") is not a "
+                        + MemberAccessor.class.getSimpleName() + " or a " + SolutionCloner.class.getSimpleName()
+                        + ".");
+            }
+        }
+        return new GizmoClassRegistry(memberAccessorMap, solutionClonerMap);
+    }
+
+    private static List<String> readClassNameList(ClassLoader classLoader) {
+        List<String> classNameList = new ArrayList<>();
+        try {
+            // Every jar of the application can have its own registry
+            Enumeration<URL> registryUrls = classLoader.getResources(REGISTRY_RESOURCE);
+            while (registryUrls.hasMoreElements()) {
+                URL registryUrl = registryUrls.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(registryUrl.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String className = line.trim();
+                        if (!className.isEmpty() && !className.startsWith("#")) {
+                            classNameList.add(className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed reading the resource (" + REGISTRY_RESOURCE + ").", e);
+        }
+        return classNameList;
+    }
+
+    private static Object newInstance(ClassLoader classLoader, String className) {
+        try {
+            return classLoader.loadClass(className).getConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The generated class (" + className
+                    + ") listed in the resource (" + REGISTRY_RESOURCE + ") does not exist.\n"
+                    + "Maybe run the " + GizmoAheadOfTimeGenerator.class.getSimpleName() + " again.", e);
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException
+                | NoSuchMethodException e) {
+            throw new IllegalStateException("The generated class (" + className + ") cannot be instantiated.", e);
+        }
+    }
+
+    private final Map<String, MemberAccessor> memberAccessorMap;
+    private final Map<String, SolutionCloner> solutionClonerMap;
+
+    private GizmoClassRegistry(Map<String, MemberAccessor> memberAccessorMap,
+            Map<String, SolutionCloner> solutionClonerMap) {
+        this.memberAccessorMap = Collections.unmodifiableMap(memberAccessorMap);
+        this.solutionClonerMap = Collections.unmodifiableMap(solutionClonerMap);
+    }
+
+    /**
+     * @return never null, by generated class name
+     */
+    public Map<String, MemberAccessor> getMemberAccessorMap() {
+        return memberAccessorMap;
+    }
+
+    /**
+     * @return never null, by generated class name
+     */
+    public Map<String, SolutionCloner> getSolutionClonerMap() {
+        return solutionClonerMap;
+    }
+
+}
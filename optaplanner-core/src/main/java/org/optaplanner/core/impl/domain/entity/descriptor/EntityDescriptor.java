@@ -22,6 +22,7 @@ import static org.optaplanner.core.impl.domain.common.accessor.MemberAccessorFac
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,7 +39,9 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.api.domain.variable.AnchorShadowVariable;
 import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
+import org.optaplanner.core.api.domain.variable.IndexShadowVariable;
 import org.optaplanner.core.api.domain.variable.InverseRelationShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
@@ -51,8 +54,10 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.custom.CustomShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.index.IndexShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.ComparatorSelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.CompositeSelectionFilter;
@@ -70,8 +75,8 @@ import org.slf4j.LoggerFactory;
 public class EntityDescriptor<Solution_> {
 
     private static final Class[] VARIABLE_ANNOTATION_CLASSES = {
-            PlanningVariable.class,
-            InverseRelationShadowVariable.class, AnchorShadowVariable.class,
+            PlanningVariable.class, PlanningListVariable.class,
+            InverseRelationShadowVariable.class, AnchorShadowVariable.class, IndexShadowVariable.class,
             CustomShadowVariable.class };
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityDescriptor.class);
@@ -89,11 +94,14 @@ public class EntityDescriptor<Solution_> {
     private Map<String, ShadowVariableDescriptor<Solution_>> declaredShadowVariableDescriptorMap;
 
     private List<SelectionFilter<Solution_, Object>> declaredPinEntityFilterList;
+    // False if a @PlanningPin is a method, which might depend on other state than the field it reads
+    private boolean declaredPinEntityFilterStatic = true;
 
     private List<EntityDescriptor<Solution_>> inheritedEntityDescriptorList;
 
     // Caches the inherited, declared and descending movable filters (including @PlanningPin filters) as a composite filter
     private SelectionFilter<Solution_, Object> effectiveMovableEntitySelectionFilter;
+    private boolean effectiveMovableEntitySelectionFilterStatic;
 
     // Caches the inherited and declared variable descriptors
     private Map<String, GenuineVariableDescriptor<Solution_>> effectiveGenuineVariableDescriptorMap;
@@ -246,6 +254,10 @@ public class EntityDescriptor<Solution_> {
             GenuineVariableDescriptor<Solution_> variableDescriptor = new GenuineVariableDescriptor<>(this,
                     memberAccessor);
             declaredGenuineVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(PlanningListVariable.class)) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = new ListVariableDescriptor<>(this,
+                    memberAccessor);
+            declaredGenuineVariableDescriptorMap.put(memberName, variableDescriptor);
         } else if (variableAnnotationClass.equals(InverseRelationShadowVariable.class)) {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new InverseRelationShadowVariableDescriptor<>(
                     this, memberAccessor);
@@ -254,6 +266,10 @@ public class EntityDescriptor<Solution_> {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new AnchorShadowVariableDescriptor<>(
                     this, memberAccessor);
             declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(IndexShadowVariable.class)) {
+            ShadowVariableDescriptor<Solution_> variableDescriptor = new IndexShadowVariableDescriptor<>(
+                    this, memberAccessor);
+            declaredShadowVariableDescriptorMap.put(memberName, variableDescriptor);
         } else if (variableAnnotationClass.equals(CustomShadowVariable.class)) {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new CustomShadowVariableDescriptor<>(
                     this, memberAccessor);
@@ -278,6 +294,9 @@ public class EntityDescriptor<Solution_> {
                         + ") that is not a boolean or Boolean.");
             }
             declaredPinEntityFilterList.add(new PinEntityFilter<>(memberAccessor));
+            if (!(member instanceof Field)) {
+                declaredPinEntityFilterStatic = false;
+            }
         }
     }
 
@@ -340,11 +359,16 @@ public class EntityDescriptor<Solution_> {
                     + "), but it has no declared genuine variables, only shadow variables.");
         }
         List<SelectionFilter<Solution_, Object>> selectionFilterList = new ArrayList<>();
+        // A PinningFilter receives the working solution, so it can depend on the planning variables
+        effectiveMovableEntitySelectionFilterStatic = declaredMovableEntitySelectionFilter == null
+                && declaredPinEntityFilterStatic;
         // TODO Also add in child entity selectors
         for (EntityDescriptor<Solution_> inheritedEntityDescriptor : inheritedEntityDescriptorList) {
             if (inheritedEntityDescriptor.hasEffectiveMovableEntitySelectionFilter()) {
                 // Includes movable and pinned
                 selectionFilterList.add(inheritedEntityDescriptor.getEffectiveMovableEntitySelectionFilter());
+                effectiveMovableEntitySelectionFilterStatic &=
+                        inheritedEntityDescriptor.isEffectiveMovableEntitySelectionFilterStatic();
             }
         }
         if (declaredMovableEntitySelectionFilter != null) {
@@ -393,6 +417,14 @@ public class EntityDescriptor<Solution_> {
         return effectiveMovableEntitySelectionFilter;
     }
 
+    /**
+     * @return true if {@link #getEffectiveMovableEntitySelectionFilter()} only reads {@link PlanningPin} fields,
+     *         so its result only changes through a problem fact change, never by a move
+     */
+    public boolean isEffectiveMovableEntitySelectionFilterStatic() {
+        return effectiveMovableEntitySelectionFilterStatic;
+    }
+
     public SelectionSorter<Solution_, Object> getDecreasingDifficultySorter() {
         return decreasingDifficultySorter;
     }
@@ -32,9 +32,12 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 
 public final class DeepCloningUtils {
     private final SolutionDescriptor<?> solutionDescriptor;
@@ -97,9 +100,45 @@ public final class DeepCloningUtils {
         }
         return isFieldAnEntityPropertyOnSolution(field, owningClass)
                 || isFieldAnEntityOrSolution(field)
+                || isFieldAPlanningListVariable(field, owningClass)
                 || isFieldADeepCloneProperty(field, owningClass);
     }
 
+    /**
+     * A planning list variable is changed in place by the moves,
+     * so its list must never be shared between clones, even if its elements are problem facts.
+     *
+     * @param field The field to get the deep cloning decision of
+     * @param owningClass The class that owns the field; can be different
+     *        from the field's declaring class (ex: subclass).
+     * @return True if the field is the planning list variable of an entity class.
+     *         If the variable is annotated on a getter, true for every field of the same type on that entity class,
+     *         because a getter doesn't reveal which field it returns.
+     */
+    public boolean isFieldAPlanningListVariable(Field field, Class<?> owningClass) {
+        ListVariableDescriptor<?> listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
+        if (listVariableDescriptor == null
+                || !listVariableDescriptor.getEntityDescriptor().getEntityClass().isAssignableFrom(owningClass)) {
+            return false;
+        }
+        MemberAccessor variableMemberAccessor = listVariableDescriptor.getVariableMemberAccessor();
+        Field variableField = findDeclaredField(variableMemberAccessor.getDeclaringClass(),
+                variableMemberAccessor.getName());
+        if (variableField != null && variableField.isAnnotationPresent(PlanningListVariable.class)) {
+            return field.equals(variableField);
+        }
+        // The backing field of the getter can have another name, so copying a field too many is the safe choice
+        return field.getGenericType().equals(variableMemberAccessor.getGenericType());
+    }
+
+    private static Field findDeclaredField(Class<?> declaringClass, String fieldName) {
+        try {
+            return declaringClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
     /**
      * Return true only if a field represent an entity property on the solution class.
      * An entity property is one who type is a PlanningEntity or a collection
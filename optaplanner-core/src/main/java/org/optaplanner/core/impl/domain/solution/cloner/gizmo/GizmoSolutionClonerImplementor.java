@@ -81,6 +81,15 @@ public class GizmoSolutionClonerImplementor {
         }
     };
 
+    /**
+     * Used to write the generated classes to disk ahead of time.
+     *
+     * @return never null, the bytecode of every solution cloner class generated so far, by class name
+     */
+    public static Map<String, byte[]> getClassNameToBytecodeMap() {
+        return Collections.unmodifiableMap(classNameToBytecode);
+    }
+
     /**
      * Return a comparator that sorts classes into instanceof check order.
      * In particular, if x is a subclass of y, then x will appear earlier
@@ -58,6 +58,7 @@ import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
 import org.optaplanner.core.api.domain.solution.ProblemFactProperty;
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.score.AbstractBendableScore;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -75,6 +76,7 @@ import org.optaplanner.core.impl.domain.score.descriptor.ScoreDescriptor;
 import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.cloner.gizmo.GizmoSolutionClonerFactory;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.definition.AbstractBendableScoreDefinition;
@@ -168,6 +170,7 @@ public class SolutionDescriptor<Solution_> {
     private ConstraintConfigurationDescriptor<Solution_> constraintConfigurationDescriptor;
     private final Map<Class<?>, EntityDescriptor<Solution_>> entityDescriptorMap;
     private final List<Class<?>> reversedEntityClassList;
+    private ListVariableDescriptor<Solution_> listVariableDescriptor;
     private final ConcurrentMap<Class<?>, EntityDescriptor<Solution_>> lowestEntityDescriptorMemoization =
             new ConcurrentMemoization<>();
 
@@ -503,6 +506,8 @@ public class SolutionDescriptor<Solution_> {
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
             entityDescriptor.linkEntityDescriptors(descriptorPolicy);
         }
+        // Before linking the variable descriptors, because the shadow variables of a list variable need it
+        listVariableDescriptor = findListVariableDescriptor();
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
             entityDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
@@ -705,6 +710,37 @@ public class SolutionDescriptor<Solution_> {
         return genuineEntityDescriptorList;
     }
 
+    private ListVariableDescriptor<Solution_> findListVariableDescriptor() {
+        ListVariableDescriptor<Solution_> found = null;
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getDeclaredGenuineVariableDescriptors()) {
+                if (variableDescriptor.isListVariable()) {
+                    if (found != null) {
+                        throw new IllegalStateException("The solutionClass (" + solutionClass
+                                + ") has multiple @" + PlanningListVariable.class.getSimpleName()
+                                + " properties, which isn't supported yet:\n"
+                                + "  the entityClass (" + found.getEntityDescriptor().getEntityClass()
+                                + ") has the variable (" + found.getVariableName() + ") and\n"
+                                + "  the entityClass (" + entityDescriptor.getEntityClass()
+                                + ") has the variable (" + variableDescriptor.getVariableName() + ").\n"
+                                + "Maybe remove the @" + PlanningListVariable.class.getSimpleName()
+                                + " annotation from all but one of them.");
+                    }
+                    found = (ListVariableDescriptor<Solution_>) variableDescriptor;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return null if no planning entity has a {@link PlanningListVariable}
+     */
+    public ListVariableDescriptor<Solution_> getListVariableDescriptor() {
+        return listVariableDescriptor;
+    }
+
     public boolean hasEntityDescriptorStrict(Class<?> entityClass) {
         return entityDescriptorMap.containsKey(entityClass);
     }
@@ -983,6 +1019,10 @@ public class SolutionDescriptor<Solution_> {
         long count = extractAllEntitiesStream(solution)
                 .mapToLong(entity -> findEntityDescriptorOrFail(entity.getClass()).countUninitializedVariables(entity))
                 .sum();
+        if (listVariableDescriptor != null) {
+            // Each planning value that isn't in any list yet counts as 1 uninitialized variable
+            count += listVariableDescriptor.countUnassignedValues(solution);
+        }
         // Score.initScore is an int
         return Math.toIntExact(count);
     }
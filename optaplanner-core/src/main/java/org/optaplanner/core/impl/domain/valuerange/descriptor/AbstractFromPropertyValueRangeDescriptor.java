@@ -44,6 +44,7 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
     protected boolean collectionWrapping;
     protected boolean arrayWrapping;
     protected boolean countable;
+    protected boolean precomputed;
 
     public AbstractFromPropertyValueRangeDescriptor(GenuineVariableDescriptor<Solution_> variableDescriptor,
             boolean addNullInValueRange,
@@ -151,6 +152,16 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
             }
         }
         countable = collectionWrapping || arrayWrapping || CountableValueRange.class.isAssignableFrom(type);
+        precomputed = valueRangeProviderAnnotation.precomputed();
+        if (precomputed && !countable) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a @" + PlanningVariable.class.getSimpleName()
+                    + " annotated property (" + variableDescriptor.getVariableName()
+                    + ") that refers to a @" + ValueRangeProvider.class.getSimpleName()
+                    + " annotated member (" + memberAccessor
+                    + ") with precomputed (" + precomputed + ") that does not return a "
+                    + CountableValueRange.class.getSimpleName() + ".");
+        }
     }
 
     // ************************************************************************
@@ -162,6 +173,11 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
         return countable;
     }
 
+    @Override
+    public boolean isPrecomputed() {
+        return precomputed;
+    }
+
     protected ValueRange<?> readValueRange(Object bean) {
         Object valueRangeObject = memberAccessor.executeGetter(bean);
         if (valueRangeObject == null) {
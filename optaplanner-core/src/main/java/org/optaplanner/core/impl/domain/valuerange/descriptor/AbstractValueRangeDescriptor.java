@@ -58,6 +58,11 @@ public abstract class AbstractValueRangeDescriptor<Solution_> implements ValueRa
         return false;
     }
 
+    @Override
+    public boolean isPrecomputed() {
+        return false;
+    }
+
     protected <T> ValueRange<T> doNullInValueRangeWrapping(ValueRange<T> valueRange) {
         if (addNullInValueRange) {
             valueRange = new NullableCountableValueRange<>((CountableValueRange) valueRange);
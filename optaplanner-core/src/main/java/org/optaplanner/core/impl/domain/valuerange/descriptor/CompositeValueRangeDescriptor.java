@@ -33,6 +33,7 @@ public class CompositeValueRangeDescriptor<Solution_> extends AbstractValueRange
 
     protected final List<ValueRangeDescriptor<Solution_>> childValueRangeDescriptorList;
     protected boolean entityIndependent;
+    protected boolean precomputed;
 
     public CompositeValueRangeDescriptor(
             GenuineVariableDescriptor<Solution_> variableDescriptor, boolean addNullInValueRange,
@@ -40,6 +41,7 @@ public class CompositeValueRangeDescriptor<Solution_> extends AbstractValueRange
         super(variableDescriptor, addNullInValueRange);
         this.childValueRangeDescriptorList = childValueRangeDescriptorList;
         entityIndependent = true;
+        precomputed = false;
         for (ValueRangeDescriptor<Solution_> valueRangeDescriptor : childValueRangeDescriptorList) {
             if (!valueRangeDescriptor.isCountable()) {
                 throw new IllegalStateException("The valueRangeDescriptor (" + this
@@ -49,6 +51,9 @@ public class CompositeValueRangeDescriptor<Solution_> extends AbstractValueRange
             if (!valueRangeDescriptor.isEntityIndependent()) {
                 entityIndependent = false;
             }
+            if (valueRangeDescriptor.isPrecomputed()) {
+                precomputed = true;
+            }
         }
     }
 
@@ -66,6 +71,11 @@ public class CompositeValueRangeDescriptor<Solution_> extends AbstractValueRange
         return entityIndependent;
     }
 
+    @Override
+    public boolean isPrecomputed() {
+        return precomputed;
+    }
+
     @Override
     public ValueRange<?> extractValueRange(Solution_ solution, Object entity) {
         List<CountableValueRange<?>> childValueRangeList = new ArrayList<>(childValueRangeDescriptorList.size());
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.domain.valuerange.descriptor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 
@@ -32,6 +33,13 @@ public class FromSolutionPropertyValueRangeDescriptor<Solution_>
             GenuineVariableDescriptor<Solution_> variableDescriptor, boolean addNullInValueRange,
             MemberAccessor memberAccessor) {
         super(variableDescriptor, addNullInValueRange, memberAccessor);
+        if (precomputed) {
+            throw new IllegalArgumentException("The @" + ValueRangeProvider.class.getSimpleName()
+                    + " annotated member (" + memberAccessor
+                    + ") on the solution has precomputed (" + precomputed + ").\n"
+                    + "Maybe remove precomputed, because a value range on the solution is the same for every entity"
+                    + " and is already extracted only once.");
+        }
     }
 
     // ************************************************************************
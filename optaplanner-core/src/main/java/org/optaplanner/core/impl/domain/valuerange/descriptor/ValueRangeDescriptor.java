@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.domain.valuerange.descriptor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 
 /**
@@ -50,6 +51,12 @@ public interface ValueRangeDescriptor<Solution_> {
      */
     boolean mightContainEntity();
 
+    /**
+     * @return true if the {@link ValueRange} of each entity should be precomputed once per phase
+     * @see ValueRangeProvider#precomputed()
+     */
+    boolean isPrecomputed();
+
     /**
      * @param solution never null
      * @param entity never null. To avoid this parameter,
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.valuerange.precomputed;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.optaplanner.core.impl.domain.valuerange.AbstractCountableValueRange;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
+
+/**
+ * The value range of 1 entity, as indexes into the values of all entities,
+ * so it takes an int and a bit per value and {@link #contains(Object)} is O(1).
+ *
+ * @param <T> the value type
+ * @see PrecomputedValueRangeSupply
+ */
+public class PrecomputedValueRange<T> extends AbstractCountableValueRange<T> {
+
+    private final List<T> valueList;
+    private final Map<Object, Integer> valueIndexMap;
+    private final int[] valueIndexes;
+    private final BitSet valueIndexSet;
+
+    /**
+     * @param valueList never null, the values of all entities, shared
+     * @param valueIndexMap never null, the index of each value in valueList, shared
+     * @param valueIndexes never null, the indexes of this value range's values, in their original order
+     */
+    public PrecomputedValueRange(List<T> valueList, Map<Object, Integer> valueIndexMap, int[] valueIndexes) {
+        this.valueList = valueList;
+        this.valueIndexMap = valueIndexMap;
+        this.valueIndexes = valueIndexes;
+        valueIndexSet = new BitSet();
+        for (int valueIndex : valueIndexes) {
+            valueIndexSet.set(valueIndex);
+        }
+    }
+
+    @Override
+    public long getSize() {
+        return valueIndexes.length;
+    }
+
+    @Override
+    public T get(long index) {
+        if (index > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") must fit in an int.");
+        }
+        return valueList.get(valueIndexes[(int) index]);
+    }
+
+    @Override
+    public boolean contains(T value) {
+        Integer valueIndex = valueIndexMap.get(value);
+        return valueIndex != null && valueIndexSet.get(valueIndex);
+    }
+
+    @Override
+    public Iterator<T> createOriginalIterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public Iterator<T> createRandomIterator(Random workingRandom) {
+        return new CachedListRandomIterator<>(asList(), workingRandom);
+    }
+
+    private List<T> asList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return valueList.get(valueIndexes[index]);
+            }
+
+            @Override
+            public int size() {
+                return valueIndexes.length;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "[" + valueIndexes.length + " of " + valueList.size() + " values]";
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.valuerange.precomputed;
+
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class PrecomputedValueRangeDemand<Solution_> implements Demand<Solution_, PrecomputedValueRangeSupply<Solution_>> {
+
+    protected final ValueRangeDescriptor<Solution_> valueRangeDescriptor;
+
+    public PrecomputedValueRangeDemand(ValueRangeDescriptor<Solution_> valueRangeDescriptor) {
+        this.valueRangeDescriptor = valueRangeDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public PrecomputedValueRangeSupply<Solution_> createExternalizedSupply(
+            InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new PrecomputedValueRangeSupply<>(valueRangeDescriptor);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PrecomputedValueRangeDemand)) {
+            return false;
+        }
+        PrecomputedValueRangeDemand<Solution_> other = (PrecomputedValueRangeDemand<Solution_>) o;
+        return valueRangeDescriptor.equals(other.valueRangeDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(PrecomputedValueRangeDemand.class.getName(), valueRangeDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueRangeDescriptor + ")";
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.valuerange.precomputed;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+
+/**
+ * Extracts the value range of each entity at most once per phase,
+ * instead of calling the {@link ValueRangeProvider} every time the values are iterated or checked.
+ * The values of all entities are indexed once and each entity's value range is a {@link PrecomputedValueRange}
+ * over those indexes.
+ * <p>
+ * The value ranges are extracted lazily, the first time an entity is asked for in a phase.
+ * Value ranges don't change during a phase, only through a problem fact change, which happens between phases.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see PrecomputedValueRangeDemand
+ */
+public class PrecomputedValueRangeSupply<Solution_> implements Supply {
+
+    protected final ValueRangeDescriptor<Solution_> valueRangeDescriptor;
+
+    protected AbstractPhaseScope<Solution_> precomputedPhaseScope = null;
+    protected Solution_ workingSolution = null;
+    protected List<Object> valueList = null;
+    protected Map<Object, Integer> valueIndexMap = null;
+    protected Map<Object, PrecomputedValueRange<Object>> entityToValueRangeMap = null;
+
+    public PrecomputedValueRangeSupply(ValueRangeDescriptor<Solution_> valueRangeDescriptor) {
+        this.valueRangeDescriptor = valueRangeDescriptor;
+    }
+
+    /**
+     * Forgets the value ranges of a previous phase.
+     * Every user of this supply calls this when its phase starts, so it does nothing if it's the same phase.
+     *
+     * @param phaseScope never null
+     */
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        if (phaseScope == precomputedPhaseScope) {
+            return;
+        }
+        precomputedPhaseScope = phaseScope;
+        workingSolution = phaseScope.getWorkingSolution();
+        valueList = new ArrayList<>();
+        valueIndexMap = new HashMap<>();
+        entityToValueRangeMap = new IdentityHashMap<>();
+    }
+
+    /**
+     * @param entity never null
+     * @return never null
+     */
+    public CountableValueRange<Object> getValueRange(Object entity) {
+        if (workingSolution == null) {
+            throw new IllegalStateException("Impossible state: the supply (" + this
+                    + ") is used outside of a phase.");
+        }
+        return entityToValueRangeMap.computeIfAbsent(entity, this::precomputeValueRange);
+    }
+
+    protected PrecomputedValueRange<Object> precomputeValueRange(Object entity) {
+        CountableValueRange<Object> valueRange = (CountableValueRange<Object>) valueRangeDescriptor
+                .extractValueRange(workingSolution, entity);
+        int[] valueIndexes = new int[Math.toIntExact(valueRange.getSize())];
+        int i = 0;
+        for (Iterator<Object> it = valueRange.createOriginalIterator(); it.hasNext();) {
+            Object value = it.next();
+            Integer valueIndex = valueIndexMap.get(value);
+            if (valueIndex == null) {
+                valueIndex = valueList.size();
+                valueList.add(value);
+                valueIndexMap.put(value, valueIndex);
+            }
+            valueIndexes[i] = valueIndex;
+            i++;
+        }
+        return new PrecomputedValueRange<>(valueList, valueIndexMap, valueIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueRangeDescriptor + ")";
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.domain.variable.descriptor;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,6 +27,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
 import org.optaplanner.core.api.domain.variable.PlanningVariableGraphType;
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -81,7 +83,7 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         PlanningVariable planningVariableAnnotation = variableMemberAccessor.getAnnotation(PlanningVariable.class);
         processNullable(descriptorPolicy, planningVariableAnnotation);
         processChained(descriptorPolicy, planningVariableAnnotation);
-        processValueRangeRefs(descriptorPolicy, planningVariableAnnotation);
+        processValueRangeRefs(descriptorPolicy, planningVariableAnnotation.valueRangeProviderRefs());
         processStrength(descriptorPolicy, planningVariableAnnotation);
     }
 
@@ -118,11 +120,10 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         }
     }
 
-    private void processValueRangeRefs(DescriptorPolicy descriptorPolicy, PlanningVariable planningVariableAnnotation) {
-        String[] valueRangeProviderRefs = planningVariableAnnotation.valueRangeProviderRefs();
+    protected void processValueRangeRefs(DescriptorPolicy descriptorPolicy, String[] valueRangeProviderRefs) {
         if (ArrayUtils.isEmpty(valueRangeProviderRefs)) {
             throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
-                    + ") has a @" + PlanningVariable.class.getSimpleName()
+                    + ") has a @" + getVariableAnnotationClass().getSimpleName()
                     + " annotated property (" + variableMemberAccessor.getName()
                     + ") that has no valueRangeProviderRefs (" + Arrays.toString(valueRangeProviderRefs) + ").");
         }
@@ -150,7 +151,7 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         } else {
             Collection<String> providerIds = descriptorPolicy.getValueRangeProviderIds();
             throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
-                    + ") has a @" + PlanningVariable.class.getSimpleName()
+                    + ") has a @" + getVariableAnnotationClass().getSimpleName()
                     + " annotated property (" + variableMemberAccessor.getName()
                     + ") with a valueRangeProviderRef (" + valueRangeProviderRef
                     + ") that does not exist in a @" + ValueRangeProvider.class.getSimpleName()
@@ -214,10 +215,22 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
     // Worker methods
     // ************************************************************************
 
+    protected Class<? extends Annotation> getVariableAnnotationClass() {
+        return PlanningVariable.class;
+    }
+
     public boolean isChained() {
         return chained;
     }
 
+    /**
+     * @return true if this is a {@link PlanningListVariable}, which holds a {@link List} of planning values
+     * @see ListVariableDescriptor
+     */
+    public boolean isListVariable() {
+        return false;
+    }
+
     public boolean isNullable() {
         return nullable;
     }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.descriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+
+/**
+ * Describes a {@link PlanningListVariable}.
+ * The value of this variable is a {@link List}, which the moves change in place,
+ * so the planning values are its elements, not the list itself.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListVariableDescriptor<Solution_> extends GenuineVariableDescriptor<Solution_> {
+
+    public ListVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void processAnnotations(DescriptorPolicy descriptorPolicy) {
+        PlanningListVariable planningListVariableAnnotation =
+                variableMemberAccessor.getAnnotation(PlanningListVariable.class);
+        if (!List.class.isAssignableFrom(variableMemberAccessor.getType())) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a @" + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a propertyType (" + variableMemberAccessor.getType()
+                    + ") which is not a " + List.class.getSimpleName() + ".");
+        }
+        processValueRangeRefs(descriptorPolicy, planningListVariableAnnotation.valueRangeProviderRefs());
+        if (!isValueRangeEntityIndependent()) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a @" + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a valueRangeProviderRef on the entity class.\n"
+                    + "Maybe move that @ValueRangeProvider to the solution class,"
+                    + " because every planning value must be in the list of exactly 1 entity.");
+        }
+    }
+
+    @Override
+    protected Class<? extends Annotation> getVariableAnnotationClass() {
+        return PlanningListVariable.class;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isListVariable() {
+        return true;
+    }
+
+    @Override
+    public SelectionFilter<Solution_, Object> getReinitializeVariableEntityFilter() {
+        return (scoreDirector, entity) -> false;
+    }
+
+    // ************************************************************************
+    // Extraction methods
+    // ************************************************************************
+
+    /**
+     * A list is always considered initialized:
+     * the planning values that aren't in any list are counted by {@link #countUnassignedValues(Object)}.
+     *
+     * @param entity never null
+     * @return true if the list is not null
+     */
+    @Override
+    public boolean isInitialized(Object entity) {
+        return getValue(entity) != null;
+    }
+
+    @Override
+    public boolean isReinitializable(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        return false;
+    }
+
+    /**
+     * @param entity never null
+     * @return never null, the list of the entity, which can be changed in place
+     */
+    public List<Object> getListVariable(Object entity) {
+        List<Object> list = (List<Object>) getValue(entity);
+        if (list == null) {
+            throw new IllegalStateException("The entity (" + entity + ") has a null list for the "
+                    + PlanningListVariable.class.getSimpleName() + " (" + getSimpleEntityAndVariableName() + ").\n"
+                    + "Maybe initialize it with an empty list.");
+        }
+        return list;
+    }
+
+    public int getListSize(Object entity) {
+        return getListVariable(entity).size();
+    }
+
+    public Object getElement(Object entity, int index) {
+        return getListVariable(entity).get(index);
+    }
+
+    /**
+     * @param solution never null
+     * @return never null, all planning values that can be in a list
+     */
+    public CountableValueRange<Object> extractAllValues(Solution_ solution) {
+        ValueRange<?> valueRange = getValueRangeDescriptor().extractValueRange(solution, null);
+        if (!(valueRange instanceof CountableValueRange)) {
+            throw new IllegalStateException("The " + PlanningListVariable.class.getSimpleName()
+                    + " (" + getSimpleEntityAndVariableName() + ") needs a countable value range ("
+                    + valueRange + ").");
+        }
+        return (CountableValueRange<Object>) valueRange;
+    }
+
+    /**
+     * @param solution never null
+     * @return {@code >= 0}, the number of planning values that aren't in the list of any entity
+     */
+    public long countUnassignedValues(Solution_ solution) {
+        long assignedCount = 0L;
+        for (Object entity : entityDescriptor.extractEntities(solution)) {
+            List<Object> list = (List<Object>) getValue(entity);
+            if (list != null) {
+                assignedCount += list.size();
+            }
+        }
+        return Math.max(0L, extractAllValues(solution).getSize() - assignedCount);
+    }
+
+    @Override
+    public String toString() {
+        return getSimpleEntityAndVariableName() + " list variable";
+    }
+
+}
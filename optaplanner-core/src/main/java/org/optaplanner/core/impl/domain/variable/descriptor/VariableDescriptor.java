@@ -65,6 +65,10 @@ public abstract class VariableDescriptor<Solution_> {
         return variableName;
     }
 
+    public MemberAccessor getVariableMemberAccessor() {
+        return variableMemberAccessor;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Alternative to {@link IndexVariableListener}.
+ */
+public class ExternalizedIndexVariableSupply<Solution_> extends ListVariableListener<Solution_>
+        implements SourcedVariableListener<Solution_, Object>, IndexVariableSupply {
+
+    protected final Map<Object, Integer> indexMap = new IdentityHashMap<>();
+
+    public ExternalizedIndexVariableSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        super(sourceVariableDescriptor);
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        super.resetWorkingSolution(scoreDirector);
+        indexMap.clear();
+        for (Object entity : sourceVariableDescriptor.getEntityDescriptor()
+                .extractEntities(scoreDirector.getWorkingSolution())) {
+            List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+            for (int i = 0; i < list.size(); i++) {
+                indexMap.put(list.get(i), i);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        indexMap.clear();
+    }
+
+    @Override
+    protected void elementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, Object element) {
+        indexMap.remove(element);
+    }
+
+    @Override
+    protected void elementPlaced(ScoreDirector<Solution_> scoreDirector, Object entity, Object element, int index) {
+        indexMap.put(element, index);
+    }
+
+    @Override
+    public Integer getIndex(Object planningValue) {
+        return indexMap.get(planningValue);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
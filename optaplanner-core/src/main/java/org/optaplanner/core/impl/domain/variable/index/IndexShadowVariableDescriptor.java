@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.IndexShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IndexShadowVariableDescriptor<Solution_> extends ShadowVariableDescriptor<Solution_> {
+
+    protected ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public IndexShadowVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    @Override
+    public void processAnnotations(DescriptorPolicy descriptorPolicy) {
+        // Do nothing
+    }
+
+    @Override
+    public void linkVariableDescriptors(DescriptorPolicy descriptorPolicy) {
+        linkShadowSources(descriptorPolicy);
+    }
+
+    private void linkShadowSources(DescriptorPolicy descriptorPolicy) {
+        IndexShadowVariable shadowVariableAnnotation = variableMemberAccessor
+                .getAnnotation(IndexShadowVariable.class);
+        if (!Integer.class.equals(getVariablePropertyType())) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a @" + IndexShadowVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a propertyType (" + getVariablePropertyType()
+                    + ") which is not " + Integer.class.getSimpleName() + ".");
+        }
+        String sourceVariableName = shadowVariableAnnotation.sourceVariableName();
+        ListVariableDescriptor<Solution_> listVariableDescriptor = entityDescriptor.getSolutionDescriptor()
+                .getListVariableDescriptor();
+        if (listVariableDescriptor == null || !listVariableDescriptor.getVariableName().equals(sourceVariableName)) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a @" + IndexShadowVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with sourceVariableName (" + sourceVariableName
+                    + ") which is not a @" + PlanningListVariable.class.getSimpleName()
+                    + " (" + listVariableDescriptor + ").");
+        }
+        sourceVariableDescriptor = listVariableDescriptor;
+        sourceVariableDescriptor.registerSinkVariableDescriptor(this);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.singletonList(sourceVariableDescriptor);
+    }
+
+    @Override
+    public Class<? extends VariableListener> getVariableListenerClass() {
+        return IndexVariableListener.class;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Demand<Solution_, ?> getProvidedDemand() {
+        return new IndexVariableDemand<>(sourceVariableDescriptor);
+    }
+
+    @Override
+    public VariableListener<Solution_, ?> buildVariableListener(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new IndexVariableListener<>(this, sourceVariableDescriptor);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class IndexVariableListener<Solution_> extends ListVariableListener<Solution_> implements IndexVariableSupply {
+
+    protected final IndexShadowVariableDescriptor<Solution_> shadowVariableDescriptor;
+
+    public IndexVariableListener(IndexShadowVariableDescriptor<Solution_> shadowVariableDescriptor,
+            ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        super(sourceVariableDescriptor);
+        this.shadowVariableDescriptor = shadowVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        super.resetWorkingSolution(scoreDirector);
+        // The working solution isn't in the score calculation yet, so the shadow variables are set without events
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        for (Iterator<Object> it = sourceVariableDescriptor.extractAllValues(workingSolution).createOriginalIterator();
+                it.hasNext();) {
+            Object value = it.next();
+            if (getEntity(value) == null) {
+                shadowVariableDescriptor.setValue(value, null);
+            }
+        }
+        for (Object entity : sourceVariableDescriptor.getEntityDescriptor().extractEntities(workingSolution)) {
+            List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+            for (int i = 0; i < list.size(); i++) {
+                shadowVariableDescriptor.setValue(list.get(i), i);
+            }
+        }
+    }
+
+    @Override
+    protected void elementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, Object element) {
+        setIndex((InnerScoreDirector<Solution_, ?>) scoreDirector, element, null);
+    }
+
+    @Override
+    protected void elementPlaced(ScoreDirector<Solution_> scoreDirector, Object entity, Object element, int index) {
+        setIndex((InnerScoreDirector<Solution_, ?>) scoreDirector, element, index);
+    }
+
+    private void setIndex(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
+        if (!Objects.equals(shadowVariableDescriptor.getValue(element), index)) {
+            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+            shadowVariableDescriptor.setValue(element, index);
+            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        }
+    }
+
+    @Override
+    public Integer getIndex(Object planningValue) {
+        return (Integer) shadowVariableDescriptor.getValue(planningValue);
+    }
+
+}
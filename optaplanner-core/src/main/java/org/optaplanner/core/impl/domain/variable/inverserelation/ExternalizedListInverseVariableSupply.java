@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Alternative to {@link ListInverseVariableListener}.
+ */
+public class ExternalizedListInverseVariableSupply<Solution_> extends ListVariableListener<Solution_>
+        implements SourcedVariableListener<Solution_, Object>, SingletonInverseVariableSupply {
+
+    public ExternalizedListInverseVariableSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        super(sourceVariableDescriptor);
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    protected void elementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, Object element) {
+        // Do nothing: the entity of each element is already tracked by the superclass
+    }
+
+    @Override
+    protected void elementPlaced(ScoreDirector<Solution_> scoreDirector, Object entity, Object element, int index) {
+        // Do nothing: the entity of each element is already tracked by the superclass
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        return getEntity(planningValue);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
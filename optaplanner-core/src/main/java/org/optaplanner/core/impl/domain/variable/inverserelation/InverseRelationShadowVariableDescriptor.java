@@ -29,6 +29,7 @@ import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
@@ -95,7 +96,17 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
         }
         boolean chained = (sourceVariableDescriptor instanceof GenuineVariableDescriptor) &&
                 ((GenuineVariableDescriptor<Solution_>) sourceVariableDescriptor).isChained();
-        if (singleton) {
+        boolean list = sourceVariableDescriptor instanceof ListVariableDescriptor;
+        if (list) {
+            if (!singleton) {
+                throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                        + ") has a @" + InverseRelationShadowVariable.class.getSimpleName()
+                        + " annotated property (" + variableMemberAccessor.getName()
+                        + ") which returns a " + Collection.class.getSimpleName()
+                        + " with sourceVariableName (" + sourceVariableName
+                        + ") which is a list variable. A list variable supports only a singleton inverse.");
+            }
+        } else if (singleton) {
             if (!chained) {
                 throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
                         + ") has a @" + InverseRelationShadowVariable.class.getSimpleName()
@@ -124,7 +135,9 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
 
     @Override
     public Class<? extends VariableListener> getVariableListenerClass() {
-        if (singleton) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            return ListInverseVariableListener.class;
+        } else if (singleton) {
             return SingletonInverseVariableListener.class;
         } else {
             return CollectionInverseVariableListener.class;
@@ -146,7 +159,9 @@ public class InverseRelationShadowVariableDescriptor<Solution_> extends ShadowVa
 
     @Override
     public VariableListener<Solution_, ?> buildVariableListener(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        if (singleton) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            return new ListInverseVariableListener<>(this, (ListVariableDescriptor<Solution_>) sourceVariableDescriptor);
+        } else if (singleton) {
             return new SingletonInverseVariableListener<>(this, sourceVariableDescriptor);
         } else {
             return new CollectionInverseVariableListener<>(this, sourceVariableDescriptor);
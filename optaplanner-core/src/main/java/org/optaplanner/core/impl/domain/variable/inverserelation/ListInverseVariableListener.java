@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * The {@link SingletonInverseVariableListener} for a source that is a list variable:
+ * each planning value points to the entity that holds it in its list.
+ */
+public class ListInverseVariableListener<Solution_> extends ListVariableListener<Solution_>
+        implements SingletonInverseVariableSupply {
+
+    protected final InverseRelationShadowVariableDescriptor<Solution_> shadowVariableDescriptor;
+
+    public ListInverseVariableListener(InverseRelationShadowVariableDescriptor<Solution_> shadowVariableDescriptor,
+            ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        super(sourceVariableDescriptor);
+        this.shadowVariableDescriptor = shadowVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        super.resetWorkingSolution(scoreDirector);
+        // The working solution isn't in the score calculation yet, so the shadow variables are set without events
+        for (Iterator<Object> it = sourceVariableDescriptor.extractAllValues(scoreDirector.getWorkingSolution())
+                .createOriginalIterator(); it.hasNext();) {
+            Object value = it.next();
+            shadowVariableDescriptor.setValue(value, getEntity(value));
+        }
+    }
+
+    @Override
+    protected void elementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, Object element) {
+        setInverse((InnerScoreDirector<Solution_, ?>) scoreDirector, element, null);
+    }
+
+    @Override
+    protected void elementPlaced(ScoreDirector<Solution_> scoreDirector, Object entity, Object element, int index) {
+        setInverse((InnerScoreDirector<Solution_, ?>) scoreDirector, element, entity);
+    }
+
+    private void setInverse(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Object entity) {
+        if (shadowVariableDescriptor.getValue(element) != entity) {
+            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+            shadowVariableDescriptor.setValue(element, entity);
+            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        }
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        return shadowVariableDescriptor.getValue(planningValue);
+    }
+
+}
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.domain.variable.inverserelation;
 
 import java.util.Objects;
 
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -40,6 +41,10 @@ public class SingletonInverseVariableDemand<Solution_> implements Demand<Solutio
 
     @Override
     public SingletonInverseVariableSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            return new ExternalizedListInverseVariableSupply<>(
+                    (ListVariableDescriptor<Solution_>) sourceVariableDescriptor);
+        }
         return new ExternalizedSingletonInverseVariableSupply<>(sourceVariableDescriptor);
     }
 
@@ -20,7 +20,7 @@ import org.optaplanner.core.impl.domain.variable.supply.Supply;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
- * Currently only supported for chained variables,
+ * Currently only supported for chained variables and list variables,
  * which guarantee that no 2 entities use the same planningValue.
  * <p>
  * To get an instance, demand a {@link SingletonInverseVariableDemand} from {@link InnerScoreDirector#getSupplyManager()}.
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+
+/**
+ * Translates the changes of a {@link PlanningListVariable} into changes of its elements.
+ * <p>
+ * The list is changed in place, so its state before the change is copied in {@link #beforeVariableChanged}.
+ * Only the elements that left the list and the elements that moved are passed on to the subclass,
+ * so a move that changes 2 elements of a long list doesn't touch the others.
+ * <p>
+ * It also tracks which entity holds each element,
+ * so an element that moved to another entity isn't reported as removed
+ * if that other entity happens to be notified first.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public abstract class ListVariableListener<Solution_> implements VariableListener<Solution_, Object> {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    protected final Map<Object, List<Object>> beforeListMap = new IdentityHashMap<>();
+    protected final Map<Object, Object> elementEntityMap = new IdentityHashMap<>();
+
+    protected ListVariableListener(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        beforeListMap.clear();
+        elementEntityMap.clear();
+        for (Object entity : sourceVariableDescriptor.getEntityDescriptor()
+                .extractEntities(scoreDirector.getWorkingSolution())) {
+            for (Object element : readList(entity)) {
+                elementEntityMap.put(element, entity);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        beforeListMap.clear();
+        elementEntityMap.clear();
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        afterListChanged(scoreDirector, entity, Collections.emptyList(), readList(entity));
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        beforeListMap.computeIfAbsent(entity, e -> new ArrayList<>(readList(e)));
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        List<Object> beforeList = beforeListMap.remove(entity);
+        afterListChanged(scoreDirector, entity, beforeList == null ? Collections.emptyList() : beforeList,
+                readList(entity));
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        beforeListMap.computeIfAbsent(entity, e -> new ArrayList<>(readList(e)));
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        List<Object> beforeList = beforeListMap.remove(entity);
+        afterListChanged(scoreDirector, entity, beforeList == null ? Collections.emptyList() : beforeList,
+                Collections.emptyList());
+    }
+
+    private List<Object> readList(Object entity) {
+        List<Object> list = (List<Object>) sourceVariableDescriptor.getValue(entity);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private void afterListChanged(ScoreDirector<Solution_> scoreDirector, Object entity, List<Object> beforeList,
+            List<Object> afterList) {
+        if (!beforeList.isEmpty()) {
+            Set<Object> afterSet = Collections.newSetFromMap(new IdentityHashMap<>(afterList.size()));
+            afterSet.addAll(afterList);
+            for (Object element : beforeList) {
+                if (!afterSet.contains(element) && elementEntityMap.get(element) == entity) {
+                    elementEntityMap.remove(element);
+                    elementRemoved(scoreDirector, entity, element);
+                }
+            }
+        }
+        for (int index = 0; index < afterList.size(); index++) {
+            Object element = afterList.get(index);
+            Object oldEntity = elementEntityMap.put(element, entity);
+            if (oldEntity != entity || index >= beforeList.size() || beforeList.get(index) != element) {
+                elementPlaced(scoreDirector, entity, element, index);
+            }
+        }
+    }
+
+    /**
+     * @param element never null
+     * @return null if the element isn't in the list of any entity
+     */
+    protected Object getEntity(Object element) {
+        return elementEntityMap.get(element);
+    }
+
+    /**
+     * Called for an element that is no longer in the list of that entity,
+     * nor in the list of another entity that has been notified already.
+     *
+     * @param scoreDirector never null
+     * @param entity never null, the entity that held the element
+     * @param element never null
+     */
+    protected abstract void elementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, Object element);
+
+    /**
+     * Called for an element that is in the list of that entity at a different index than before.
+     *
+     * @param scoreDirector never null
+     * @param entity never null, the entity that holds the element
+     * @param element never null
+     * @param index {@code >= 0}
+     */
+    protected abstract void elementPlaced(ScoreDirector<Solution_> scoreDirector, Object entity, Object element,
+            int index);
+
+}
@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.domain.variable.listener;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
@@ -27,4 +30,14 @@ public interface SourcedVariableListener<Solution_, Entity_> extends VariableLis
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * Only overwritten by supplies that depend on more than 1 variable.
+     *
+     * @return never null, all variables of which the changes are notified, including
+     *         {@link #getSourceVariableDescriptor()}, all of the same entity class
+     */
+    default List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.singletonList(getSourceVariableDescriptor());
+    }
+
 }
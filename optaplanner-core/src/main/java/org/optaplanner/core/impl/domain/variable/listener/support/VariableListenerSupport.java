@@ -111,15 +111,16 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 if (scoreDirector.getWorkingSolution() != null) {
                     variableListener.resetWorkingSolution(scoreDirector);
                 }
-                VariableDescriptor<Solution_> source = variableListener.getSourceVariableDescriptor();
                 VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, nextGlobalOrder);
                 nextGlobalOrder++;
-                List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
-                variableNotifiableList.add(notifiable);
-                List<VariableListenerNotifiable> entityNotifiableList = sourceEntityToNotifiableMap
-                        .get(source.getEntityDescriptor());
-                if (!entityNotifiableList.contains(notifiable)) {
-                    entityNotifiableList.add(notifiable);
+                for (VariableDescriptor<Solution_> source : variableListener.getSourceVariableDescriptorList()) {
+                    List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
+                    variableNotifiableList.add(notifiable);
+                    List<VariableListenerNotifiable> entityNotifiableList = sourceEntityToNotifiableMap
+                            .get(source.getEntityDescriptor());
+                    if (!entityNotifiableList.contains(notifiable)) {
+                        entityNotifiableList.add(notifiable);
+                    }
                 }
                 notifiableList.add(notifiable);
                 // No need to sort notifiableList again because notifiable's globalOrder is highest
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.position;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for chained variables.
+ * Answers the relative order of 2 elements of the same chain in constant time,
+ * instead of walking the chain from one element to the other.
+ * <p>
+ * To get an instance, demand a {@link ChainPositionVariableDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ChainPositionVariableSupply extends Supply {
+
+    /**
+     * @param a never null, an anchor or an entity in the same chain as b
+     * @param b never null, an anchor or an entity in the same chain as a
+     * @return true if a is closer to the anchor of their chain than b
+     */
+    boolean isBefore(Object a, Object b);
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.position;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Gives every entity in a chain a sparse position (an order-maintenance label):
+ * the positions increase along the chain, but they are not consecutive.
+ * An entity that is moved between 2 entities takes the middle of the gap between their positions,
+ * so a typical move only changes 1 position per changed entity, regardless of the length of the chain.
+ * Only when a gap is exhausted (or a sub chain is moved as a whole),
+ * the trailing entities are repositioned until the chain is in order again.
+ */
+public class ExternalizedChainPositionVariableSupply<Solution_> implements SourcedVariableListener<Solution_, Object>,
+        ChainPositionVariableSupply {
+
+    protected static final long ANCHOR_POSITION = 0L;
+    protected static final long POSITION_GAP = 1L << 16;
+
+    protected final VariableDescriptor<Solution_> previousVariableDescriptor;
+    protected final SingletonInverseVariableSupply nextVariableSupply;
+
+    protected Map<Object, Long> positionMap = null;
+
+    public ExternalizedChainPositionVariableSupply(VariableDescriptor<Solution_> previousVariableDescriptor,
+            SingletonInverseVariableSupply nextVariableSupply) {
+        this.previousVariableDescriptor = previousVariableDescriptor;
+        this.nextVariableSupply = nextVariableSupply;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return previousVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        EntityDescriptor<Solution_> entityDescriptor = previousVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        positionMap = new IdentityHashMap<>(entityList.size());
+        for (Object entity : entityList) {
+            Object previousEntity = previousVariableDescriptor.getValue(entity);
+            // Inserting the first entity of a chain positions its trailing entities too
+            if (previousEntity != null && previousVariableDescriptor.isValuePotentialAnchor(previousEntity)) {
+                insert(entity);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        positionMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // No need to retract() because the insert (which is guaranteed to be called later) repositions the entity.
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // An uninitialized entity has no position
+        positionMap.remove(entity);
+        // No need to retract the trailing entities because they will be removed too or change their previousVariable
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity) {
+        Object previousEntity = previousVariableDescriptor.getValue(entity);
+        if (previousEntity == null) {
+            positionMap.remove(entity);
+            return;
+        }
+        long previousPosition = getPosition(previousEntity);
+        Object currentEntity = entity;
+        while (currentEntity != null) {
+            Long position = positionMap.get(currentEntity);
+            Object nextEntity = nextVariableSupply.getInverseSingleton(currentEntity);
+            Long nextPosition = nextEntity == null ? null : positionMap.get(nextEntity);
+            if (position != null && position > previousPosition && (nextPosition == null || position < nextPosition)) {
+                // Still in order, for example because it stayed in the same chain
+                return;
+            }
+            // A stale position (for example from another chain) would reposition all trailing entities instead
+            if (nextPosition != null && nextPosition - previousPosition > 1L) {
+                positionMap.put(currentEntity, previousPosition + (nextPosition - previousPosition) / 2L);
+                return;
+            }
+            long newPosition = previousPosition + POSITION_GAP;
+            positionMap.put(currentEntity, newPosition);
+            previousPosition = newPosition;
+            currentEntity = nextEntity;
+        }
+    }
+
+    protected long getPosition(Object value) {
+        if (previousVariableDescriptor.isValuePotentialAnchor(value)) {
+            return ANCHOR_POSITION;
+        }
+        Long position = positionMap.get(value);
+        if (position == null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + value
+                    + ") for sourceVariable (" + previousVariableDescriptor.getVariableName()
+                    + ") has no position: it is not in a chain.");
+        }
+        return position;
+    }
+
+    @Override
+    public boolean isBefore(Object a, Object b) {
+        return getPosition(a) < getPosition(b);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + previousVariableDescriptor.getVariableName() + ")";
+    }
+
+}
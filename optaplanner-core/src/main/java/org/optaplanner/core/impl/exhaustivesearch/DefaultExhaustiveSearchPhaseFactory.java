@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchType;
 import org.optaplanner.core.config.exhaustivesearch.NodeExplorationType;
@@ -36,6 +37,7 @@ import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.TrendBasedScoreBounder;
@@ -61,6 +63,17 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
             HeuristicConfigPolicy<Solution_> solverConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
             Termination<Solution_> solverTermination) {
         HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createFilteredPhaseConfigPolicy();
+        ListVariableDescriptor<Solution_> listVariableDescriptor =
+                phaseConfigPolicy.getSolutionDescriptor().getListVariableDescriptor();
+        if (listVariableDescriptor != null) {
+            // DefaultExhaustiveSearchPhase.fillLayerList() assigns one planning value per genuine variable
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a variable (" + listVariableDescriptor.getVariableName()
+                    + ") on entityClass (" + listVariableDescriptor.getEntityDescriptor().getEntityClass()
+                    + ") which is a @" + PlanningListVariable.class.getSimpleName()
+                    + ", which exhaustive search doesn't support.\n"
+                    + "Maybe use a construction heuristic and local search instead.");
+        }
         ExhaustiveSearchType exhaustiveSearchType_ = phaseConfig.getExhaustiveSearchType() == null
                 ? ExhaustiveSearchType.BRANCH_AND_BOUND
                 : phaseConfig.getExhaustiveSearchType();
@@ -16,10 +16,12 @@
 
 package org.optaplanner.core.impl.heuristic.selector;
 
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.config.heuristic.selector.SelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.impl.AbstractFromConfigFactory;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 
 public abstract class AbstractSelectorFactory<Solution_, SelectorConfig_ extends SelectorConfig<SelectorConfig_>>
         extends AbstractFromConfigFactory<Solution_, SelectorConfig_> {
@@ -52,4 +54,19 @@ public abstract class AbstractSelectorFactory<Solution_, SelectorConfig_ extends
                         + ") is not implemented.");
         }
     }
+
+    /**
+     * The generic selectors change one planning value at a time, which a {@link PlanningListVariable} doesn't support.
+     *
+     * @param variableDescriptor never null
+     */
+    protected void validateNotListVariable(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        if (variableDescriptor.isListVariable()) {
+            throw new IllegalArgumentException("The selectorConfig (" + config
+                    + ") has a variable (" + variableDescriptor.getVariableName()
+                    + ") on entityClass (" + variableDescriptor.getEntityDescriptor().getEntityClass()
+                    + ") which is a @" + PlanningListVariable.class.getSimpleName() + ", which it doesn't support.\n"
+                    + "Maybe use a list move selector, such as a listChangeMoveSelector, instead.");
+        }
+    }
 }
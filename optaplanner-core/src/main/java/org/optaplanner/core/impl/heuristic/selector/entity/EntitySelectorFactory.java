@@ -44,6 +44,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.CachingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.FilteringEntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.decorator.IndictmentWeightedEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.ProbabilityEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.SelectedCountLimitEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.ShufflingEntitySelector;
@@ -52,6 +53,7 @@ import org.optaplanner.core.impl.heuristic.selector.entity.mimic.EntityMimicReco
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicRecordingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.nearby.NearEntityNearbyEntitySelector;
+import org.optaplanner.core.impl.score.director.stream.AbstractConstraintStreamScoreDirectorFactory;
 
 public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<Solution_, EntitySelectorConfig> {
 
@@ -110,6 +112,7 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
         validateCacheTypeVersusSelectionOrder(resolvedCacheType, resolvedSelectionOrder);
         validateSorting(resolvedSelectionOrder);
         validateProbability(resolvedSelectionOrder);
+        validateIndictmentWeighting(configPolicy, resolvedCacheType, resolvedSelectionOrder);
         validateSelectedLimit(minimumCacheType);
 
         // baseEntitySelector and lower should be SelectionOrder.ORIGINAL if they are going to get cached completely
@@ -122,6 +125,7 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
             entitySelector = applyNearbySelection(configPolicy, config.getNearbySelectionConfig(), minimumCacheType,
                     resolvedSelectionOrder, entitySelector);
         }
+        entitySelector = applyIndictmentWeighting(entitySelector);
         entitySelector = applyFiltering(entitySelector);
         entitySelector = applySorting(resolvedCacheType, resolvedSelectionOrder, entitySelector);
         entitySelector = applyProbability(resolvedCacheType, resolvedSelectionOrder, entitySelector);
@@ -137,7 +141,8 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
                 .of(config.getId(), config.getEntityClass(), config.getCacheType(), config.getSelectionOrder(),
                         config.getNearbySelectionConfig(), config.getFilterClass(), config.getSorterManner(),
                         config.getSorterComparatorClass(), config.getSorterWeightFactoryClass(), config.getSorterOrder(),
-                        config.getSorterClass(), config.getProbabilityWeightFactoryClass(), config.getSelectedCountLimit())
+                        config.getSorterClass(), config.getProbabilityWeightFactoryClass(),
+                        config.getIndictmentWeighted(), config.getSelectedCountLimit())
                 .filter(Objects::nonNull).findFirst().isPresent();
         if (anyConfigurationParameterDefined) {
             throw new IllegalArgumentException("The entitySelectorConfig (" + config
@@ -165,6 +170,10 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
                 // baseValueSelector and lower should be ORIGINAL if they are going to get cached completely
                 return false;
             case RANDOM:
+                if (isIndictmentWeighted()) {
+                    // The IndictmentWeightedEntitySelector does the random selection
+                    return false;
+                }
                 // Predict if caching will occur
                 return resolvedCacheType.isNotCached()
                         || (isBaseInherentlyCached() && !hasFiltering(entityDescriptor));
@@ -188,11 +197,26 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
                     + ") is not yet supported. Please use " + SelectionCacheType.PHASE + " instead.");
         }
         // FromSolutionEntitySelector has an intrinsicCacheType STEP
-        return new FromSolutionEntitySelector<>(entityDescriptor, minimumCacheType, randomSelection);
+        return new FromSolutionEntitySelector<>(entityDescriptor, minimumCacheType, randomSelection,
+                isMovableFilteringInBase(entityDescriptor));
+    }
+
+    /**
+     * Pinning through {@link org.optaplanner.core.api.domain.entity.PlanningPin} fields only changes
+     * by a problem fact change, so the base entity selector leaves the pinned entities out
+     * instead of filtering them out on every selection, unless nearby selection is wrapped around it.
+     * A {@link org.optaplanner.core.api.domain.entity.PinningFilter} can depend on the planning variables,
+     * so it is still checked on every selection.
+     */
+    private boolean isMovableFilteringInBase(EntityDescriptor<Solution_> entityDescriptor) {
+        return config.getNearbySelectionConfig() == null && entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                && entityDescriptor.isEffectiveMovableEntitySelectionFilterStatic();
     }
 
     private boolean hasFiltering(EntityDescriptor<Solution_> entityDescriptor) {
-        return config.getFilterClass() != null || entityDescriptor.hasEffectiveMovableEntitySelectionFilter();
+        return config.getFilterClass() != null
+                || (entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                        && !isMovableFilteringInBase(entityDescriptor));
     }
 
     private EntitySelector<Solution_> applyNearbySelection(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -219,7 +243,8 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
                 filterList.add(ConfigUtils.newInstance(config, "filterClass", config.getFilterClass()));
             }
             // Filter out pinned entities
-            if (entityDescriptor.hasEffectiveMovableEntitySelectionFilter()) {
+            if (entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                    && !isMovableFilteringInBase(entityDescriptor)) {
                 filterList.add(entityDescriptor.getEffectiveMovableEntitySelectionFilter());
             }
             // Do not filter out initialized entities here for CH and ES, because they can be partially initialized
@@ -348,6 +373,46 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
         return entitySelector;
     }
 
+    private boolean isIndictmentWeighted() {
+        return Boolean.TRUE.equals(config.getIndictmentWeighted());
+    }
+
+    protected void validateIndictmentWeighting(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType resolvedCacheType, SelectionOrder resolvedSelectionOrder) {
+        if (!isIndictmentWeighted()) {
+            return;
+        }
+        if (resolvedSelectionOrder != SelectionOrder.RANDOM) {
+            throw new IllegalArgumentException("The entitySelectorConfig (" + config
+                    + ") with indictmentWeighted (" + config.getIndictmentWeighted()
+                    + ") has a resolvedSelectionOrder (" + resolvedSelectionOrder
+                    + ") that is not " + SelectionOrder.RANDOM + ".");
+        }
+        if (!resolvedCacheType.isNotCached()) {
+            throw new IllegalArgumentException("The entitySelectorConfig (" + config
+                    + ") with indictmentWeighted (" + config.getIndictmentWeighted()
+                    + ") has a resolvedCacheType (" + resolvedCacheType
+                    + ") that is not " + SelectionCacheType.JUST_IN_TIME + ".");
+        }
+        if (config.getNearbySelectionConfig() != null) {
+            throw new IllegalArgumentException("The entitySelectorConfig (" + config
+                    + ") with indictmentWeighted (" + config.getIndictmentWeighted()
+                    + ") has a nearbySelectionConfig (" + config.getNearbySelectionConfig() + ").");
+        }
+        if (!(configPolicy.getScoreDirectorFactory() instanceof AbstractConstraintStreamScoreDirectorFactory)) {
+            throw new IllegalArgumentException("The entitySelectorConfig (" + config
+                    + ") with indictmentWeighted (" + config.getIndictmentWeighted()
+                    + ") needs the score to be calculated by a constraintProviderClass (constraint streams).");
+        }
+    }
+
+    private EntitySelector<Solution_> applyIndictmentWeighting(EntitySelector<Solution_> entitySelector) {
+        if (isIndictmentWeighted()) {
+            entitySelector = new IndictmentWeightedEntitySelector<>(entitySelector);
+        }
+        return entitySelector;
+    }
+
     private EntitySelector<Solution_> applyShuffling(SelectionCacheType resolvedCacheType,
             SelectionOrder resolvedSelectionOrder, EntitySelector<Solution_> entitySelector) {
         if (resolvedSelectionOrder == SelectionOrder.SHUFFLED) {
@@ -16,12 +16,15 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.optaplanner.core.api.domain.entity.PlanningPin;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -29,22 +32,44 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * This is the common {@link EntitySelector} implementation.
+ * <p>
+ * If it only selects movable entities, it leaves the pinned entities out of its cached entity list,
+ * so random selection never has to reject a pinned entity.
+ * That is only correct if {@link EntityDescriptor#isEffectiveMovableEntitySelectionFilterStatic() pinning is static}:
+ * a {@link PlanningPin} field doesn't change by a move, only by a problem fact change,
+ * which refreshes the cached entity list like an entity addition or removal does.
  */
 public class FromSolutionEntitySelector<Solution_> extends AbstractEntitySelector<Solution_> {
 
     protected final EntityDescriptor<Solution_> entityDescriptor;
     protected final SelectionCacheType minimumCacheType;
     protected final boolean randomSelection;
+    protected final boolean movableOnly;
 
     protected List<Object> cachedEntityList = null;
     protected Long cachedEntityListRevision = null;
+    protected Long cachedProblemChangeRevision = null;
     protected boolean cachedEntityListIsDirty = false;
 
     public FromSolutionEntitySelector(EntityDescriptor<Solution_> entityDescriptor,
             SelectionCacheType minimumCacheType, boolean randomSelection) {
+        this(entityDescriptor, minimumCacheType, randomSelection, false);
+    }
+
+    /**
+     * @param entityDescriptor never null
+     * @param minimumCacheType never null
+     * @param randomSelection true for random selection
+     * @param movableOnly true to filter out the entities rejected by
+     *        {@link EntityDescriptor#getEffectiveMovableEntitySelectionFilter()},
+     *        only if {@link EntityDescriptor#isEffectiveMovableEntitySelectionFilterStatic()}
+     */
+    public FromSolutionEntitySelector(EntityDescriptor<Solution_> entityDescriptor,
+            SelectionCacheType minimumCacheType, boolean randomSelection, boolean movableOnly) {
         this.entityDescriptor = entityDescriptor;
         this.minimumCacheType = minimumCacheType;
         this.randomSelection = randomSelection;
+        this.movableOnly = movableOnly;
     }
 
     @Override
@@ -71,8 +96,9 @@ public class FromSolutionEntitySelector<Solution_> extends AbstractEntitySelecto
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
-        cachedEntityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        cachedEntityList = extractEntities(scoreDirector);
         cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+        cachedProblemChangeRevision = scoreDirector.getWorkingProblemChangeRevision();
         cachedEntityListIsDirty = false;
     }
 
@@ -80,14 +106,31 @@ public class FromSolutionEntitySelector<Solution_> extends AbstractEntitySelecto
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
-        if (scoreDirector.isWorkingEntityListDirty(cachedEntityListRevision)) {
+        if (scoreDirector.isWorkingEntityListDirty(cachedEntityListRevision)
+                || (movableOnly && scoreDirector.getWorkingProblemChangeRevision() != cachedProblemChangeRevision)) {
             if (minimumCacheType.compareTo(SelectionCacheType.STEP) > 0) {
                 cachedEntityListIsDirty = true;
             } else {
-                cachedEntityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+                cachedEntityList = extractEntities(scoreDirector);
                 cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+                cachedProblemChangeRevision = scoreDirector.getWorkingProblemChangeRevision();
+            }
+        }
+    }
+
+    protected List<Object> extractEntities(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        if (!movableOnly) {
+            return entityList;
+        }
+        SelectionFilter<Solution_, Object> movableFilter = entityDescriptor.getEffectiveMovableEntitySelectionFilter();
+        List<Object> movableEntityList = new ArrayList<>(entityList.size());
+        for (Object entity : entityList) {
+            if (movableFilter.accept(scoreDirector, entity)) {
+                movableEntityList.add(entity);
             }
         }
+        return movableEntityList;
     }
 
     @Override
@@ -95,6 +138,7 @@ public class FromSolutionEntitySelector<Solution_> extends AbstractEntitySelecto
         super.phaseEnded(phaseScope);
         cachedEntityList = null;
         cachedEntityListRevision = null;
+        cachedProblemChangeRevision = null;
         cachedEntityListIsDirty = false;
     }
 
@@ -165,7 +209,8 @@ public class FromSolutionEntitySelector<Solution_> extends AbstractEntitySelecto
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName() + ")";
+        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName()
+                + (movableOnly ? ", movableOnly" : "") + ")";
     }
 
 }
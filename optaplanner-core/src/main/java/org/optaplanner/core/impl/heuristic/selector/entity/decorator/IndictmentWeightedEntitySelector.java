@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
+import org.optaplanner.core.impl.solver.random.ProbabilityWeightTree;
+
+/**
+ * Selects the entities randomly, proportional to {@code 1 + penalty},
+ * where the penalty is the sum of the negative score levels of the constraint matches the entity is in,
+ * so entities that break many constraints are selected more often, but every entity can still be selected.
+ * <p>
+ * The penalties come from the {@link IndictmentPenaltyTracker} of the score director.
+ * Only the entities whose penalty changed are reweighted at the start of a step,
+ * the weights are never rebuilt from scratch unless the working entity list changes.
+ * The penalties are only tracked during the phase of this selector.
+ */
+public class IndictmentWeightedEntitySelector<Solution_> extends AbstractEntitySelector<Solution_> {
+
+    protected final EntitySelector<Solution_> childEntitySelector;
+
+    protected final Set<Object> dirtyEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected final Consumer<Object> penaltyChangeListener = dirtyEntitySet::add;
+
+    protected IndictmentPenaltyTracker indictmentPenaltyTracker = null;
+    protected InnerScoreDirector<Solution_, ?> scoreDirector = null;
+    protected ProbabilityWeightTree<Object> cachedEntityTree = null;
+    protected Map<Object, Integer> cachedEntityIndexMap = null;
+    protected Long cachedEntityListRevision = null;
+
+    public IndictmentWeightedEntitySelector(EntitySelector<Solution_> childEntitySelector) {
+        this.childEntitySelector = childEntitySelector;
+        if (childEntitySelector.isNeverEnding()) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a childEntitySelector (" + childEntitySelector
+                    + ") with neverEnding (" + childEntitySelector.isNeverEnding() + ").");
+        }
+        phaseLifecycleSupport.addEventListener(childEntitySelector);
+    }
+
+    @Override
+    public SelectionCacheType getCacheType() {
+        return SelectionCacheType.STEP;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Not in solvingStarted(), so the other phases (such as a construction heuristic) don't pay for the tracking
+        scoreDirector = phaseScope.getScoreDirector();
+        indictmentPenaltyTracker = scoreDirector.enableIndictmentPenaltyTracking();
+        indictmentPenaltyTracker.addPenaltyChangeListener(penaltyChangeListener);
+        reweighAllEntities();
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        if (scoreDirector.isWorkingEntityListDirty(cachedEntityListRevision)) {
+            reweighAllEntities();
+        } else {
+            reweighDirtyEntities();
+        }
+    }
+
+    private void reweighAllEntities() {
+        cachedEntityTree = new ProbabilityWeightTree<>();
+        cachedEntityIndexMap = new IdentityHashMap<>();
+        Iterator<Object> childEntityIterator = childEntitySelector.endingIterator();
+        while (childEntityIterator.hasNext()) {
+            Object entity = childEntityIterator.next();
+            cachedEntityIndexMap.put(entity, cachedEntityTree.size());
+            cachedEntityTree.add(entity, 1.0 + indictmentPenaltyTracker.getPenalty(entity));
+        }
+        dirtyEntitySet.clear();
+        cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+    }
+
+    private void reweighDirtyEntities() {
+        for (Object justification : dirtyEntitySet) {
+            // The other justifications, such as problem facts and entities filtered out by the child, are ignored
+            Integer index = cachedEntityIndexMap.get(justification);
+            if (index != null) {
+                cachedEntityTree.setProbabilityWeight(index, 1.0 + indictmentPenaltyTracker.getPenalty(justification));
+            }
+        }
+        dirtyEntitySet.clear();
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        cachedEntityTree = null;
+        cachedEntityIndexMap = null;
+        cachedEntityListRevision = null;
+        indictmentPenaltyTracker.removePenaltyChangeListener(penaltyChangeListener);
+        scoreDirector.disableIndictmentPenaltyTracking();
+        indictmentPenaltyTracker = null;
+        scoreDirector = null;
+        dirtyEntitySet.clear();
+    }
+
+    @Override
+    public EntityDescriptor<Solution_> getEntityDescriptor() {
+        return childEntitySelector.getEntityDescriptor();
+    }
+
+    @Override
+    public boolean isCountable() {
+        return true;
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return true;
+    }
+
+    @Override
+    public long getSize() {
+        return cachedEntityTree.size();
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return cachedEntityTree.size() > 0;
+            }
+
+            @Override
+            public Object next() {
+                return cachedEntityTree.sample(workingRandom);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("The optional operation remove() is not supported.");
+            }
+        };
+    }
+
+    @Override
+    public ListIterator<Object> listIterator() {
+        throw new IllegalStateException("The selector (" + this
+                + ") does not support a ListIterator with randomSelection (true).");
+    }
+
+    @Override
+    public ListIterator<Object> listIterator(int index) {
+        throw new IllegalStateException("The selector (" + this
+                + ") does not support a ListIterator with randomSelection (true).");
+    }
+
+    @Override
+    public Iterator<Object> endingIterator() {
+        return childEntitySelector.endingIterator();
+    }
+
+    @Override
+    public String toString() {
+        return "IndictmentWeighted(" + childEntitySelector + ")";
+    }
+
+}
@@ -18,9 +18,6 @@ package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
 import java.util.Iterator;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -30,7 +27,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.ProbabilityWeightTree;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector<Solution_>
@@ -40,8 +37,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityWeightTree<Object> cachedEntityTree = null;
 
     public ProbabilityEntitySelector(EntitySelector<Solution_> childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory) {
@@ -72,21 +68,18 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedEntityTree = new ProbabilityWeightTree<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Object entity : childEntitySelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
                     scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            cachedEntityTree.add(entity, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedEntityTree = null;
     }
 
     @Override
@@ -106,7 +99,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedEntityTree.size();
     }
 
     @Override
@@ -119,10 +112,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedEntityTree.sample(workingRandom);
             }
 
             @Override
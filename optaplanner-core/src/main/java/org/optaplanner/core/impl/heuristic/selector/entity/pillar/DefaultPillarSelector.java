@@ -54,16 +54,39 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
     protected final boolean randomSelection;
     protected final SubPillarConfigPolicy subpillarConfigPolicy;
+    protected final boolean pillarSupplyEnabled;
 
     protected List<List<Object>> cachedBasePillarList = null;
+    protected PillarSupply pillarSupply = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
+        this(entitySelector, variableDescriptors, randomSelection, subpillarConfigPolicy, false);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param variableDescriptors never null
+     * @param randomSelection true if the pillars are selected randomly
+     * @param subpillarConfigPolicy never null
+     * @param pillarSupplyEnabled true to select from a {@link PillarSupply} instead of rebuilding the pillars
+     *        every step, only allowed with randomSelection, if the entitySelector selects all movable entities
+     *        and if {@link EntityDescriptor#isEffectiveMovableEntitySelectionFilterStatic() the pinning is static}
+     */
+    public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
+            SubPillarConfigPolicy subpillarConfigPolicy, boolean pillarSupplyEnabled) {
         this.entitySelector = entitySelector;
         this.variableDescriptors = variableDescriptors;
         this.randomSelection = randomSelection;
         this.subpillarConfigPolicy = subpillarConfigPolicy;
+        this.pillarSupplyEnabled = pillarSupplyEnabled;
+        if (pillarSupplyEnabled && !randomSelection) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") with pillarSupplyEnabled (" + pillarSupplyEnabled
+                    + ") requires randomSelection (" + randomSelection + ").");
+        }
         Class<?> entityClass = entitySelector.getEntityDescriptor().getEntityClass();
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
             if (!entityClass.equals(
@@ -122,6 +145,22 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     // Cache lifecycle methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        if (pillarSupplyEnabled) {
+            pillarSupply = solverScope.getScoreDirector().getSupplyManager().demand(
+                    new PillarDemand<>(variableDescriptors, subpillarConfigPolicy.getMinimumSubPillarSize(),
+                            (Comparator<Object>) subpillarConfigPolicy.getEntityComparator()));
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        pillarSupply = null;
+    }
+
     @Override
     public EntityDescriptor<Solution_> getEntityDescriptor() {
         return entitySelector.getEntityDescriptor();
@@ -134,6 +173,10 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
+        if (pillarSupplyEnabled) {
+            // The pillarSupply is kept up to date by the variable listeners
+            return;
+        }
         long entitySize = entitySelector.getSize();
         if (entitySize > Integer.MAX_VALUE) {
             throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
@@ -193,7 +236,7 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     @Override
     public long getSize() {
         if (!subpillarConfigPolicy.isSubPillarEnabled()) {
-            return cachedBasePillarList.size();
+            return getBasePillarCount();
         } else {
             // For each pillar, the number of combinations is: the sum of every (n! / (k! (n-k)!)) for which n is
             // pillar.getSize() and k iterates from minimumSubPillarSize to maximumSubPillarSize. This implies that a
@@ -215,6 +258,9 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
             }
         } else {
             if (!subPillarEnabled) {
+                if (pillarSupplyEnabled) {
+                    return new RandomBasePillarIterator();
+                }
                 return new CachedListRandomIterator<>(cachedBasePillarList, workingRandom);
             } else {
                 return new RandomSubPillarIterator();
@@ -222,6 +268,15 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         }
     }
 
+    private int getBasePillarCount() {
+        return pillarSupplyEnabled ? pillarSupply.getPillarCount() : cachedBasePillarList.size();
+    }
+
+    private List<Object> getBasePillar(int basePillarIndex) {
+        return pillarSupplyEnabled ? pillarSupply.getPillar(basePillarIndex)
+                : cachedBasePillarList.get(basePillarIndex);
+    }
+
     private String getSubPillarExceptionMessage() {
         return "Impossible state because the constructors fails with randomSelection (" + randomSelection
                 + ") and sub pillars.";
@@ -265,10 +320,23 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return getClass().getSimpleName() + "(" + entitySelector + ")";
     }
 
+    private class RandomBasePillarIterator extends UpcomingSelectionIterator<List<Object>> {
+
+        @Override
+        protected List<Object> createUpcomingSelection() {
+            int basePillarCount = getBasePillarCount();
+            if (basePillarCount == 0) {
+                return noUpcomingSelection();
+            }
+            return getBasePillar(workingRandom.nextInt(basePillarCount));
+        }
+
+    }
+
     private class RandomSubPillarIterator extends UpcomingSelectionIterator<List<Object>> {
 
         public RandomSubPillarIterator() {
-            if (cachedBasePillarList.isEmpty()) {
+            if (getBasePillarCount() == 0) {
                 upcomingSelection = noUpcomingSelection();
                 upcomingCreated = true;
             }
@@ -322,8 +390,8 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         private List<Object> selectBasePillar() {
             // Known issue/compromise: Every subPillar should have same probability, but doesn't.
             // Instead, every basePillar has the same probability.
-            int baseListIndex = workingRandom.nextInt(cachedBasePillarList.size());
-            return cachedBasePillarList.get(baseListIndex);
+            int baseListIndex = workingRandom.nextInt(getBasePillarCount());
+            return getBasePillar(baseListIndex);
         }
     }
 }
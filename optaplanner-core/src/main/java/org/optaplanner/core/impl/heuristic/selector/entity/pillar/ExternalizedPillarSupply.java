@@ -0,0 +1,270 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves an entity from one pillar to another when one of its variables changes,
+ * so a step only touches the entities that moved.
+ * <p>
+ * Pinned entities are filtered out when they are inserted,
+ * so the movable filter must only read {@link org.optaplanner.core.api.domain.entity.PlanningPin} fields,
+ * see {@link EntityDescriptor#isEffectiveMovableEntitySelectionFilterStatic()}.
+ * Those only change through a problem fact change, after which the pillars are rebuilt before the next selection.
+ */
+public class ExternalizedPillarSupply<Solution_> implements SourcedVariableListener<Solution_, Object>, PillarSupply {
+
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    protected final SelectionFilter<Solution_, Object> movableFilter;
+    protected final int minimumPillarSize;
+    protected final Comparator<Object> entityComparator;
+
+    protected InnerScoreDirector<Solution_, ?> scoreDirector = null;
+    protected long problemChangeRevision = 0L;
+    protected Map<Object, Pillar> valueStateToPillarMap = null;
+    protected Map<Object, Pillar> entityToPillarMap = null;
+    protected List<Pillar> pillarList = null;
+
+    /**
+     * @param variableDescriptors never null, not empty, all of the same entity class
+     * @param movableFilter sometimes null
+     * @param minimumPillarSize smaller pillars are not supplied
+     * @param entityComparator sometimes null, if not null the entities of each pillar are sorted by it
+     */
+    public ExternalizedPillarSupply(List<GenuineVariableDescriptor<Solution_>> variableDescriptors,
+            SelectionFilter<Solution_, Object> movableFilter, int minimumPillarSize,
+            Comparator<Object> entityComparator) {
+        this.variableDescriptors = variableDescriptors;
+        this.movableFilter = movableFilter;
+        this.minimumPillarSize = Math.max(minimumPillarSize, 1);
+        this.entityComparator = entityComparator;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return variableDescriptors.get(0);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.unmodifiableList(variableDescriptors);
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        this.scoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        problemChangeRevision = this.scoreDirector.getWorkingProblemChangeRevision();
+        List<Object> entityList = getSourceVariableDescriptor().getEntityDescriptor()
+                .extractEntities(scoreDirector.getWorkingSolution());
+        valueStateToPillarMap = new HashMap<>();
+        entityToPillarMap = new IdentityHashMap<>(entityList.size());
+        pillarList = new ArrayList<>();
+        for (Object entity : entityList) {
+            insert(scoreDirector, entity);
+        }
+    }
+
+    @Override
+    public void close() {
+        scoreDirector = null;
+        valueStateToPillarMap = null;
+        entityToPillarMap = null;
+        pillarList = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        retract(entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        retract(entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (movableFilter != null && !movableFilter.accept(scoreDirector, entity)) {
+            return;
+        }
+        Object valueState = extractValueState(entity);
+        Pillar pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> new Pillar());
+        Pillar oldPillar = entityToPillarMap.put(entity, pillar);
+        if (oldPillar != null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") cannot be inserted: it was already inserted.");
+        }
+        pillar.add(entity);
+        if (pillar.entityList.size() == minimumPillarSize) {
+            pillar.pillarIndex = pillarList.size();
+            pillarList.add(pillar);
+        }
+    }
+
+    protected void retract(Object entity) {
+        Pillar pillar = entityToPillarMap.remove(entity);
+        if (pillar == null) {
+            // The entity is pinned
+            return;
+        }
+        if (pillar.entityList.size() == minimumPillarSize) {
+            // Swap the last pillar into the gap to avoid shifting
+            Pillar lastPillar = pillarList.remove(pillarList.size() - 1);
+            if (lastPillar != pillar) {
+                pillarList.set(pillar.pillarIndex, lastPillar);
+                lastPillar.pillarIndex = pillar.pillarIndex;
+            }
+            pillar.pillarIndex = -1;
+        }
+        pillar.remove(entity);
+        // An empty pillar stays in the valueStateToPillarMap, because its entities usually return soon (undo move)
+    }
+
+    protected Object extractValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return variableDescriptors.get(0).getValue(entity);
+        }
+        List<Object> valueState = new ArrayList<>(variableCount);
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
+            valueState.add(variableDescriptor.getValue(entity));
+        }
+        return valueState;
+    }
+
+    @Override
+    public int getPillarCount() {
+        if (scoreDirector.getWorkingProblemChangeRevision() != problemChangeRevision) {
+            // A problem fact change might have pinned or unpinned entities
+            resetWorkingSolution(scoreDirector);
+        }
+        return pillarList.size();
+    }
+
+    @Override
+    public List<Object> getPillar(int pillarIndex) {
+        return pillarList.get(pillarIndex).share();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + variableDescriptors + ")";
+    }
+
+    /**
+     * Copy on write: once its entity list is handed out, the next change copies it first,
+     * so a selected pillar doesn't change when the move is done.
+     */
+    protected class Pillar {
+
+        protected List<Object> entityList = new ArrayList<>();
+        protected boolean entityListShared = false;
+        protected int pillarIndex = -1;
+
+        protected List<Object> share() {
+            entityListShared = true;
+            return Collections.unmodifiableList(entityList);
+        }
+
+        private void unshare() {
+            if (entityListShared) {
+                entityList = new ArrayList<>(entityList);
+                entityListShared = false;
+            }
+        }
+
+        protected void add(Object entity) {
+            unshare();
+            if (entityComparator == null) {
+                entityList.add(entity);
+                return;
+            }
+            int index = Collections.binarySearch(entityList, entity, entityComparator);
+            // Equal entities keep their insertion order
+            if (index >= 0) {
+                do {
+                    index++;
+                } while (index < entityList.size() && entityComparator.compare(entityList.get(index), entity) == 0);
+            } else {
+                index = -index - 1;
+            }
+            entityList.add(index, entity);
+        }
+
+        protected void remove(Object entity) {
+            unshare();
+            int index = indexOfIdentity(entity);
+            if (entityComparator == null) {
+                // Swap the last entity into the gap to avoid shifting, because the order doesn't matter
+                Object lastEntity = entityList.remove(entityList.size() - 1);
+                if (lastEntity != entity) {
+                    entityList.set(index, lastEntity);
+                }
+            } else {
+                entityList.remove(index);
+            }
+        }
+
+        private int indexOfIdentity(Object entity) {
+            // Not List.indexOf() because that relies on equals()
+            for (int i = 0; i < entityList.size(); i++) {
+                if (entityList.get(i) == entity) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Impossible state because the entity (" + entity
+                    + ") is in the entityToPillarMap but not in its pillar.");
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class PillarDemand<Solution_> implements Demand<Solution_, PillarSupply> {
+
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    protected final int minimumPillarSize;
+    protected final Comparator<Object> entityComparator;
+
+    /**
+     * @param variableDescriptors never null, not empty, all of the same entity class
+     * @param minimumPillarSize {@code >= 1}, smaller pillars are not supplied
+     * @param entityComparator sometimes null, if not null the entities of each pillar are sorted by it
+     */
+    public PillarDemand(List<GenuineVariableDescriptor<Solution_>> variableDescriptors, int minimumPillarSize,
+            Comparator<Object> entityComparator) {
+        this.variableDescriptors = variableDescriptors;
+        this.minimumPillarSize = minimumPillarSize;
+        this.entityComparator = entityComparator;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public PillarSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        EntityDescriptor<Solution_> entityDescriptor = variableDescriptors.get(0).getEntityDescriptor();
+        SelectionFilter<Solution_, Object> movableFilter = entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                ? entityDescriptor.getEffectiveMovableEntitySelectionFilter()
+                : null;
+        return new ExternalizedPillarSupply<>(variableDescriptors, movableFilter, minimumPillarSize, entityComparator);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PillarDemand)) {
+            return false;
+        }
+        PillarDemand<Solution_> other = (PillarDemand<Solution_>) o;
+        return variableDescriptors.equals(other.variableDescriptors)
+                && minimumPillarSize == other.minimumPillarSize
+                && Objects.equals(entityComparator, other.entityComparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(PillarDemand.class.getName(), variableDescriptors, minimumPillarSize, entityComparator);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + variableDescriptors + ")";
+    }
+
+}
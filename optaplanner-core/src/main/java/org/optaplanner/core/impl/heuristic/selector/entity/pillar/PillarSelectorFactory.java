@@ -28,6 +28,7 @@ import org.optaplanner.core.config.heuristic.selector.entity.pillar.PillarSelect
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelectorFactory;
@@ -80,6 +81,7 @@ public class PillarSelectorFactory<Solution_>
                 .buildEntitySelector(configPolicy, minimumCacheType, SelectionOrder.ORIGINAL);
         List<GenuineVariableDescriptor<Solution_>> variableDescriptors =
                 deduceVariableDescriptorList(entitySelector.getEntityDescriptor(), variableNameIncludeList);
+        variableDescriptors.forEach(this::validateNotListVariable);
         if (!subPillarEnabled
                 && (config.getMinimumSubPillarSize() != null || config.getMaximumSubPillarSize() != null)) {
             throw new IllegalArgumentException("The pillarSelectorConfig (" + config
@@ -91,8 +93,15 @@ public class PillarSelectorFactory<Solution_>
                 ? configureSubPillars(subPillarType, subPillarSequenceComparatorClass, entitySelector,
                         config.getMinimumSubPillarSize(), config.getMaximumSubPillarSize())
                 : SubPillarConfigPolicy.withoutSubpillars();
-        return new DefaultPillarSelector<>(entitySelector, variableDescriptors,
-                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy);
+        boolean randomSelection = inheritedSelectionOrder.toRandomSelectionBoolean();
+        // The pillarSupply holds every movable entity, so it can only replace a default entitySelector.
+        // It checks whether an entity is movable only when that entity changes, so the pinning must be static.
+        EntityDescriptor<Solution_> entityDescriptor = entitySelector.getEntityDescriptor();
+        boolean pillarSupplyEnabled = randomSelection && config.getEntitySelectorConfig() == null
+                && (!entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                        || entityDescriptor.isEffectiveMovableEntitySelectionFilterStatic());
+        return new DefaultPillarSelector<>(entitySelector, variableDescriptors, randomSelection, subPillarPolicy,
+                pillarSupplyEnabled);
     }
 
     private SubPillarConfigPolicy configureSubPillars(SubPillarType pillarType,
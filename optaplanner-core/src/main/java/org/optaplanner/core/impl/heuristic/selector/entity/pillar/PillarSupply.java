@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Keeps the pillars up to date as the planning variables change,
+ * instead of rebuilding them from all entities every step.
+ * <p>
+ * To get an instance, demand a {@link PillarDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface PillarSupply extends Supply {
+
+    /**
+     * @return {@code >= 0}, the number of pillars with at least the minimum pillar size
+     */
+    int getPillarCount();
+
+    /**
+     * The returned pillar doesn't change when a move is done, so a {@link PillarSelector} can hand it over to a move.
+     *
+     * @param pillarIndex {@code 0 <= pillarIndex < }{@link #getPillarCount()}
+     * @return never null, unmodifiable
+     */
+    List<Object> getPillar(int pillarIndex);
+
+}
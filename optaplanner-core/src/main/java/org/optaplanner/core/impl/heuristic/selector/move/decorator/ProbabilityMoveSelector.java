@@ -17,9 +17,6 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -29,7 +26,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.ProbabilityWeightTree;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -39,8 +36,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Move<Solution_>> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move<Solution_>> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityWeightTree<Move<Solution_>> cachedMoveTree = null;
 
     public ProbabilityMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, ? extends Move<Solution_>> probabilityWeightFactory) {
@@ -72,20 +68,17 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedMoveMap = new TreeMap<>();
+        cachedMoveTree = new ProbabilityWeightTree<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Move<Solution_> entity : childMoveSelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            cachedMoveTree.add(entity, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedMoveTree = null;
     }
 
     @Override
@@ -100,7 +93,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedMoveTree.size();
     }
 
     @Override
@@ -113,10 +106,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
             @Override
             public Move<Solution_> next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move<Solution_>> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedMoveTree.sample(workingRandom);
             }
 
             @Override
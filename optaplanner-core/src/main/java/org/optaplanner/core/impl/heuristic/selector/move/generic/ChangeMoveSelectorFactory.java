@@ -100,6 +100,7 @@ public class ChangeMoveSelectorFactory<Solution_>
             List<GenuineVariableDescriptor<Solution_>> variableDescriptorList) {
         List<MoveSelectorConfig> moveSelectorConfigList = new ArrayList<>(variableDescriptorList.size());
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            validateNotListVariable(variableDescriptor);
             // No childMoveSelectorConfig.inherit() because of unfoldedMoveSelectorConfig.inheritFolded()
             ChangeMoveSelectorConfig childMoveSelectorConfig = new ChangeMoveSelectorConfig();
             // Different EntitySelector per child because it is a union
@@ -52,6 +52,7 @@ public class PillarSwapMoveSelectorFactory<Solution_>
 
         List<GenuineVariableDescriptor<Solution_>> variableDescriptorList =
                 deduceVariableDescriptorList(leftPillarSelector.getEntityDescriptor(), config.getVariableNameIncludeList());
+        variableDescriptorList.forEach(this::validateNotListVariable);
         return new PillarSwapMoveSelector<>(leftPillarSelector, rightPillarSelector, variableDescriptorList,
                 randomSelection);
     }
@@ -26,6 +26,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.precomputed.PrecomputedValueRangeSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -36,12 +37,24 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+    /**
+     * Null if no value range is precomputed, otherwise aligned with {@link #variableDescriptorList}
+     * and null for each variable with a value range that isn't precomputed.
+     */
+    protected final List<PrecomputedValueRangeSupply<Solution_>> precomputedValueRangeSupplyList;
 
     protected final Object leftEntity;
     protected final Object rightEntity;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
+        this(variableDescriptorList, null, leftEntity, rightEntity);
+    }
+
+    public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList,
+            List<PrecomputedValueRangeSupply<Solution_>> precomputedValueRangeSupplyList,
+            Object leftEntity, Object rightEntity) {
         this.variableDescriptorList = variableDescriptorList;
+        this.precomputedValueRangeSupplyList = precomputedValueRangeSupplyList;
         this.leftEntity = leftEntity;
         this.rightEntity = rightEntity;
     }
@@ -69,12 +82,20 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
     @Override
     public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
         boolean movable = false;
-        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+        for (int i = 0; i < variableDescriptorList.size(); i++) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = variableDescriptorList.get(i);
             Object leftValue = variableDescriptor.getValue(leftEntity);
             Object rightValue = variableDescriptor.getValue(rightEntity);
             if (!Objects.equals(leftValue, rightValue)) {
                 movable = true;
-                if (!variableDescriptor.isValueRangeEntityIndependent()) {
+                PrecomputedValueRangeSupply<Solution_> precomputedValueRangeSupply =
+                        precomputedValueRangeSupplyList == null ? null : precomputedValueRangeSupplyList.get(i);
+                if (precomputedValueRangeSupply != null) {
+                    if (!precomputedValueRangeSupply.getValueRange(rightEntity).contains(leftValue)
+                            || !precomputedValueRangeSupply.getValueRange(leftEntity).contains(rightValue)) {
+                        return false;
+                    }
+                } else if (!variableDescriptor.isValueRangeEntityIndependent()) {
                     ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
                     Solution_ workingSolution = scoreDirector.getWorkingSolution();
                     ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, rightEntity);
@@ -93,7 +114,7 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     public SwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
-        return new SwapMove<>(variableDescriptorList, rightEntity, leftEntity);
+        return new SwapMove<>(variableDescriptorList, precomputedValueRangeSupplyList, rightEntity, leftEntity);
     }
 
     @Override
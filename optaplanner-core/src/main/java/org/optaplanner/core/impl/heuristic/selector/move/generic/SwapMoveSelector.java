@@ -21,6 +21,9 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.precomputed.PrecomputedValueRangeDemand;
+import org.optaplanner.core.impl.domain.valuerange.precomputed.PrecomputedValueRangeSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -30,6 +33,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.iterator.AbstractOrig
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.AbstractRandomSwapIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.chained.ChainedSwapMove;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
@@ -41,6 +45,7 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
+    protected List<PrecomputedValueRangeSupply<Solution_>> precomputedValueRangeSupplyList = null;
 
     public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection) {
@@ -101,6 +106,33 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                 }
                 inverseVariableSupplyList.add(inverseVariableSupply);
             }
+        } else if (variableDescriptorList.stream()
+                .anyMatch(variableDescriptor -> variableDescriptor.getValueRangeDescriptor().isPrecomputed())) {
+            precomputedValueRangeSupplyList = new ArrayList<>(variableDescriptorList.size());
+            SupplyManager<Solution_> supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
+                PrecomputedValueRangeSupply<Solution_> precomputedValueRangeSupply;
+                if (valueRangeDescriptor.isPrecomputed()) {
+                    precomputedValueRangeSupply = supplyManager.demand(
+                            new PrecomputedValueRangeDemand<>(valueRangeDescriptor));
+                } else {
+                    precomputedValueRangeSupply = null;
+                }
+                precomputedValueRangeSupplyList.add(precomputedValueRangeSupply);
+            }
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (precomputedValueRangeSupplyList != null) {
+            for (PrecomputedValueRangeSupply<Solution_> precomputedValueRangeSupply : precomputedValueRangeSupplyList) {
+                if (precomputedValueRangeSupply != null) {
+                    precomputedValueRangeSupply.phaseStarted(phaseScope);
+                }
+            }
         }
     }
 
@@ -110,6 +142,7 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         if (anyChained) {
             inverseVariableSupplyList = null;
         }
+        precomputedValueRangeSupplyList = null;
     }
 
     // ************************************************************************
@@ -141,7 +174,8 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                     return anyChained
                             ? new ChainedSwapMove<>(variableDescriptorList, inverseVariableSupplyList, leftSubSelection,
                                     rightSubSelection)
-                            : new SwapMove<>(variableDescriptorList, leftSubSelection, rightSubSelection);
+                            : new SwapMove<>(variableDescriptorList, precomputedValueRangeSupplyList, leftSubSelection,
+                                    rightSubSelection);
                 }
             };
         } else {
@@ -152,7 +186,8 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                     return anyChained
                             ? new ChainedSwapMove<>(variableDescriptorList, inverseVariableSupplyList, leftSubSelection,
                                     rightSubSelection)
-                            : new SwapMove<>(variableDescriptorList, leftSubSelection, rightSubSelection);
+                            : new SwapMove<>(variableDescriptorList, precomputedValueRangeSupplyList, leftSubSelection,
+                                    rightSubSelection);
                 }
             };
         }
@@ -28,6 +28,7 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
@@ -40,6 +41,10 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
     // TODO remove me to enable multithreaded solving, but first fix https://issues.redhat.com/browse/PLANNER-1250
     protected final SingletonInverseVariableSupply inverseVariableSupply;
     protected final AnchorVariableSupply anchorVariableSupply;
+    /**
+     * Null if the relative order of the values is found by walking the chain.
+     */
+    protected final ChainPositionVariableSupply positionVariableSupply;
 
     protected final Object entity;
     protected final Object[] values;
@@ -47,9 +52,16 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
     public KOptMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
             Object entity, Object[] values) {
+        this(variableDescriptor, inverseVariableSupply, anchorVariableSupply, null, entity, values);
+    }
+
+    public KOptMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
+            ChainPositionVariableSupply positionVariableSupply, Object entity, Object[] values) {
         this.variableDescriptor = variableDescriptor;
         this.inverseVariableSupply = inverseVariableSupply;
         this.anchorVariableSupply = anchorVariableSupply;
+        this.positionVariableSupply = positionVariableSupply;
         this.entity = entity;
         this.values = values;
     }
@@ -100,6 +112,9 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
         if (a == b) {
             return 0;
         }
+        if (positionVariableSupply != null) {
+            return positionVariableSupply.isBefore(a, b) ? 1 : -1;
+        }
         Object afterA = inverseVariableSupply.getInverseSingleton(a);
         while (afterA != null) {
             if (afterA == b) {
@@ -117,7 +132,7 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
         for (int i = 1; i < values.length; i++) {
             undoValues[i] = values[values.length - i];
         }
-        return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
+        return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply, positionVariableSupply,
                 entity, undoValues);
     }
 
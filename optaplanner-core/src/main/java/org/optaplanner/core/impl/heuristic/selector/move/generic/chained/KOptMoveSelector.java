@@ -24,6 +24,8 @@ import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
@@ -41,6 +43,7 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     protected SingletonInverseVariableSupply inverseVariableSupply;
     protected AnchorVariableSupply anchorVariableSupply;
+    protected ChainPositionVariableSupply positionVariableSupply;
 
     public KOptMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_>[] valueSelectors,
             boolean randomSelection) {
@@ -83,6 +86,7 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         SupplyManager<Solution_> supplyManager = solverScope.getScoreDirector().getSupplyManager();
         inverseVariableSupply = supplyManager.demand(new SingletonInverseVariableDemand<>(variableDescriptor));
         anchorVariableSupply = supplyManager.demand(new AnchorVariableDemand<>(variableDescriptor));
+        positionVariableSupply = supplyManager.demand(new ChainPositionVariableDemand<>(variableDescriptor));
     }
 
     @Override
@@ -90,6 +94,7 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         super.solvingEnded(solverScope);
         inverseVariableSupply = null;
         anchorVariableSupply = null;
+        positionVariableSupply = null;
     }
 
     // ************************************************************************
@@ -155,8 +160,8 @@ public class KOptMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                         }
                         values[i] = valueIterator.next();
                     }
-                    return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply, entity,
-                            values);
+                    return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
+                            positionVariableSupply, entity, values);
                 }
             };
         }
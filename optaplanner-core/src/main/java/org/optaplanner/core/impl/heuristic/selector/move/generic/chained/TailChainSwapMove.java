@@ -28,6 +28,7 @@ import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescript
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
@@ -58,6 +59,15 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
             Object leftEntity, Object rightValue) {
+        this(variableDescriptor, inverseVariableSupply, anchorVariableSupply, null, leftEntity, rightValue);
+    }
+
+    /**
+     * @param positionVariableSupply null if the relative order of the left and right side is found by walking the chain
+     */
+    public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
+            ChainPositionVariableSupply positionVariableSupply, Object leftEntity, Object rightValue) {
         this.variableDescriptor = variableDescriptor;
         this.leftEntity = leftEntity;
         leftValue = variableDescriptor.getValue(leftEntity);
@@ -76,7 +86,8 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         } else {
             leftNextEntity = inverseVariableSupply.getInverseSingleton(leftEntity);
             rightNextEntity = rightEntity == null ? null : inverseVariableSupply.getInverseSingleton(rightEntity);
-            Object lastEntityInChainOrLeftEntity = findLastEntityInChainOrLeftEntity(inverseVariableSupply);
+            Object lastEntityInChainOrLeftEntity = findLastEntityInChainOrLeftEntity(inverseVariableSupply,
+                    positionVariableSupply);
             reverseAnchorSide = lastEntityInChainOrLeftEntity != leftEntity;
             if (reverseAnchorSide) {
                 lastEntityInChain = lastEntityInChainOrLeftEntity;
@@ -147,7 +158,11 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         this.entityAfterAnchor = entityAfterAnchor;
     }
 
-    private Object findLastEntityInChainOrLeftEntity(SingletonInverseVariableSupply inverseVariableSupply) {
+    private Object findLastEntityInChainOrLeftEntity(SingletonInverseVariableSupply inverseVariableSupply,
+            ChainPositionVariableSupply positionVariableSupply) {
+        if (positionVariableSupply != null && positionVariableSupply.isBefore(rightValue, leftEntity)) {
+            return leftEntity;
+        }
         Object entity = rightValue;
         while (entity != leftEntity) {
             Object nextEntity = inverseVariableSupply.getInverseSingleton(entity);
@@ -23,6 +23,8 @@ import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.position.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.IterableSelector;
@@ -44,6 +46,7 @@ public class TailChainSwapMoveSelector<Solution_> extends GenericMoveSelector<So
 
     protected SingletonInverseVariableSupply inverseVariableSupply;
     protected AnchorVariableSupply anchorVariableSupply;
+    protected ChainPositionVariableSupply positionVariableSupply;
 
     public TailChainSwapMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
             boolean randomSelection) {
@@ -75,6 +78,7 @@ public class TailChainSwapMoveSelector<Solution_> extends GenericMoveSelector<So
         GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
         inverseVariableSupply = supplyManager.demand(new SingletonInverseVariableDemand<>(variableDescriptor));
         anchorVariableSupply = supplyManager.demand(new AnchorVariableDemand<>(variableDescriptor));
+        positionVariableSupply = supplyManager.demand(new ChainPositionVariableDemand<>(variableDescriptor));
     }
 
     @Override
@@ -82,6 +86,7 @@ public class TailChainSwapMoveSelector<Solution_> extends GenericMoveSelector<So
         super.solvingEnded(solverScope);
         inverseVariableSupply = null;
         anchorVariableSupply = null;
+        positionVariableSupply = null;
     }
 
     // ************************************************************************
@@ -120,7 +125,7 @@ public class TailChainSwapMoveSelector<Solution_> extends GenericMoveSelector<So
                 @Override
                 protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
                     return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                            entity, toValue);
+                            positionVariableSupply, entity, toValue);
                 }
             };
         } else {
@@ -128,7 +133,7 @@ public class TailChainSwapMoveSelector<Solution_> extends GenericMoveSelector<So
                 @Override
                 protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
                     return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                            entity, toValue);
+                            positionVariableSupply, entity, toValue);
                 }
             };
         }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
+
+/**
+ * Abstract superclass for the move selectors of a {@link ListVariableDescriptor planning list variable}.
+ * <p>
+ * Every {@link #iterator()} call takes a snapshot of the selected entities and their cumulative list sizes,
+ * so a random position over all assigned planning values is selected in {@code O(log(entityCount))}
+ * with a binary search, instead of walking the lists.
+ */
+public abstract class AbstractListMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    protected final EntitySelector<Solution_> entitySelector;
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final boolean randomSelection;
+
+    public AbstractListMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        this.entitySelector = entitySelector;
+        this.randomSelection = randomSelection;
+        variableDescriptor = findListVariableDescriptor(entitySelector.getEntityDescriptor());
+        phaseLifecycleSupport.addEventListener(entitySelector);
+    }
+
+    private ListVariableDescriptor<Solution_> findListVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor) {
+        for (GenuineVariableDescriptor<Solution_> genuineVariableDescriptor : entityDescriptor
+                .getGenuineVariableDescriptorList()) {
+            if (genuineVariableDescriptor.isListVariable()) {
+                return (ListVariableDescriptor<Solution_>) genuineVariableDescriptor;
+            }
+        }
+        throw new IllegalStateException("The selector (" + this
+                + ")'s entitySelector's entityClass (" + entityDescriptor.getEntityClass()
+                + ") has no planning list variable.");
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return entitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || entitySelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize() {
+        return getSize(new ListPositions(variableDescriptor, entitySelector.endingIterator()));
+    }
+
+    protected abstract long getSize(ListPositions positions);
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        ListPositions positions = new ListPositions(variableDescriptor, entitySelector.endingIterator());
+        if (!randomSelection) {
+            return new UpcomingSelectionIterator<Move<Solution_>>() {
+
+                private final Deque<Move<Solution_>> moveQueue = new ArrayDeque<>();
+                private int sourcePosition = 0;
+
+                @Override
+                protected Move<Solution_> createUpcomingSelection() {
+                    while (moveQueue.isEmpty()) {
+                        if (sourcePosition >= positions.getValueCount()) {
+                            return noUpcomingSelection();
+                        }
+                        addOriginalMoves(positions, sourcePosition, moveQueue);
+                        sourcePosition++;
+                    }
+                    return moveQueue.poll();
+                }
+
+            };
+        } else {
+            return new UpcomingSelectionIterator<Move<Solution_>>() {
+                @Override
+                protected Move<Solution_> createUpcomingSelection() {
+                    if (positions.getValueCount() == 0) {
+                        return noUpcomingSelection();
+                    }
+                    return createRandomMove(positions, workingRandom);
+                }
+            };
+        }
+    }
+
+    /**
+     * Lazily called for every assigned planning value in original order.
+     *
+     * @param positions never null
+     * @param sourcePosition {@code 0 <= sourcePosition < positions.getValueCount()}
+     * @param moveQueue never null, to add the moves that have the planning value at that position as source
+     */
+    protected abstract void addOriginalMoves(ListPositions positions, int sourcePosition,
+            Deque<Move<Solution_>> moveQueue);
+
+    /**
+     * @param positions never null, with at least 1 assigned planning value
+     * @param workingRandom never null
+     * @return never null
+     */
+    protected abstract Move<Solution_> createRandomMove(ListPositions positions, Random workingRandom);
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    /**
+     * Maps a global position over the lists of all selected entities to an entity and an index in its list.
+     */
+    protected static class ListPositions {
+
+        private final List<Object> entityList;
+        private final int[] listSizes;
+        /**
+         * The global position of the first planning value of every entity.
+         */
+        private final int[] firstPositions;
+        private final int valueCount;
+
+        public ListPositions(ListVariableDescriptor<?> variableDescriptor, Iterator<Object> entityIterator) {
+            entityList = new ArrayList<>();
+            entityIterator.forEachRemaining(entityList::add);
+            listSizes = new int[entityList.size()];
+            firstPositions = new int[entityList.size()];
+            int position = 0;
+            for (int i = 0; i < listSizes.length; i++) {
+                firstPositions[i] = position;
+                listSizes[i] = variableDescriptor.getListSize(entityList.get(i));
+                position += listSizes[i];
+            }
+            valueCount = position;
+        }
+
+        public int getEntityCount() {
+            return entityList.size();
+        }
+
+        public int getValueCount() {
+            return valueCount;
+        }
+
+        public Object getEntity(int entityIndex) {
+            return entityList.get(entityIndex);
+        }
+
+        public int getListSize(int entityIndex) {
+            return listSizes[entityIndex];
+        }
+
+        public int getFirstPosition(int entityIndex) {
+            return firstPositions[entityIndex];
+        }
+
+        /**
+         * @param position {@code 0 <= position < getValueCount()}
+         * @return the index of the entity that holds the planning value at that position
+         */
+        public int findEntityIndex(int position) {
+            int entityIndex = Arrays.binarySearch(firstPositions, position);
+            if (entityIndex < 0) {
+                entityIndex = -entityIndex - 2;
+            }
+            // Skip entities with an empty list that share the same first position
+            while (listSizes[entityIndex] == 0) {
+                entityIndex++;
+            }
+            return entityIndex;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Deque;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+public class ListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public ListChangeMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    @Override
+    protected long getSize(ListPositions positions) {
+        // Every planning value can move to every position of every list, except its own list which is 1 shorter
+        return (long) positions.getValueCount() * (positions.getValueCount() + positions.getEntityCount() - 1);
+    }
+
+    @Override
+    protected void addOriginalMoves(ListPositions positions, int sourcePosition, Deque<Move<Solution_>> moveQueue) {
+        int sourceEntityIndex = positions.findEntityIndex(sourcePosition);
+        Object sourceEntity = positions.getEntity(sourceEntityIndex);
+        int sourceIndex = sourcePosition - positions.getFirstPosition(sourceEntityIndex);
+        for (int destinationEntityIndex = 0; destinationEntityIndex < positions.getEntityCount();
+                destinationEntityIndex++) {
+            int destinationIndexLimit = positions.getListSize(destinationEntityIndex)
+                    + (destinationEntityIndex == sourceEntityIndex ? 0 : 1);
+            Object destinationEntity = positions.getEntity(destinationEntityIndex);
+            for (int destinationIndex = 0; destinationIndex < destinationIndexLimit; destinationIndex++) {
+                moveQueue.add(new ListChangeMove<>(variableDescriptor, sourceEntity, sourceIndex,
+                        destinationEntity, destinationIndex));
+            }
+        }
+    }
+
+    @Override
+    protected Move<Solution_> createRandomMove(ListPositions positions, Random workingRandom) {
+        int sourcePosition = workingRandom.nextInt(positions.getValueCount());
+        int sourceEntityIndex = positions.findEntityIndex(sourcePosition);
+        int destinationEntityIndex = workingRandom.nextInt(positions.getEntityCount());
+        int destinationIndexLimit = positions.getListSize(destinationEntityIndex)
+                + (destinationEntityIndex == sourceEntityIndex ? 0 : 1);
+        return new ListChangeMove<>(variableDescriptor,
+                positions.getEntity(sourceEntityIndex), sourcePosition - positions.getFirstPosition(sourceEntityIndex),
+                positions.getEntity(destinationEntityIndex), workingRandom.nextInt(destinationIndexLimit));
+    }
+
+}
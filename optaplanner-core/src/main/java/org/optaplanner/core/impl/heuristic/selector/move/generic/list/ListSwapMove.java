@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Swaps 2 planning values, in the same list or in the lists of 2 entities.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListSwapMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object leftEntity;
+    protected final int leftIndex;
+    protected final Object rightEntity;
+    protected final int rightIndex;
+
+    public ListSwapMove(ListVariableDescriptor<Solution_> variableDescriptor, Object leftEntity, int leftIndex,
+            Object rightEntity, int rightIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.leftEntity = leftEntity;
+        this.leftIndex = leftIndex;
+        this.rightEntity = rightEntity;
+        this.rightIndex = rightIndex;
+    }
+
+    public Object getLeftEntity() {
+        return leftEntity;
+    }
+
+    public int getLeftIndex() {
+        return leftIndex;
+    }
+
+    public Object getRightEntity() {
+        return rightEntity;
+    }
+
+    public int getRightIndex() {
+        return rightIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return leftEntity != rightEntity || leftIndex != rightIndex;
+    }
+
+    @Override
+    public ListSwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListSwapMove<>(variableDescriptor, rightEntity, rightIndex, leftEntity, leftIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.beforeVariableChanged(variableDescriptor, leftEntity);
+        if (rightEntity != leftEntity) {
+            innerScoreDirector.beforeVariableChanged(variableDescriptor, rightEntity);
+        }
+        List<Object> leftList = variableDescriptor.getListVariable(leftEntity);
+        List<Object> rightList = variableDescriptor.getListVariable(rightEntity);
+        Object leftValue = leftList.get(leftIndex);
+        leftList.set(leftIndex, rightList.get(rightIndex));
+        rightList.set(rightIndex, leftValue);
+        innerScoreDirector.afterVariableChanged(variableDescriptor, leftEntity);
+        if (rightEntity != leftEntity) {
+            innerScoreDirector.afterVariableChanged(variableDescriptor, rightEntity);
+        }
+    }
+
+    @Override
+    public ListSwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListSwapMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(leftEntity), leftIndex,
+                destinationScoreDirector.lookUpWorkingObject(rightEntity), rightIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return leftEntity == rightEntity ? Collections.singletonList(leftEntity)
+                : Arrays.asList(leftEntity, rightEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Arrays.asList(variableDescriptor.getElement(leftEntity, leftIndex),
+                variableDescriptor.getElement(rightEntity, rightIndex));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListSwapMove<?> other = (ListSwapMove<?>) o;
+        return Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(leftEntity, other.leftEntity)
+                && leftIndex == other.leftIndex
+                && Objects.equals(rightEntity, other.rightEntity)
+                && rightIndex == other.rightIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "{" + leftEntity + "[" + leftIndex + "] <-> " + rightEntity + "[" + rightIndex + "]}";
+    }
+
+}
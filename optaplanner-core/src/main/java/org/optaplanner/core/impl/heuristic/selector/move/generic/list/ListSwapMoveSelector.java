@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Deque;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+public class ListSwapMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public ListSwapMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    @Override
+    protected long getSize(ListPositions positions) {
+        long valueCount = positions.getValueCount();
+        return valueCount * (valueCount - 1L) / 2L;
+    }
+
+    @Override
+    protected void addOriginalMoves(ListPositions positions, int sourcePosition, Deque<Move<Solution_>> moveQueue) {
+        int leftEntityIndex = positions.findEntityIndex(sourcePosition);
+        Object leftEntity = positions.getEntity(leftEntityIndex);
+        int leftIndex = sourcePosition - positions.getFirstPosition(leftEntityIndex);
+        for (int rightPosition = sourcePosition + 1; rightPosition < positions.getValueCount(); rightPosition++) {
+            int rightEntityIndex = positions.findEntityIndex(rightPosition);
+            int rightIndex = rightPosition - positions.getFirstPosition(rightEntityIndex);
+            moveQueue.add(new ListSwapMove<>(variableDescriptor, leftEntity, leftIndex,
+                    positions.getEntity(rightEntityIndex), rightIndex));
+        }
+    }
+
+    @Override
+    protected Move<Solution_> createRandomMove(ListPositions positions, Random workingRandom) {
+        int leftPosition = workingRandom.nextInt(positions.getValueCount());
+        int leftEntityIndex = positions.findEntityIndex(leftPosition);
+        int rightPosition = workingRandom.nextInt(positions.getValueCount());
+        int rightEntityIndex = positions.findEntityIndex(rightPosition);
+        return new ListSwapMove<>(variableDescriptor,
+                positions.getEntity(leftEntityIndex), leftPosition - positions.getFirstPosition(leftEntityIndex),
+                positions.getEntity(rightEntityIndex), rightPosition - positions.getFirstPosition(rightEntityIndex));
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves a sub list of consecutive planning values from the list of the source entity
+ * to a position in the list of the destination entity (which can be the same entity),
+ * optionally reversing it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SubListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final int length;
+    protected final Object destinationEntity;
+    /**
+     * The index in the destination list after the sub list has been removed from the source list.
+     */
+    protected final int destinationIndex;
+    protected final boolean reversing;
+
+    public SubListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, int length,
+            Object destinationEntity, int destinationIndex, boolean reversing) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.length = length;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.reversing = reversing;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    public boolean isReversing() {
+        return reversing;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        if (sourceEntity == destinationEntity && sourceIndex == destinationIndex) {
+            // Reversing a sub list of 1 value changes nothing
+            return reversing && length > 1;
+        }
+        return true;
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new SubListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex, length,
+                sourceEntity, sourceIndex, reversing);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.beforeVariableChanged(variableDescriptor, sourceEntity);
+        if (destinationEntity != sourceEntity) {
+            innerScoreDirector.beforeVariableChanged(variableDescriptor, destinationEntity);
+        }
+        List<Object> sourceSubList = variableDescriptor.getListVariable(sourceEntity)
+                .subList(sourceIndex, sourceIndex + length);
+        List<Object> movedValueList = new ArrayList<>(sourceSubList);
+        sourceSubList.clear();
+        if (reversing) {
+            Collections.reverse(movedValueList);
+        }
+        variableDescriptor.getListVariable(destinationEntity).addAll(destinationIndex, movedValueList);
+        innerScoreDirector.afterVariableChanged(variableDescriptor, sourceEntity);
+        if (destinationEntity != sourceEntity) {
+            innerScoreDirector.afterVariableChanged(variableDescriptor, destinationEntity);
+        }
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new SubListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex, length,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex, reversing);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return sourceEntity == destinationEntity ? Collections.singletonList(sourceEntity)
+                : Arrays.asList(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        List<Object> sourceList = variableDescriptor.getListVariable(sourceEntity);
+        return new ArrayList<>(sourceList.subList(sourceIndex, Math.min(sourceIndex + length, sourceList.size())));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SubListChangeMove<?> other = (SubListChangeMove<?>) o;
+        return Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && sourceIndex == other.sourceIndex
+                && length == other.length
+                && Objects.equals(destinationEntity, other.destinationEntity)
+                && destinationIndex == other.destinationIndex
+                && reversing == other.reversing;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, length,
+                destinationEntity, destinationIndex, reversing);
+    }
+
+    @Override
+    public String toString() {
+        return "{" + sourceEntity + "[" + sourceIndex + ".." + (sourceIndex + length) + "]"
+                + (reversing ? " reversing" : "") + " -> " + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
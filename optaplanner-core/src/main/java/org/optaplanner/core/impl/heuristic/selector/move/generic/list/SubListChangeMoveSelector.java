@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Deque;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+public class SubListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    protected final int minimumSubListSize;
+    protected final int maximumSubListSize;
+    protected final boolean selectReversingMoveToo;
+
+    public SubListChangeMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection,
+            int minimumSubListSize, int maximumSubListSize, boolean selectReversingMoveToo) {
+        super(entitySelector, randomSelection);
+        if (minimumSubListSize < 1) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s minimumSubListSize (" + minimumSubListSize + ") must be at least 1.");
+        }
+        if (minimumSubListSize > maximumSubListSize) {
+            throw new IllegalArgumentException("The minimumSubListSize (" + minimumSubListSize
+                    + ") must be at most maximumSubListSize (" + maximumSubListSize + ").");
+        }
+        this.minimumSubListSize = minimumSubListSize;
+        this.maximumSubListSize = maximumSubListSize;
+        this.selectReversingMoveToo = selectReversingMoveToo;
+    }
+
+    @Override
+    protected long getSize(ListPositions positions) {
+        long size = 0L;
+        for (int entityIndex = 0; entityIndex < positions.getEntityCount(); entityIndex++) {
+            int listSize = positions.getListSize(entityIndex);
+            for (int sourceIndex = 0; sourceIndex < listSize; sourceIndex++) {
+                int lengthLimit = Math.min(maximumSubListSize, listSize - sourceIndex);
+                for (int length = minimumSubListSize; length <= lengthLimit; length++) {
+                    // Every position of every list, after removing the sub list from its own list
+                    long destinationCount = positions.getValueCount() - length + positions.getEntityCount();
+                    size += (selectReversingMoveToo && length > 1) ? destinationCount * 2L : destinationCount;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    protected void addOriginalMoves(ListPositions positions, int sourcePosition, Deque<Move<Solution_>> moveQueue) {
+        int sourceEntityIndex = positions.findEntityIndex(sourcePosition);
+        Object sourceEntity = positions.getEntity(sourceEntityIndex);
+        int sourceIndex = sourcePosition - positions.getFirstPosition(sourceEntityIndex);
+        int lengthLimit = Math.min(maximumSubListSize, positions.getListSize(sourceEntityIndex) - sourceIndex);
+        for (int length = minimumSubListSize; length <= lengthLimit; length++) {
+            for (int destinationEntityIndex = 0; destinationEntityIndex < positions.getEntityCount();
+                    destinationEntityIndex++) {
+                int destinationIndexLimit = positions.getListSize(destinationEntityIndex)
+                        - (destinationEntityIndex == sourceEntityIndex ? length : 0) + 1;
+                Object destinationEntity = positions.getEntity(destinationEntityIndex);
+                for (int destinationIndex = 0; destinationIndex < destinationIndexLimit; destinationIndex++) {
+                    moveQueue.add(new SubListChangeMove<>(variableDescriptor, sourceEntity, sourceIndex, length,
+                            destinationEntity, destinationIndex, false));
+                    if (selectReversingMoveToo && length > 1) {
+                        moveQueue.add(new SubListChangeMove<>(variableDescriptor, sourceEntity, sourceIndex, length,
+                                destinationEntity, destinationIndex, true));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Move<Solution_> createRandomMove(ListPositions positions, Random workingRandom) {
+        int sourcePosition = workingRandom.nextInt(positions.getValueCount());
+        int sourceEntityIndex = positions.findEntityIndex(sourcePosition);
+        int sourceIndex = sourcePosition - positions.getFirstPosition(sourceEntityIndex);
+        int lengthLimit = Math.min(maximumSubListSize, positions.getListSize(sourceEntityIndex) - sourceIndex);
+        Object sourceEntity = positions.getEntity(sourceEntityIndex);
+        if (lengthLimit < minimumSubListSize) {
+            // Too close to the end of its list: select a move that isn't doable, like a filtered move
+            return new SubListChangeMove<>(variableDescriptor, sourceEntity, sourceIndex, lengthLimit,
+                    sourceEntity, sourceIndex, false);
+        }
+        int length = minimumSubListSize + workingRandom.nextInt(lengthLimit - minimumSubListSize + 1);
+        int destinationEntityIndex = workingRandom.nextInt(positions.getEntityCount());
+        int destinationIndexLimit = positions.getListSize(destinationEntityIndex)
+                - (destinationEntityIndex == sourceEntityIndex ? length : 0) + 1;
+        boolean reversing = selectReversingMoveToo && length > 1 && workingRandom.nextBoolean();
+        return new SubListChangeMove<>(variableDescriptor,
+                sourceEntity, sourceIndex, length,
+                positions.getEntity(destinationEntityIndex), workingRandom.nextInt(destinationIndexLimit), reversing);
+    }
+
+}
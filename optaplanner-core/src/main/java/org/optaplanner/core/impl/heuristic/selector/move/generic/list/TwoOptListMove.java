@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Reverses the planning values from the first index up to and including the second index
+ * in the list of 1 entity.
+ * On a route, that's a 2-opt move: it removes 2 edges and reconnects the route the other way.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class TwoOptListMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+    protected final Object entity;
+    protected final int firstIndex;
+    protected final int secondIndex;
+
+    public TwoOptListMove(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int firstIndex, int secondIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.entity = entity;
+        this.firstIndex = firstIndex;
+        this.secondIndex = secondIndex;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return firstIndex < secondIndex;
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor, entity, firstIndex, secondIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        Collections.reverse(variableDescriptor.getListVariable(entity).subList(firstIndex, secondIndex + 1));
+        innerScoreDirector.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor, destinationScoreDirector.lookUpWorkingObject(entity),
+                firstIndex, secondIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(entity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        List<Object> list = variableDescriptor.getListVariable(entity);
+        return new ArrayList<>(list.subList(firstIndex, Math.min(secondIndex + 1, list.size())));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TwoOptListMove<?> other = (TwoOptListMove<?>) o;
+        return Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(entity, other.entity)
+                && firstIndex == other.firstIndex
+                && secondIndex == other.secondIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, entity, firstIndex, secondIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "{" + entity + "[" + firstIndex + ".." + secondIndex + "] reversed}";
+    }
+
+}
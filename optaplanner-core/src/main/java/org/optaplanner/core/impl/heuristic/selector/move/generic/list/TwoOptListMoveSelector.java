@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Deque;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Also known as a 2-opt move selector for a planning list variable.
+ */
+public class TwoOptListMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public TwoOptListMoveSelector(EntitySelector<Solution_> entitySelector, boolean randomSelection) {
+        super(entitySelector, randomSelection);
+    }
+
+    @Override
+    protected long getSize(ListPositions positions) {
+        long size = 0L;
+        for (int entityIndex = 0; entityIndex < positions.getEntityCount(); entityIndex++) {
+            long listSize = positions.getListSize(entityIndex);
+            size += listSize * (listSize - 1L) / 2L;
+        }
+        return size;
+    }
+
+    @Override
+    protected void addOriginalMoves(ListPositions positions, int sourcePosition, Deque<Move<Solution_>> moveQueue) {
+        int entityIndex = positions.findEntityIndex(sourcePosition);
+        Object entity = positions.getEntity(entityIndex);
+        int firstIndex = sourcePosition - positions.getFirstPosition(entityIndex);
+        for (int secondIndex = firstIndex + 1; secondIndex < positions.getListSize(entityIndex); secondIndex++) {
+            moveQueue.add(new TwoOptListMove<>(variableDescriptor, entity, firstIndex, secondIndex));
+        }
+    }
+
+    @Override
+    protected Move<Solution_> createRandomMove(ListPositions positions, Random workingRandom) {
+        int sourcePosition = workingRandom.nextInt(positions.getValueCount());
+        int entityIndex = positions.findEntityIndex(sourcePosition);
+        int index = sourcePosition - positions.getFirstPosition(entityIndex);
+        int otherIndex = workingRandom.nextInt(positions.getListSize(entityIndex));
+        return new TwoOptListMove<>(variableDescriptor, positions.getEntity(entityIndex),
+                Math.min(index, otherIndex), Math.max(index, otherIndex));
+    }
+
+}
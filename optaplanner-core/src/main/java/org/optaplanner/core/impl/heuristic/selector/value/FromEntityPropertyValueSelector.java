@@ -22,8 +22,11 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.precomputed.PrecomputedValueRangeDemand;
+import org.optaplanner.core.impl.domain.valuerange.precomputed.PrecomputedValueRangeSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
  * This is the common {@link ValueSelector} implementation.
@@ -35,6 +38,7 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
     protected final ValueRangeDescriptor<Solution_> valueRangeDescriptor;
     protected final boolean randomSelection;
 
+    protected PrecomputedValueRangeSupply<Solution_> precomputedValueRangeSupply = null;
     protected Solution_ workingSolution;
 
     public FromEntityPropertyValueSelector(ValueRangeDescriptor<Solution_> valueRangeDescriptor, boolean randomSelection) {
@@ -47,11 +51,29 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
         return valueRangeDescriptor.getVariableDescriptor();
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        if (valueRangeDescriptor.isPrecomputed()) {
+            precomputedValueRangeSupply = solverScope.getScoreDirector().getSupplyManager()
+                    .demand(new PrecomputedValueRangeDemand<>(valueRangeDescriptor));
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        precomputedValueRangeSupply = null;
+    }
+
     @Override
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         // type cast in order to avoid SolverLifeCycleListener and all its children needing to be generified
         workingSolution = phaseScope.getWorkingSolution();
+        if (precomputedValueRangeSupply != null) {
+            precomputedValueRangeSupply.phaseStarted(phaseScope);
+        }
     }
 
     @Override
@@ -74,15 +96,22 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
         return randomSelection || !isCountable();
     }
 
+    protected ValueRange<Object> extractValueRange(Object entity) {
+        if (precomputedValueRangeSupply != null) {
+            return precomputedValueRangeSupply.getValueRange(entity);
+        }
+        return (ValueRange<Object>) valueRangeDescriptor.extractValueRange(workingSolution, entity);
+    }
+
     @Override
     public long getSize(Object entity) {
-        ValueRange<?> valueRange = valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<?> valueRange = extractValueRange(entity);
         return ((CountableValueRange<?>) valueRange).getSize();
     }
 
     @Override
     public Iterator<Object> iterator(Object entity) {
-        ValueRange<Object> valueRange = (ValueRange<Object>) valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<Object> valueRange = extractValueRange(entity);
         if (!randomSelection) {
             return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
         } else {
@@ -92,7 +121,7 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
 
     @Override
     public Iterator<Object> endingIterator(Object entity) {
-        ValueRange<Object> valueRange = (ValueRange<Object>) valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<Object> valueRange = extractValueRange(entity);
         return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
     }
 
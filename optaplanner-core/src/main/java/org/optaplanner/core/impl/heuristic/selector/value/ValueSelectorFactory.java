@@ -124,6 +124,7 @@ public class ValueSelectorFactory<Solution_>
         GenuineVariableDescriptor<Solution_> variableDescriptor =
                 config.getVariableName() == null ? deduceVariableDescriptor(entityDescriptor)
                         : deduceVariableDescriptor(entityDescriptor, config.getVariableName());
+        validateNotListVariable(variableDescriptor);
         SelectionCacheType resolvedCacheType = SelectionCacheType.resolve(config.getCacheType(), minimumCacheType);
         SelectionOrder resolvedSelectionOrder = SelectionOrder.resolve(config.getSelectionOrder(), inheritedSelectionOrder);
 
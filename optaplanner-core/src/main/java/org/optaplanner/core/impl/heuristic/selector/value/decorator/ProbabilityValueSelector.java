@@ -17,9 +17,6 @@
 package org.optaplanner.core.impl.heuristic.selector.value.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -29,7 +26,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.ProbabilityWeightTree;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<Solution_>
@@ -39,8 +36,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityWeightTree<Object> cachedValueTree = null;
 
     public ProbabilityValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
             SelectionCacheType cacheType,
@@ -72,21 +68,18 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedValueTree = new ProbabilityWeightTree<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
         for (Object value : childValueSelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
+            cachedValueTree.add(value, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedValueTree = null;
     }
 
     @Override
@@ -111,7 +104,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedValueTree.size();
     }
 
     @Override
@@ -129,10 +122,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedValueTree.sample(workingRandom);
             }
 
             @Override
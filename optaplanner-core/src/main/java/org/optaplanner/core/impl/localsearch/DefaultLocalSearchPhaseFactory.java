@@ -27,6 +27,10 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorType;
@@ -39,6 +43,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.decider.MoveScoreDeltaCache;
 import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AcceptorFactory;
@@ -91,9 +96,19 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         LocalSearchDecider<Solution_> decider;
+        boolean moveScoreDeltaCacheEnabled = Boolean.TRUE.equals(phaseConfig.getMoveScoreDeltaCacheEnabled());
         if (moveThreadCount == null) {
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
+            if (moveScoreDeltaCacheEnabled) {
+                decider.setMoveScoreDeltaCache(new MoveScoreDeltaCache<>());
+            }
         } else {
+            if (moveScoreDeltaCacheEnabled) {
+                throw new IllegalArgumentException("The moveScoreDeltaCacheEnabled ("
+                        + phaseConfig.getMoveScoreDeltaCacheEnabled() + ") is not supported with a moveThreadCount ("
+                        + moveThreadCount + ").\n"
+                        + "Maybe remove the moveThreadCount or the moveScoreDeltaCacheEnabled.");
+            }
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
             if (moveThreadBufferSize == null) {
                 // TODO Verify this is a good default by more meticulous benchmarking on multiple machines and JDK's
@@ -211,10 +226,17 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
             defaultSelectionOrder = SelectionOrder.RANDOM;
         }
         if (phaseConfig.getMoveSelectorConfig() == null) {
-            // Default to changeMoveSelector and swapMoveSelector
             UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig();
-            unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ChangeMoveSelectorConfig(),
-                    new SwapMoveSelectorConfig()));
+            if (configPolicy.getSolutionDescriptor().getListVariableDescriptor() != null) {
+                // Default to the list move selectors, because a list variable doesn't support the generic moves
+                unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ListChangeMoveSelectorConfig(),
+                        new ListSwapMoveSelectorConfig(), new SubListChangeMoveSelectorConfig(),
+                        new TwoOptListMoveSelectorConfig()));
+            } else {
+                // Default to changeMoveSelector and swapMoveSelector
+                unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ChangeMoveSelectorConfig(),
+                        new SwapMoveSelectorConfig()));
+            }
             moveSelector = new UnionMoveSelectorFactory<Solution_>(unionMoveSelectorConfig)
                     .buildMoveSelector(configPolicy, defaultCacheType, defaultSelectionOrder);
         } else {
@@ -44,6 +44,8 @@ public class LocalSearchDecider<Solution_> {
     protected final Acceptor<Solution_> acceptor;
     protected final LocalSearchForager<Solution_> forager;
 
+    protected MoveScoreDeltaCache<Solution_, ?> moveScoreDeltaCache = null;
+
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
 
@@ -72,6 +74,17 @@ public class LocalSearchDecider<Solution_> {
         return forager;
     }
 
+    public MoveScoreDeltaCache<Solution_, ?> getMoveScoreDeltaCache() {
+        return moveScoreDeltaCache;
+    }
+
+    /**
+     * @param moveScoreDeltaCache null to evaluate every selected move
+     */
+    public void setMoveScoreDeltaCache(MoveScoreDeltaCache<Solution_, ?> moveScoreDeltaCache) {
+        this.moveScoreDeltaCache = moveScoreDeltaCache;
+    }
+
     public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
     }
@@ -130,12 +143,28 @@ public class LocalSearchDecider<Solution_> {
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
-            boolean accepted = acceptor.isAccepted(moveScope);
-            moveScope.setAccepted(accepted);
-            forager.addMove(moveScope);
-        });
+        MoveScoreDeltaCache<Solution_, Score_> moveScoreDeltaCache_ =
+                (MoveScoreDeltaCache<Solution_, Score_>) moveScoreDeltaCache;
+        if (moveScoreDeltaCache_ != null) {
+            Score_ lastStepScore =
+                    (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+            Score_ cachedScore = moveScoreDeltaCache_.lookUpScore(moveScope.getMove(), lastStepScore);
+            if (cachedScore != null) {
+                processMove(moveScope, cachedScore);
+                logger.trace("{}        Move index ({}), cached score ({}), accepted ({}), move ({}).",
+                        logIndentation,
+                        moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                        moveScope.getMove());
+                return;
+            }
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
+                moveScoreDeltaCache_.put(moveScope.getMove(), lastStepScore, score);
+                processMove(moveScope, score);
+            });
+        } else {
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch,
+                    score -> processMove(moveScope, score));
+        }
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
@@ -146,10 +175,26 @@ public class LocalSearchDecider<Solution_> {
                 moveScope.getMove());
     }
 
+    private <Score_ extends Score<Score_>> void processMove(LocalSearchMoveScope<Solution_> moveScope, Score_ score) {
+        moveScope.setScore(score);
+        boolean accepted = acceptor.isAccepted(moveScope);
+        moveScope.setAccepted(accepted);
+        forager.addMove(moveScope);
+    }
+
+    private <Score_ extends Score<Score_>> void recalculateScore(LocalSearchMoveScope<Solution_> moveScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
+        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, moveScope::setScore);
+    }
+
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
             Move<Solution_> step = pickedMoveScope.getMove();
+            if (moveScoreDeltaCache != null && moveScoreDeltaCache.isEstimated(step)) {
+                // The step score is trusted without recalculation, so it cannot be an estimate
+                recalculateScore(pickedMoveScope);
+            }
             stepScope.setStep(step);
             if (logger.isDebugEnabled()) {
                 stepScope.setStepString(step.toString());
@@ -159,12 +204,21 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        if (moveScoreDeltaCache != null) {
+            moveScoreDeltaCache.stepEnded(stepScope.getStep());
+        }
         moveSelector.stepEnded(stepScope);
         acceptor.stepEnded(stepScope);
         forager.stepEnded(stepScope);
     }
 
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        if (moveScoreDeltaCache != null) {
+            logger.debug("{}    Move score delta cache hit/miss count ({}/{}).",
+                    logIndentation, moveScoreDeltaCache.getHitCount(), moveScoreDeltaCache.getMissCount());
+            // The cached moves are no longer selected after the phase
+            moveScoreDeltaCache.clear();
+        }
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
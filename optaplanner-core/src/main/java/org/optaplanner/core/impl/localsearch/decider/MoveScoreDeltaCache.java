@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Remembers the score delta of every evaluated {@link Move},
+ * so a move that is selected again in a later step doesn't need to be evaluated again,
+ * as long as no step changed any of its {@link Move#getPlanningEntities() planning entities} since.
+ * <p>
+ * This only pays off if the same {@link Move} instances are selected step after step,
+ * for example with a {@code PHASE} cached move selector.
+ * The moves are looked up by identity, not by {@link Object#equals(Object)},
+ * which is both faster and safe for moves that don't implement it or whose hash code changes when they are done.
+ * The delta of a move can also depend on entities that the move does not change
+ * (for example if a constraint matches pairs of entities),
+ * so a cached delta is only an estimate: the picked move must always be evaluated again before it is done.
+ * <p>
+ * Entries that were not used during a step are evicted at the end of that step, to bound the memory usage.
+ *
+ * @param <Solution_> the solution type
+ * @param <Score_> the score type
+ */
+public final class MoveScoreDeltaCache<Solution_, Score_ extends Score<Score_>> {
+
+    private final Map<Move<Solution_>, CachedScoreDelta<Score_>> cachedScoreDeltaMap = new IdentityHashMap<>();
+
+    private long hitCount = 0L;
+    private long missCount = 0L;
+
+    /**
+     * @param move never null
+     * @param lastStepScore never null, the score of the working solution before the move is done
+     * @return null if the move has no valid cached delta,
+     *         otherwise the estimated score of the working solution after the move is done
+     */
+    public Score_ lookUpScore(Move<Solution_> move, Score_ lastStepScore) {
+        CachedScoreDelta<Score_> cachedScoreDelta = cachedScoreDeltaMap.get(move);
+        if (cachedScoreDelta == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        cachedScoreDelta.usedInStep = true;
+        cachedScoreDelta.hitInStep = true;
+        return lastStepScore.add(cachedScoreDelta.scoreDelta);
+    }
+
+    /**
+     * Must be called while the move is done, because {@link Move#getPlanningEntities()} can depend on it.
+     *
+     * @param move never null
+     * @param lastStepScore never null, the score of the working solution before the move is done
+     * @param moveScore never null, the score of the working solution after the move is done
+     */
+    public void put(Move<Solution_> move, Score_ lastStepScore, Score_ moveScore) {
+        List<Object> planningEntityList = new ArrayList<>(move.getPlanningEntities());
+        cachedScoreDeltaMap.put(move, new CachedScoreDelta<>(moveScore.subtract(lastStepScore), planningEntityList));
+    }
+
+    /**
+     * @param move never null
+     * @return true if the score of the move was looked up in the cache during this step,
+     *         instead of being calculated
+     */
+    public boolean isEstimated(Move<Solution_> move) {
+        CachedScoreDelta<Score_> cachedScoreDelta = cachedScoreDeltaMap.get(move);
+        return cachedScoreDelta != null && cachedScoreDelta.hitInStep;
+    }
+
+    /**
+     * @param step never null, the move that has been done on the working solution
+     */
+    public void stepEnded(Move<Solution_> step) {
+        Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedEntitySet.addAll(step.getPlanningEntities());
+        for (Iterator<CachedScoreDelta<Score_>> it = cachedScoreDeltaMap.values().iterator(); it.hasNext();) {
+            CachedScoreDelta<Score_> cachedScoreDelta = it.next();
+            if (!cachedScoreDelta.usedInStep || cachedScoreDelta.touchesAny(changedEntitySet)) {
+                it.remove();
+            } else {
+                cachedScoreDelta.usedInStep = false;
+                cachedScoreDelta.hitInStep = false;
+            }
+        }
+    }
+
+    public void clear() {
+        cachedScoreDeltaMap.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    private static final class CachedScoreDelta<Score_ extends Score<Score_>> {
+
+        private final Score_ scoreDelta;
+        private final List<Object> planningEntityList;
+
+        private boolean usedInStep = true;
+        private boolean hitInStep = false;
+
+        private CachedScoreDelta(Score_ scoreDelta, List<Object> planningEntityList) {
+            this.scoreDelta = scoreDelta;
+            this.planningEntityList = planningEntityList;
+        }
+
+        private boolean touchesAny(Collection<Object> changedEntityCollection) {
+            for (Object planningEntity : planningEntityList) {
+                if (changedEntityCollection.contains(planningEntity)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
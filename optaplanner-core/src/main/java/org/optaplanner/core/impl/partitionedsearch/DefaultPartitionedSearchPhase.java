@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.partitionedsearch;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
@@ -26,6 +27,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -45,6 +47,7 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.ChildThreadPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.OrCompositeTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.termination.TimeSliceTermination;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
@@ -62,6 +65,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
 
     protected List<PhaseConfig> phaseConfigList;
     protected HeuristicConfigPolicy<Solution_> configPolicy;
+    /**
+     * Null if the solution is split only once.
+     */
+    protected Duration repartitionInterval = null;
+    /**
+     * Null if there is no global local search between the rounds.
+     */
+    protected Phase<Solution_> boundaryLocalSearchPhase = null;
 
     public DefaultPartitionedSearchPhase(int phaseIndex, String logIndentation,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination,
@@ -81,6 +92,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         this.configPolicy = configPolicy;
     }
 
+    public void setRepartitionInterval(Duration repartitionInterval) {
+        this.repartitionInterval = repartitionInterval;
+    }
+
+    public void setBoundaryLocalSearchPhase(Phase<Solution_> boundaryLocalSearchPhase) {
+        this.boundaryLocalSearchPhase = boundaryLocalSearchPhase;
+    }
+
     @Override
     public String getPhaseTypeString() {
         return "Partitioned Search";
@@ -95,21 +114,67 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         PartitionedSearchPhaseScope<Solution_> phaseScope = new PartitionedSearchPhaseScope<>(solverScope);
         List<Solution_> partList = solutionPartitioner.splitWorkingSolution(
                 solverScope.getScoreDirector(), runnablePartThreadLimit);
-        int partCount = partList.size();
-        phaseScope.setPartCount(partCount);
+        phaseScope.setPartCount(partList.size());
         phaseStarted(phaseScope);
-        ExecutorService executor = createThreadPoolExecutor(partCount);
+        if (repartitionInterval == null) {
+            solveRound(phaseScope, partList, partList.size(), null);
+        } else {
+            int roundIndex = 0;
+            while (true) {
+                int threadCount = runnablePartThreadLimit == null ? partList.size()
+                        : Math.min(runnablePartThreadLimit, partList.size());
+                // Every part gets an equal share of the round, so all parts are solved in about one interval
+                long partTimeSliceMillis = Math.max(1L,
+                        repartitionInterval.toMillis() * threadCount / partList.size());
+                solveRound(phaseScope, partList, threadCount, partTimeSliceMillis);
+                roundIndex++;
+                if (termination.isPhaseTerminated(phaseScope)) {
+                    break;
+                }
+                if (boundaryLocalSearchPhase != null) {
+                    boundaryLocalSearchPhase.solve(solverScope);
+                    if (termination.isPhaseTerminated(phaseScope)) {
+                        break;
+                    }
+                }
+                repartitionFromBestSolution(phaseScope);
+                partList = solutionPartitioner.splitWorkingSolution(
+                        solverScope.getScoreDirector(), runnablePartThreadLimit);
+                phaseScope.setPartCount(partList.size());
+                logger.debug("{}    PS round ({}) starting with partCount ({}), best score ({}).",
+                        logIndentation, roundIndex, partList.size(), phaseScope.getBestScore());
+            }
+        }
+        phaseEnded(phaseScope);
+    }
+
+    /**
+     * @param phaseScope never null
+     * @param partList never null
+     * @param threadCount {@code 1 <= threadCount <= partList.size()},
+     *        lower than the partCount only if there is a partTimeSliceMillis
+     * @param partTimeSliceMillis null if the parts run until the phase terminates,
+     *        otherwise how long each part runs once a thread picks it up
+     */
+    protected void solveRound(PartitionedSearchPhaseScope<Solution_> phaseScope, List<Solution_> partList,
+            int threadCount, Long partTimeSliceMillis) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        int partCount = partList.size();
+        ExecutorService executor = createThreadPoolExecutor(threadCount, partTimeSliceMillis != null);
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
         PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
-        Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
+        // With fewer threads than parts, the thread count already limits the runnable threads
+        Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null || threadCount < partCount ? null
                 : new Semaphore(runnablePartThreadLimit, true);
         try {
             for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
                 int partIndex = it.nextIndex();
                 Solution_ part = it.next();
-                PartitionSolver<Solution_> partitionSolver = buildPartitionSolver(
-                        childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope);
+                TimeSliceTermination<Solution_> partTimeSliceTermination = partTimeSliceMillis == null ? null
+                        : new TimeSliceTermination<>(partTimeSliceMillis);
+                PartitionSolver<Solution_> partitionSolver = buildPartitionSolver(childThreadPlumbingTermination,
+                        runnablePartThreadSemaphore, solverScope, partTimeSliceTermination);
                 partitionSolver.addEventListener(event -> {
                     InnerScoreDirector<Solution_, ?> childScoreDirector =
                             partitionSolver.solverScope.getScoreDirector();
@@ -120,6 +185,10 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 });
                 executor.submit(() -> {
                     try {
+                        if (partTimeSliceTermination != null) {
+                            // The time slice starts when a thread picks up the part, not when it's queued
+                            partTimeSliceTermination.start();
+                        }
                         partitionSolver.solve(part);
                         long partCalculationCount = partitionSolver.getScoreCalculationCount();
                         partitionQueue.addFinish(partIndex, partCalculationCount);
@@ -151,11 +220,29 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             childThreadPlumbingTermination.terminateChildren();
             ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
         }
-        phaseEnded(phaseScope);
     }
 
-    private ExecutorService createThreadPoolExecutor(int partCount) {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(partCount, threadFactory);
+    /**
+     * The parts of a round improve independently, so their combination in the working solution
+     * can be worse than the best solution: the next round starts from the best solution instead.
+     */
+    protected void repartitionFromBestSolution(PartitionedSearchPhaseScope<Solution_> phaseScope) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        Score workingScore = phaseScope.calculateScore();
+        if (workingScore.compareTo(solverScope.getBestScore()) < 0) {
+            solverScope.setWorkingSolutionFromBestSolution();
+            phaseScope.calculateScore();
+        }
+    }
+
+    private ExecutorService createThreadPoolExecutor(int threadCount, boolean partsTerminateByThemselves) {
+        ThreadPoolExecutor threadPoolExecutor =
+                (ThreadPoolExecutor) Executors.newFixedThreadPool(threadCount, threadFactory);
+        if (partsTerminateByThemselves) {
+            // A part that waits in the queue starts as soon as another part's round ends
+            return threadPoolExecutor;
+        }
+        int partCount = threadCount;
         if (threadPoolExecutor.getMaximumPoolSize() < partCount) {
             throw new IllegalStateException(
                     "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
@@ -171,10 +258,21 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
             Semaphore runnablePartThreadSemaphore,
             SolverScope<Solution_> solverScope) {
+        return buildPartitionSolver(childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope, null);
+    }
+
+    public PartitionSolver<Solution_> buildPartitionSolver(
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
+            Semaphore runnablePartThreadSemaphore,
+            SolverScope<Solution_> solverScope, TimeSliceTermination<Solution_> partTimeSliceTermination) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
-        Termination<Solution_> partTermination = new OrCompositeTermination<>(childThreadPlumbingTermination,
-                termination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
+        Termination<Solution_> childTermination =
+                termination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD);
+        Termination<Solution_> partTermination = partTimeSliceTermination == null
+                ? new OrCompositeTermination<>(childThreadPlumbingTermination, childTermination)
+                : new OrCompositeTermination<>(childThreadPlumbingTermination, childTermination,
+                        partTimeSliceTermination);
         List<Phase<Solution_>> phaseList = new ArrayList<>(phaseConfigList.size());
         int partPhaseIndex = 0;
         for (PhaseConfig phaseConfig : phaseConfigList) {
@@ -197,6 +295,22 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope);
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        if (boundaryLocalSearchPhase != null) {
+            boundaryLocalSearchPhase.solvingStarted(solverScope);
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        if (boundaryLocalSearchPhase != null) {
+            boundaryLocalSearchPhase.solvingEnded(solverScope);
+        }
+    }
+
     @Override
     public void phaseStarted(PartitionedSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
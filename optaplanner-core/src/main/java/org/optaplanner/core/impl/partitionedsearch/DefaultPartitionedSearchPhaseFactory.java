@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.partitionedsearch;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_AUTO;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
@@ -30,8 +31,12 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhaseFactory;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.ConnectedComponentSolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleSupport;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -64,6 +69,19 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         }
         phase.setPhaseConfigList(phaseConfigList_);
         phase.setConfigPolicy(phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+        Duration repartitionInterval = phaseConfig.getRepartitionInterval();
+        if (repartitionInterval != null) {
+            if (repartitionInterval.isNegative() || repartitionInterval.isZero()) {
+                throw new IllegalArgumentException("The repartitionInterval (" + repartitionInterval
+                        + ") must be positive.");
+            }
+            phase.setRepartitionInterval(repartitionInterval);
+        }
+        LocalSearchPhaseConfig boundaryLocalSearchPhaseConfig = phaseConfig.getBoundaryLocalSearchPhaseConfig();
+        if (boundaryLocalSearchPhaseConfig != null) {
+            phase.setBoundaryLocalSearchPhase(buildBoundaryLocalSearchPhase(phaseIndex, phaseConfigPolicy,
+                    bestSolutionRecaller, phaseTermination, boundaryLocalSearchPhaseConfig));
+        }
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             phase.setAssertStepScoreFromScratch(true);
@@ -75,23 +93,37 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         return phase;
     }
 
+    private Phase<Solution_> buildBoundaryLocalSearchPhase(int phaseIndex,
+            HeuristicConfigPolicy<Solution_> phaseConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> phaseTermination, LocalSearchPhaseConfig boundaryLocalSearchPhaseConfig) {
+        if (phaseConfig.getRepartitionInterval() == null) {
+            throw new IllegalArgumentException("The boundaryLocalSearchPhaseConfig (" + boundaryLocalSearchPhaseConfig
+                    + ") requires a repartitionInterval (" + phaseConfig.getRepartitionInterval() + "),"
+                    + " because it runs between two rounds of partitions.");
+        }
+        if (boundaryLocalSearchPhaseConfig.getTerminationConfig() == null) {
+            throw new IllegalArgumentException("The boundaryLocalSearchPhaseConfig (" + boundaryLocalSearchPhaseConfig
+                    + ") requires a terminationConfig, because otherwise the next round never starts.");
+        }
+        Phase<Solution_> boundaryLocalSearchPhase = new DefaultLocalSearchPhaseFactory<Solution_>(
+                boundaryLocalSearchPhaseConfig).buildPhase(phaseIndex, phaseConfigPolicy, bestSolutionRecaller,
+                        phaseTermination);
+        // Solver level listeners (such as the checkpointer) must not mistake it for the end of this phase
+        boundaryLocalSearchPhase.setSolverPhaseLifecycleSupport(new PhaseLifecycleSupport<>());
+        return boundaryLocalSearchPhase;
+    }
+
     private SolutionPartitioner<Solution_> buildSolutionPartitioner() {
+        SolutionPartitioner<?> solutionPartitioner;
         if (phaseConfig.getSolutionPartitionerClass() != null) {
-            SolutionPartitioner<?> solutionPartitioner =
+            solutionPartitioner =
                     ConfigUtils.newInstance(phaseConfig, "solutionPartitionerClass", phaseConfig.getSolutionPartitionerClass());
-            ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
-                    phaseConfig.getSolutionPartitionerCustomProperties(), "solutionPartitionerCustomProperties");
-            return (SolutionPartitioner<Solution_>) solutionPartitioner;
         } else {
-            if (phaseConfig.getSolutionPartitionerCustomProperties() != null) {
-                throw new IllegalStateException(
-                        "If there is no solutionPartitionerClass (" + phaseConfig.getSolutionPartitionerClass()
-                                + "), then there can be no solutionPartitionerCustomProperties ("
-                                + phaseConfig.getSolutionPartitionerCustomProperties() + ") either.");
-            }
-            // TODO Implement generic partitioner
-            throw new UnsupportedOperationException();
+            solutionPartitioner = new ConnectedComponentSolutionPartitioner<>();
         }
+        ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
+                phaseConfig.getSolutionPartitionerCustomProperties(), "solutionPartitionerCustomProperties");
+        return (SolutionPartitioner<Solution_>) solutionPartitioner;
     }
 
     protected Integer resolveActiveThreadCount(String runnablePartThreadLimit) {
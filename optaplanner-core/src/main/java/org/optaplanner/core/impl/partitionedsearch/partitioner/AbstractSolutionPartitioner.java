@@ -0,0 +1,241 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Splits the planning entities into balanced parts and builds a partition clone for each part,
+ * so subclasses only decide which entity goes into which part.
+ * <p>
+ * Every part shares all problem facts of the working solution.
+ * Only the annotated properties of the solution class (and its score) are copied into a part,
+ * so each of them needs a setter.
+ * Each part gets its own planning clone of its entities, made in the solver thread,
+ * so the part threads never read entities that the solver thread is changing.
+ * <p>
+ * Chained planning variables are not supported, because a chain can't be cut generically.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public abstract class AbstractSolutionPartitioner<Solution_> implements SolutionPartitioner<Solution_> {
+
+    /**
+     * {@link PartitionedSearchPhaseConfig#getSolutionPartitionerCustomProperties() Custom property}.
+     * Null to use the runnablePartThreadLimit, or the number of available processors if that is unlimited.
+     */
+    protected Integer partCount = null;
+
+    public void setPartCount(Integer partCount) {
+        this.partCount = partCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        SolutionDescriptor<Solution_> solutionDescriptor = innerScoreDirector.getSolutionDescriptor();
+        assertNoChainedVariables(solutionDescriptor);
+        Solution_ workingSolution = innerScoreDirector.getWorkingSolution();
+        List<Object> entityList = solutionDescriptor.getEntityList(workingSolution);
+        if (entityList.isEmpty()) {
+            return Collections.singletonList(buildPart(solutionDescriptor, workingSolution, new IdentityHashMap<>(0)));
+        }
+        int resolvedPartCount = Math.min(resolvePartCount(runnablePartThreadLimit), entityList.size());
+        int[] entityPartIndexes = partitionEntities(innerScoreDirector, entityList, resolvedPartCount);
+        List<Map<Object, Boolean>> partEntityMapList = new ArrayList<>(resolvedPartCount);
+        for (int i = 0; i < resolvedPartCount; i++) {
+            partEntityMapList.add(new IdentityHashMap<>());
+        }
+        for (int i = 0; i < entityList.size(); i++) {
+            int partIndex = entityPartIndexes[i];
+            if (partIndex < 0 || partIndex >= resolvedPartCount) {
+                throw new IllegalStateException("Impossible state: the partIndex (" + partIndex
+                        + ") of entity (" + entityList.get(i) + ") is not lower than the partCount ("
+                        + resolvedPartCount + ").");
+            }
+            partEntityMapList.get(partIndex).put(entityList.get(i), Boolean.TRUE);
+        }
+        List<Solution_> partList = new ArrayList<>(resolvedPartCount);
+        for (Map<Object, Boolean> partEntityMap : partEntityMapList) {
+            if (!partEntityMap.isEmpty()) {
+                partList.add(buildPart(solutionDescriptor, workingSolution, partEntityMap));
+            }
+        }
+        return partList;
+    }
+
+    protected int resolvePartCount(Integer runnablePartThreadLimit) {
+        if (partCount != null) {
+            if (partCount < 1) {
+                throw new IllegalArgumentException("The partCount (" + partCount + ") must be at least 1.");
+            }
+            return partCount;
+        }
+        if (runnablePartThreadLimit != null) {
+            return Math.max(1, runnablePartThreadLimit);
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param scoreDirector never null
+     * @param entityList never null, not empty, all entities of the working solution
+     * @param partCount {@code 1 <= partCount <= entityList.size()}
+     * @return never null, the partIndex of each entity, with the same indexes as the entityList,
+     *         where each partIndex is {@code 0 <= partIndex < partCount}.
+     *         Each part should have about the same number of entities.
+     */
+    protected abstract int[] partitionEntities(InnerScoreDirector<Solution_, ?> scoreDirector, List<Object> entityList,
+            int partCount);
+
+    /**
+     * @param partEntityCount {@code >= 0}
+     * @param partCount {@code >= 1}
+     * @return the maximum number of entities in a balanced part
+     */
+    protected static int calculatePartCapacity(int partEntityCount, int partCount) {
+        return (partEntityCount + partCount - 1) / partCount;
+    }
+
+    private void assertNoChainedVariables(SolutionDescriptor<Solution_> solutionDescriptor) {
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptors()) {
+                if (variableDescriptor.isChained()) {
+                    throw new IllegalStateException("The solutionPartitioner (" + getClass().getSimpleName()
+                            + ") does not support the chained variable ("
+                            + variableDescriptor.getSimpleEntityAndVariableName() + ").\n"
+                            + "Maybe implement a custom " + SolutionPartitioner.class.getSimpleName()
+                            + " that doesn't cut the chains.");
+                }
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Partition clone methods
+    // ************************************************************************
+
+    private Solution_ buildPart(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ workingSolution,
+            Map<Object, Boolean> partEntityMap) {
+        Solution_ part = ConfigUtils.newInstance(this, "solutionClass", solutionDescriptor.getSolutionClass());
+        for (MemberAccessor memberAccessor : solutionDescriptor.getProblemFactMemberAccessorMap().values()) {
+            copyMember(solutionDescriptor, memberAccessor, part, memberAccessor.executeGetter(workingSolution));
+        }
+        for (MemberAccessor memberAccessor : solutionDescriptor.getProblemFactCollectionMemberAccessorMap().values()) {
+            copyMember(solutionDescriptor, memberAccessor, part, memberAccessor.executeGetter(workingSolution));
+        }
+        MemberAccessor constraintConfigurationMemberAccessor =
+                solutionDescriptor.getConstraintConfigurationMemberAccessor();
+        if (constraintConfigurationMemberAccessor != null) {
+            copyMember(solutionDescriptor, constraintConfigurationMemberAccessor, part,
+                    constraintConfigurationMemberAccessor.executeGetter(workingSolution));
+        }
+        for (MemberAccessor memberAccessor : solutionDescriptor.getEntityMemberAccessorMap().values()) {
+            Object entity = memberAccessor.executeGetter(workingSolution);
+            copyMember(solutionDescriptor, memberAccessor, part,
+                    entity != null && partEntityMap.containsKey(entity) ? entity : null);
+        }
+        for (MemberAccessor memberAccessor : solutionDescriptor.getEntityCollectionMemberAccessorMap().values()) {
+            Object entityCollectionOrArray = memberAccessor.executeGetter(workingSolution);
+            copyMember(solutionDescriptor, memberAccessor, part, entityCollectionOrArray == null ? null
+                    : filterEntities(memberAccessor, entityCollectionOrArray, partEntityMap));
+        }
+        solutionDescriptor.setScore(part, solutionDescriptor.getScore(workingSolution));
+        return solutionDescriptor.getSolutionCloner().cloneSolution(part);
+    }
+
+    private void copyMember(SolutionDescriptor<Solution_> solutionDescriptor, MemberAccessor memberAccessor,
+            Solution_ part, Object value) {
+        if (!memberAccessor.supportSetter()) {
+            throw new IllegalStateException("The solutionPartitioner (" + getClass().getSimpleName()
+                    + ") cannot copy the property (" + memberAccessor.getName() + ") of solutionClass ("
+                    + solutionDescriptor.getSolutionClass() + ") into a part, because it has no setter.\n"
+                    + "Maybe add a setter for that property.");
+        }
+        memberAccessor.executeSetter(part, value);
+    }
+
+    private static Object filterEntities(MemberAccessor memberAccessor, Object entityCollectionOrArray,
+            Map<Object, Boolean> partEntityMap) {
+        if (entityCollectionOrArray.getClass().isArray()) {
+            int length = Array.getLength(entityCollectionOrArray);
+            List<Object> partEntityList = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object entity = Array.get(entityCollectionOrArray, i);
+                if (partEntityMap.containsKey(entity)) {
+                    partEntityList.add(entity);
+                }
+            }
+            Object partArray = Array.newInstance(entityCollectionOrArray.getClass().getComponentType(),
+                    partEntityList.size());
+            for (int i = 0; i < partEntityList.size(); i++) {
+                Array.set(partArray, i, partEntityList.get(i));
+            }
+            return partArray;
+        }
+        Collection<Object> partEntityCollection = Set.class.isAssignableFrom(memberAccessor.getType())
+                ? new LinkedHashSet<>()
+                : new ArrayList<>();
+        for (Object entity : (Collection<?>) entityCollectionOrArray) {
+            if (partEntityMap.containsKey(entity)) {
+                partEntityCollection.add(entity);
+            }
+        }
+        return partEntityCollection;
+    }
+
+    /**
+     * @param partIndexes never null
+     * @return never null, the entity indexes of each part
+     */
+    protected static List<List<Integer>> groupByPart(int[] partIndexes, int partCount) {
+        List<List<Integer>> partList = IntStream.range(0, partCount)
+                .mapToObj(i -> new ArrayList<Integer>())
+                .collect(Collectors.toList());
+        for (int i = 0; i < partIndexes.length; i++) {
+            partList.get(partIndexes[i]).add(i);
+        }
+        return partList;
+    }
+
+}
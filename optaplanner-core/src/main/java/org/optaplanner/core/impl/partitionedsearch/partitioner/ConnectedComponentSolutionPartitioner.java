@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Splits the planning entities by the connected components of the constraint graph,
+ * in which 2 entities are connected if they reference the same problem fact (or each other)
+ * in a field that isn't a planning variable.
+ * <p>
+ * A problem fact that is referenced by more entities than fit in 1 part (such as a shared calendar)
+ * would connect nearly everything, so it is ignored.
+ * A component that is too big for 1 part is cut in breadth-first order,
+ * so most of its connected entities still end up in the same part.
+ * The components are then packed into the parts, biggest first, each into the part with the fewest entities.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ConnectedComponentSolutionPartitioner<Solution_> extends AbstractSolutionPartitioner<Solution_> {
+
+    private final Map<Class<?>, List<Field>> referenceFieldListMap = new ConcurrentHashMap<>();
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    protected int[] partitionEntities(InnerScoreDirector<Solution_, ?> scoreDirector, List<Object> entityList,
+            int partCount) {
+        SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        int entityCount = entityList.size();
+        int capacity = calculatePartCapacity(entityCount, partCount);
+        Map<Object, Integer> factIndexMap = new IdentityHashMap<>();
+        for (Object fact : solutionDescriptor.getAllFacts(scoreDirector.getWorkingSolution())) {
+            factIndexMap.putIfAbsent(fact, factIndexMap.size());
+        }
+        int[][] entityFactIndexes = new int[entityCount][];
+        for (int i = 0; i < entityCount; i++) {
+            entityFactIndexes[i] = findReferencedFactIndexes(solutionDescriptor, entityList.get(i), factIndexMap);
+        }
+        List<List<Integer>> factEntityIndexList = new ArrayList<>(factIndexMap.size());
+        for (int i = 0; i < factIndexMap.size(); i++) {
+            factEntityIndexList.add(new ArrayList<>(2));
+        }
+        for (int i = 0; i < entityCount; i++) {
+            for (int factIndex : entityFactIndexes[i]) {
+                factEntityIndexList.get(factIndex).add(i);
+            }
+        }
+        for (int factIndex = 0; factIndex < factEntityIndexList.size(); factIndex++) {
+            if (factEntityIndexList.get(factIndex).size() > capacity) {
+                factEntityIndexList.set(factIndex, new ArrayList<>(0));
+            }
+        }
+        List<List<Integer>> chunkList = buildChunks(entityFactIndexes, factEntityIndexList, capacity);
+        return packChunks(chunkList, entityCount, partCount);
+    }
+
+    private int[] findReferencedFactIndexes(SolutionDescriptor<Solution_> solutionDescriptor, Object entity,
+            Map<Object, Integer> factIndexMap) {
+        List<Field> fieldList = referenceFieldListMap.computeIfAbsent(entity.getClass(),
+                entityClass -> findReferenceFields(solutionDescriptor, entityClass));
+        List<Integer> factIndexList = new ArrayList<>(fieldList.size() + 1);
+        // An entity that is referenced by another entity connects to it through its own index
+        Integer ownFactIndex = factIndexMap.get(entity);
+        if (ownFactIndex != null) {
+            factIndexList.add(ownFactIndex);
+        }
+        for (Field field : fieldList) {
+            Object value;
+            try {
+                value = field.get(entity);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("The solutionPartitioner (" + getClass().getSimpleName()
+                        + ") cannot read the field (" + field.getName() + ") of entity (" + entity + ").", e);
+            }
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    addFactIndex(factIndexList, factIndexMap, entity, element);
+                }
+            } else if (value instanceof Object[]) {
+                for (Object element : (Object[]) value) {
+                    addFactIndex(factIndexList, factIndexMap, entity, element);
+                }
+            } else {
+                addFactIndex(factIndexList, factIndexMap, entity, value);
+            }
+        }
+        return factIndexList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void addFactIndex(List<Integer> factIndexList, Map<Object, Integer> factIndexMap, Object entity,
+            Object value) {
+        if (value == null || value == entity) {
+            return;
+        }
+        Integer factIndex = factIndexMap.get(value);
+        if (factIndex != null) {
+            factIndexList.add(factIndex);
+        }
+    }
+
+    /**
+     * The planning variables (genuine and shadow) change during solving, so they don't define the constraint graph.
+     */
+    private static <Solution_> List<Field> findReferenceFields(SolutionDescriptor<Solution_> solutionDescriptor,
+            Class<?> entityClass) {
+        Set<String> variableNameSet = solutionDescriptor.findEntityDescriptorOrFail(entityClass)
+                .getVariableDescriptorMap().keySet();
+        List<Field> fieldList = new ArrayList<>();
+        for (Class<?> declaringClass = entityClass; declaringClass != null && declaringClass != Object.class;
+                declaringClass = declaringClass.getSuperclass()) {
+            for (Field field : declaringClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()
+                        || variableNameSet.contains(field.getName())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fieldList.add(field);
+            }
+        }
+        return fieldList;
+    }
+
+    /**
+     * @return never null, the connected components, each cut into chunks of at most the capacity,
+     *         in breadth-first order
+     */
+    private static List<List<Integer>> buildChunks(int[][] entityFactIndexes,
+            List<List<Integer>> factEntityIndexList, int capacity) {
+        int entityCount = entityFactIndexes.length;
+        boolean[] visitedEntities = new boolean[entityCount];
+        boolean[] visitedFacts = new boolean[factEntityIndexList.size()];
+        List<List<Integer>> chunkList = new ArrayList<>();
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int startIndex = 0; startIndex < entityCount; startIndex++) {
+            if (visitedEntities[startIndex]) {
+                continue;
+            }
+            visitedEntities[startIndex] = true;
+            queue.add(startIndex);
+            List<Integer> chunk = new ArrayList<>();
+            while (!queue.isEmpty()) {
+                int entityIndex = queue.poll();
+                if (chunk.size() >= capacity) {
+                    chunkList.add(chunk);
+                    chunk = new ArrayList<>();
+                }
+                chunk.add(entityIndex);
+                for (int factIndex : entityFactIndexes[entityIndex]) {
+                    if (visitedFacts[factIndex]) {
+                        continue;
+                    }
+                    visitedFacts[factIndex] = true;
+                    for (int neighbourIndex : factEntityIndexList.get(factIndex)) {
+                        if (!visitedEntities[neighbourIndex]) {
+                            visitedEntities[neighbourIndex] = true;
+                            queue.add(neighbourIndex);
+                        }
+                    }
+                }
+            }
+            chunkList.add(chunk);
+        }
+        return chunkList;
+    }
+
+    /**
+     * Longest processing time first: the biggest chunk goes into the part with the fewest entities.
+     */
+    private static int[] packChunks(List<List<Integer>> chunkList, int entityCount, int partCount) {
+        chunkList.sort(Comparator.comparingInt((List<Integer> chunk) -> chunk.size()).reversed());
+        // Each element is {entityCount, partIndex}
+        PriorityQueue<int[]> partQueue = new PriorityQueue<>(partCount,
+                Comparator.<int[]> comparingInt(part -> part[0]).thenComparingInt(part -> part[1]));
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            partQueue.add(new int[] { 0, partIndex });
+        }
+        int[] partIndexes = new int[entityCount];
+        for (List<Integer> chunk : chunkList) {
+            int[] part = partQueue.poll();
+            for (int entityIndex : chunk) {
+                partIndexes[entityIndex] = part[1];
+            }
+            part[0] += chunk.size();
+            partQueue.add(part);
+        }
+        return partIndexes;
+    }
+
+}
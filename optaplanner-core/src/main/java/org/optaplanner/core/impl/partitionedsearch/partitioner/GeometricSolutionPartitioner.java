@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Splits the planning entities into spatial clusters of about the same size,
+ * with a balanced k-medoids clustering over a {@link NearbyDistanceMeter} between entities.
+ * <p>
+ * The partitioning runs in the solver thread,
+ * so the {@link NearbyDistanceMeter} is never called concurrently and need not be thread-safe.
+ * Each entity is assigned to its nearest medoid that still has capacity,
+ * the entities that would lose the most by a worse medoid go first.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class GeometricSolutionPartitioner<Solution_> extends AbstractSolutionPartitioner<Solution_> {
+
+    private static final int MEDOID_SAMPLE_SIZE = 64;
+
+    /**
+     * {@link PartitionedSearchPhaseConfig#getSolutionPartitionerCustomProperties() Custom property}.
+     * The fully qualified class name of a {@link NearbyDistanceMeter} that measures the distance between 2 entities.
+     */
+    protected String nearbyDistanceMeterClass = null;
+    /**
+     * {@link PartitionedSearchPhaseConfig#getSolutionPartitionerCustomProperties() Custom property}.
+     */
+    protected int iterationLimit = 5;
+
+    protected NearbyDistanceMeter<Object, Object> nearbyDistanceMeter = null;
+
+    public void setNearbyDistanceMeterClass(String nearbyDistanceMeterClass) {
+        this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
+        this.nearbyDistanceMeter = null;
+    }
+
+    public void setIterationLimit(int iterationLimit) {
+        if (iterationLimit < 1) {
+            throw new IllegalArgumentException("The iterationLimit (" + iterationLimit + ") must be at least 1.");
+        }
+        this.iterationLimit = iterationLimit;
+    }
+
+    public void setNearbyDistanceMeter(NearbyDistanceMeter<?, ?> nearbyDistanceMeter) {
+        this.nearbyDistanceMeter = (NearbyDistanceMeter<Object, Object>) nearbyDistanceMeter;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    protected int[] partitionEntities(InnerScoreDirector<Solution_, ?> scoreDirector, List<Object> entityList,
+            int partCount) {
+        NearbyDistanceMeter<Object, Object> distanceMeter = resolveNearbyDistanceMeter();
+        int entityCount = entityList.size();
+        int[] medoidIndexes = selectInitialMedoids(distanceMeter, entityList, partCount);
+        int[] partIndexes = new int[entityCount];
+        for (int iteration = 0; iteration < iterationLimit; iteration++) {
+            double[][] distances = calculateDistancesToMedoids(distanceMeter, entityList, medoidIndexes);
+            partIndexes = assignBalanced(distances, partCount);
+            int[] newMedoidIndexes = updateMedoids(distanceMeter, entityList, partIndexes, medoidIndexes);
+            if (Arrays.equals(medoidIndexes, newMedoidIndexes)) {
+                break;
+            }
+            medoidIndexes = newMedoidIndexes;
+        }
+        return partIndexes;
+    }
+
+    private NearbyDistanceMeter<Object, Object> resolveNearbyDistanceMeter() {
+        if (nearbyDistanceMeter == null) {
+            if (nearbyDistanceMeterClass == null) {
+                throw new IllegalStateException("The solutionPartitioner (" + getClass().getSimpleName()
+                        + ") needs a nearbyDistanceMeterClass custom property.");
+            }
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(nearbyDistanceMeterClass, true,
+                        Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("The nearbyDistanceMeterClass (" + nearbyDistanceMeterClass
+                        + ") cannot be found.", e);
+            }
+            if (!NearbyDistanceMeter.class.isAssignableFrom(clazz)) {
+                throw new IllegalArgumentException("The nearbyDistanceMeterClass (" + nearbyDistanceMeterClass
+                        + ") does not implement " + NearbyDistanceMeter.class.getSimpleName() + ".");
+            }
+            nearbyDistanceMeter = ConfigUtils.newInstance(this, "nearbyDistanceMeterClass",
+                    (Class<NearbyDistanceMeter<Object, Object>>) clazz);
+        }
+        return nearbyDistanceMeter;
+    }
+
+    /**
+     * Farthest-first seeding: each next medoid is the entity farthest away from all earlier medoids.
+     */
+    private static int[] selectInitialMedoids(NearbyDistanceMeter<Object, Object> distanceMeter,
+            List<Object> entityList, int partCount) {
+        int entityCount = entityList.size();
+        int[] medoidIndexes = new int[partCount];
+        double[] minDistances = new double[entityCount];
+        Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+        int medoidIndex = 0;
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            medoidIndexes[partIndex] = medoidIndex;
+            Object medoid = entityList.get(medoidIndex);
+            for (int i = 0; i < entityCount; i++) {
+                minDistances[i] = Math.min(minDistances[i], distanceMeter.getNearbyDistance(entityList.get(i), medoid));
+            }
+            minDistances[medoidIndex] = Double.NEGATIVE_INFINITY;
+            int farthestIndex = 0;
+            for (int i = 1; i < entityCount; i++) {
+                if (minDistances[i] > minDistances[farthestIndex]) {
+                    farthestIndex = i;
+                }
+            }
+            medoidIndex = farthestIndex;
+        }
+        return medoidIndexes;
+    }
+
+    private static double[][] calculateDistancesToMedoids(NearbyDistanceMeter<Object, Object> distanceMeter,
+            List<Object> entityList, int[] medoidIndexes) {
+        double[][] distances = new double[entityList.size()][];
+        for (int i = 0; i < entityList.size(); i++) {
+            Object entity = entityList.get(i);
+            double[] entityDistances = new double[medoidIndexes.length];
+            for (int partIndex = 0; partIndex < medoidIndexes.length; partIndex++) {
+                entityDistances[partIndex] = distanceMeter.getNearbyDistance(entity,
+                        entityList.get(medoidIndexes[partIndex]));
+            }
+            distances[i] = entityDistances;
+        }
+        return distances;
+    }
+
+    /**
+     * Assigns the entities with the highest regret (the difference between their nearest and second nearest medoid)
+     * first, each to the nearest medoid that isn't full yet.
+     */
+    private static int[] assignBalanced(double[][] distances, int partCount) {
+        int entityCount = distances.length;
+        int capacity = calculatePartCapacity(entityCount, partCount);
+        double[] regrets = new double[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            double nearest = Double.POSITIVE_INFINITY;
+            double secondNearest = Double.POSITIVE_INFINITY;
+            for (double distance : distances[i]) {
+                if (distance < nearest) {
+                    secondNearest = nearest;
+                    nearest = distance;
+                } else if (distance < secondNearest) {
+                    secondNearest = distance;
+                }
+            }
+            regrets[i] = secondNearest == Double.POSITIVE_INFINITY ? 0.0 : secondNearest - nearest;
+        }
+        Integer[] order = IntStream.range(0, entityCount).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer> comparingDouble(i -> regrets[i]).reversed());
+        int[] partSizes = new int[partCount];
+        int[] partIndexes = new int[entityCount];
+        for (int i : order) {
+            int bestPartIndex = -1;
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                if (partSizes[partIndex] < capacity
+                        && (bestPartIndex < 0 || distances[i][partIndex] < distances[i][bestPartIndex])) {
+                    bestPartIndex = partIndex;
+                }
+            }
+            partIndexes[i] = bestPartIndex;
+            partSizes[bestPartIndex]++;
+        }
+        return partIndexes;
+    }
+
+    /**
+     * The new medoid of each part is the member with the lowest total distance to a sample of the other members.
+     * An empty part keeps its medoid.
+     */
+    private static int[] updateMedoids(NearbyDistanceMeter<Object, Object> distanceMeter, List<Object> entityList,
+            int[] partIndexes, int[] medoidIndexes) {
+        List<List<Integer>> partMemberList = groupByPart(partIndexes, medoidIndexes.length);
+        int[] newMedoidIndexes = new int[medoidIndexes.length];
+        for (int partIndex = 0; partIndex < medoidIndexes.length; partIndex++) {
+            List<Integer> memberList = partMemberList.get(partIndex);
+            if (memberList.isEmpty()) {
+                newMedoidIndexes[partIndex] = medoidIndexes[partIndex];
+                continue;
+            }
+            int sampleStep = Math.max(1, memberList.size() / MEDOID_SAMPLE_SIZE);
+            int bestMemberIndex = memberList.get(0);
+            double bestDistanceSum = Double.POSITIVE_INFINITY;
+            for (int memberIndex : memberList) {
+                Object member = entityList.get(memberIndex);
+                double distanceSum = 0.0;
+                for (int j = 0; j < memberList.size(); j += sampleStep) {
+                    distanceSum += distanceMeter.getNearbyDistance(entityList.get(memberList.get(j)), member);
+                }
+                if (distanceSum < bestDistanceSum) {
+                    bestDistanceSum = distanceSum;
+                    bestMemberIndex = memberIndex;
+                }
+            }
+            newMedoidIndexes[partIndex] = bestMemberIndex;
+        }
+        return newMedoidIndexes;
+    }
+
+}
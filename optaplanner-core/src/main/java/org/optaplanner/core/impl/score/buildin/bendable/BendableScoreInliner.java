@@ -59,12 +59,12 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                     int hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
+                    if (!isConstraintMatchTracked()) {
                         return undoScoreImpact;
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -76,12 +76,12 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                     int softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
+                    if (!isConstraintMatchTracked()) {
                         return undoScoreImpact;
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -108,11 +108,11 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                         this.softScores[i] -= softImpacts[i];
                     }
                 };
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
+                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
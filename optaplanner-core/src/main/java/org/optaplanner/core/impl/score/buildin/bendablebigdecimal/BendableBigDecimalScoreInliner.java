@@ -65,12 +65,12 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                             this.hardScores[level] = this.hardScores[level].add(hardImpact);
                             UndoScoreImpacter undoScoreImpact =
                                     () -> this.hardScores[level] = this.hardScores[level].subtract(hardImpact);
-                            if (!constraintMatchEnabled) {
+                            if (!isConstraintMatchTracked()) {
                                 return undoScoreImpact;
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -84,12 +84,12 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                             this.softScores[level] = this.softScores[level].add(softImpact);
                             UndoScoreImpacter undoScoreImpact =
                                     () -> this.softScores[level] = this.softScores[level].subtract(softImpact);
-                            if (!constraintMatchEnabled) {
+                            if (!isConstraintMatchTracked()) {
                                 return undoScoreImpact;
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -117,12 +117,12 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                                 this.softScores[i] = this.softScores[i].subtract(softImpacts[i]);
                             }
                         };
-                        if (!constraintMatchEnabled) {
+                        if (!isConstraintMatchTracked()) {
                             return undoScoreImpact;
                         }
                         Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                 BendableBigDecimalScore.of(hardImpacts, softImpacts),
-                                justificationsSupplier.get());
+                                justificationsSupplier);
                         return () -> {
                             undoScoreImpact.run();
                             undoConstraintMatch.run();
@@ -59,12 +59,12 @@ public final class BendableLongScoreInliner extends ScoreInliner<BendableLongSco
                     long hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
+                    if (!isConstraintMatchTracked()) {
                         return undoScoreImpact;
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -76,12 +76,12 @@ public final class BendableLongScoreInliner extends ScoreInliner<BendableLongSco
                     long softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
+                    if (!isConstraintMatchTracked()) {
                         return undoScoreImpact;
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -108,11 +108,11 @@ public final class BendableLongScoreInliner extends ScoreInliner<BendableLongSco
                         this.softScores[i] -= softImpacts[i];
                     }
                 };
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableLongScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
+                        BendableLongScore.of(hardImpacts, softImpacts), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -47,11 +47,11 @@ public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSof
                 int hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -62,11 +62,11 @@ public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSof
                 int mediumImpact = mediumConstraintWeight * matchWeight;
                 this.mediumScore += mediumImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.mediumScore -= mediumImpact;
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier.get());
+                        HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -77,11 +77,11 @@ public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSof
                 int softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -100,12 +100,12 @@ public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSof
                     this.mediumScore -= mediumImpact;
                     this.softScore -= softImpact;
                 };
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
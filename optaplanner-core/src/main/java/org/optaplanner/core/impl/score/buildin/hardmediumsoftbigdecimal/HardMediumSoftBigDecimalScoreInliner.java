@@ -48,12 +48,12 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
                 this.hardScore = this.hardScore.add(hardImpact);
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore = this.hardScore.subtract(hardImpact);
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofHard(hardImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -64,12 +64,12 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
                 this.mediumScore = this.mediumScore.add(mediumImpact);
                 UndoScoreImpacter undoScoreImpact = () -> this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofMedium(mediumImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -80,12 +80,12 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
                 this.softScore = this.softScore.add(softImpact);
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore = this.softScore.subtract(softImpact);
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofSoft(softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -104,12 +104,12 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                     this.mediumScore = this.mediumScore.subtract(mediumImpact);
                     this.softScore = this.softScore.subtract(softImpact);
                 };
-                if (!constraintMatchEnabled) {
+                if (!isConstraintMatchTracked()) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -41,11 +41,11 @@ public final class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
             int impact = simpleConstraintWeight * matchWeight;
             this.score += impact;
             UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
+            if (!isConstraintMatchTracked()) {
                 return undoScoreImpact;
             }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleScore.of(impact),
-                    justificationsSupplier.get());
+                    justificationsSupplier);
             return () -> {
                 undoScoreImpact.run();
                 undoConstraintMatch.run();
@@ -43,11 +43,11 @@ public final class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDe
             BigDecimal impact = simpleConstraintWeight.multiply(matchWeight);
             this.score = this.score.add(impact);
             UndoScoreImpacter undoScoreImpact = () -> this.score = this.score.subtract(impact);
-            if (!constraintMatchEnabled) {
+            if (!isConstraintMatchTracked()) {
                 return undoScoreImpact;
             }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                    SimpleBigDecimalScore.of(impact), justificationsSupplier.get());
+                    SimpleBigDecimalScore.of(impact), justificationsSupplier);
             return () -> {
                 undoScoreImpact.run();
                 undoConstraintMatch.run();
@@ -43,6 +43,7 @@ import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -58,6 +59,8 @@ import org.optaplanner.core.impl.domain.variable.listener.support.VariableListen
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
+import org.optaplanner.core.impl.solver.event.BestSolutionDeltaRecorder;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,9 +90,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
+    protected long workingProblemChangeRevision = 0L;
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    /**
+     * Null if no {@link org.optaplanner.core.api.solver.event.BestSolutionDeltaListener} is added.
+     */
+    protected BestSolutionDeltaRecorder<Solution_> bestSolutionDeltaRecorder = null;
 
     protected long calculationCount = 0L;
 
@@ -133,6 +141,24 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        return null;
+    }
+
+    @Override
+    public IndictmentPenaltyTracker enableIndictmentPenaltyTracking() {
+        throw new UnsupportedOperationException("The scoreDirector (" + getClass().getSimpleName()
+                + ") does not support indictment penalty tracking.\n"
+                + "Maybe use a constraintProvider class (constraint streams) to calculate the score.");
+    }
+
+    @Override
+    public void disableIndictmentPenaltyTracking() {
+        throw new UnsupportedOperationException("The scoreDirector (" + getClass().getSimpleName()
+                + ") does not support indictment penalty tracking.");
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
@@ -143,6 +169,11 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return workingEntityListRevision;
     }
 
+    @Override
+    public long getWorkingProblemChangeRevision() {
+        return workingProblemChangeRevision;
+    }
+
     public boolean isAllChangesWillBeUndoneBeforeStepEnds() {
         return allChangesWillBeUndoneBeforeStepEnds;
     }
@@ -152,6 +183,19 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.allChangesWillBeUndoneBeforeStepEnds = allChangesWillBeUndoneBeforeStepEnds;
     }
 
+    @Override
+    public BestSolutionDeltaRecorder<Solution_> getBestSolutionDeltaRecorder() {
+        return bestSolutionDeltaRecorder;
+    }
+
+    @Override
+    public void setBestSolutionDeltaRecorder(BestSolutionDeltaRecorder<Solution_> bestSolutionDeltaRecorder) {
+        this.bestSolutionDeltaRecorder = bestSolutionDeltaRecorder;
+        if (bestSolutionDeltaRecorder != null) {
+            bestSolutionDeltaRecorder.resetWorkingSolution();
+        }
+    }
+
     @Override
     public long getCalculationCount() {
         return calculationCount;
@@ -182,6 +226,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         assertNonNullPlanningIds(allFacts);
         variableListenerSupport.resetWorkingSolution();
+        if (bestSolutionDeltaRecorder != null) {
+            bestSolutionDeltaRecorder.resetWorkingSolution();
+        }
         setWorkingEntityListDirty();
     }
 
@@ -399,6 +446,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.addWorkingObject(entity);
         }
         variableListenerSupport.afterEntityAdded(entityDescriptor, entity);
+        markBestSolutionDeltaIncomplete();
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
         }
@@ -409,6 +457,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        if (bestSolutionDeltaRecorder != null) {
+            bestSolutionDeltaRecorder.beforeVariableChanged(variableDescriptor, entity);
+        }
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -437,6 +488,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.removeWorkingObject(entity);
         }
         variableListenerSupport.afterEntityRemoved(entityDescriptor, entity);
+        markBestSolutionDeltaIncomplete();
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
         }
@@ -453,10 +505,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactAdded(Object problemFact) {
+        workingProblemChangeRevision++;
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        markBestSolutionDeltaIncomplete();
     }
 
     @Override
@@ -466,11 +520,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        workingProblemChangeRevision++;
         if (isConstraintConfiguration(problemFactOrEntity)) {
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
             variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
         }
+        markBestSolutionDeltaIncomplete();
     }
 
     @Override
@@ -484,10 +540,18 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        workingProblemChangeRevision++;
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        markBestSolutionDeltaIncomplete();
+    }
+
+    private void markBestSolutionDeltaIncomplete() {
+        if (bestSolutionDeltaRecorder != null) {
+            bestSolutionDeltaRecorder.markIncomplete();
+        }
     }
 
     @Override
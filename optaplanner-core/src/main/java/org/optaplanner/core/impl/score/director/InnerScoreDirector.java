@@ -29,14 +29,18 @@ import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
+import org.optaplanner.core.impl.solver.event.BestSolutionDeltaRecorder;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
 /**
@@ -101,6 +105,38 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * Explains the score calculation cost of each {@link Constraint},
+     * accumulated over every {@link #calculateScore()} since this {@link ScoreDirector} was built.
+     * Only supported by constraint streams
+     * with {@link ScoreDirectorFactoryConfig#getConstraintStreamProfilingEnabled()} enabled.
+     *
+     * @return null if profiling is not enabled or not supported,
+     *         otherwise the key is the {@link Constraint#getConstraintId() constraintId}
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
+    /**
+     * Keeps the penalty of each justification up to date from now on, even if constraint matches are disabled.
+     * Only supported by constraint streams.
+     * The first call rebuilds the constraint stream session, so the existing matches are tracked too.
+     *
+     * Every call must be paired with a {@link #disableIndictmentPenaltyTracking()} call.
+     *
+     * @return never null, the same instance on every call until tracking is disabled
+     * @throws UnsupportedOperationException if this {@link ScoreDirector} doesn't support it
+     */
+    IndictmentPenaltyTracker enableIndictmentPenaltyTracking();
+
+    /**
+     * Undoes one {@link #enableIndictmentPenaltyTracking()} call.
+     * Once every call is undone, the penalties are no longer tracked, so they no longer slow down the score calculation.
+     *
+     * @throws UnsupportedOperationException if this {@link ScoreDirector} doesn't support it
+     * @throws IllegalStateException if it's called more often than {@link #enableIndictmentPenaltyTracking()}
+     */
+    void disableIndictmentPenaltyTracking();
+
     /**
      * @param constraintMatchEnabledPreference false if a {@link ScoreDirector} implementation
      *        should not do {@link ConstraintMatch} tracking even if it supports it.
@@ -112,6 +148,26 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     long getWorkingEntityListRevision();
 
+    /**
+     * Increases on every problem fact added, removed or changed,
+     * so caches of what only changes through a {@link org.optaplanner.core.api.solver.ProblemFactChange},
+     * such as pinning, can be refreshed.
+     *
+     * @return the number of problem fact changes so far
+     */
+    long getWorkingProblemChangeRevision();
+
+    /**
+     * @return null if the variable changes aren't recorded for a
+     *         {@link org.optaplanner.core.api.solver.event.BestSolutionDeltaEvent}
+     */
+    BestSolutionDeltaRecorder<Solution_> getBestSolutionDeltaRecorder();
+
+    /**
+     * @param bestSolutionDeltaRecorder null to stop recording the variable changes
+     */
+    void setBestSolutionDeltaRecorder(BestSolutionDeltaRecorder<Solution_> bestSolutionDeltaRecorder);
+
     /**
      * @param move never null
      * @param assertMoveScoreFromScratch true will hurt performance
@@ -212,22 +212,35 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                     config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
             ConstraintStreamImplType constraintStreamImplType_ = defaultIfNull(config.getConstraintStreamImplType(),
                     ConstraintStreamImplType.DROOLS);
+            AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> constraintStreamScoreDirectorFactory;
             switch (constraintStreamImplType_) {
                 case BAVET:
-                    return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider);
+                    constraintStreamScoreDirectorFactory =
+                            new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider);
+                    break;
                 case DROOLS:
-                    return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
-                            config.isDroolsAlphaNetworkCompilationEnabled());
+                    constraintStreamScoreDirectorFactory =
+                            new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                                    config.isDroolsAlphaNetworkCompilationEnabled());
+                    break;
                 default:
                     throw new IllegalStateException(
                             "The constraintStreamImplType (" + constraintStreamImplType_ + ") is not implemented.");
             }
+            constraintStreamScoreDirectorFactory.setConstraintStreamProfilingEnabled(
+                    Boolean.TRUE.equals(config.getConstraintStreamProfilingEnabled()));
+            return constraintStreamScoreDirectorFactory;
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
                 throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
                         + "), then there can be no constraintProviderCustomProperties ("
                         + config.getConstraintProviderCustomProperties() + ") either.");
             }
+            if (config.getConstraintStreamProfilingEnabled() != null) {
+                throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
+                        + "), then there can be no constraintStreamProfilingEnabled ("
+                        + config.getConstraintStreamProfilingEnabled() + ") either.");
+            }
             return null;
         }
     }
@@ -38,10 +38,20 @@ import org.optaplanner.core.impl.score.stream.InnerConstraintFactory;
 public abstract class AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirectorFactory<Solution_, Score_> {
 
+    protected boolean constraintStreamProfilingEnabled = false;
+
     protected AbstractConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor) {
         super(solutionDescriptor);
     }
 
+    public boolean isConstraintStreamProfilingEnabled() {
+        return constraintStreamProfilingEnabled;
+    }
+
+    public void setConstraintStreamProfilingEnabled(boolean constraintStreamProfilingEnabled) {
+        this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
+    }
+
     protected Constraint[] buildConstraints(ConstraintProvider constraintProvider,
             InnerConstraintFactory<Solution_> constraintFactory) {
         Constraint[] constraints = constraintProvider.defineConstraints(constraintFactory);
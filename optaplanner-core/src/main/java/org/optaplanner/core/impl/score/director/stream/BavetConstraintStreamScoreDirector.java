@@ -23,12 +23,15 @@ import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 
 /**
  * FP streams implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -41,12 +44,20 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
+    private final ConstraintProfiler constraintProfiler;
+
     protected BavetConstraintSession<Solution_, Score_> session;
+    private IndictmentPenaltyTracker indictmentPenaltyTracker = null;
+    private int indictmentPenaltyTrackingCount = 0;
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
+        // Survives the session resets, so the profile covers the entire lifetime of this score director
+        this.constraintProfiler = scoreDirectorFactory.isConstraintStreamProfilingEnabled()
+                ? new ConstraintProfiler()
+                : null;
     }
 
     // ************************************************************************
@@ -60,7 +71,12 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, constraintProfiler,
+                workingSolution);
+        if (indictmentPenaltyTracker != null) {
+            indictmentPenaltyTracker.clear();
+            session.getScoreInliner().setIndictmentPenaltyTracker(indictmentPenaltyTracker);
+        }
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
         for (Object fact : workingFacts) {
             session.insert(fact);
@@ -98,6 +114,44 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (constraintProfiler == null) {
+            return null;
+        }
+        return constraintProfiler.buildConstraintProfileMap();
+    }
+
+    @Override
+    public IndictmentPenaltyTracker enableIndictmentPenaltyTracking() {
+        if (indictmentPenaltyTracker == null) {
+            indictmentPenaltyTracker = new IndictmentPenaltyTracker();
+            if (workingSolution != null) {
+                // The existing matches are only known by rebuilding the session
+                resetConstraintStreamingSession();
+            }
+        }
+        indictmentPenaltyTrackingCount++;
+        return indictmentPenaltyTracker;
+    }
+
+    @Override
+    public void disableIndictmentPenaltyTracking() {
+        if (indictmentPenaltyTrackingCount == 0) {
+            throw new IllegalStateException("The method disableIndictmentPenaltyTracking() is called more often"
+                    + " than the method enableIndictmentPenaltyTracking().");
+        }
+        indictmentPenaltyTrackingCount--;
+        if (indictmentPenaltyTrackingCount == 0) {
+            indictmentPenaltyTracker.clear();
+            indictmentPenaltyTracker = null;
+            if (session != null) {
+                // No need to rebuild the session, the existing matches only undo their penalty on the old tracker
+                session.getScoreInliner().setIndictmentPenaltyTracker(null);
+            }
+        }
+    }
+
     @Override
     public void close() {
         super.close();
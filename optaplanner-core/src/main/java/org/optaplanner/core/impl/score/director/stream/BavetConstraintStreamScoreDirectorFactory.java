@@ -23,6 +23,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSessionFactory;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> {
@@ -47,7 +48,12 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintSession<Solution_, Score_> newSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newSession(constraintMatchEnabled, null, workingSolution);
+    }
+
+    public BavetConstraintSession<Solution_, Score_> newSession(boolean constraintMatchEnabled,
+            ConstraintProfiler constraintProfiler, Solution_ workingSolution) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, constraintProfiler, workingSolution);
     }
 
     @Override
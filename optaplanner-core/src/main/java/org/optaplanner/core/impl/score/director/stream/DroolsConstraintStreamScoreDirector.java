@@ -25,13 +25,16 @@ import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 import org.optaplanner.core.impl.score.stream.drools.DroolsConstraintSessionFactory;
 
 /**
@@ -46,15 +49,22 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ConstraintProfiler constraintProfiler;
 
     protected KieSession session;
     protected ScoreInliner<Score_> scoreInliner;
+    private IndictmentPenaltyTracker indictmentPenaltyTracker = null;
+    private int indictmentPenaltyTrackingCount = 0;
 
     public DroolsConstraintStreamScoreDirector(
             DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
         this.solutionDescriptor = scoreDirectorFactory.getSolutionDescriptor();
+        // Survives the session resets, so the profile covers the entire lifetime of this score director
+        this.constraintProfiler = scoreDirectorFactory.isConstraintStreamProfilingEnabled()
+                ? new ConstraintProfiler()
+                : null;
     }
 
     // ************************************************************************
@@ -72,9 +82,14 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
             session.dispose();
         }
         DroolsConstraintSessionFactory.SessionDescriptor<Score_> sessionDescriptor =
-                scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
+                scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference,
+                        constraintProfiler, workingSolution);
         session = sessionDescriptor.getSession();
         scoreInliner = sessionDescriptor.getScoreInliner();
+        if (indictmentPenaltyTracker != null) {
+            indictmentPenaltyTracker.clear();
+            scoreInliner.setIndictmentPenaltyTracker(indictmentPenaltyTracker);
+        }
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
         for (Object fact : workingFacts) {
             session.insert(fact);
@@ -115,6 +130,44 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         return scoreInliner.getIndictmentMap();
     }
 
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (constraintProfiler == null) {
+            return null;
+        }
+        return constraintProfiler.buildConstraintProfileMap();
+    }
+
+    @Override
+    public IndictmentPenaltyTracker enableIndictmentPenaltyTracking() {
+        if (indictmentPenaltyTracker == null) {
+            indictmentPenaltyTracker = new IndictmentPenaltyTracker();
+            if (workingSolution != null) {
+                // The existing matches are only known by rebuilding the session
+                resetConstraintStreamingSession();
+            }
+        }
+        indictmentPenaltyTrackingCount++;
+        return indictmentPenaltyTracker;
+    }
+
+    @Override
+    public void disableIndictmentPenaltyTracking() {
+        if (indictmentPenaltyTrackingCount == 0) {
+            throw new IllegalStateException("The method disableIndictmentPenaltyTracking() is called more often"
+                    + " than the method enableIndictmentPenaltyTracking().");
+        }
+        indictmentPenaltyTrackingCount--;
+        if (indictmentPenaltyTrackingCount == 0) {
+            indictmentPenaltyTracker.clear();
+            indictmentPenaltyTracker = null;
+            if (scoreInliner != null) {
+                // No need to rebuild the session, the existing matches only undo their penalty on the old tracker
+                scoreInliner.setIndictmentPenaltyTracker(null);
+            }
+        }
+    }
+
     @Override
     public void close() {
         super.close();
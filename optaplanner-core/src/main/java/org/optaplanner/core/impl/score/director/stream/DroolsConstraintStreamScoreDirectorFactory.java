@@ -20,6 +20,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 import org.optaplanner.core.impl.score.stream.drools.DroolsConstraintFactory;
 import org.optaplanner.core.impl.score.stream.drools.DroolsConstraintSessionFactory;
 
@@ -47,7 +48,12 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
 
     public DroolsConstraintSessionFactory.SessionDescriptor<Score_>
             newConstraintStreamingSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newConstraintStreamingSession(constraintMatchEnabled, null, workingSolution);
+    }
+
+    public DroolsConstraintSessionFactory.SessionDescriptor<Score_> newConstraintStreamingSession(
+            boolean constraintMatchEnabled, ConstraintProfiler constraintProfiler, Solution_ workingSolution) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, constraintProfiler, workingSolution);
     }
 
     public DroolsConstraintSessionFactory<Solution_, Score_> getConstraintSessionFactory() {
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.score.inliner;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.Indictment;
+
+/**
+ * Keeps the penalty of each justification (usually a planning entity) up to date while solving,
+ * without building any {@link Indictment}, so it works when constraint matches are disabled.
+ * <p>
+ * The penalty of a justification is the sum of the negative score levels of all the constraint matches it's in,
+ * regardless of the level: a hard penalty of 2 and a soft penalty of 3 are a penalty of 5.
+ * Rewards don't lower the penalty.
+ * Justifications are compared by identity, just like the planning entities in a selector.
+ * A justification is forgotten as soon as the last match that penalizes it is undone.
+ * <p>
+ * Fed by {@link ScoreInliner#setIndictmentPenaltyTracker(IndictmentPenaltyTracker)},
+ * which calls the {@link JustificationsSupplier} of every match for it.
+ */
+public final class IndictmentPenaltyTracker {
+
+    private static final Runnable NO_OP = () -> {
+    };
+
+    private final Map<Object, Penalty> justificationToPenaltyMap = new IdentityHashMap<>();
+    private final List<Consumer<Object>> penaltyChangeListenerList = new ArrayList<>(1);
+
+    /**
+     * @param justification sometimes null
+     * @return {@code >= 0.0}
+     */
+    public double getPenalty(Object justification) {
+        Penalty penalty = justificationToPenaltyMap.get(justification);
+        // Adding and subtracting doubles can leave a tiny negative rounding error
+        return penalty == null ? 0.0 : Math.max(0.0, penalty.value);
+    }
+
+    /**
+     * The listener is called with the justification each time its penalty changes,
+     * also during the evaluation of moves that are undone afterwards.
+     * So it should only mark the justification as dirty.
+     *
+     * @param penaltyChangeListener never null
+     */
+    public void addPenaltyChangeListener(Consumer<Object> penaltyChangeListener) {
+        penaltyChangeListenerList.add(penaltyChangeListener);
+    }
+
+    /**
+     * @param penaltyChangeListener never null
+     */
+    public void removePenaltyChangeListener(Consumer<Object> penaltyChangeListener) {
+        penaltyChangeListenerList.remove(penaltyChangeListener);
+    }
+
+    /**
+     * Forgets all penalties, for example because the constraint stream session is rebuilt from scratch.
+     */
+    public void clear() {
+        justificationToPenaltyMap.clear();
+    }
+
+    /**
+     * @param score never null, the impact of the match
+     * @param justificationList never null
+     * @return never null, undoes the match
+     */
+    Runnable add(Score<?> score, List<Object> justificationList) {
+        double matchPenalty = 0.0;
+        for (Number levelNumber : score.toLevelNumbers()) {
+            double level = levelNumber.doubleValue();
+            if (level < 0.0) {
+                matchPenalty -= level;
+            }
+        }
+        if (matchPenalty == 0.0) {
+            return NO_OP;
+        }
+        List<Object> penalizedJustificationList = new ArrayList<>(justificationList.size());
+        for (Object justification : justificationList) {
+            // One match might have the same justification twice
+            if (containsIdentity(penalizedJustificationList, justification)) {
+                continue;
+            }
+            Penalty penalty = justificationToPenaltyMap.computeIfAbsent(justification, key -> new Penalty());
+            penalty.matchCount++;
+            penalty.value += matchPenalty;
+            firePenaltyChanged(justification);
+            penalizedJustificationList.add(justification);
+        }
+        return () -> {
+            for (Object justification : penalizedJustificationList) {
+                Penalty penalty = justificationToPenaltyMap.get(justification);
+                if (penalty == null) {
+                    // Cleared since the match was added
+                    continue;
+                }
+                penalty.matchCount--;
+                if (penalty.matchCount == 0) {
+                    // Prune it, which also drops any rounding error of the value
+                    justificationToPenaltyMap.remove(justification);
+                } else {
+                    penalty.value -= matchPenalty;
+                }
+                firePenaltyChanged(justification);
+            }
+        };
+    }
+
+    private static boolean containsIdentity(List<Object> list, Object element) {
+        for (Object other : list) {
+            if (other == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void firePenaltyChanged(Object justification) {
+        for (Consumer<Object> penaltyChangeListener : penaltyChangeListenerList) {
+            penaltyChangeListener.accept(justification);
+        }
+    }
+
+    /**
+     * @return {@code >= 0}
+     */
+    int size() {
+        return justificationToPenaltyMap.size();
+    }
+
+    private static final class Penalty {
+
+        private int matchCount = 0;
+        private double value = 0.0;
+
+    }
+
+}
@@ -30,13 +30,28 @@ import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 
+/**
+ * When {@link #constraintMatchEnabled} is true,
+ * this class only records a lightweight {@link ConstraintMatchRecord} per match while solving.
+ * The {@link ConstraintMatch} and {@link Indictment} instances, including the justification lists,
+ * are only built when {@link #getConstraintMatchTotalMap()} or {@link #getIndictmentMap()} is called,
+ * and are reused until the next match is added or removed.
+ * <p>
+ * Independently, an {@link IndictmentPenaltyTracker} can keep the penalty of each justification up to date,
+ * which also works when {@link #constraintMatchEnabled} is false.
+ *
+ * @param <Score_>
+ */
 public abstract class ScoreInliner<Score_ extends Score<Score_>> {
 
     private final Map<String, Score_> constraintIdToWeightMap;
     protected final boolean constraintMatchEnabled;
     private final Score_ zeroScore;
-    private final Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    private final Map<Object, DefaultIndictment<Score_>> indictmentMap;
+    private final Map<String, ConstraintMatchRecordList> constraintIdToRecordListMap;
+    private boolean constraintMatchMapsDirty = true;
+    private Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap;
+    private Map<Object, Indictment<Score_>> indictmentMap;
+    private IndictmentPenaltyTracker indictmentPenaltyTracker = null;
 
     protected ScoreInliner(Map<Constraint, Score_> constraintToWeightMap, boolean constraintMatchEnabled,
             Score_ zeroScore) {
@@ -44,8 +59,7 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
                 .collect(Collectors.toMap(e -> e.getKey().getConstraintId(), Map.Entry::getValue));
         this.constraintMatchEnabled = constraintMatchEnabled;
         this.zeroScore = zeroScore;
-        this.constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        this.indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        this.constraintIdToRecordListMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
     }
 
     public abstract Score_ extractScore(int initScore);
@@ -58,44 +72,104 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
      */
     public abstract WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint);
 
+    /**
+     * Must be called before the first match is added, so it's fed every match.
+     * Call it with null to stop tracking:
+     * the matches added before still undo their penalty on the old tracker, which should no longer be used.
+     *
+     * @param indictmentPenaltyTracker null to stop tracking
+     */
+    public final void setIndictmentPenaltyTracker(IndictmentPenaltyTracker indictmentPenaltyTracker) {
+        this.indictmentPenaltyTracker = indictmentPenaltyTracker;
+    }
+
+    /**
+     * @return true if {@link #addConstraintMatch(Constraint, Score, Score, JustificationsSupplier)}
+     *         needs to be called for every match
+     */
+    protected final boolean isConstraintMatchTracked() {
+        return constraintMatchEnabled || indictmentPenaltyTracker != null;
+    }
+
+    /**
+     * Records the match without calling the {@link JustificationsSupplier},
+     * so the hot path does not create a justification list, a {@link ConstraintMatch} or any {@link Indictment}.
+     * Only an {@link IndictmentPenaltyTracker} calls the {@link JustificationsSupplier} immediately.
+     *
+     * @param constraint never null
+     * @param constraintWeight never null
+     * @param score never null, the impact of this match
+     * @param justificationsSupplier never null, only called when the constraint matches are requested
+     * @return never null, undoes the match
+     */
     protected final Runnable addConstraintMatch(Constraint constraint, Score_ constraintWeight, Score_ score,
-            List<Object> justificationList) {
-        String constraintPackage = constraint.getConstraintPackage();
-        String constraintName = constraint.getConstraintName();
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
-                constraint.getConstraintId(),
-                key -> new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight, zeroScore));
-        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, score);
-        DefaultIndictment<Score_>[] indictments = justificationList.stream()
-                .distinct() // One match might have the same justification twice
-                .map(justification -> {
-                    DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(justification,
-                            key -> new DefaultIndictment<>(justification, zeroScore));
-                    indictment.addConstraintMatch(constraintMatch);
-                    return indictment;
-                }).toArray(DefaultIndictment[]::new);
+            JustificationsSupplier justificationsSupplier) {
+        if (indictmentPenaltyTracker == null) {
+            return addConstraintMatchRecord(constraint, constraintWeight, score, justificationsSupplier);
+        }
+        Runnable undoPenalty = indictmentPenaltyTracker.add(score, justificationsSupplier.get());
+        if (!constraintMatchEnabled) {
+            return undoPenalty;
+        }
+        Runnable undoConstraintMatchRecord = addConstraintMatchRecord(constraint, constraintWeight, score,
+                justificationsSupplier);
         return () -> {
-            constraintMatchTotal.removeConstraintMatch(constraintMatch);
-            if (constraintMatchTotal.getConstraintMatchSet().isEmpty()) {
-                constraintMatchTotalMap.remove(constraint.getConstraintId());
-            }
-            for (DefaultIndictment<Score_> indictment : indictments) {
-                indictment.removeConstraintMatch(constraintMatch);
-                if (indictment.getConstraintMatchSet().isEmpty()) {
-                    indictmentMap.remove(indictment.getJustification());
-                }
-            }
+            undoConstraintMatchRecord.run();
+            undoPenalty.run();
         };
     }
 
+    private Runnable addConstraintMatchRecord(Constraint constraint, Score_ constraintWeight, Score_ score,
+            JustificationsSupplier justificationsSupplier) {
+        ConstraintMatchRecordList recordList = constraintIdToRecordListMap.computeIfAbsent(
+                constraint.getConstraintId(), key -> new ConstraintMatchRecordList(constraint, constraintWeight));
+        return recordList.add(score, justificationsSupplier);
+    }
+
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
-        // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
-        return (Map) constraintMatchTotalMap;
+        rebuildConstraintMatchMapsIfDirty();
+        return constraintMatchTotalMap;
     }
 
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        rebuildConstraintMatchMapsIfDirty();
+        return indictmentMap;
+    }
+
+    private void rebuildConstraintMatchMapsIfDirty() {
+        if (!constraintMatchEnabled || !constraintMatchMapsDirty) {
+            return;
+        }
+        Map<String, DefaultConstraintMatchTotal<Score_>> newConstraintMatchTotalMap = new LinkedHashMap<>();
+        Map<Object, DefaultIndictment<Score_>> newIndictmentMap = new LinkedHashMap<>();
+        for (ConstraintMatchRecordList recordList : constraintIdToRecordListMap.values()) {
+            if (recordList.size == 0) {
+                continue;
+            }
+            Constraint constraint = recordList.constraint;
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal<>(
+                    constraint.getConstraintPackage(), constraint.getConstraintName(), recordList.constraintWeight,
+                    zeroScore);
+            for (ConstraintMatchRecord record = recordList.first; record != null; record = record.next) {
+                List<Object> justificationList = record.justificationsSupplier.get();
+                ConstraintMatch<Score_> constraintMatch =
+                        constraintMatchTotal.addConstraintMatch(justificationList, record.score);
+                for (Object justification : justificationList) {
+                    DefaultIndictment<Score_> indictment = newIndictmentMap.computeIfAbsent(justification,
+                            key -> new DefaultIndictment<>(justification, zeroScore));
+                    // One match might have the same justification twice
+                    if (!indictment.getConstraintMatchSet().contains(constraintMatch)) {
+                        indictment.addConstraintMatch(constraintMatch);
+                    }
+                }
+            }
+            newConstraintMatchTotalMap.put(constraint.getConstraintId(), constraintMatchTotal);
+        }
+        // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
+        constraintMatchTotalMap = (Map) newConstraintMatchTotalMap;
         // Unchecked assignment necessary as Indictment and DefaultIndictment incompatible in the Map generics.
-        return (Map) indictmentMap;
+        indictmentMap = (Map) newIndictmentMap;
+        constraintMatchMapsDirty = false;
     }
 
     protected final Score_ getConstraintWeight(Constraint constraint) {
@@ -108,4 +182,79 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
         return constraintWeight;
     }
 
+    /**
+     * Intrusive doubly linked list, so a match can be added and undone in O(1) without hashing.
+     */
+    private final class ConstraintMatchRecordList {
+
+        private final Constraint constraint;
+        private final Score_ constraintWeight;
+        private ConstraintMatchRecord first = null;
+        private ConstraintMatchRecord last = null;
+        private int size = 0;
+
+        private ConstraintMatchRecordList(Constraint constraint, Score_ constraintWeight) {
+            this.constraint = constraint;
+            this.constraintWeight = constraintWeight;
+        }
+
+        private ConstraintMatchRecord add(Score_ score, JustificationsSupplier justificationsSupplier) {
+            ConstraintMatchRecord record = new ConstraintMatchRecord(this, score, justificationsSupplier);
+            if (last == null) {
+                first = record;
+            } else {
+                last.next = record;
+                record.previous = last;
+            }
+            last = record;
+            size++;
+            constraintMatchMapsDirty = true;
+            return record;
+        }
+
+        private void remove(ConstraintMatchRecord record) {
+            if (record.previous == null) {
+                first = record.next;
+            } else {
+                record.previous.next = record.next;
+            }
+            if (record.next == null) {
+                last = record.previous;
+            } else {
+                record.next.previous = record.previous;
+            }
+            record.previous = null;
+            record.next = null;
+            size--;
+            constraintMatchMapsDirty = true;
+        }
+
+    }
+
+    /**
+     * A constraint match of which the justifications have not been calculated yet.
+     * Doubles as its own undo, to avoid allocating a lambda per match.
+     */
+    private final class ConstraintMatchRecord implements Runnable {
+
+        private final ConstraintMatchRecordList recordList;
+        private final Score_ score;
+        private final JustificationsSupplier justificationsSupplier;
+        private ConstraintMatchRecord previous = null;
+        private ConstraintMatchRecord next = null;
+
+        private ConstraintMatchRecord(ConstraintMatchRecordList recordList, Score_ score,
+                JustificationsSupplier justificationsSupplier) {
+            this.recordList = recordList;
+            this.score = score;
+            this.justificationsSupplier = justificationsSupplier;
+        }
+
+        @Override
+        public void run() {
+            recordList.remove(this);
+        }
+
+    }
+
 }
@@ -37,6 +37,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniNode;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniTuple;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 
 public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_>> {
 
@@ -47,14 +48,24 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
     private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
+    private final ConstraintProfiler constraintProfiler;
+    private final int[] nodeIndexToProfilerIndexMap;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
             Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
+        this(constraintMatchEnabled, null, scoreDefinition, constraintToWeightMap);
+    }
+
+    public BavetConstraintSession(boolean constraintMatchEnabled, ConstraintProfiler constraintProfiler,
+            ScoreDefinition<Score_> scoreDefinition, Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
         scoreInliner = scoreDefinition.buildScoreInliner((Map) constraintToWeightMap, constraintMatchEnabled);
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this);
-        constraintToWeightMap.forEach((constraint, constraintWeight) -> constraint.createNodes(buildPolicy,
-                declaredClassToNodeMap, constraintWeight));
+        constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            buildPolicy.setCurrentConstraint(constraint);
+            constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
+        });
+        buildPolicy.setCurrentConstraint(null);
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
         scoringNodeList = nodeIndexedNodeMap.stream()
                 .filter(node -> node instanceof BavetScoringNode)
@@ -67,6 +78,25 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
             nodeIndexToDirtyTupleQueueMap.add(new ArrayDeque<>(1000));
         }
         fromTupleListMap = new IdentityHashMap<>(1000);
+        this.constraintProfiler = constraintProfiler;
+        if (constraintProfiler != null) {
+            nodeIndexToProfilerIndexMap = new int[nodeCount];
+            for (BavetNode node : nodeIndexedNodeMap) {
+                // The node index is stable across sessions and distinguishes similar nodes of the same constraint
+                String nodeDescription = "#" + node.getNodeIndex() + " " + node;
+                nodeIndexToProfilerIndexMap[node.getNodeIndex()] = constraintProfiler.registerNode(
+                        determineNodeType(node), nodeDescription, buildPolicy.getConstraintSet(node));
+            }
+        } else {
+            nodeIndexToProfilerIndexMap = null;
+        }
+    }
+
+    private static String determineNodeType(BavetNode node) {
+        // For example BavetFilterUniNode => Filter
+        return node.getClass().getSimpleName()
+                .replaceFirst("^Bavet", "")
+                .replaceFirst("(Uni|Bi|Tri)Node$", "");
     }
 
     private static void refreshTuple(BavetAbstractTuple tuple) {
@@ -157,14 +187,32 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     }
 
     public Score_ calculateScore(int initScore) {
-        for (Queue<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
+        if (constraintProfiler != null) {
+            refreshTuplesProfiled();
+        } else {
+            for (Queue<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
+                BavetAbstractTuple tuple = queue.poll();
+                while (tuple != null) {
+                    refreshTuple(tuple);
+                    tuple = queue.poll();
+                }
+            }
+        }
+        return scoreInliner.extractScore(initScore);
+    }
+
+    private void refreshTuplesProfiled() {
+        for (int nodeIndex = 0; nodeIndex < nodeIndexToDirtyTupleQueueMap.size(); nodeIndex++) {
+            Queue<BavetAbstractTuple> queue = nodeIndexToDirtyTupleQueueMap.get(nodeIndex);
+            int profilerIndex = nodeIndexToProfilerIndexMap[nodeIndex];
             BavetAbstractTuple tuple = queue.poll();
             while (tuple != null) {
+                long startNanos = System.nanoTime();
                 refreshTuple(tuple);
+                constraintProfiler.record(profilerIndex, System.nanoTime() - startNanos);
                 tuple = queue.poll();
             }
         }
-        return scoreInliner.extractScore(initScore);
     }
 
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
@@ -23,6 +23,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.stream.InnerConstraintFactory;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
@@ -41,12 +42,24 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, null, workingSolution);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if constraint matches need to be tracked
+     * @param constraintProfiler null if profiling is disabled
+     * @param workingSolution never null
+     * @return never null
+     */
+    public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
+            ConstraintProfiler constraintProfiler, Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap =
                 InnerConstraintFactory.extractConstraintToWeightMap(constraintList,
                         c -> (Score_) c.extractConstraintWeight(workingSolution), zeroScore);
-        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        return new BavetConstraintSession<>(constraintMatchEnabled, constraintProfiler, scoreDefinition,
+                constraintToWeightMap);
     }
 
 }
@@ -19,13 +19,17 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public class BavetNodeBuildPolicy<Solution_> {
@@ -34,6 +38,9 @@ public class BavetNodeBuildPolicy<Solution_> {
     private final Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private final Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    private final Map<BavetNode, Set<BavetConstraint<Solution_>>> nodeToConstraintSetMap = new IdentityHashMap<>();
+
+    private BavetConstraint<Solution_> currentConstraint = null;
 
     private int nextNodeIndex = 0;
 
@@ -47,6 +54,9 @@ public class BavetNodeBuildPolicy<Solution_> {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
         }
+        if (currentConstraint != null) {
+            nodeToConstraintSetMap.computeIfAbsent(sharedNode, k -> new LinkedHashSet<>()).add(currentConstraint);
+        }
         return sharedNode;
     }
 
@@ -58,6 +68,21 @@ public class BavetNodeBuildPolicy<Solution_> {
         return session;
     }
 
+    /**
+     * @param currentConstraint null after the nodes of the last constraint are created
+     */
+    public void setCurrentConstraint(BavetConstraint<Solution_> currentConstraint) {
+        this.currentConstraint = currentConstraint;
+    }
+
+    /**
+     * @param node never null, a created node
+     * @return never null, the constraints whose nodes were being created when the node was created or shared
+     */
+    public Set<BavetConstraint<Solution_>> getConstraintSet(BavetNode node) {
+        return nodeToConstraintSetMap.getOrDefault(node, Collections.emptySet());
+    }
+
     public int nextNodeIndex() {
         return nextNodeIndex++;
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.score.constraint.ConstraintNodeProfile;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+/**
+ * Accumulates the propagation time and tuple count of every node of a constraint stream network.
+ * <p>
+ * It outlives the sessions of its score director:
+ * a node of a new session that is equal to a node of an old session (same type, description and constraints)
+ * is {@link #registerNode(String, String, Collection) registered} to the same profiler index.
+ * Not thread-safe: every score director has its own instance.
+ */
+public final class ConstraintProfiler {
+
+    private final Map<String, Integer> nodeKeyToIndexMap = new HashMap<>();
+    private final List<NodeEntry> nodeEntryList = new ArrayList<>();
+    private long[] propagationTimeNanos = new long[16];
+    private long[] tupleCounts = new long[16];
+
+    /**
+     * @param nodeType never null
+     * @param nodeDescription never null
+     * @param constraints never null, the constraints that the node calculates
+     * @return {@code >= 0}, the index to pass to {@link #record(int, long)}
+     */
+    public int registerNode(String nodeType, String nodeDescription, Collection<? extends Constraint> constraints) {
+        List<Constraint> constraintList = new ArrayList<>(constraints);
+        String nodeKey = nodeType + "|" + nodeDescription + "|" + constraintList.stream()
+                .map(Constraint::getConstraintId)
+                .collect(Collectors.joining(","));
+        return nodeKeyToIndexMap.computeIfAbsent(nodeKey, key -> {
+            int index = nodeEntryList.size();
+            nodeEntryList.add(new NodeEntry(nodeType, nodeDescription, constraintList));
+            if (index >= propagationTimeNanos.length) {
+                int newLength = propagationTimeNanos.length * 2;
+                propagationTimeNanos = Arrays.copyOf(propagationTimeNanos, newLength);
+                tupleCounts = Arrays.copyOf(tupleCounts, newLength);
+            }
+            return index;
+        });
+    }
+
+    /**
+     * @param nodeIndex as returned by {@link #registerNode(String, String, Collection)}
+     * @param timeNanos {@code >= 0}
+     */
+    public void record(int nodeIndex, long timeNanos) {
+        propagationTimeNanos[nodeIndex] += timeNanos;
+        tupleCounts[nodeIndex]++;
+    }
+
+    /**
+     * @return never null, the key is the {@link Constraint#getConstraintId()}
+     */
+    public Map<String, ConstraintProfile> buildConstraintProfileMap() {
+        Map<String, Constraint> constraintIdToConstraintMap = new LinkedHashMap<>();
+        Map<String, List<ConstraintNodeProfile>> constraintIdToNodeProfileListMap = new HashMap<>();
+        for (int i = 0; i < nodeEntryList.size(); i++) {
+            NodeEntry nodeEntry = nodeEntryList.get(i);
+            ConstraintNodeProfile nodeProfile = new ConstraintNodeProfile(nodeEntry.nodeType,
+                    nodeEntry.nodeDescription, propagationTimeNanos[i], tupleCounts[i]);
+            for (Constraint constraint : nodeEntry.constraintList) {
+                String constraintId = constraint.getConstraintId();
+                constraintIdToConstraintMap.putIfAbsent(constraintId, constraint);
+                constraintIdToNodeProfileListMap.computeIfAbsent(constraintId, k -> new ArrayList<>())
+                        .add(nodeProfile);
+            }
+        }
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintIdToConstraintMap.size());
+        constraintIdToConstraintMap.forEach((constraintId, constraint) -> constraintProfileMap.put(constraintId,
+                new ConstraintProfile(constraint.getConstraintPackage(), constraint.getConstraintName(),
+                        constraintIdToNodeProfileListMap.get(constraintId))));
+        return constraintProfileMap;
+    }
+
+    private static final class NodeEntry {
+
+        private final String nodeType;
+        private final String nodeDescription;
+        private final List<Constraint> constraintList;
+
+        private NodeEntry(String nodeType, String nodeDescription, List<Constraint> constraintList) {
+            this.nodeType = nodeType;
+            this.nodeDescription = nodeDescription;
+            this.constraintList = constraintList;
+        }
+
+    }
+
+}
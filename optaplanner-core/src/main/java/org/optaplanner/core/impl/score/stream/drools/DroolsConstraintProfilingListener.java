@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.drools;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.runtime.rule.Match;
+import org.kie.internal.event.rule.RuleEventListener;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
+
+/**
+ * Attributes the time spent firing the consequence of each rule to the constraint it was generated from.
+ * <p>
+ * Drools doesn't expose which part of its network evaluation belongs to which rule,
+ * so every constraint has a single node that covers its consequence (the score impact) only.
+ */
+final class DroolsConstraintProfilingListener implements RuleEventListener {
+
+    private static final String NODE_TYPE = "Consequence";
+
+    private final ConstraintProfiler constraintProfiler;
+    private final Map<String, Integer> constraintIdToProfilerIndexMap;
+    private final Map<Rule, Integer> ruleToProfilerIndexMap = new IdentityHashMap<>();
+
+    private long fireStartNanos = 0L;
+
+    public DroolsConstraintProfilingListener(ConstraintProfiler constraintProfiler,
+            Collection<? extends DroolsConstraint<?>> constraints) {
+        this.constraintProfiler = constraintProfiler;
+        constraintIdToProfilerIndexMap = new HashMap<>(constraints.size());
+        for (DroolsConstraint<?> constraint : constraints) {
+            int profilerIndex = constraintProfiler.registerNode(NODE_TYPE, constraint.getConstraintId(),
+                    Collections.singletonList(constraint));
+            constraintIdToProfilerIndexMap.put(constraint.getConstraintId(), profilerIndex);
+        }
+    }
+
+    @Override
+    public void onBeforeMatchFire(Match match) {
+        fireStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onAfterMatchFire(Match match) {
+        long timeNanos = System.nanoTime() - fireStartNanos;
+        Integer profilerIndex = ruleToProfilerIndexMap.computeIfAbsent(match.getRule(),
+                rule -> constraintIdToProfilerIndexMap.get(
+                        ConstraintMatchTotal.composeConstraintId(rule.getPackageName(), rule.getName())));
+        if (profilerIndex != null) {
+            constraintProfiler.record(profilerIndex, timeNanos);
+        }
+    }
+
+}
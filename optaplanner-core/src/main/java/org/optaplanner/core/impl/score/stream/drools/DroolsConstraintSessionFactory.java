@@ -49,6 +49,7 @@ import org.optaplanner.core.impl.score.director.drools.OptaPlannerRuleEventListe
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.InnerConstraintFactory;
+import org.optaplanner.core.impl.score.stream.common.ConstraintProfiler;
 
 public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
@@ -99,6 +100,17 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
     }
 
     public SessionDescriptor<Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, null, workingSolution);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if constraint matches need to be tracked
+     * @param constraintProfiler null if profiling is disabled
+     * @param workingSolution never null
+     * @return never null
+     */
+    public SessionDescriptor<Score_> buildSession(boolean constraintMatchEnabled, ConstraintProfiler constraintProfiler,
+            Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
 
@@ -130,6 +142,10 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
         // Create the session itself.
         KieSession kieSession = buildKieSessionFromKieBase(kieBaseCache.getKieBase());
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
+        if (constraintProfiler != null) {
+            ((RuleEventManager) kieSession).addEventListener(
+                    new DroolsConstraintProfilingListener(constraintProfiler, constraintToWeightMap.keySet()));
+        }
         // Cache the impacters for each constraint; this locks in the constraint weights.
         ScoreInliner<Score_> scoreInliner =
                 scoreDefinition.buildScoreInliner((Map) constraintToWeightMap, constraintMatchEnabled);
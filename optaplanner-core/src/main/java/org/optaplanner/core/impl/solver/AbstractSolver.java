@@ -87,13 +87,21 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
     }
 
     protected void runPhases(SolverScope<Solution_> solverScope) {
+        runPhases(solverScope, 0);
+    }
+
+    /**
+     * @param solverScope never null
+     * @param startingPhaseIndex {@code >= 0}, the phases before it are skipped, for example to resume a checkpoint
+     */
+    protected void runPhases(SolverScope<Solution_> solverScope, int startingPhaseIndex) {
         if (solverScope.getSolutionDescriptor().getMovableEntityCount(solverScope.getScoreDirector()) == 0) {
             logger.info("Skipped all phases ({}): out of {} planning entities, none are movable (non-pinned).",
                     phaseList.size(),
                     solverScope.getSolutionDescriptor().getEntityCount(solverScope.getWorkingSolution()));
             return;
         }
-        Iterator<Phase<Solution_>> it = phaseList.iterator();
+        Iterator<Phase<Solution_>> it = phaseList.listIterator(Math.min(startingPhaseIndex, phaseList.size()));
         while (!termination.isSolverTerminated(solverScope) && it.hasNext()) {
             Phase<Solution_> phase = it.next();
             phase.solve(solverScope);
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.solver;
 
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -24,10 +25,15 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.monitoring.SolverMetric;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.checkpoint.SolverCheckpointConfig;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpoint;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointer;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -52,6 +58,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     protected final SolverScope<Solution_> solverScope;
 
+    protected SolverCheckpointer<Solution_> solverCheckpointer = null;
+
     private final String moveThreadCountDescription;
 
     // ************************************************************************
@@ -94,6 +102,20 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope;
     }
 
+    public SolverCheckpointer<Solution_> getSolverCheckpointer() {
+        return solverCheckpointer;
+    }
+
+    /**
+     * Also registers it as a phase lifecycle listener, so it writes checkpoints during solving.
+     *
+     * @param solverCheckpointer never null
+     */
+    public void setSolverCheckpointer(SolverCheckpointer<Solution_> solverCheckpointer) {
+        this.solverCheckpointer = solverCheckpointer;
+        addPhaseLifecycleListener(solverCheckpointer);
+    }
+
     // ************************************************************************
     // Complex getters
     // ************************************************************************
@@ -152,16 +174,59 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     @Override
     public final Solution_ solve(Solution_ problem) {
+        return solve(problem, null);
+    }
+
+    /**
+     * As defined by {@link #solve(Object)},
+     * but if the {@link SolverCheckpointConfig#getCheckpointDirectory() checkpoint directory} contains a checkpoint,
+     * it ignores the problem and resumes from the best solution of that checkpoint instead.
+     * It skips the phases that had completed (such as the construction heuristic),
+     * restores the working random and continues the time spent,
+     * so a solver restarted after a crash of the JVM doesn't lose its progress.
+     * <p>
+     * This is not part of the {@link Solver} API yet, because the other {@link Solver} implementations
+     * don't support checkpoints.
+     *
+     * @param problem never null, a {@link PlanningSolution}, only used if there is no checkpoint yet
+     * @return never null, but it can return the original, uninitialized {@link PlanningSolution} with a null score.
+     * @throws IllegalStateException if the solver config has no {@link SolverCheckpointConfig}
+     * @see #solve(Object)
+     */
+    public final Solution_ solveFromCheckpoint(Solution_ problem) {
+        if (solverCheckpointer == null) {
+            throw new IllegalStateException("The solver has no checkpointConfig,"
+                    + " so it cannot resume from a checkpoint.\n"
+                    + "Maybe configure a checkpointConfig in the solverConfig.");
+        }
+        SolverCheckpoint<Solution_> checkpoint = solverCheckpointer.readCheckpoint();
+        if (checkpoint == null) {
+            logger.info("The checkpointDirectory ({}) has no checkpoint, so solving the problem from scratch.",
+                    solverCheckpointer.getCheckpointDirectory());
+            return solve(problem, null);
+        }
+        return solve(checkpoint.getBestSolution(), checkpoint);
+    }
+
+    private Solution_ solve(Solution_ problem, SolverCheckpoint<Solution_> checkpoint) {
         if (problem == null) {
             throw new IllegalArgumentException("The problem (" + problem + ") must not be null.");
         }
         solverScope.setBestSolution(problem);
         outerSolvingStarted(solverScope);
+        if (checkpoint != null) {
+            Random workingRandom = checkpoint.restoreWorkingRandom();
+            if (workingRandom != null) {
+                solverScope.setWorkingRandom(workingRandom);
+            }
+        }
         boolean restartSolver = true;
         while (restartSolver) {
-            solvingStarted(solverScope);
-            runPhases(solverScope);
+            solvingStarted(solverScope, checkpoint);
+            runPhases(solverScope, checkpoint == null ? 0 : checkpoint.getPhaseIndex());
             solvingEnded(solverScope);
+            // A restart for problem fact changes runs all phases again
+            checkpoint = null;
             restartSolver = checkProblemFactChanges();
         }
         outerSolvingEnded(solverScope);
@@ -177,14 +242,25 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.startingNow();
+        solvingStarted(solverScope, null);
+    }
+
+    private void solvingStarted(SolverScope<Solution_> solverScope, SolverCheckpoint<Solution_> checkpoint) {
+        if (checkpoint == null) {
+            solverScope.startingNow();
+        } else {
+            solverScope.startingNow(checkpoint.getTimeMillisSpent());
+            solverCheckpointer.setStartingPhaseIndex(checkpoint.getPhaseIndex());
+            logger.info("Resuming from checkpoint: phase index ({}), step index ({}), time spent ({}).",
+                    checkpoint.getPhaseIndex(), checkpoint.getStepIndex(), checkpoint.getTimeMillisSpent());
+        }
         solverScope.getScoreDirector().resetCalculationCount();
         super.solvingStarted(solverScope);
         int startingSolverCount = solverScope.getStartingSolverCount() + 1;
         solverScope.setStartingSolverCount(startingSolverCount);
         logger.info("Solving {}: time spent ({}), best score ({}), environment mode ({}), "
                 + "move thread count ({}), random ({}).",
-                (startingSolverCount == 1 ? "started" : "restarted"),
+                (startingSolverCount == 1 ? (checkpoint == null ? "started" : "resumed") : "restarted"),
                 solverScope.calculateTimeMillisSpentUpToNow(),
                 solverScope.getBestScore(),
                 environmentMode.name(),
@@ -219,6 +295,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         } else {
             BlockingQueue<ProblemFactChange<Solution_>> problemFactChangeQueue = basicPlumbingTermination
                     .startProblemFactChangesProcessing();
+            SolverMetricsRegistry metricsRegistry = solverScope.getMetricsRegistry();
+            long startingNanos = metricsRegistry == null ? 0L : System.nanoTime();
             solverScope.setWorkingSolutionFromBestSolution();
             Score score = null;
             int stepIndex = 0;
@@ -234,6 +312,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             // Everything is fine, proceed.
             basicPlumbingTermination.endProblemFactChangesProcessing();
             bestSolutionRecaller.updateBestSolution(solverScope);
+            if (metricsRegistry != null) {
+                metricsRegistry.recordNanos(SolverMetric.PROBLEM_FACT_CHANGE_TIME, System.nanoTime() - startingNanos);
+            }
             logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
                     stepIndex, score);
             return true;
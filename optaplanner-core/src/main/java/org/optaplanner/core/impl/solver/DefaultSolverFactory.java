@@ -21,25 +21,36 @@ import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
+import org.optaplanner.core.api.domain.common.DomainAccessType;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.checkpoint.SolutionCheckpointIO;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.checkpoint.SolverCheckpointConfig;
 import org.optaplanner.core.config.solver.random.RandomType;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.common.gizmo.GizmoClassRegistry;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointer;
+import org.optaplanner.core.impl.solver.monitoring.SolverMetricsPhaseLifecycleListener;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -48,10 +59,15 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.termination.TerminationFactory;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The {@link SolutionDescriptor} and the {@link InnerScoreDirectorFactory} (including its compiled constraints)
+ * are immutable, so they are built only once and shared by every {@link Solver} built by this factory.
+ * Therefore the {@link SolverConfig} must not change after the first {@link #buildSolver()} call.
+ *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @see SolverFactory
  */
@@ -62,6 +78,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
 
     private final SolverConfig solverConfig;
 
+    private volatile InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory = null;
+
     public DefaultSolverFactory(SolverConfig solverConfig) {
         if (solverConfig == null) {
             throw new IllegalStateException("The solverConfig (" + solverConfig + ") cannot be null.");
@@ -69,8 +87,23 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         this.solverConfig = solverConfig;
     }
 
+    /**
+     * Thread-safe.
+     *
+     * @return never null, the same instance on every call
+     */
     public InnerScoreDirectorFactory<Solution_, ?> getScoreDirectorFactory() {
-        return buildScoreDirectorFactory(solverConfig.determineEnvironmentMode());
+        InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory_ = scoreDirectorFactory;
+        if (scoreDirectorFactory_ == null) {
+            synchronized (this) {
+                scoreDirectorFactory_ = scoreDirectorFactory;
+                if (scoreDirectorFactory_ == null) {
+                    scoreDirectorFactory_ = buildScoreDirectorFactory(solverConfig.determineEnvironmentMode());
+                    scoreDirectorFactory = scoreDirectorFactory_;
+                }
+            }
+        }
+        return scoreDirectorFactory_;
     }
 
     @Override
@@ -80,10 +113,12 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
 
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
-        InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory = buildScoreDirectorFactory(environmentMode_);
+        InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory = getScoreDirectorFactory();
         boolean constraintMatchEnabledPreference = environmentMode_.isAsserted();
         SolverScope<Solution_> solverScope = new SolverScope<>();
         solverScope.setScoreDirector(scoreDirectorFactory.buildScoreDirector(true, constraintMatchEnabledPreference));
+        SolverMetricsRegistry metricsRegistry = solverConfig.getMetricsRegistry();
+        solverScope.setMetricsRegistry(metricsRegistry);
 
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
@@ -97,12 +132,43 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         Termination<Solution_> termination = TerminationFactory.<Solution_> create(terminationConfig_)
                 .buildTermination(configPolicy, basicPlumbingTermination);
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
-        return new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
-                termination, phaseList, solverScope,
+        DefaultSolver<Solution_> solver = new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller,
+                basicPlumbingTermination, termination, phaseList, solverScope,
                 moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
+        if (metricsRegistry != null) {
+            solver.addPhaseLifecycleListener(new SolverMetricsPhaseLifecycleListener<>(metricsRegistry));
+        }
+        SolverCheckpointConfig checkpointConfig = solverConfig.getCheckpointConfig();
+        if (checkpointConfig != null) {
+            solver.setSolverCheckpointer(buildSolverCheckpointer(checkpointConfig, basicPlumbingTermination));
+        }
+        return solver;
+    }
+
+    protected SolverCheckpointer<Solution_> buildSolverCheckpointer(SolverCheckpointConfig checkpointConfig,
+            BasicPlumbingTermination<Solution_> basicPlumbingTermination) {
+        if (checkpointConfig.getCheckpointDirectory() == null) {
+            throw new IllegalArgumentException("The checkpointConfig (" + checkpointConfig
+                    + ") must have a checkpointDirectory (" + checkpointConfig.getCheckpointDirectory() + ").");
+        }
+        if (checkpointConfig.getSolutionCheckpointIOClass() == null) {
+            throw new IllegalArgumentException("The checkpointConfig (" + checkpointConfig
+                    + ") must have a solutionCheckpointIOClass (" + checkpointConfig.getSolutionCheckpointIOClass()
+                    + ").");
+        }
+        SolutionCheckpointIO<Solution_> solutionCheckpointIO = ConfigUtils.newInstance(checkpointConfig,
+                "solutionCheckpointIOClass", checkpointConfig.getSolutionCheckpointIOClass());
+        ThreadFactory threadFactory = solverConfig.getThreadFactoryClass() == null
+                ? new DefaultSolverThreadFactory("CheckpointThread")
+                : ConfigUtils.newInstance(solverConfig, "threadFactoryClass", solverConfig.getThreadFactoryClass());
+        return new SolverCheckpointer<>(checkpointConfig.getCheckpointDirectory(),
+                checkpointConfig.determineCheckpointInterval().toMillis(), solutionCheckpointIO, threadFactory,
+                basicPlumbingTermination);
     }
 
     /**
+     * Prefer {@link #getScoreDirectorFactory()}, which doesn't rebuild it every time.
+     *
      * @param environmentMode never null
      * @return never null
      */
@@ -133,11 +199,24 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     solverConfig.getEntityClassList() + "). If you're using the Quarkus extension or Spring Boot starter, " +
                     "it should have been filled in already.");
         }
+        DomainAccessType domainAccessType = solverConfig.determineDomainAccessType();
+        Map<String, MemberAccessor> gizmoMemberAccessorMap = solverConfig.getGizmoMemberAccessorMap();
+        Map<String, SolutionCloner> gizmoSolutionClonerMap = solverConfig.getGizmoSolutionClonerMap();
+        if (domainAccessType == DomainAccessType.GIZMO && gizmoMemberAccessorMap == null
+                && gizmoSolutionClonerMap == null) {
+            // Use the classes of the GizmoAheadOfTimeGenerator, if it ran during the build
+            GizmoClassRegistry gizmoClassRegistry =
+                    GizmoClassRegistry.load(solverConfig.getSolutionClass().getClassLoader());
+            if (gizmoClassRegistry != null) {
+                gizmoMemberAccessorMap = gizmoClassRegistry.getMemberAccessorMap();
+                gizmoSolutionClonerMap = gizmoClassRegistry.getSolutionClonerMap();
+            }
+        }
         SolutionDescriptor<Solution_> solutionDescriptor =
-                SolutionDescriptor.buildSolutionDescriptor(solverConfig.determineDomainAccessType(),
+                SolutionDescriptor.buildSolutionDescriptor(domainAccessType,
                         (Class<Solution_>) solverConfig.getSolutionClass(),
-                        solverConfig.getGizmoMemberAccessorMap(),
-                        solverConfig.getGizmoSolutionClonerMap(),
+                        gizmoMemberAccessorMap,
+                        gizmoSolutionClonerMap,
                         solverConfig.getEntityClassList());
         if (environmentMode.isAsserted()) {
             solutionDescriptor.setAssertModelForCloning(true);
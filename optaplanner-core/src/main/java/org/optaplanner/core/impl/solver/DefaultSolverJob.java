@@ -31,6 +31,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverStatus;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +48,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final DefaultSolver<Solution_> solver;
     private final ProblemId_ problemId;
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
+    private final SolverEventListener<Solution_> bestSolutionListener;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
 
@@ -54,11 +56,26 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private CountDownLatch terminatedLatch;
 
     private Future<Solution_> future;
+    /**
+     * Guards the solver once this job hands it back to a pool,
+     * so {@link #terminateEarly()} never terminates the solve of the next job that reuses the same solver.
+     */
+    private final Object solverLock = new Object();
+    /**
+     * Guarded by {@link #solverLock}.
+     */
+    private boolean solverReleased = false;
+    /**
+     * Null until the solver is released, because a pooled solver forgets the timings of this job.
+     * Guarded by {@link #solverLock}.
+     */
+    private Duration finalSolvingDuration = null;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
             Solver<Solution_> solver, ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         this.solverManager = solverManager;
@@ -69,6 +86,13 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
         this.solver = (DefaultSolver<Solution_>) solver;
         this.problemFinder = problemFinder;
+        if (bestSolutionConsumer != null) {
+            // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
+            bestSolutionListener = event -> bestSolutionConsumer.accept(event.getNewBestSolution());
+            this.solver.addEventListener(bestSolutionListener);
+        } else {
+            bestSolutionListener = null;
+        }
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
         solverStatusReference = new AtomicReference<>(SolverStatus.SOLVING_SCHEDULED);
@@ -91,9 +115,9 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public Solution_ call() {
-        SolverStatus solverStatus = solverStatusReference.getAndSet(SolverStatus.SOLVING_ACTIVE);
-        if (solverStatus != SolverStatus.SOLVING_SCHEDULED) {
+        if (!solverStatusReference.compareAndSet(SolverStatus.SOLVING_SCHEDULED, SolverStatus.SOLVING_ACTIVE)) {
             // This job has been canceled before it started
+            releaseSolver();
             return problemFinder.apply(problemId);
         }
         try {
@@ -109,7 +133,20 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
         } finally {
             solvingTerminated();
+            releaseSolver();
+        }
+    }
+
+    private void releaseSolver() {
+        synchronized (solverLock) {
+            if (bestSolutionListener != null) {
+                // A pooled solver must not notify this job's consumer for the next problem
+                solver.removeEventListener(bestSolutionListener);
+            }
+            finalSolvingDuration = calculateSolvingDuration();
+            solverReleased = true;
         }
+        solverManager.releaseSolver(solver);
     }
 
     private void solvingTerminated() {
@@ -133,20 +170,28 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     @Override
     public void terminateEarly() {
         future.cancel(false);
-        SolverStatus solverStatus = solverStatusReference.get();
-        switch (solverStatus) {
-            case SOLVING_SCHEDULED:
-                solvingTerminated();
-                break;
-            case SOLVING_ACTIVE:
-                // Indirectly triggers solvingTerminated()
-                solver.terminateEarly();
-                break;
-            case NOT_SOLVING:
-                // Do nothing, solvingTerminated() already called
-                break;
-            default:
-                throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
+        synchronized (solverLock) {
+            SolverStatus solverStatus = solverStatusReference.get();
+            switch (solverStatus) {
+                case SOLVING_SCHEDULED:
+                    if (solverStatusReference.compareAndSet(SolverStatus.SOLVING_SCHEDULED, SolverStatus.NOT_SOLVING)) {
+                        solvingTerminated();
+                        break;
+                    }
+                    // The call() started solving in the meantime, so intentionally fall through (no break)
+                case SOLVING_ACTIVE:
+                    // Once released, the solver might already solve the problem of another job
+                    if (!solverReleased) {
+                        // Indirectly triggers solvingTerminated()
+                        solver.terminateEarly();
+                    }
+                    break;
+                case NOT_SOLVING:
+                    // Do nothing, solvingTerminated() already called
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
+            }
         }
         try {
             // Don't return until bestSolutionConsumer won't be called any more
@@ -164,6 +209,15 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public Duration getSolvingDuration() {
+        synchronized (solverLock) {
+            if (solverReleased) {
+                return finalSolvingDuration;
+            }
+            return calculateSolvingDuration();
+        }
+    }
+
+    private Duration calculateSolvingDuration() {
         SolverScope<Solution_> solverScope = solver.getSolverScope();
         Long startingSystemTimeMillis = solverScope.getStartingSystemTimeMillis();
         if (startingSystemTimeMillis == null) {
@@ -17,6 +17,8 @@
 package org.optaplanner.core.impl.solver;
 
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -48,14 +50,21 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
+    /**
+     * Null if solver pooling is disabled.
+     */
+    private final BlockingQueue<DefaultSolver<Solution_>> idleSolverPool;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
             SolverManagerConfig solverManagerConfig) {
         defaultExceptionHandler = (problemId, throwable) -> LOGGER.error(
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
-        validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+        idleSolverPool = Boolean.TRUE.equals(solverManagerConfig.getSolverPoolingEnabled())
+                ? new ArrayBlockingQueue<>(parallelSolverCount)
+                : null;
+        validateSolverFactory();
         solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
@@ -65,7 +74,34 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     }
 
     private void validateSolverFactory() {
-        solverFactory.buildSolver();
+        Solver<Solution_> solver = solverFactory.buildSolver();
+        if (idleSolverPool != null) {
+            // Don't waste it
+            releaseSolver((DefaultSolver<Solution_>) solver);
+        }
+    }
+
+    private Solver<Solution_> acquireSolver() {
+        if (idleSolverPool != null) {
+            DefaultSolver<Solution_> solver = idleSolverPool.poll();
+            if (solver != null) {
+                return solver;
+            }
+        }
+        return solverFactory.buildSolver();
+    }
+
+    protected void releaseSolver(DefaultSolver<Solution_> solver) {
+        if (idleSolverPool == null) {
+            return;
+        }
+        if (solver.isSolving()) {
+            // The solve() call failed halfway, so its score director and phases are in an unknown state
+            return;
+        }
+        solver.getSolverScope().reset();
+        // If the pool is full, the solver is simply garbage collected
+        idleSolverPool.offer(solver);
     }
 
     private ProblemId_ getProblemIdOrThrow(ProblemId_ problemId) {
@@ -102,11 +138,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        Solver<Solution_> solver = solverFactory.buildSolver();
-        // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
-        if (bestSolutionConsumer != null) {
-            solver.addEventListener(event -> bestSolutionConsumer.accept(event.getNewBestSolution()));
-        }
+        Solver<Solution_> solver = acquireSolver();
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
@@ -116,8 +148,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                         // TODO Future features: automatically restart solving by calling reloadProblem()
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
+                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, bestSolutionConsumer,
+                                finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
         Future<Solution_> future = solverThreadPool.submit(solverJob);
@@ -172,6 +204,9 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     @Override
     public void close() {
         solverThreadPool.shutdownNow();
+        if (idleSolverPool != null) {
+            idleSolverPool.clear();
+        }
     }
 
     protected void unregisterSolverJob(ProblemId_ problemId) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Random;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * The state of a solver, as written by the {@link SolverCheckpointer}.
+ * <p>
+ * The phase index is the phase to resume with: the phase that was running when the checkpoint was taken,
+ * or the next phase if that phase had completed.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class SolverCheckpoint<Solution_> {
+
+    private final Solution_ bestSolution;
+    private final int phaseIndex;
+    private final int stepIndex;
+    private final long timeMillisSpent;
+    private final byte[] serializedWorkingRandom;
+
+    /**
+     * @param bestSolution never null, must not change after this call
+     * @param phaseIndex {@code >= 0}
+     * @param stepIndex {@code >= -1}, -1 if the phase hasn't started yet
+     * @param timeMillisSpent {@code >= 0}
+     * @param serializedWorkingRandom null if the working {@link Random} isn't serializable
+     */
+    public SolverCheckpoint(Solution_ bestSolution, int phaseIndex, int stepIndex, long timeMillisSpent,
+            byte[] serializedWorkingRandom) {
+        this.bestSolution = bestSolution;
+        this.phaseIndex = phaseIndex;
+        this.stepIndex = stepIndex;
+        this.timeMillisSpent = timeMillisSpent;
+        this.serializedWorkingRandom = serializedWorkingRandom;
+    }
+
+    public Solution_ getBestSolution() {
+        return bestSolution;
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public byte[] getSerializedWorkingRandom() {
+        return serializedWorkingRandom;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return null if the working {@link Random} wasn't serializable
+     */
+    public Random restoreWorkingRandom() {
+        if (serializedWorkingRandom == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedWorkingRandom))) {
+            return (Random) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("The checkpoint's working random could not be restored.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SolverCheckpoint(" + phaseIndex + ", " + stepIndex + ")";
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.checkpoint.SolutionCheckpointIO;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a {@link SolverCheckpoint} to the checkpoint directory
+ * at most once per checkpoint interval during a phase and at the end of every phase,
+ * but only if the best solution or the phase to resume with changed.
+ * <p>
+ * The best solution is never cloned for a checkpoint:
+ * the solver replaces it with a new clone when it improves, so it never changes while it's being written.
+ * Only the working random is serialized on the solver thread, the files are written on a separate thread.
+ * If that thread is still writing the previous checkpoint, the solver doesn't wait for it, but tries again next step.
+ * <p>
+ * The solution file and the state file are each replaced atomically, but not together.
+ * So the state file holds the checksum of its solution file:
+ * if a crash happens between both replacements, the checkpoint is completed with the new state file on read.
+ * <p>
+ * The acceptor history (such as the tabu lists) is not part of a checkpoint,
+ * because it refers to the working solution instances, which don't survive a restart.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SolverCheckpointer<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+    public static final String SOLUTION_FILE_NAME = "bestSolution";
+    public static final String STATE_FILE_NAME = "solverState.properties";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final String PHASE_INDEX_KEY = "phaseIndex";
+    private static final String STEP_INDEX_KEY = "stepIndex";
+    private static final String TIME_MILLIS_SPENT_KEY = "timeMillisSpent";
+    private static final String BEST_SCORE_KEY = "bestScore";
+    private static final String WORKING_RANDOM_KEY = "workingRandom";
+    private static final String SOLUTION_CHECKSUM_KEY = "bestSolutionChecksum";
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final File checkpointDirectory;
+    private final long checkpointIntervalMillis;
+    private final SolutionCheckpointIO<Solution_> solutionCheckpointIO;
+    private final ThreadFactory threadFactory;
+    private final BasicPlumbingTermination<Solution_> basicPlumbingTermination;
+
+    private int startingPhaseIndex = 0;
+    private boolean workingRandomSerializable = true;
+
+    private ExecutorService writerExecutor = null;
+    private Future<?> pendingWrite = null;
+    private int phaseIndex;
+    private long lastWriteTimeMillis;
+    private Solution_ lastWrittenBestSolution;
+    private int lastWrittenPhaseIndex;
+
+    public SolverCheckpointer(File checkpointDirectory, long checkpointIntervalMillis,
+            SolutionCheckpointIO<Solution_> solutionCheckpointIO, ThreadFactory threadFactory,
+            BasicPlumbingTermination<Solution_> basicPlumbingTermination) {
+        if (checkpointDirectory == null) {
+            throw new IllegalArgumentException("The checkpointDirectory (" + checkpointDirectory
+                    + ") must not be null.");
+        }
+        if (solutionCheckpointIO == null) {
+            throw new IllegalArgumentException("The solutionCheckpointIO (" + solutionCheckpointIO
+                    + ") must not be null.");
+        }
+        this.checkpointDirectory = checkpointDirectory;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.solutionCheckpointIO = solutionCheckpointIO;
+        this.threadFactory = threadFactory;
+        this.basicPlumbingTermination = basicPlumbingTermination;
+    }
+
+    public File getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    /**
+     * Only affects the next {@link #solvingStarted(SolverScope)},
+     * so the phase indexes of the checkpoints match those of the phase list when the solver skips phases to resume.
+     *
+     * @param startingPhaseIndex {@code >= 0}
+     */
+    public void setStartingPhaseIndex(int startingPhaseIndex) {
+        this.startingPhaseIndex = startingPhaseIndex;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        phaseIndex = startingPhaseIndex - 1;
+        startingPhaseIndex = 0;
+        lastWriteTimeMillis = System.currentTimeMillis();
+        // The problem itself is not worth a checkpoint
+        lastWrittenBestSolution = solverScope.getBestSolution();
+        lastWrittenPhaseIndex = phaseIndex + 1;
+        writerExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseIndex++;
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        long now = System.currentTimeMillis();
+        if (now - lastWriteTimeMillis < checkpointIntervalMillis) {
+            return;
+        }
+        SolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+        if (solverScope.getBestSolution() == lastWrittenBestSolution) {
+            return;
+        }
+        if (pendingWrite != null && !pendingWrite.isDone()) {
+            // Never slow down the solver thread, try again next step
+            return;
+        }
+        writeCheckpoint(solverScope, phaseIndex, stepScope.getStepIndex(), now);
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        int resumePhaseIndex;
+        int resumeStepIndex;
+        if (basicPlumbingTermination.isTerminateEarly()) {
+            // The phase didn't complete, for example because the JVM is shutting down, so resume it
+            resumePhaseIndex = phaseIndex;
+            resumeStepIndex = phaseScope.getLastCompletedStepScope().getStepIndex();
+        } else {
+            resumePhaseIndex = phaseIndex + 1;
+            resumeStepIndex = -1;
+        }
+        if (solverScope.getBestSolution() == lastWrittenBestSolution && resumePhaseIndex == lastWrittenPhaseIndex) {
+            return;
+        }
+        // The end of a phase (especially a construction heuristic) is too valuable to skip
+        awaitPendingWrite();
+        writeCheckpoint(solverScope, resumePhaseIndex, resumeStepIndex, System.currentTimeMillis());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        awaitPendingWrite();
+        writerExecutor.shutdown();
+        writerExecutor = null;
+        lastWrittenBestSolution = null;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return null if the checkpoint directory has no complete checkpoint
+     */
+    public SolverCheckpoint<Solution_> readCheckpoint() {
+        File stateFile = new File(checkpointDirectory, STATE_FILE_NAME);
+        File solutionFile = new File(checkpointDirectory, SOLUTION_FILE_NAME);
+        if (!solutionFile.exists()) {
+            return null;
+        }
+        Properties state = stateFile.exists() ? readState(stateFile) : null;
+        String solutionChecksum = calculateChecksum(solutionFile);
+        if (state == null || !matchesChecksum(state, solutionChecksum)) {
+            // A crash happened after the solution file was replaced, but before the state file was replaced
+            File stateTempFile = new File(checkpointDirectory, STATE_FILE_NAME + TEMP_FILE_SUFFIX);
+            Properties tempState = stateTempFile.exists() ? readState(stateTempFile) : null;
+            if (tempState != null && solutionChecksum.equals(tempState.getProperty(SOLUTION_CHECKSUM_KEY))) {
+                logger.info("Completing the checkpoint in the checkpointDirectory ({}) with its stateTempFile ({}).",
+                        checkpointDirectory, stateTempFile);
+                state = tempState;
+            } else if (state == null) {
+                return null;
+            } else {
+                throw new IllegalStateException("The checkpoint solutionFile (" + solutionFile
+                        + ") with checksum (" + solutionChecksum
+                        + ") does not match the checksum (" + state.getProperty(SOLUTION_CHECKSUM_KEY)
+                        + ") of the stateFile (" + stateFile + ").\n"
+                        + "Maybe the solutionFile was changed after the checkpoint was written.");
+            }
+        }
+        Solution_ bestSolution = solutionCheckpointIO.read(solutionFile);
+        String workingRandomString = state.getProperty(WORKING_RANDOM_KEY);
+        return new SolverCheckpoint<>(bestSolution,
+                Integer.parseInt(state.getProperty(PHASE_INDEX_KEY)),
+                Integer.parseInt(state.getProperty(STEP_INDEX_KEY)),
+                Long.parseLong(state.getProperty(TIME_MILLIS_SPENT_KEY)),
+                workingRandomString == null ? null : Base64.getDecoder().decode(workingRandomString));
+    }
+
+    private Properties readState(File stateFile) {
+        Properties state = new Properties();
+        try (InputStream in = new FileInputStream(stateFile)) {
+            state.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading the checkpoint stateFile (" + stateFile + ") failed.", e);
+        }
+        return state;
+    }
+
+    private static boolean matchesChecksum(Properties state, String solutionChecksum) {
+        String stateChecksum = state.getProperty(SOLUTION_CHECKSUM_KEY);
+        // A state file without checksum is written by hand, so it is trusted
+        return stateChecksum == null || stateChecksum.equals(solutionChecksum);
+    }
+
+    private static String calculateChecksum(File solutionFile) {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new CheckedInputStream(new FileInputStream(solutionFile), checksum)) {
+            while (in.read(buffer) >= 0) {
+                // Only the checksum matters
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading the checkpoint solutionFile (" + solutionFile + ") failed.", e);
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+
+    private void writeCheckpoint(SolverScope<Solution_> solverScope, int resumePhaseIndex, int resumeStepIndex,
+            long now) {
+        Solution_ bestSolution = solverScope.getBestSolution();
+        SolverCheckpoint<Solution_> checkpoint = new SolverCheckpoint<>(bestSolution, resumePhaseIndex,
+                resumeStepIndex, solverScope.calculateTimeMillisSpentUpToNow(),
+                serializeWorkingRandom(solverScope.getWorkingRandom()));
+        String bestScoreString = String.valueOf(solverScope.getBestScore());
+        lastWriteTimeMillis = now;
+        lastWrittenBestSolution = bestSolution;
+        lastWrittenPhaseIndex = resumePhaseIndex;
+        pendingWrite = writerExecutor.submit(() -> write(checkpoint, bestScoreString));
+    }
+
+    private byte[] serializeWorkingRandom(Random workingRandom) {
+        if (!workingRandomSerializable) {
+            return null;
+        }
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytesOut)) {
+            out.writeObject(workingRandom);
+        } catch (IOException e) {
+            logger.warn("The workingRandom class ({}) is not serializable,"
+                    + " so resuming from a checkpoint is not reproducible.", workingRandom.getClass(), e);
+            workingRandomSerializable = false;
+            return null;
+        }
+        return bytesOut.toByteArray();
+    }
+
+    private void write(SolverCheckpoint<Solution_> checkpoint, String bestScoreString) {
+        long startingTimeMillis = System.currentTimeMillis();
+        try {
+            Files.createDirectories(checkpointDirectory.toPath());
+            File solutionTempFile = new File(checkpointDirectory, SOLUTION_FILE_NAME + TEMP_FILE_SUFFIX);
+            solutionCheckpointIO.write(checkpoint.getBestSolution(), solutionTempFile);
+            Properties state = new Properties();
+            state.setProperty(PHASE_INDEX_KEY, Integer.toString(checkpoint.getPhaseIndex()));
+            state.setProperty(STEP_INDEX_KEY, Integer.toString(checkpoint.getStepIndex()));
+            state.setProperty(TIME_MILLIS_SPENT_KEY, Long.toString(checkpoint.getTimeMillisSpent()));
+            state.setProperty(BEST_SCORE_KEY, bestScoreString);
+            state.setProperty(SOLUTION_CHECKSUM_KEY, calculateChecksum(solutionTempFile));
+            if (checkpoint.getSerializedWorkingRandom() != null) {
+                state.setProperty(WORKING_RANDOM_KEY,
+                        Base64.getEncoder().encodeToString(checkpoint.getSerializedWorkingRandom()));
+            }
+            File stateTempFile = new File(checkpointDirectory, STATE_FILE_NAME + TEMP_FILE_SUFFIX);
+            try (OutputStream out = new FileOutputStream(stateTempFile)) {
+                state.store(out, "OptaPlanner solver checkpoint");
+            }
+            // Each file is replaced atomically and the state file last,
+            // so a crash in between leaves a complete stateTempFile that matches the new solution file
+            move(solutionTempFile, new File(checkpointDirectory, SOLUTION_FILE_NAME));
+            move(stateTempFile, new File(checkpointDirectory, STATE_FILE_NAME));
+        } catch (IOException | RuntimeException e) {
+            // A failing checkpoint must not fail the solver, the previous checkpoint is still intact
+            logger.warn("Writing the checkpoint ({}) to the checkpointDirectory ({}) failed.",
+                    checkpoint, checkpointDirectory, e);
+            return;
+        }
+        logger.debug("    Checkpoint ({}) written: best score ({}), time spent ({}).",
+                checkpoint, bestScoreString, System.currentTimeMillis() - startingTimeMillis);
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void awaitPendingWrite() {
+        if (pendingWrite == null) {
+            return;
+        }
+        try {
+            pendingWrite.get();
+        } catch (InterruptedException e) {
+            // Don't wait any longer, a write that doesn't finish leaves the previous checkpoint intact
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The checkpoint write failed.", e);
+        }
+        pendingWrite = null;
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.event.BestSolutionDeltaEvent;
+import org.optaplanner.core.api.solver.event.PlanningVariableChange;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Remembers the original value of every genuine planning variable that changes in the working solution
+ * since the last best solution, to build the {@link BestSolutionDeltaEvent#getVariableChangeList()}.
+ * <p>
+ * A variable that changes multiple times (for example because a move is done and undone)
+ * only remembers its first original value, so the recording is bounded by the number of touched variables.
+ * <p>
+ * Internal API.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BestSolutionDeltaRecorder<Solution_> {
+
+    private final Map<GenuineVariableDescriptor<Solution_>, Map<Object, Object>> originalValueMaps =
+            new LinkedHashMap<>();
+    private boolean complete = true;
+
+    private GenuineVariableDescriptor<Solution_> lastVariableDescriptor = null;
+    private Map<Object, Object> lastOriginalValueMap = null;
+
+    private long workingEntityIndexMapRevision = -1L;
+    private Map<Object, Integer> workingEntityIndexMap = null;
+
+    // ************************************************************************
+    // Score director notifications
+    // ************************************************************************
+
+    /**
+     * The working solution equals the best solution now, so there is nothing to remember yet.
+     * Doesn't undo {@link #markIncomplete()}, because a problem fact change can reset the working solution too.
+     */
+    public void resetWorkingSolution() {
+        clearOriginalValues();
+        workingEntityIndexMap = null;
+    }
+
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (!(variableDescriptor instanceof GenuineVariableDescriptor)) {
+            return;
+        }
+        Map<Object, Object> originalValueMap;
+        if (variableDescriptor == lastVariableDescriptor) {
+            originalValueMap = lastOriginalValueMap;
+        } else {
+            GenuineVariableDescriptor<Solution_> genuineVariableDescriptor =
+                    (GenuineVariableDescriptor<Solution_>) variableDescriptor;
+            originalValueMap = originalValueMaps.computeIfAbsent(genuineVariableDescriptor,
+                    k -> new IdentityHashMap<>());
+            lastVariableDescriptor = genuineVariableDescriptor;
+            lastOriginalValueMap = originalValueMap;
+        }
+        if (!originalValueMap.containsKey(entity)) {
+            Object originalValue = variableDescriptor.getValue(entity);
+            if (lastVariableDescriptor.isListVariable() && originalValue != null) {
+                // A list variable is changed in place
+                originalValue = new ArrayList<>((List<?>) originalValue);
+            }
+            originalValueMap.put(entity, originalValue);
+        }
+    }
+
+    /**
+     * Called when entities are added or removed or when problem facts change,
+     * which a list of variable changes can't express.
+     */
+    public void markIncomplete() {
+        complete = false;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Must be called when the working solution is in the same state as the new best solution,
+     * which is always the case right after it has been cloned.
+     * Afterwards, the new best solution is the reference for the next changes.
+     *
+     * @param scoreDirector never null
+     * @param newBestSolution never null, a clone of the working solution
+     * @return never null, empty if {@link #isComplete()} returned false
+     */
+    public List<PlanningVariableChange> extractVariableChangeList(InnerScoreDirector<Solution_, ?> scoreDirector,
+            Solution_ newBestSolution) {
+        if (!complete) {
+            clearOriginalValues();
+            complete = true;
+            return Collections.emptyList();
+        }
+        SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        List<Object> newBestEntityList = null;
+        List<PlanningVariableChange> variableChangeList = new ArrayList<>();
+        for (Map.Entry<GenuineVariableDescriptor<Solution_>, Map<Object, Object>> variableEntry
+                : originalValueMaps.entrySet()) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = variableEntry.getKey();
+            for (Map.Entry<Object, Object> entityEntry : variableEntry.getValue().entrySet()) {
+                Object workingEntity = entityEntry.getKey();
+                if (Objects.equals(variableDescriptor.getValue(workingEntity), entityEntry.getValue())) {
+                    // Changed and changed back, for example by an undo move
+                    continue;
+                }
+                if (newBestEntityList == null) {
+                    updateWorkingEntityIndexMap(scoreDirector);
+                    newBestEntityList = solutionDescriptor.getEntityList(newBestSolution);
+                }
+                Integer entityIndex = workingEntityIndexMap.get(workingEntity);
+                if (entityIndex == null) {
+                    throw new IllegalStateException("The working entity (" + workingEntity
+                            + ") of the changed variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                            + ") is not in the working solution (" + scoreDirector.getWorkingSolution() + ").");
+                }
+                Object newBestEntity = newBestEntityList.get(entityIndex);
+                variableChangeList.add(new PlanningVariableChange(newBestEntity,
+                        variableDescriptor.getVariableName(), variableDescriptor.getValue(newBestEntity)));
+            }
+        }
+        clearOriginalValues();
+        return variableChangeList;
+    }
+
+    /**
+     * @return true if the next {@link #extractVariableChangeList(InnerScoreDirector, Object)} will cover all changes
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * The solution cloner keeps the order of the entity collections,
+     * so a working entity and its clone have the same index in {@link SolutionDescriptor#getEntityList(Object)}.
+     */
+    private void updateWorkingEntityIndexMap(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        long workingEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+        if (workingEntityIndexMap != null && workingEntityIndexMapRevision == workingEntityListRevision) {
+            return;
+        }
+        List<Object> workingEntityList = scoreDirector.getWorkingEntityList();
+        workingEntityIndexMap = new IdentityHashMap<>(workingEntityList.size());
+        for (int i = 0; i < workingEntityList.size(); i++) {
+            workingEntityIndexMap.put(workingEntityList.get(i), i);
+        }
+        workingEntityIndexMapRevision = workingEntityListRevision;
+    }
+
+    private void clearOriginalValues() {
+        originalValueMaps.clear();
+        lastVariableDescriptor = null;
+        lastOriginalValueMap = null;
+    }
+
+}
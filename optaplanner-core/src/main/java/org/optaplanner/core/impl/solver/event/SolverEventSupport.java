@@ -16,13 +16,19 @@
 
 package org.optaplanner.core.impl.solver.event;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.BestSolutionDeltaEvent;
+import org.optaplanner.core.api.solver.event.BestSolutionDeltaListener;
+import org.optaplanner.core.api.solver.event.PlanningVariableChange;
 import org.optaplanner.core.api.solver.event.SolverEventListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
@@ -38,13 +44,42 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
         this.solver = solver;
     }
 
+    /**
+     * @return true if the {@link InnerScoreDirector} needs a {@link BestSolutionDeltaRecorder}
+     */
+    public boolean hasBestSolutionDeltaListener() {
+        for (SolverEventListener<Solution_> eventListener : eventListenerSet) {
+            if (eventListener instanceof BestSolutionDeltaListener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution) {
         final Iterator<SolverEventListener<Solution_>> it = eventListenerSet.iterator();
         long timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
         Score bestScore = solverScope.getBestScore();
-        if (it.hasNext()) {
-            final BestSolutionChangedEvent<Solution_> event = new BestSolutionChangedEvent<>(solver,
-                    timeMillisSpent, newBestSolution, bestScore);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        BestSolutionDeltaRecorder<Solution_> bestSolutionDeltaRecorder = scoreDirector.getBestSolutionDeltaRecorder();
+        if (bestSolutionDeltaRecorder != null) {
+            // Extract even without listeners, so the recorded changes don't pile up
+            boolean variableChangeListComplete = bestSolutionDeltaRecorder.isComplete();
+            List<PlanningVariableChange> variableChangeList =
+                    bestSolutionDeltaRecorder.extractVariableChangeList(scoreDirector, newBestSolution);
+            if (it.hasNext()) {
+                final BestSolutionChangedEvent<Solution_> event = new BestSolutionDeltaEvent<>(solver,
+                        timeMillisSpent, newBestSolution, bestScore, variableChangeList, variableChangeListComplete);
+                do {
+                    it.next().bestSolutionChanged(event);
+                } while (it.hasNext());
+            }
+        } else if (it.hasNext()) {
+            final BestSolutionChangedEvent<Solution_> event = hasBestSolutionDeltaListener()
+                    // Added during solving, so nothing has been recorded
+                    ? new BestSolutionDeltaEvent<>(solver, timeMillisSpent, newBestSolution, bestScore,
+                            Collections.emptyList(), false)
+                    : new BestSolutionChangedEvent<>(solver, timeMillisSpent, newBestSolution, bestScore);
             do {
                 it.next().bestSolutionChanged(event);
             } while (it.hasNext());
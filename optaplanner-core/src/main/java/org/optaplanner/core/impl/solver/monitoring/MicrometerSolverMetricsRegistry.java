@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.monitoring;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.optaplanner.core.api.solver.monitoring.SolverMetric;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Binds the {@link SolverMetric}s to a Micrometer {@link MeterRegistry},
+ * as a {@link Counter}, a {@link Timer} or a {@link Gauge}, depending on the metric.
+ * <p>
+ * The meters are shared by all solvers that report to this instance,
+ * so a gauge (such as {@link SolverMetric#BEST_SCORE}) holds the value last reported by any of them.
+ * Use a separate instance with distinguishing common tags per solver to tell them apart.
+ * <p>
+ * Requires {@code io.micrometer:micrometer-core} on the classpath.
+ */
+public class MicrometerSolverMetricsRegistry implements SolverMetricsRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Tags commonTags;
+
+    private final ConcurrentMap<MeterKey, Counter> counterMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SolverMetric, Timer> timerMap = new ConcurrentHashMap<>();
+    // Micrometer only holds a weak reference to the gauge value holders
+    private final ConcurrentMap<MeterKey, GaugeValue> gaugeValueMap = new ConcurrentHashMap<>();
+
+    public MicrometerSolverMetricsRegistry(MeterRegistry meterRegistry) {
+        this(meterRegistry, Tags.empty());
+    }
+
+    /**
+     * @param meterRegistry never null
+     * @param commonTags never null, added to every meter
+     */
+    public MicrometerSolverMetricsRegistry(MeterRegistry meterRegistry, Tags commonTags) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.commonTags = Objects.requireNonNull(commonTags);
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    @Override
+    public void increment(SolverMetric metric, String tagValue, long amount) {
+        Counter counter = counterMap.computeIfAbsent(new MeterKey(metric, tagValue),
+                key -> Counter.builder(metric.getMeterName())
+                        .tags(buildTags(metric, tagValue))
+                        .register(meterRegistry));
+        counter.increment(amount);
+    }
+
+    @Override
+    public void recordNanos(SolverMetric metric, long nanos) {
+        Timer timer = timerMap.computeIfAbsent(metric,
+                key -> Timer.builder(metric.getMeterName())
+                        .tags(commonTags)
+                        .register(meterRegistry));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void gauge(SolverMetric metric, String tagValue, double value) {
+        GaugeValue gaugeValue = gaugeValueMap.computeIfAbsent(new MeterKey(metric, tagValue),
+                key -> {
+                    GaugeValue newGaugeValue = new GaugeValue();
+                    Gauge.builder(metric.getMeterName(), newGaugeValue, GaugeValue::getValue)
+                            .tags(buildTags(metric, tagValue))
+                            .register(meterRegistry);
+                    return newGaugeValue;
+                });
+        gaugeValue.value = value;
+    }
+
+    private Tags buildTags(SolverMetric metric, String tagValue) {
+        String tagKey = metric.getTagKey();
+        if (tagKey == null) {
+            return commonTags;
+        }
+        if (tagValue == null) {
+            throw new IllegalArgumentException("The metric (" + metric + ") with tagKey (" + tagKey
+                    + ") requires a non-null tagValue (" + tagValue + ").");
+        }
+        return commonTags.and(tagKey, tagValue);
+    }
+
+    private static final class MeterKey {
+
+        private final SolverMetric metric;
+        private final String tagValue;
+
+        private MeterKey(SolverMetric metric, String tagValue) {
+            this.metric = metric;
+            this.tagValue = tagValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof MeterKey)) {
+                return false;
+            }
+            MeterKey other = (MeterKey) o;
+            return metric == other.metric && Objects.equals(tagValue, other.tagValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, tagValue);
+        }
+
+    }
+
+    private static final class GaugeValue {
+
+        private volatile double value = Double.NaN;
+
+        private double getValue() {
+            return value;
+        }
+
+    }
+
+}
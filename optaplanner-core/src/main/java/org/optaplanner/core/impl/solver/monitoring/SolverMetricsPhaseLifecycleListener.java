@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.monitoring;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.monitoring.SolverMetric;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Reports the step based {@link SolverMetric}s to a {@link SolverMetricsRegistry}.
+ * Only registered if a {@link SolverMetricsRegistry} is configured, so it never slows down other solvers.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SolverMetricsPhaseLifecycleListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+    private final SolverMetricsRegistry metricsRegistry;
+
+    private String[] levelLabels;
+    private int phaseIndex;
+    private String phaseTagValue;
+    private long stepStartingNanos;
+    private long lastScoreCalculationCount;
+
+    public SolverMetricsPhaseLifecycleListener(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        levelLabels = solverScope.getScoreDefinition().getLevelLabels();
+        phaseIndex = -1;
+        lastScoreCalculationCount = solverScope.getScoreCalculationCount();
+        reportBestScore(solverScope);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseIndex++;
+        phaseTagValue = String.valueOf(phaseIndex);
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        stepStartingNanos = System.nanoTime();
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        metricsRegistry.recordNanos(SolverMetric.STEP_TIME, System.nanoTime() - stepStartingNanos);
+        if (stepScope instanceof LocalSearchStepScope) {
+            LocalSearchStepScope<Solution_> localSearchStepScope = (LocalSearchStepScope<Solution_>) stepScope;
+            Long selectedMoveCount = localSearchStepScope.getSelectedMoveCount();
+            if (selectedMoveCount != null) {
+                metricsRegistry.increment(SolverMetric.MOVE_EVALUATED_COUNT, phaseTagValue, selectedMoveCount);
+            }
+            Long acceptedMoveCount = localSearchStepScope.getAcceptedMoveCount();
+            if (acceptedMoveCount != null) {
+                metricsRegistry.increment(SolverMetric.MOVE_ACCEPTED_COUNT, phaseTagValue, acceptedMoveCount);
+            }
+        }
+        SolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+        reportScoreCalculationCount(solverScope);
+        if (stepScope.getBestScoreImproved()) {
+            reportBestScore(solverScope);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        // The construction heuristics only update the best solution at the end of the phase
+        reportBestScore(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        reportScoreCalculationCount(solverScope);
+        levelLabels = null;
+        phaseTagValue = null;
+    }
+
+    private void reportScoreCalculationCount(SolverScope<Solution_> solverScope) {
+        long scoreCalculationCount = solverScope.getScoreCalculationCount();
+        metricsRegistry.increment(SolverMetric.SCORE_CALCULATION_COUNT, null,
+                scoreCalculationCount - lastScoreCalculationCount);
+        lastScoreCalculationCount = scoreCalculationCount;
+        long timeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        // Avoid divide by zero exception on a fast CPU
+        metricsRegistry.gauge(SolverMetric.SCORE_CALCULATION_SPEED, null,
+                scoreCalculationCount * 1000.0 / (timeMillisSpent == 0L ? 1L : timeMillisSpent));
+    }
+
+    private void reportBestScore(SolverScope<Solution_> solverScope) {
+        Score<?> bestScore = solverScope.getBestScore();
+        if (bestScore == null) {
+            return;
+        }
+        Number[] levelNumbers = bestScore.toLevelNumbers();
+        for (int i = 0; i < levelNumbers.length; i++) {
+            metricsRegistry.gauge(SolverMetric.BEST_SCORE, levelLabels[i], levelNumbers[i].doubleValue());
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Selects elements randomly, proportional to their probability weight.
+ * <p>
+ * It's a Fenwick tree (binary indexed tree) of the cumulative probability weights,
+ * so {@link #sample(Random)} and {@link #setProbabilityWeight(int, double)} are O(log n),
+ * {@link #add(Object, double)} is O(log n) and all of it lives in 2 arrays.
+ * A random offset selects the same element as a lookup of the floor entry
+ * in a map from the cumulative probability weight to the element would.
+ *
+ * @param <T> the element type
+ */
+public class ProbabilityWeightTree<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private double[] probabilityWeights;
+    /**
+     * 1-based: the index 0 is unused.
+     */
+    private double[] tree;
+    private int size = 0;
+    private double probabilityWeightTotal = 0.0;
+
+    public ProbabilityWeightTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity {@code >= 0}
+     */
+    public ProbabilityWeightTree(int initialCapacity) {
+        elements = new Object[initialCapacity];
+        probabilityWeights = new double[initialCapacity];
+        tree = new double[initialCapacity + 1];
+    }
+
+    /**
+     * @return {@code >= 0}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index {@code 0 <= index < }{@link #size()}
+     * @return sometimes null
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return (T) elements[index];
+    }
+
+    /**
+     * @param index {@code 0 <= index < }{@link #size()}
+     * @return {@code >= 0.0}
+     */
+    public double getProbabilityWeight(int index) {
+        checkIndex(index);
+        return probabilityWeights[index];
+    }
+
+    /**
+     * @return {@code >= 0.0}, the sum of all probability weights
+     */
+    public double getProbabilityWeightTotal() {
+        return probabilityWeightTotal;
+    }
+
+    /**
+     * @param element sometimes null
+     * @param probabilityWeight {@code >= 0.0}
+     */
+    public void add(T element, double probabilityWeight) {
+        checkProbabilityWeight(probabilityWeight);
+        if (size == elements.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            elements = Arrays.copyOf(elements, capacity);
+            probabilityWeights = Arrays.copyOf(probabilityWeights, capacity);
+            tree = Arrays.copyOf(tree, capacity + 1);
+        }
+        elements[size] = element;
+        probabilityWeights[size] = probabilityWeight;
+        size++;
+        // The tree node of a new last element sums its own weight and the nodes of its children, which are complete
+        double node = probabilityWeight;
+        int lowestChild = size - Integer.lowestOneBit(size);
+        for (int child = size - 1; child > lowestChild; child -= Integer.lowestOneBit(child)) {
+            node += tree[child];
+        }
+        tree[size] = node;
+        probabilityWeightTotal += probabilityWeight;
+    }
+
+    /**
+     * @param index {@code 0 <= index < }{@link #size()}
+     * @param probabilityWeight {@code >= 0.0}
+     */
+    public void setProbabilityWeight(int index, double probabilityWeight) {
+        checkIndex(index);
+        checkProbabilityWeight(probabilityWeight);
+        double delta = probabilityWeight - probabilityWeights[index];
+        if (delta == 0.0) {
+            return;
+        }
+        probabilityWeights[index] = probabilityWeight;
+        for (int i = index + 1; i <= size; i += Integer.lowestOneBit(i)) {
+            tree[i] += delta;
+        }
+        probabilityWeightTotal += delta;
+    }
+
+    /**
+     * @param workingRandom never null
+     * @return sometimes null, an element with a probability weight above 0.0
+     * @throws IllegalArgumentException if the {@link #getProbabilityWeightTotal()} isn't above 0.0
+     */
+    public T sample(Random workingRandom) {
+        double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
+        return (T) elements[indexOf(randomOffset)];
+    }
+
+    /**
+     * @param randomOffset {@code 0.0 <= randomOffset < }{@link #getProbabilityWeightTotal()}
+     * @return the index of the element whose cumulative probability weight range contains the offset
+     */
+    protected int indexOf(double randomOffset) {
+        // Descend the tree to the number of elements whose cumulative probability weight is at most the offset
+        int index = 0;
+        double remainder = randomOffset;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= size && tree[next] <= remainder) {
+                index = next;
+                remainder -= tree[next];
+            }
+        }
+        // Only floating point rounding of updated weights can end past the last element or on a 0.0 weight
+        if (index >= size) {
+            index = size - 1;
+        }
+        while (index > 0 && probabilityWeights[index] == 0.0) {
+            index--;
+        }
+        return index;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") is not between 0 and size (" + size + ").");
+        }
+    }
+
+    private static void checkProbabilityWeight(double probabilityWeight) {
+        if (!(probabilityWeight >= 0.0) || Double.isInfinite(probabilityWeight)) {
+            throw new IllegalArgumentException("The probabilityWeight (" + probabilityWeight
+                    + ") must be a finite number that is 0.0 or higher.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + " elements, total " + probabilityWeightTotal + ")";
+    }
+
+}
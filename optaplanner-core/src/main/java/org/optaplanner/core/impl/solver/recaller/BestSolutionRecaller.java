@@ -19,10 +19,13 @@ package org.optaplanner.core.impl.solver.recaller;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.monitoring.SolverMetric;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.event.BestSolutionDeltaRecorder;
 import org.optaplanner.core.impl.solver.event.SolverEventSupport;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
@@ -79,6 +82,13 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         if (assertShadowVariablesAreNotStale) {
             scoreDirector.assertShadowVariablesAreNotStale(score, "Initial score calculated");
         }
+        if (solverEventSupport.hasBestSolutionDeltaListener()) {
+            if (scoreDirector.getBestSolutionDeltaRecorder() == null) {
+                scoreDirector.setBestSolutionDeltaRecorder(new BestSolutionDeltaRecorder<>());
+            }
+        } else {
+            scoreDirector.setBestSolutionDeltaRecorder(null);
+        }
     }
 
     public void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope) {
@@ -107,7 +117,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = cloneWorkingSolution(solverScope);
             updateBestSolution(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -115,7 +125,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     public void updateBestSolution(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = cloneWorkingSolution(solverScope);
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolution(solverScope, newBestScore, newBestSolution);
     }
@@ -132,4 +142,15 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
     }
 
+    protected Solution_ cloneWorkingSolution(SolverScope<Solution_> solverScope) {
+        SolverMetricsRegistry metricsRegistry = solverScope.getMetricsRegistry();
+        if (metricsRegistry == null) {
+            return solverScope.getScoreDirector().cloneWorkingSolution();
+        }
+        long startingNanos = System.nanoTime();
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        metricsRegistry.recordNanos(SolverMetric.SOLUTION_CLONE_TIME, System.nanoTime() - startingNanos);
+        return newBestSolution;
+    }
+
 }
@@ -23,6 +23,7 @@ import java.util.concurrent.Semaphore;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
@@ -42,6 +43,10 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    /**
+     * Null if no metrics are collected.
+     */
+    protected SolverMetricsRegistry metricsRegistry = null;
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
@@ -85,6 +90,14 @@ public class SolverScope<Solution_> {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
     }
 
+    public SolverMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public void setMetricsRegistry(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     public Long getStartingSystemTimeMillis() {
         return startingSystemTimeMillis;
     }
@@ -180,6 +193,17 @@ public class SolverScope<Solution_> {
         endingSystemTimeMillis = null;
     }
 
+    /**
+     * Continues the time spent of an earlier solve, for example one that is resumed from a checkpoint,
+     * so the time spent terminations include it.
+     *
+     * @param previousTimeMillisSpent {@code >= 0}
+     */
+    public void startingNow(long previousTimeMillisSpent) {
+        startingSystemTimeMillis = System.currentTimeMillis() - previousTimeMillisSpent;
+        endingSystemTimeMillis = null;
+    }
+
     public Long getBestSolutionTimeMillisSpent() {
         return bestSolutionTimeMillis - startingSystemTimeMillis;
     }
@@ -188,6 +212,20 @@ public class SolverScope<Solution_> {
         endingSystemTimeMillis = System.currentTimeMillis();
     }
 
+    /**
+     * Forgets the previous problem, so the solver can be reused for another problem
+     * without holding on to the old best solution or reporting its timings.
+     */
+    public void reset() {
+        startingSystemTimeMillis = null;
+        endingSystemTimeMillis = null;
+        childThreadsScoreCalculationCount = 0;
+        startingInitializedScore = null;
+        bestSolution = null;
+        bestScore = null;
+        bestSolutionTimeMillis = null;
+    }
+
     public boolean isBestSolutionInitialized() {
         return bestScore.isSolutionInitialized();
     }
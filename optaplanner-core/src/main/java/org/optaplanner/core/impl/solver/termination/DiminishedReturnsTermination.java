@@ -0,0 +1,269 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+
+/**
+ * Terminates when spending another {@link #getDiminishedReturnsTimeMillisSpentLimit()} milliseconds
+ * is predicted to improve the best score by less than {@link #getDiminishedReturnsScoreThreshold()}.
+ * <p>
+ * The prediction fits a diminishing returns model {@code score(t) = a + b * ln(1 + t)}
+ * on every score level of the best score curve with an online least squares regression,
+ * so it needs O(1) memory and no allocation per termination check.
+ * The solver and the phase each have their own curve, starting at the start of the solver and the phase respectively.
+ */
+public class DiminishedReturnsTermination<Solution_> extends AbstractTermination<Solution_> {
+
+    private final long diminishedReturnsTimeMillisSpentLimit;
+    private final Score<?> diminishedReturnsScoreThreshold;
+    private final Clock clock;
+
+    private final double[] thresholdLevels;
+    private final boolean[] integralLevels;
+
+    private ScoreCurve solverScoreCurve = null;
+    private ScoreCurve phaseScoreCurve = null;
+
+    public DiminishedReturnsTermination(long diminishedReturnsTimeMillisSpentLimit,
+            Score<?> diminishedReturnsScoreThreshold) {
+        this(diminishedReturnsTimeMillisSpentLimit, diminishedReturnsScoreThreshold, Clock.systemUTC());
+    }
+
+    protected DiminishedReturnsTermination(long diminishedReturnsTimeMillisSpentLimit,
+            Score<?> diminishedReturnsScoreThreshold, Clock clock) {
+        this.diminishedReturnsTimeMillisSpentLimit = diminishedReturnsTimeMillisSpentLimit;
+        this.diminishedReturnsScoreThreshold = diminishedReturnsScoreThreshold;
+        if (diminishedReturnsTimeMillisSpentLimit <= 0L) {
+            throw new IllegalArgumentException("The diminishedReturnsTimeMillisSpentLimit ("
+                    + diminishedReturnsTimeMillisSpentLimit + ") must be positive.");
+        }
+        this.clock = clock;
+        Number[] thresholdLevelNumbers = diminishedReturnsScoreThreshold.toLevelNumbers();
+        thresholdLevels = new double[thresholdLevelNumbers.length];
+        integralLevels = new boolean[thresholdLevelNumbers.length];
+        for (int i = 0; i < thresholdLevelNumbers.length; i++) {
+            thresholdLevels[i] = thresholdLevelNumbers[i].doubleValue();
+            // A gain of a fraction of a point is no gain at all for int and long score levels
+            integralLevels[i] = !(thresholdLevelNumbers[i] instanceof BigDecimal);
+        }
+    }
+
+    public long getDiminishedReturnsTimeMillisSpentLimit() {
+        return diminishedReturnsTimeMillisSpentLimit;
+    }
+
+    public Score<?> getDiminishedReturnsScoreThreshold() {
+        return diminishedReturnsScoreThreshold;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        solverScoreCurve = new ScoreCurve(solverScope.getStartingSystemTimeMillis());
+        solverScoreCurve.addBestScore(clock.millis(), solverScope.getBestScore());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        solverScoreCurve = null;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseScoreCurve = new ScoreCurve(phaseScope.getStartingSystemTimeMillis());
+        phaseScoreCurve.addBestScore(clock.millis(), phaseScope.getSolverScope().getBestScore());
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseScoreCurve = null;
+        if (solverScoreCurve != null) {
+            // Construction heuristics only publish their best solution at the end of the phase
+            SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+            solverScoreCurve.addBestScore(solverScope.getBestSolutionTimeMillis(), solverScope.getBestScore());
+        }
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (stepScope.getBestScoreImproved()) {
+            SolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+            long bestSolutionTimeMillis = solverScope.getBestSolutionTimeMillis();
+            Score<?> bestScore = solverScope.getBestScore();
+            if (solverScoreCurve != null) {
+                solverScoreCurve.addBestScore(bestSolutionTimeMillis, bestScore);
+            }
+            if (phaseScoreCurve != null) {
+                phaseScoreCurve.addBestScore(bestSolutionTimeMillis, bestScore);
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Terminated methods
+    // ************************************************************************
+
+    @Override
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        return isTerminated(solverScoreCurve);
+    }
+
+    @Override
+    public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
+        return isTerminated(phaseScoreCurve);
+    }
+
+    protected boolean isTerminated(ScoreCurve scoreCurve) {
+        if (scoreCurve == null || !scoreCurve.isInitialized()) {
+            return false;
+        }
+        long now = clock.millis();
+        if (now - scoreCurve.originTimeMillis < diminishedReturnsTimeMillisSpentLimit) {
+            // Too early to tell
+            return false;
+        }
+        for (int i = 0; i < thresholdLevels.length; i++) {
+            double predictedGain = scoreCurve.predictGain(i, now, diminishedReturnsTimeMillisSpentLimit);
+            if (integralLevels[i]) {
+                predictedGain = Math.floor(predictedGain);
+            }
+            if (predictedGain > thresholdLevels[i]) {
+                return false;
+            } else if (predictedGain < thresholdLevels[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ************************************************************************
+    // Time gradient methods
+    // ************************************************************************
+
+    @Override
+    public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
+        // There is no fixed time horizon to estimate it from
+        return -1.0;
+    }
+
+    @Override
+    public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
+        return -1.0;
+    }
+
+    // ************************************************************************
+    // Other methods
+    // ************************************************************************
+
+    @Override
+    public DiminishedReturnsTermination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+            ChildThreadType childThreadType) {
+        return new DiminishedReturnsTermination<>(diminishedReturnsTimeMillisSpentLimit,
+                diminishedReturnsScoreThreshold, clock);
+    }
+
+    @Override
+    public String toString() {
+        return "DiminishedReturns(" + diminishedReturnsTimeMillisSpentLimit + ")";
+    }
+
+    /**
+     * Running sums of a least squares regression of each score level on {@code x = ln(1 + seconds since origin)}.
+     * The current time is added as a virtual point with the last best score,
+     * so a long period without improvements flattens the curve.
+     */
+    protected static final class ScoreCurve {
+
+        private final long originTimeMillis;
+
+        private long lastTimeMillis = -1L;
+        private int count = 0;
+        private double sumX = 0.0;
+        private double sumXX = 0.0;
+        private double[] sumY = null;
+        private double[] sumXY = null;
+        private double[] lastY = null;
+
+        private ScoreCurve(long originTimeMillis) {
+            this.originTimeMillis = originTimeMillis;
+        }
+
+        private boolean isInitialized() {
+            return lastY != null;
+        }
+
+        private double toX(long timeMillis) {
+            return Math.log1p(Math.max(0L, timeMillis - originTimeMillis) / 1000.0);
+        }
+
+        private void addBestScore(long timeMillis, Score<?> bestScore) {
+            if (bestScore == null || !bestScore.isSolutionInitialized()) {
+                // Uninitialized scores are not comparable with the curve of initialized scores
+                return;
+            }
+            if (timeMillis == lastTimeMillis) {
+                // Already added, for example by the last step of the phase
+                return;
+            }
+            lastTimeMillis = timeMillis;
+            Number[] levelNumbers = bestScore.toLevelNumbers();
+            if (lastY == null) {
+                sumY = new double[levelNumbers.length];
+                sumXY = new double[levelNumbers.length];
+                lastY = new double[levelNumbers.length];
+            }
+            double x = toX(timeMillis);
+            count++;
+            sumX += x;
+            sumXX += x * x;
+            for (int i = 0; i < levelNumbers.length; i++) {
+                double y = levelNumbers[i].doubleValue();
+                sumY[i] += y;
+                sumXY[i] += x * y;
+                lastY[i] = y;
+            }
+        }
+
+        private double predictGain(int levelIndex, long nowMillis, long intervalMillis) {
+            double nowX = toX(nowMillis);
+            int n = count + 1;
+            double sx = sumX + nowX;
+            double sxx = sumXX + nowX * nowX;
+            double sy = sumY[levelIndex] + lastY[levelIndex];
+            double sxy = sumXY[levelIndex] + nowX * lastY[levelIndex];
+            double denominator = n * sxx - sx * sx;
+            if (denominator <= 0.0) {
+                return 0.0;
+            }
+            double slope = (n * sxy - sx * sy) / denominator;
+            return slope * (toX(nowMillis + intervalMillis) - nowX);
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver.termination;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -127,6 +128,33 @@ public class TerminationFactory<Solution_> {
                     + unimprovedTimeMillisSpentLimit + ") is used too.");
         }
 
+        Duration diminishedReturnsSpentLimit = terminationConfig.getDiminishedReturnsSpentLimit();
+        if (diminishedReturnsSpentLimit != null) {
+            if (terminationConfig.getDiminishedReturnsScoreThreshold() == null) {
+                throw new IllegalStateException("The diminishedReturnsSpentLimit (" + diminishedReturnsSpentLimit
+                        + ") can only be used if a diminishedReturnsScoreThreshold ("
+                        + terminationConfig.getDiminishedReturnsScoreThreshold() + ") is used too.");
+            }
+            if (diminishedReturnsSpentLimit.getNano() % 1000 != 0) {
+                throw new IllegalArgumentException("The termination diminishedReturnsSpentLimit ("
+                        + diminishedReturnsSpentLimit + ") cannot use nanoseconds.");
+            }
+            ScoreDefinition<Score_> scoreDefinition = configPolicy.getScoreDefinition();
+            Score_ diminishedReturnsScoreThreshold_ =
+                    scoreDefinition.parseScore(terminationConfig.getDiminishedReturnsScoreThreshold());
+            if (diminishedReturnsScoreThreshold_.compareTo(scoreDefinition.getZeroScore()) <= 0) {
+                throw new IllegalStateException("The diminishedReturnsScoreThreshold ("
+                        + terminationConfig.getDiminishedReturnsScoreThreshold() + ") must be positive.");
+            }
+            terminationList.add(new DiminishedReturnsTermination<>(diminishedReturnsSpentLimit.toMillis(),
+                    diminishedReturnsScoreThreshold_));
+        } else if (terminationConfig.getDiminishedReturnsScoreThreshold() != null) {
+            throw new IllegalStateException("The diminishedReturnsScoreThreshold ("
+                    + terminationConfig.getDiminishedReturnsScoreThreshold()
+                    + ") can only be used if a diminishedReturnsSpentLimit ("
+                    + diminishedReturnsSpentLimit + ") is used too.");
+        }
+
         return terminationList;
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+
+/**
+ * Terminates a fixed amount of time after {@link #start()}, regardless of when the solver or phase started.
+ * For example, a partition of a partitioned search round that waited for a free thread
+ * still gets its full time slice once it starts.
+ * Not terminated before it's started.
+ */
+public class TimeSliceTermination<Solution_> extends AbstractTermination<Solution_> {
+
+    private final long timeSliceMillis;
+
+    private volatile long startingSystemTimeMillis = -1L;
+
+    /**
+     * @param timeSliceMillis {@code >= 0}
+     */
+    public TimeSliceTermination(long timeSliceMillis) {
+        if (timeSliceMillis < 0L) {
+            throw new IllegalArgumentException("The timeSliceMillis (" + timeSliceMillis
+                    + ") cannot be negative.");
+        }
+        this.timeSliceMillis = timeSliceMillis;
+    }
+
+    public long getTimeSliceMillis() {
+        return timeSliceMillis;
+    }
+
+    public void start() {
+        startingSystemTimeMillis = System.currentTimeMillis();
+    }
+
+    // ************************************************************************
+    // Terminated methods
+    // ************************************************************************
+
+    @Override
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        return isTerminated();
+    }
+
+    @Override
+    public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
+        return isTerminated();
+    }
+
+    public boolean isTerminated() {
+        long startingSystemTimeMillis = this.startingSystemTimeMillis;
+        return startingSystemTimeMillis >= 0L
+                && System.currentTimeMillis() - startingSystemTimeMillis >= timeSliceMillis;
+    }
+
+    // ************************************************************************
+    // Time gradient methods
+    // ************************************************************************
+
+    @Override
+    public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
+        return calculateTimeGradient();
+    }
+
+    @Override
+    public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
+        return calculateTimeGradient();
+    }
+
+    protected double calculateTimeGradient() {
+        long startingSystemTimeMillis = this.startingSystemTimeMillis;
+        if (startingSystemTimeMillis < 0L) {
+            return 0.0;
+        }
+        if (timeSliceMillis == 0L) {
+            return 1.0;
+        }
+        double timeGradient = (System.currentTimeMillis() - startingSystemTimeMillis) / ((double) timeSliceMillis);
+        return Math.min(timeGradient, 1.0);
+    }
+
+    // ************************************************************************
+    // Other methods
+    // ************************************************************************
+
+    @Override
+    public TimeSliceTermination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+            ChildThreadType childThreadType) {
+        // Each part thread starts its own instance, so it can be shared with the children of that part
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSlice(" + timeSliceMillis + ")";
+    }
+
+}
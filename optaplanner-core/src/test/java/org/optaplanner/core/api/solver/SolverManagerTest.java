@@ -51,6 +51,7 @@ import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedSolution;
@@ -517,4 +518,33 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void solverPooling_reusesSolverForNextProblem() throws ExecutionException, InterruptedException {
+        List<ScoreDirector<TestdataSolution>> usedScoreDirectorList = Collections.synchronizedList(new ArrayList<>());
+        CustomPhaseCommand<TestdataSolution> recordingCommand = usedScoreDirectorList::add;
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(recordingCommand),
+                        new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withParallelSolverCount("1").withSolverPoolingEnabled(true));
+
+        for (long problemId = 1L; problemId <= 3L; problemId++) {
+            String code = "s" + problemId;
+            List<TestdataSolution> consumedBestSolutionList = Collections.synchronizedList(new ArrayList<>());
+            SolverJob<TestdataSolution, Long> solverJob = solverManager.solveAndListen(problemId,
+                    id -> PlannerTestUtils.generateTestdataSolution(code), consumedBestSolutionList::add);
+            TestdataSolution finalBestSolution = solverJob.getFinalBestSolution();
+            assertSolutionInitialized(finalBestSolution);
+            assertThat(finalBestSolution.getCode()).isEqualTo(code);
+            // The listener of an earlier problem must not receive the best solutions of this problem
+            assertThat(consumedBestSolutionList).isNotEmpty()
+                    .allSatisfy(bestSolution -> assertThat(bestSolution.getCode()).isEqualTo(code));
+            assertThat(solverJob.getSolvingDuration()).isNotNull();
+        }
+        assertThat(usedScoreDirectorList).hasSize(3);
+        assertThat(usedScoreDirectorList.stream().distinct()).hasSize(1);
+        solverManager.close();
+    }
+
 }
@@ -17,17 +17,26 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
@@ -111,4 +120,83 @@ public class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    public void solveWithPlacementThreads() {
+        TestdataSolution solution = solveWithPlacementThreadCount(3);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        assertThat(solution.getEntityList()).extracting(TestdataEntity::getValue).doesNotContainNull();
+
+        // The placement threads don't change which moves are picked
+        TestdataSolution singleThreadedSolution = solveWithPlacementThreadCount(1);
+        assertThat(solution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(solution.getEntityList()).extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(singleThreadedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
+    private static TestdataSolution solveWithPlacementThreadCount(int placementThreadCount) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(
+                new ConstructionHeuristicPhaseConfig().withPlacementThreadCount(placementThreadCount)));
+
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 8);
+        for (TestdataEntity entity : solution.getEntityList()) {
+            entity.setValue(null);
+        }
+        return PlannerTestUtils.solve(solverConfig, solution);
+    }
+
+    @Test
+    public void solveWithEntityBatchSize() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withEntityPlacerConfig(new QueuedEntityPlacerConfig().withEntityBatchSize(3))));
+
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 8);
+        for (TestdataEntity entity : solution.getEntityList()) {
+            entity.setValue(null);
+        }
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        assertThat(solution.getEntityList()).extracting(TestdataEntity::getValue).doesNotContainNull();
+    }
+
+    @Test
+    public void solveWithListVariable() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSolution.class,
+                TestdataListEntity.class, TestdataListValue.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(6, 2);
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        assertThat(solution.getEntityList())
+                .flatExtracting(TestdataListEntity::getValueList)
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+        for (TestdataListEntity entity : solution.getEntityList()) {
+            for (int i = 0; i < entity.getValueList().size(); i++) {
+                TestdataListValue value = entity.getValueList().get(i);
+                assertThat(value.getEntity()).isSameAs(entity);
+                assertThat(value.getIndex()).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    public void listVariableWithUnsupportedConstructionHeuristicType() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSolution.class,
+                TestdataListEntity.class, TestdataListValue.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT_DECREASING)));
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException().isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining(ConstructionHeuristicType.FIRST_FIT_DECREASING.name());
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class ConstructionHeuristicDeciderTest {
+
+    @Test
+    public void decideNextBatchStep() {
+        ConstructionHeuristicForager<TestdataSolution> forager = mock(ConstructionHeuristicForager.class);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = buildStepScope();
+        Move<TestdataSolution> move1 = mock(Move.class);
+        Move<TestdataSolution> move2 = mock(Move.class);
+        when(forager.pickMove(any()))
+                .thenReturn(buildPickedMoveScope(stepScope, move1, -2))
+                .thenReturn(buildPickedMoveScope(stepScope, move2, -1));
+        ConstructionHeuristicDecider<TestdataSolution> decider = buildDecider(forager);
+
+        Iterator<Placement<TestdataSolution>> placementIterator = Arrays.asList(
+                buildPlacement(move1), buildPlacement(move2), buildPlacement(mock(Move.class))).iterator();
+        assertThat(decider.decideNextBatchStep(stepScope, placementIterator, 2)).isTrue();
+        assertThat(stepScope.getStep()).isNotNull();
+        assertThat(stepScope.getUndoStep()).isNotNull();
+        assertThat((SimpleScore) stepScope.getScore()).isEqualTo(SimpleScore.of(-1));
+        // Only entityBatchSize placements are consumed
+        assertThat(placementIterator.hasNext()).isTrue();
+    }
+
+    @Test
+    public void decideNextBatchStepWithoutStepForLaterPlacement() {
+        ConstructionHeuristicForager<TestdataSolution> forager = mock(ConstructionHeuristicForager.class);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = buildStepScope();
+        Move<TestdataSolution> move1 = mock(Move.class);
+        when(forager.pickMove(any()))
+                .thenReturn(buildPickedMoveScope(stepScope, move1, -2))
+                .thenAnswer(invocation -> {
+                    stepScope.setSelectedMoveCount(1L);
+                    return null;
+                });
+        ConstructionHeuristicDecider<TestdataSolution> decider = buildDecider(forager);
+
+        Iterator<Placement<TestdataSolution>> placementIterator = Arrays.asList(
+                buildPlacement(move1), buildPlacement(mock(Move.class))).iterator();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> decider.decideNextBatchStep(stepScope, placementIterator, 2))
+                .withMessageContaining("failed to pick a nextStep");
+    }
+
+    @Test
+    public void decideNextBatchStepWithoutDoableMoveForLaterPlacement() {
+        ConstructionHeuristicForager<TestdataSolution> forager = mock(ConstructionHeuristicForager.class);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = buildStepScope();
+        Move<TestdataSolution> move1 = mock(Move.class);
+        when(forager.pickMove(any()))
+                .thenReturn(buildPickedMoveScope(stepScope, move1, -2))
+                .thenAnswer(invocation -> {
+                    stepScope.setSelectedMoveCount(0L);
+                    return null;
+                });
+        ConstructionHeuristicDecider<TestdataSolution> decider = buildDecider(forager);
+
+        Iterator<Placement<TestdataSolution>> placementIterator = Arrays.asList(
+                buildPlacement(move1), buildPlacement()).iterator();
+        // The placements before it are still a step, but the phase must terminate after it
+        assertThat(decider.decideNextBatchStep(stepScope, placementIterator, 2)).isFalse();
+        assertThat(stepScope.getStep()).isNotNull();
+        assertThat((SimpleScore) stepScope.getScore()).isEqualTo(SimpleScore.of(-2));
+    }
+
+    private static ConstructionHeuristicDecider<TestdataSolution> buildDecider(
+            ConstructionHeuristicForager<TestdataSolution> forager) {
+        Termination<TestdataSolution> termination = mock(Termination.class);
+        when(termination.isPhaseTerminated(any())).thenReturn(false);
+        return new ConstructionHeuristicDecider<>("", termination, forager);
+    }
+
+    private static ConstructionHeuristicStepScope<TestdataSolution> buildStepScope() {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(mock(InnerScoreDirector.class));
+        solverScope.startingNow();
+        return new ConstructionHeuristicStepScope<>(new ConstructionHeuristicPhaseScope<>(solverScope), 0);
+    }
+
+    private static ConstructionHeuristicMoveScope<TestdataSolution> buildPickedMoveScope(
+            ConstructionHeuristicStepScope<TestdataSolution> stepScope, Move<TestdataSolution> move, int score) {
+        ConstructionHeuristicMoveScope<TestdataSolution> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, 0,
+                move);
+        moveScope.setScore(SimpleScore.of(score));
+        stepScope.setSelectedMoveCount(1L);
+        return moveScope;
+    }
+
+    @SafeVarargs
+    private static Placement<TestdataSolution> buildPlacement(Move<TestdataSolution>... moves) {
+        return new Placement<>(moves.length == 0 ? Collections.emptyIterator() : Arrays.asList(moves).iterator());
+    }
+
+}
@@ -90,6 +90,7 @@ public class DefaultConstructionHeuristicForagerTest<Solution_> {
 
         ConstructionHeuristicStepScope<Solution_> stepScope = mock(ConstructionHeuristicStepScope.class);
         when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getPlacementStartingScore()).thenReturn(lastStepScore);
         return stepScope;
     }
 
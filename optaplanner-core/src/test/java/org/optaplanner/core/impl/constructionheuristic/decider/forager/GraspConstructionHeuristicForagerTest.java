@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.constructionheuristic.decider.forager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class GraspConstructionHeuristicForagerTest {
+
+    @Test
+    public void pickMoveFromRestrictedCandidateList() {
+        GraspConstructionHeuristicForager<TestdataSolution> forager = new GraspConstructionHeuristicForager<>(2);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = mock(ConstructionHeuristicStepScope.class);
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextInt(2)).thenReturn(1, 0);
+        when(stepScope.getWorkingRandom()).thenReturn(workingRandom);
+        forager.stepStarted(stepScope);
+        ConstructionHeuristicMoveScope<TestdataSolution> a = buildMoveScope(SimpleScore.of(-5));
+        ConstructionHeuristicMoveScope<TestdataSolution> b = buildMoveScope(SimpleScore.of(-1));
+        ConstructionHeuristicMoveScope<TestdataSolution> c = buildMoveScope(SimpleScore.of(-10));
+        ConstructionHeuristicMoveScope<TestdataSolution> d = buildMoveScope(SimpleScore.of(-2));
+        forager.addMove(a);
+        forager.addMove(b);
+        forager.addMove(c);
+        forager.addMove(d);
+        assertThat(forager.isQuitEarly()).isFalse();
+        assertThat(forager.pickMove(stepScope)).isSameAs(d);
+        assertThat(forager.pickMove(stepScope)).isSameAs(b);
+    }
+
+    @Test
+    public void pickMoveWithoutMoves() {
+        GraspConstructionHeuristicForager<TestdataSolution> forager = new GraspConstructionHeuristicForager<>(3);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = mock(ConstructionHeuristicStepScope.class);
+        forager.stepStarted(stepScope);
+        assertThat(forager.pickMove(stepScope)).isNull();
+    }
+
+    protected ConstructionHeuristicMoveScope<TestdataSolution> buildMoveScope(Score score) {
+        ConstructionHeuristicMoveScope<TestdataSolution> moveScope = mock(ConstructionHeuristicMoveScope.class);
+        when(moveScope.getScore()).thenReturn(score);
+        return moveScope;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.constructionheuristic.decider.forager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class RegretConstructionHeuristicForagerTest {
+
+    @Test
+    public void pickMoveOfEntityWithLargestRegret() {
+        RegretConstructionHeuristicForager<TestdataSolution> forager = new RegretConstructionHeuristicForager<>(2);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = mock(ConstructionHeuristicStepScope.class);
+        forager.stepStarted(stepScope);
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        ConstructionHeuristicMoveScope<TestdataSolution> a1 = buildMoveScope(stepScope, a, SimpleScore.of(-1));
+        ConstructionHeuristicMoveScope<TestdataSolution> a2 = buildMoveScope(stepScope, a, SimpleScore.of(-2));
+        ConstructionHeuristicMoveScope<TestdataSolution> b1 = buildMoveScope(stepScope, b, SimpleScore.of(-20));
+        ConstructionHeuristicMoveScope<TestdataSolution> b2 = buildMoveScope(stepScope, b, SimpleScore.of(-3));
+        ConstructionHeuristicMoveScope<TestdataSolution> b3 = buildMoveScope(stepScope, b, SimpleScore.of(-30));
+        forager.addMove(a1);
+        forager.addMove(a2);
+        forager.addMove(b1);
+        forager.addMove(b2);
+        forager.addMove(b3);
+        assertThat(forager.isQuitEarly()).isFalse();
+        // The regret of a is 1, the regret of b is 17
+        assertThat(forager.pickMove(stepScope)).isSameAs(b2);
+    }
+
+    @Test
+    public void pickMoveOfEntityWithLessThanKMoves() {
+        RegretConstructionHeuristicForager<TestdataSolution> forager = new RegretConstructionHeuristicForager<>(3);
+        ConstructionHeuristicStepScope<TestdataSolution> stepScope = mock(ConstructionHeuristicStepScope.class);
+        forager.stepStarted(stepScope);
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        forager.addMove(buildMoveScope(stepScope, a, SimpleScore.of(-1)));
+        forager.addMove(buildMoveScope(stepScope, a, SimpleScore.of(-100)));
+        forager.addMove(buildMoveScope(stepScope, a, SimpleScore.of(-200)));
+        ConstructionHeuristicMoveScope<TestdataSolution> b1 = buildMoveScope(stepScope, b, SimpleScore.of(-50));
+        ConstructionHeuristicMoveScope<TestdataSolution> b2 = buildMoveScope(stepScope, b, SimpleScore.of(-60));
+        forager.addMove(b1);
+        forager.addMove(b2);
+        assertThat(forager.pickMove(stepScope)).isSameAs(b1);
+    }
+
+    protected ConstructionHeuristicMoveScope<TestdataSolution> buildMoveScope(
+            ConstructionHeuristicStepScope<TestdataSolution> stepScope, TestdataEntity entity, Score score) {
+        Move<TestdataSolution> move = mock(Move.class);
+        doReturn(Collections.singletonList(entity)).when(move).getPlanningEntities();
+        ConstructionHeuristicMoveScope<TestdataSolution> moveScope = mock(ConstructionHeuristicMoveScope.class);
+        when(moveScope.getStepScope()).thenReturn(stepScope);
+        when(moveScope.getMove()).thenReturn(move);
+        when(moveScope.getScore()).thenReturn(score);
+        return moveScope;
+    }
+
+}
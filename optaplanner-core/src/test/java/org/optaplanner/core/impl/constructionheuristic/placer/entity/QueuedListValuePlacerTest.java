@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.placer.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedListValuePlacer;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class QueuedListValuePlacerTest {
+
+    @Test
+    public void placesEveryUnassignedValueAtEveryPosition() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1);
+        TestdataListEntity b = new TestdataListEntity("b");
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setEntityList(Arrays.asList(a, b));
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+
+        SingletonInverseVariableSupply inverseVariableSupply = value -> ((TestdataListValue) value).getEntity();
+        SupplyManager<TestdataListSolution> supplyManager = mock(SupplyManager.class);
+        doReturn(inverseVariableSupply).when(supplyManager).demand(any());
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        doReturn(supplyManager).when(scoreDirector).getSupplyManager();
+        doReturn(solution).when(scoreDirector).getWorkingSolution();
+
+        QueuedListValuePlacer<TestdataListSolution> placer =
+                new QueuedListValuePlacer<>(TestdataListEntity.buildVariableDescriptorForValueList());
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        placer.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataListSolution> phaseScope = mock(AbstractPhaseScope.class);
+        doReturn(solverScope).when(phaseScope).getSolverScope();
+        doReturn(scoreDirector).when(phaseScope).getScoreDirector();
+        placer.phaseStarted(phaseScope);
+
+        Iterator<Placement<TestdataListSolution>> placementIterator = placer.iterator();
+        // The assigned value 1 is skipped
+        assertThat(placementIterator.hasNext()).isTrue();
+        assertThat(toStrings(placementIterator.next())).containsExactly(
+                "{2 -> a[0]}", "{2 -> a[1]}", "{2 -> b[0]}");
+
+        // The placements are created lazily, so they see the previous step
+        b.getValueList().add(v2);
+        v2.setEntity(b);
+        assertThat(placementIterator.hasNext()).isTrue();
+        assertThat(toStrings(placementIterator.next())).containsExactly(
+                "{3 -> a[0]}", "{3 -> a[1]}", "{3 -> b[0]}", "{3 -> b[1]}");
+        assertThat(placementIterator.hasNext()).isFalse();
+
+        placer.phaseEnded(phaseScope);
+        placer.solvingEnded(solverScope);
+    }
+
+    private static List<String> toStrings(Placement<TestdataListSolution> placement) {
+        List<String> moveStrings = new ArrayList<>();
+        placement.iterator().forEachRemaining(move -> moveStrings.add(move.toString()));
+        return moveStrings;
+    }
+
+}
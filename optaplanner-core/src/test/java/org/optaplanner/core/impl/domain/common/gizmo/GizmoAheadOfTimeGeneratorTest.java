@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.common.gizmo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.common.accessor.gizmo.GizmoMemberAccessorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class GizmoAheadOfTimeGeneratorTest {
+
+    @Test
+    public void generateAndLoad(@TempDir Path outputDirectory) throws Exception {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class);
+        Set<String> classNameSet = GizmoAheadOfTimeGenerator.generate(outputDirectory,
+                Collections.singletonList(solverConfig));
+
+        String memberAccessorClassName = GizmoMemberAccessorFactory.getGeneratedClassName(
+                TestdataEntity.class.getMethod("getValue"));
+        String solutionClonerClassName = TestdataSolution.class.getName() + "$OptaPlanner$SolutionCloner";
+        assertThat(classNameSet).contains(memberAccessorClassName, solutionClonerClassName);
+        for (String className : classNameSet) {
+            assertThat(outputDirectory.resolve(className.replace('.', '/') + ".class")).exists();
+        }
+        assertThat(Files.readAllLines(outputDirectory.resolve(GizmoClassRegistry.REGISTRY_RESOURCE)))
+                .containsExactlyElementsOf(classNameSet);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GizmoClassRegistry registry = GizmoClassRegistry.load(classLoader);
+            assertThat(registry).isNotNull();
+
+            TestdataValue value = new TestdataValue("v1");
+            TestdataEntity entity = new TestdataEntity("e1", value);
+            MemberAccessor memberAccessor = registry.getMemberAccessorMap().get(memberAccessorClassName);
+            assertThat(memberAccessor.getClass().getClassLoader()).isSameAs(classLoader);
+            assertThat(memberAccessor.executeGetter(entity)).isSameAs(value);
+
+            TestdataSolution solution = new TestdataSolution("s1");
+            solution.setValueList(Collections.singletonList(value));
+            solution.setEntityList(Collections.singletonList(entity));
+            SolutionCloner<TestdataSolution> solutionCloner =
+                    registry.getSolutionClonerMap().get(solutionClonerClassName);
+            TestdataSolution clone = solutionCloner.cloneSolution(solution);
+            assertThat(clone).isNotSameAs(solution);
+            assertThat(clone.getEntityList()).hasSize(1);
+            assertThat(clone.getEntityList().get(0)).isNotSameAs(entity);
+            assertThat(clone.getEntityList().get(0).getValue()).isSameAs(value);
+        }
+    }
+
+    @Test
+    public void generateWithoutEntityClass(@TempDir Path outputDirectory) {
+        SolverConfig solverConfig = new SolverConfig().withSolutionClass(TestdataSolution.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> GizmoAheadOfTimeGenerator.generate(outputDirectory,
+                        Collections.singletonList(solverConfig)))
+                .withMessageContaining("entityClass");
+    }
+
+}
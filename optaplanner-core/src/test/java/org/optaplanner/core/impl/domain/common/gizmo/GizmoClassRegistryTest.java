@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.common.gizmo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+
+public class GizmoClassRegistryTest {
+
+    @Test
+    public void noRegistry() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            assertThat(GizmoClassRegistry.load(classLoader)).isNull();
+        }
+    }
+
+    @Test
+    public void loadListedClasses(@TempDir Path outputDirectory) throws IOException {
+        writeRegistry(outputDirectory, "# Generated", TestdataGeneratedSolutionCloner.class.getName(), "");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GizmoClassRegistry registry = GizmoClassRegistry.load(classLoader);
+            assertThat(registry).isNotNull();
+            assertThat(registry.getMemberAccessorMap()).isEmpty();
+            assertThat(registry.getSolutionClonerMap())
+                    .containsOnlyKeys(TestdataGeneratedSolutionCloner.class.getName());
+            assertThat(registry.getSolutionClonerMap().get(TestdataGeneratedSolutionCloner.class.getName()))
+                    .isInstanceOf(TestdataGeneratedSolutionCloner.class);
+        }
+    }
+
+    @Test
+    public void missingClass(@TempDir Path outputDirectory) throws IOException {
+        writeRegistry(outputDirectory, "org.example.DoesNotExist$OptaPlanner$SolutionCloner");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+                getClass().getClassLoader())) {
+            assertThatIllegalStateException().isThrownBy(() -> GizmoClassRegistry.load(classLoader))
+                    .withMessageContaining("does not exist");
+        }
+    }
+
+    private static void writeRegistry(Path outputDirectory, String... lines) throws IOException {
+        Path registryFile = outputDirectory.resolve(GizmoClassRegistry.REGISTRY_RESOURCE);
+        Files.createDirectories(registryFile.getParent());
+        Files.write(registryFile, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    public static final class TestdataGeneratedSolutionCloner implements SolutionCloner<Object> {
+
+        @Override
+        public Object cloneSolution(Object original) {
+            return original;
+        }
+
+    }
+
+}
@@ -64,6 +64,9 @@ import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExt
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartyEntity;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartySolution;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataThirdPartyEntityPojo;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
 import org.optaplanner.core.impl.testdata.domain.reflect.accessmodifier.TestdataAccessModifierSolution;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedEntity;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedSolution;
@@ -407,6 +410,45 @@ public abstract class AbstractSolutionClonerTest {
         assertThat(cloneEntity.getChainedObject()).isSameAs(value);
     }
 
+    @Test
+    public void cloneListVariableSolution() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataListSolution> cloner = createSolutionCloner(solutionDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b");
+
+        TestdataListSolution original = new TestdataListSolution("solution");
+        original.setValueList(Arrays.asList(v1, v2, v3));
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataListSolution clone = cloner.cloneSolution(original);
+        assertThat(clone).isNotSameAs(original);
+        assertCode("solution", clone);
+
+        TestdataListEntity cloneA = clone.getEntityList().get(0);
+        TestdataListEntity cloneB = clone.getEntityList().get(1);
+        TestdataListValue cloneV1 = clone.getValueList().get(0);
+        TestdataListValue cloneV2 = clone.getValueList().get(1);
+        TestdataListValue cloneV3 = clone.getValueList().get(2);
+        assertThat(cloneA).isNotSameAs(a);
+        assertThat(cloneA.getValueList()).isNotSameAs(a.getValueList());
+        assertThat(cloneA.getValueList()).containsExactly(cloneV1, cloneV2);
+        assertThat(cloneB.getValueList()).isNotSameAs(b.getValueList()).isEmpty();
+        assertThat(cloneV1.getEntity()).isSameAs(cloneA);
+        assertThat(cloneV2.getIndex()).isEqualTo(1);
+        assertThat(cloneV3.getEntity()).isNull();
+
+        a.getValueList().remove(v2);
+        b.getValueList().add(v3);
+        // Clone remains unchanged
+        assertThat(cloneA.getValueList()).containsExactly(cloneV1, cloneV2);
+        assertThat(cloneB.getValueList()).isEmpty();
+    }
+
     @Test
     public void cloneShadowChainedSolution() {
         SolutionDescriptor<TestdataShadowingChainedSolution> solutionDescriptor =
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataRenamedFieldListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataRenamedFieldListSolution;
+
+public class DeepCloningUtilsTest {
+
+    @Test
+    public void isFieldAPlanningListVariable() throws NoSuchFieldException {
+        DeepCloningUtils deepCloningUtils = new DeepCloningUtils(TestdataListSolution.buildSolutionDescriptor());
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataListEntity.class.getDeclaredField("valueList"), TestdataListEntity.class)).isTrue();
+        assertThat(deepCloningUtils.isFieldDeepCloned(
+                TestdataListEntity.class.getDeclaredField("valueList"), TestdataListEntity.class)).isTrue();
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataListValue.class.getDeclaredField("entity"), TestdataListValue.class)).isFalse();
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataListSolution.class.getDeclaredField("valueList"), TestdataListSolution.class)).isFalse();
+    }
+
+    @Test
+    public void isFieldAPlanningListVariableWithRenamedField() throws NoSuchFieldException {
+        DeepCloningUtils deepCloningUtils =
+                new DeepCloningUtils(TestdataRenamedFieldListSolution.buildSolutionDescriptor());
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataRenamedFieldListEntity.class.getDeclaredField("assignedValues"),
+                TestdataRenamedFieldListEntity.class)).isTrue();
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataRenamedFieldListEntity.class.getDeclaredField("note"),
+                TestdataRenamedFieldListEntity.class)).isFalse();
+    }
+
+    @Test
+    public void isFieldAPlanningListVariableWithoutListVariable() throws NoSuchFieldException {
+        DeepCloningUtils deepCloningUtils = new DeepCloningUtils(TestdataSolution.buildSolutionDescriptor());
+        assertThat(deepCloningUtils.isFieldAPlanningListVariable(
+                TestdataEntity.class.getDeclaredField("value"), TestdataEntity.class)).isFalse();
+    }
+
+}
@@ -35,6 +35,8 @@ import org.optaplanner.core.impl.testdata.domain.collection.TestdataArrayBasedSo
 import org.optaplanner.core.impl.testdata.domain.collection.TestdataSetBasedSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataAnnotatedExtendedSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedEntity;
+import org.optaplanner.core.impl.testdata.domain.list.invalid.TestdataTwoListVariablesEntity;
+import org.optaplanner.core.impl.testdata.domain.list.invalid.TestdataTwoListVariablesSolution;
 import org.optaplanner.core.impl.testdata.domain.reflect.generic.TestdataGenericEntity;
 import org.optaplanner.core.impl.testdata.domain.reflect.generic.TestdataGenericSolution;
 import org.optaplanner.core.impl.testdata.domain.solutionproperties.TestdataNoProblemFactPropertySolution;
@@ -106,6 +108,14 @@ public class SolutionDescriptorTest {
                 TestdataDuplicatePlanningScorePropertySolution::buildSolutionDescriptor);
     }
 
+    @Test
+    public void twoListVariables() {
+        assertThatIllegalStateException().isThrownBy(TestdataTwoListVariablesSolution::buildSolutionDescriptor)
+                .withMessageContaining(TestdataTwoListVariablesEntity.class.getName())
+                .withMessageContaining("valueList")
+                .withMessageContaining("anotherValueList");
+    }
+
     @Test
     public void missingPlanningScorePropertyProperty() {
         assertThatIllegalStateException().isThrownBy(
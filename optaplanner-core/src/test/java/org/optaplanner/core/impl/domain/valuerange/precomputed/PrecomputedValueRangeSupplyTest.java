@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.domain.valuerange.precomputed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllElementsOfIterator;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingSolution;
+
+public class PrecomputedValueRangeSupplyTest {
+
+    @Test
+    public void getValueRange() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2));
+        TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v3, v2));
+        PrecomputedValueRangeSupply<TestdataEntityProvidingSolution> supply = buildSupply();
+        supply.phaseStarted(buildPhaseScope());
+
+        CountableValueRange<Object> aValueRange = supply.getValueRange(a);
+        // The variable is nullable
+        assertThat(aValueRange.getSize()).isEqualTo(3L);
+        assertAllElementsOfIterator(aValueRange.createOriginalIterator(), v1, v2, null);
+        assertThat(aValueRange.contains(v1)).isTrue();
+        assertThat(aValueRange.contains(v3)).isFalse();
+        assertThat(aValueRange.contains(null)).isTrue();
+        assertThat(supply.getValueRange(a)).isSameAs(aValueRange);
+
+        CountableValueRange<Object> bValueRange = supply.getValueRange(b);
+        assertAllElementsOfIterator(bValueRange.createOriginalIterator(), v3, v2, null);
+        assertThat(bValueRange.get(0L)).isSameAs(v3);
+        assertThat(bValueRange.contains(v1)).isFalse();
+        assertThat(bValueRange.contains(v2)).isTrue();
+        assertThat(bValueRange.contains(v3)).isTrue();
+        assertThat(bValueRange.contains(new TestdataValue("4"))).isFalse();
+    }
+
+    @Test
+    public void phaseStartedForgetsPreviousPhase() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1));
+        PrecomputedValueRangeSupply<TestdataEntityProvidingSolution> supply = buildSupply();
+        AbstractPhaseScope<TestdataEntityProvidingSolution> phaseScope = buildPhaseScope();
+        supply.phaseStarted(phaseScope);
+        CountableValueRange<Object> valueRange = supply.getValueRange(a);
+        assertThat(valueRange.contains(v2)).isFalse();
+
+        // A problem fact change between phases
+        a.getValueRange().set(0, v2);
+        supply.phaseStarted(phaseScope);
+        assertThat(supply.getValueRange(a)).isSameAs(valueRange);
+        supply.phaseStarted(buildPhaseScope());
+        assertThat(supply.getValueRange(a).contains(v1)).isFalse();
+        assertThat(supply.getValueRange(a).contains(v2)).isTrue();
+    }
+
+    @Test
+    public void getValueRangeOutsideOfPhase() {
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a",
+                Arrays.asList(new TestdataValue("1")));
+        assertThatIllegalStateException().isThrownBy(() -> buildSupply().getValueRange(a));
+    }
+
+    private static PrecomputedValueRangeSupply<TestdataEntityProvidingSolution> buildSupply() {
+        ValueRangeDescriptor<TestdataEntityProvidingSolution> valueRangeDescriptor =
+                TestdataEntityProvidingEntity.buildVariableDescriptorForValue().getValueRangeDescriptor();
+        return new PrecomputedValueRangeDemand<>(valueRangeDescriptor).createExternalizedSupply(null);
+    }
+
+    private static AbstractPhaseScope<TestdataEntityProvidingSolution> buildPhaseScope() {
+        AbstractPhaseScope<TestdataEntityProvidingSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getWorkingSolution()).thenReturn(new TestdataEntityProvidingSolution());
+        return phaseScope;
+    }
+
+}
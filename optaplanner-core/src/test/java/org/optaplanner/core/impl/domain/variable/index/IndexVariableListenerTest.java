@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class IndexVariableListenerTest {
+
+    @Test
+    public void insertRemoveAndReorder() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        IndexShadowVariableDescriptor<TestdataListSolution> indexVariableDescriptor =
+                (IndexShadowVariableDescriptor<TestdataListSolution>) solutionDescriptor
+                        .findEntityDescriptorOrFail(TestdataListValue.class).getShadowVariableDescriptor("index");
+        IndexVariableListener<TestdataListSolution> variableListener = new IndexVariableListener<>(
+                indexVariableDescriptor, solutionDescriptor.getListVariableDescriptor());
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3);
+        // A stale index of an unassigned value
+        v4.setIndex(7);
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setEntityList(Arrays.asList(a));
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+
+        variableListener.resetWorkingSolution(scoreDirector);
+        assertThat(v4.getIndex()).isNull();
+        assertThat(variableListener.getIndex(v3)).isEqualTo(2);
+
+        // Insert in front
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().add(0, v4);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(a.getValueList()).extracting(TestdataListValue::getIndex).containsExactly(0, 1, 2, 3);
+
+        // Remove from the middle
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().remove(v2);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(v2.getIndex()).isNull();
+        assertThat(a.getValueList()).extracting(TestdataListValue::getIndex).containsExactly(0, 1, 2);
+
+        // Reorder: 4, 1, 3 becomes 3, 1, 4
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().set(0, v3);
+        a.getValueList().set(2, v4);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(v3.getIndex()).isEqualTo(0);
+        assertThat(v1.getIndex()).isEqualTo(1);
+        assertThat(v4.getIndex()).isEqualTo(2);
+
+        InOrder inOrder = inOrder(scoreDirector);
+        inOrder.verify(scoreDirector, atLeastOnce()).getWorkingSolution();
+        // Insert: every element from the insertion index on shifts
+        for (TestdataListValue value : Arrays.asList(v4, v1, v2, v3)) {
+            inOrder.verify(scoreDirector).beforeVariableChanged(indexVariableDescriptor, value);
+            inOrder.verify(scoreDirector).afterVariableChanged(indexVariableDescriptor, value);
+        }
+        // Remove: only the removed element and the elements behind it
+        for (TestdataListValue value : Arrays.asList(v2, v3)) {
+            inOrder.verify(scoreDirector).beforeVariableChanged(indexVariableDescriptor, value);
+            inOrder.verify(scoreDirector).afterVariableChanged(indexVariableDescriptor, value);
+        }
+        // Reorder: v1 stays at index 1
+        for (TestdataListValue value : Arrays.asList(v3, v4)) {
+            inOrder.verify(scoreDirector).beforeVariableChanged(indexVariableDescriptor, value);
+            inOrder.verify(scoreDirector).afterVariableChanged(indexVariableDescriptor, value);
+        }
+        inOrder.verifyNoMoreInteractions();
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListInverseVariableListenerTest {
+
+    @Test
+    public void insertRemoveAndMove() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        InverseRelationShadowVariableDescriptor<TestdataListSolution> entityVariableDescriptor =
+                (InverseRelationShadowVariableDescriptor<TestdataListSolution>) solutionDescriptor
+                        .findEntityDescriptorOrFail(TestdataListValue.class).getShadowVariableDescriptor("entity");
+        ListInverseVariableListener<TestdataListSolution> variableListener = new ListInverseVariableListener<>(
+                entityVariableDescriptor, solutionDescriptor.getListVariableDescriptor());
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b");
+        // A stale inverse of an unassigned value
+        v3.setEntity(b);
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setEntityList(Arrays.asList(a, b));
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+
+        variableListener.resetWorkingSolution(scoreDirector);
+        assertThat(v3.getEntity()).isNull();
+        assertThat(variableListener.getInverseSingleton(v1)).isSameAs(a);
+
+        // Insert in front, which doesn't change the inverse of the elements behind it
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().add(0, v3);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(v3.getEntity()).isSameAs(a);
+
+        // Move to another entity, with the destination notified first
+        variableListener.beforeVariableChanged(scoreDirector, b);
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        b.getValueList().add(a.getValueList().remove(1));
+        variableListener.afterVariableChanged(scoreDirector, b);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(v1.getEntity()).isSameAs(b);
+
+        // Remove
+        variableListener.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().remove(v2);
+        variableListener.afterVariableChanged(scoreDirector, a);
+        assertThat(v2.getEntity()).isNull();
+        assertThat(v3.getEntity()).isSameAs(a);
+
+        InOrder inOrder = inOrder(scoreDirector);
+        inOrder.verify(scoreDirector, atLeastOnce()).getWorkingSolution();
+        for (TestdataListValue value : Arrays.asList(v3, v1, v2)) {
+            inOrder.verify(scoreDirector).beforeVariableChanged(entityVariableDescriptor, value);
+            inOrder.verify(scoreDirector).afterVariableChanged(entityVariableDescriptor, value);
+        }
+        inOrder.verifyNoMoreInteractions();
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListVariableListenerTest {
+
+    private final TestdataListValue v1 = new TestdataListValue("1");
+    private final TestdataListValue v2 = new TestdataListValue("2");
+    private final TestdataListValue v3 = new TestdataListValue("3");
+    private final TestdataListValue v4 = new TestdataListValue("4");
+
+    @Test
+    public void insert() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        RecordingListVariableListener listener = buildListener(a);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().add(1, v3);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        // The element in front of the inserted one is untouched
+        assertThat(listener.eventList).containsExactly("placed a 3@1", "placed a 2@2");
+        assertThat(listener.getEntity(v3)).isSameAs(a);
+    }
+
+    @Test
+    public void insertAtEnd() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        RecordingListVariableListener listener = buildListener(a);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().add(v3);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        assertThat(listener.eventList).containsExactly("placed a 3@2");
+    }
+
+    @Test
+    public void remove() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3);
+        RecordingListVariableListener listener = buildListener(a);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().remove(1);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        assertThat(listener.eventList).containsExactly("removed a 2", "placed a 3@1");
+        assertThat(listener.getEntity(v2)).isNull();
+    }
+
+    @Test
+    public void reorder() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3, v4);
+        RecordingListVariableListener listener = buildListener(a);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().set(0, v4);
+        a.getValueList().set(3, v1);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        // Only the swapped elements moved, nothing left the list
+        assertThat(listener.eventList).containsExactly("placed a 4@0", "placed a 1@3");
+    }
+
+    @Test
+    public void multipleBeforeEventsKeepTheFirstState() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        RecordingListVariableListener listener = buildListener(a);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().add(0, v3);
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        a.getValueList().remove(v3);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        assertThat(listener.eventList).isEmpty();
+    }
+
+    @Test
+    public void moveToOtherEntityNotifiedAfterSource() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+        RecordingListVariableListener listener = buildListener(a, b);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        listener.beforeVariableChanged(listener.scoreDirector, b);
+        b.getValueList().add(0, a.getValueList().remove(0));
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        listener.afterVariableChanged(listener.scoreDirector, b);
+        assertThat(listener.eventList).containsExactly("removed a 1", "placed a 2@0",
+                "placed b 1@0", "placed b 3@1");
+        assertThat(listener.getEntity(v1)).isSameAs(b);
+    }
+
+    @Test
+    public void moveToOtherEntityNotifiedBeforeSource() {
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+        RecordingListVariableListener listener = buildListener(a, b);
+
+        listener.beforeVariableChanged(listener.scoreDirector, a);
+        listener.beforeVariableChanged(listener.scoreDirector, b);
+        b.getValueList().add(0, a.getValueList().remove(0));
+        listener.afterVariableChanged(listener.scoreDirector, b);
+        listener.afterVariableChanged(listener.scoreDirector, a);
+        // The element isn't reported as removed, because the other entity already holds it
+        assertThat(listener.eventList).containsExactly("placed b 1@0", "placed b 3@1", "placed a 2@0");
+        assertThat(listener.getEntity(v1)).isSameAs(b);
+    }
+
+    @Test
+    public void entityAddedAndRemoved() {
+        TestdataListEntity a = new TestdataListEntity("a", v1);
+        RecordingListVariableListener listener = buildListener(a);
+
+        TestdataListEntity b = new TestdataListEntity("b", v2, v3);
+        listener.beforeEntityAdded(listener.scoreDirector, b);
+        listener.afterEntityAdded(listener.scoreDirector, b);
+        assertThat(listener.eventList).containsExactly("placed b 2@0", "placed b 3@1");
+
+        listener.eventList.clear();
+        listener.beforeEntityRemoved(listener.scoreDirector, b);
+        listener.afterEntityRemoved(listener.scoreDirector, b);
+        assertThat(listener.eventList).containsExactly("removed b 2", "removed b 3");
+        assertThat(listener.getEntity(v2)).isNull();
+        assertThat(listener.getEntity(v1)).isSameAs(a);
+    }
+
+    private RecordingListVariableListener buildListener(TestdataListEntity... entities) {
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setEntityList(Arrays.asList(entities));
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        RecordingListVariableListener listener = new RecordingListVariableListener(
+                TestdataListEntity.buildVariableDescriptorForValueList(), scoreDirector);
+        listener.resetWorkingSolution(scoreDirector);
+        return listener;
+    }
+
+    private static class RecordingListVariableListener extends ListVariableListener<TestdataListSolution> {
+
+        private final ScoreDirector<TestdataListSolution> scoreDirector;
+        private final List<String> eventList = new ArrayList<>();
+
+        private RecordingListVariableListener(ListVariableDescriptor<TestdataListSolution> sourceVariableDescriptor,
+                ScoreDirector<TestdataListSolution> scoreDirector) {
+            super(sourceVariableDescriptor);
+            this.scoreDirector = scoreDirector;
+        }
+
+        @Override
+        protected void elementRemoved(ScoreDirector<TestdataListSolution> scoreDirector, Object entity,
+                Object element) {
+            eventList.add("removed " + entity + " " + element);
+        }
+
+        @Override
+        protected void elementPlaced(ScoreDirector<TestdataListSolution> scoreDirector, Object entity,
+                Object element, int index) {
+            eventList.add("placed " + entity + " " + element + "@" + index);
+        }
+
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSingletonInverseVariableSupply;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class ExternalizedChainPositionVariableSupplyTest {
+
+    @Test
+    public void chainedEntity() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedChainPositionVariableSupply<TestdataChainedSolution> supply =
+                new ExternalizedChainPositionVariableSupply<>(variableDescriptor, nextVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a3, a1, b1, a4, a2));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+        assertChain(supply, a0, a1, a2, a3, a4);
+        assertChain(supply, b0, b1);
+
+        // Move a single entity: a0 -> a1 -> a4 -> a2 -> a3
+        changeVariables(scoreDirector, nextVariableSupply, supply,
+                new TestdataChainedEntity[] { a4, a2 }, new TestdataChainedObject[] { a1, a4 });
+        assertChain(supply, a0, a1, a4, a2, a3);
+
+        // Move a sub chain: a0 -> a1 -> a3 and b0 -> a4 -> a2 -> b1
+        changeVariables(scoreDirector, nextVariableSupply, supply,
+                new TestdataChainedEntity[] { a4, a3, b1 }, new TestdataChainedObject[] { b0, a1, a2 });
+        assertChain(supply, a0, a1, a3);
+        assertChain(supply, b0, a4, a2, b1);
+
+        nextVariableSupply.close();
+        supply.close();
+    }
+
+    @Test
+    public void exhaustGap() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedChainPositionVariableSupply<TestdataChainedSolution> supply =
+                new ExternalizedChainPositionVariableSupply<>(variableDescriptor, nextVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, a4));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // Keep moving the last entity to the front, which halves the gap after the anchor every time
+        TestdataChainedEntity[] chain = { a1, a2, a3, a4 };
+        for (int i = 0; i < 100; i++) {
+            TestdataChainedEntity last = chain[3];
+            changeVariables(scoreDirector, nextVariableSupply, supply,
+                    new TestdataChainedEntity[] { last, chain[0] }, new TestdataChainedObject[] { a0, last });
+            System.arraycopy(chain, 0, chain, 1, 3);
+            chain[0] = last;
+            assertChain(supply, a0, chain);
+        }
+
+        nextVariableSupply.close();
+        supply.close();
+    }
+
+    @Test
+    public void moveBetweenChainsOnlyRepositionsMovedEntity() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedChainPositionVariableSupply<TestdataChainedSolution> supply =
+                new ExternalizedChainPositionVariableSupply<>(variableDescriptor, nextVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity[] aChain = buildChain(a0, 10);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity[] bChain = buildChain(b0, 10);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        List<TestdataChainedEntity> entityList = new ArrayList<>(Arrays.asList(aChain));
+        entityList.addAll(Arrays.asList(bChain));
+        solution.setChainedEntityList(entityList);
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // Move b8, which has a higher position than a2 and a3, between a2 and a3
+        TestdataChainedEntity a2 = aChain[1];
+        TestdataChainedEntity a3 = aChain[2];
+        TestdataChainedEntity b7 = bChain[6];
+        TestdataChainedEntity b8 = bChain[7];
+        TestdataChainedEntity b9 = bChain[8];
+        Map<Object, Long> oldPositionMap = new IdentityHashMap<>(supply.positionMap);
+        changeVariables(scoreDirector, nextVariableSupply, supply,
+                new TestdataChainedEntity[] { b8, a3, b9 }, new TestdataChainedObject[] { a2, b8, b7 });
+        long repositionedCount = supply.positionMap.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(oldPositionMap.get(entry.getKey())))
+                .count();
+        assertThat(repositionedCount).isEqualTo(1L);
+        assertThat(supply.positionMap.get(b8)).isNotEqualTo(oldPositionMap.get(b8));
+        assertChain(supply, a0, aChain[0], a2, b8, a3, aChain[3], aChain[4], aChain[5], aChain[6], aChain[7],
+                aChain[8], aChain[9]);
+        assertChain(supply, b0, bChain[0], bChain[1], bChain[2], bChain[3], bChain[4], bChain[5], b7, b9, bChain[9]);
+
+        nextVariableSupply.close();
+        supply.close();
+    }
+
+    private static TestdataChainedEntity[] buildChain(TestdataChainedAnchor anchor, int size) {
+        TestdataChainedEntity[] chain = new TestdataChainedEntity[size];
+        TestdataChainedObject previous = anchor;
+        for (int i = 0; i < size; i++) {
+            chain[i] = new TestdataChainedEntity(anchor.getCode().charAt(0) + Integer.toString(i + 1), previous);
+            previous = chain[i];
+        }
+        return chain;
+    }
+
+    private static void changeVariables(ScoreDirector<TestdataChainedSolution> scoreDirector,
+            ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply,
+            ExternalizedChainPositionVariableSupply<TestdataChainedSolution> supply,
+            TestdataChainedEntity[] entities, TestdataChainedObject[] values) {
+        for (TestdataChainedEntity entity : entities) {
+            nextVariableSupply.beforeVariableChanged(scoreDirector, entity);
+            supply.beforeVariableChanged(scoreDirector, entity);
+        }
+        for (int i = 0; i < entities.length; i++) {
+            entities[i].setChainedObject(values[i]);
+        }
+        // Like the VariableListenerSupport, each listener processes the entire notification queue in turn
+        for (TestdataChainedEntity entity : entities) {
+            nextVariableSupply.afterVariableChanged(scoreDirector, entity);
+        }
+        for (TestdataChainedEntity entity : entities) {
+            supply.afterVariableChanged(scoreDirector, entity);
+        }
+    }
+
+    private static void assertChain(ChainPositionVariableSupply supply, TestdataChainedAnchor anchor,
+            TestdataChainedEntity... entities) {
+        Object[] chain = new Object[entities.length + 1];
+        chain[0] = anchor;
+        System.arraycopy(entities, 0, chain, 1, entities.length);
+        for (int i = 0; i < chain.length; i++) {
+            for (int j = 0; j < chain.length; j++) {
+                assertThat(supply.isBefore(chain[i], chain[j])).as(chain[i] + " before " + chain[j]).isEqualTo(i < j);
+            }
+        }
+    }
+
+}
@@ -19,22 +19,29 @@ package org.optaplanner.core.impl.heuristic.selector.entity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelectorFactoryTest;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
+import org.optaplanner.core.impl.heuristic.selector.entity.decorator.IndictmentWeightedEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.ProbabilityEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.ShufflingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.SortingEntitySelector;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.AbstractConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -226,6 +233,45 @@ class EntitySelectorFactoryTest extends AbstractSelectorFactoryTest {
                 .withMessageContaining("has another property");
     }
 
+    @Test
+    void indictmentWeighted() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
+        entitySelectorConfig.setIndictmentWeighted(true);
+        InnerScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                mock(AbstractConstraintStreamScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirectorFactory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        HeuristicConfigPolicy<TestdataSolution> configPolicy = new HeuristicConfigPolicy<>(EnvironmentMode.REPRODUCIBLE,
+                null, null, null, scoreDirectorFactory);
+        EntitySelector<TestdataSolution> entitySelector =
+                EntitySelectorFactory.<TestdataSolution> create(entitySelectorConfig)
+                        .buildEntitySelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        assertThat(entitySelector).isInstanceOf(IndictmentWeightedEntitySelector.class);
+    }
+
+    @Test
+    void indictmentWeightedWithoutConstraintStreams() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
+        entitySelectorConfig.setIndictmentWeighted(true);
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> EntitySelectorFactory.<TestdataSolution> create(entitySelectorConfig)
+                        .buildEntitySelector(buildHeuristicConfigPolicy(), SelectionCacheType.JUST_IN_TIME,
+                                SelectionOrder.RANDOM))
+                .withMessageContaining("constraintProviderClass");
+    }
+
+    @Test
+    void indictmentWeightedWithOriginalSelectionOrder() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
+        entitySelectorConfig.setIndictmentWeighted(true);
+        entitySelectorConfig.setSelectionOrder(SelectionOrder.ORIGINAL);
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> EntitySelectorFactory.<TestdataSolution> create(entitySelectorConfig)
+                        .buildEntitySelector(buildHeuristicConfigPolicy(), SelectionCacheType.JUST_IN_TIME,
+                                SelectionOrder.RANDOM))
+                .withMessageContaining("resolvedSelectionOrder");
+    }
+
     public static class DummySelectionProbabilityWeightFactory
             implements SelectionProbabilityWeightFactory<TestdataSolution, TestdataEntity> {
 
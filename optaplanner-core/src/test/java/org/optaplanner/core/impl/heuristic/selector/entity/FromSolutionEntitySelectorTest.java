@@ -25,12 +25,16 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCod
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesOfNeverEndingOfEntitySelector;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -380,6 +384,98 @@ public class FromSolutionEntitySelectorTest {
         verify(entityDescriptor, times(4)).extractEntities(workingSolution);
     }
 
+    @Test
+    public void randomMovableOnly() {
+        TestdataSolution workingSolution = new TestdataSolution();
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+        TestdataEntity e3 = new TestdataEntity("e3");
+        TestdataEntity e4 = new TestdataEntity("e4");
+        EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
+        when(entityDescriptor.extractEntities(workingSolution)).thenReturn(Arrays.asList(e1, e2, e3, e4));
+        // Only e2 and e4 are movable
+        SelectionFilter movableFilter = (scoreDirector, entity) -> entity == e2 || entity == e4;
+        when(entityDescriptor.getEffectiveMovableEntitySelectionFilter()).thenReturn(movableFilter);
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(workingSolution);
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(7L);
+        when(scoreDirector.isWorkingEntityListDirty(7L)).thenReturn(false);
+        FromSolutionEntitySelector entitySelector = new FromSolutionEntitySelector(entityDescriptor,
+                SelectionCacheType.JUST_IN_TIME, true, true);
+
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextInt(2)).thenReturn(1, 0, 0, 1);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        entitySelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScope);
+        assertCodesOfNeverEndingOfEntitySelector(entitySelector, 2L, "e4", "e2", "e2", "e4");
+        entitySelector.stepEnded(stepScope);
+
+        entitySelector.phaseEnded(phaseScope);
+        entitySelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    public void originalMovableOnlyRefreshedByProblemFactChange() {
+        TestdataSolution workingSolution = new TestdataSolution();
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+        TestdataEntity e3 = new TestdataEntity("e3");
+        EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
+        when(entityDescriptor.extractEntities(workingSolution)).thenReturn(Arrays.asList(e1, e2, e3));
+        Set<Object> pinnedEntitySet = new HashSet<>(Collections.singletonList(e2));
+        SelectionFilter movableFilter = (scoreDirector, entity) -> !pinnedEntitySet.contains(entity);
+        when(entityDescriptor.getEffectiveMovableEntitySelectionFilter()).thenReturn(movableFilter);
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(workingSolution);
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(7L);
+        when(scoreDirector.isWorkingEntityListDirty(7L)).thenReturn(false);
+        when(scoreDirector.getWorkingProblemChangeRevision()).thenReturn(3L);
+        FromSolutionEntitySelector entitySelector = new FromSolutionEntitySelector(entityDescriptor,
+                SelectionCacheType.JUST_IN_TIME, false, true);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        entitySelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope1 = mock(AbstractStepScope.class);
+        when(stepScope1.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope1.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScope1);
+        assertAllCodesOfEntitySelector(entitySelector, "e1", "e3");
+        entitySelector.stepEnded(stepScope1);
+
+        // A problem fact change pins e1 and unpins e2
+        pinnedEntitySet.clear();
+        pinnedEntitySet.add(e1);
+        when(scoreDirector.getWorkingProblemChangeRevision()).thenReturn(4L);
+
+        AbstractStepScope stepScope2 = mock(AbstractStepScope.class);
+        when(stepScope2.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope2.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScope2);
+        assertAllCodesOfEntitySelector(entitySelector, "e2", "e3");
+        entitySelector.stepEnded(stepScope2);
+
+        entitySelector.phaseEnded(phaseScope);
+        entitySelector.solvingEnded(solverScope);
+    }
+
     @Test
     public void listIteratorWithRandomSelection() {
         EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
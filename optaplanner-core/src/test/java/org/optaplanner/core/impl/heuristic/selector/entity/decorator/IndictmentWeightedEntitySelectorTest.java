@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreInliner;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class IndictmentWeightedEntitySelectorTest {
+
+    private static final int SAMPLE_COUNT = 12_000;
+
+    @Test
+    public void randomSelectionIsProportionalToPenalty() {
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+        TestdataEntity e3 = new TestdataEntity("e3");
+        EntitySelector<TestdataSolution> childEntitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataEntity.class, e1, e2, e3);
+        IndictmentWeightedEntitySelector<TestdataSolution> entitySelector =
+                new IndictmentWeightedEntitySelector<>(childEntitySelector);
+
+        IndictmentPenaltyTracker indictmentPenaltyTracker = new IndictmentPenaltyTracker();
+        Constraint constraint = mock(Constraint.class);
+        when(constraint.getConstraintId()).thenReturn("constraintPackage/penalty");
+        SimpleScoreInliner scoreInliner = new SimpleScoreDefinition().buildScoreInliner(
+                Collections.singletonMap(constraint, SimpleScore.of(-1)), false);
+        scoreInliner.setIndictmentPenaltyTracker(indictmentPenaltyTracker);
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.enableIndictmentPenaltyTracking()).thenReturn(indictmentPenaltyTracker);
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(0L);
+        when(scoreDirector.isWorkingEntityListDirty(anyLong())).thenReturn(false);
+        Random workingRandom = new Random(37L);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getScoreDirector()).thenReturn(scoreDirector);
+        when(phaseScope.getWorkingRandom()).thenReturn(workingRandom);
+        AbstractStepScope<TestdataSolution> stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getWorkingRandom()).thenReturn(workingRandom);
+
+        entitySelector.solvingStarted(solverScope);
+        // A penalty of 8 for e1 and 1 for e3, so the weights are 9, 1 and 2
+        UndoScoreImpacter undoE1 = impacter.impactScore(8, () -> Collections.singletonList(e1));
+        impacter.impactScore(1, () -> Collections.singletonList(e3));
+        entitySelector.phaseStarted(phaseScope);
+        entitySelector.stepStarted(stepScope);
+        assertThat(entitySelector.getSize()).isEqualTo(3L);
+        Map<Object, Integer> countMap = sample(entitySelector);
+        assertSampleRatio(countMap, e1, 9.0 / 12.0);
+        assertSampleRatio(countMap, e2, 1.0 / 12.0);
+        assertSampleRatio(countMap, e3, 2.0 / 12.0);
+        entitySelector.stepEnded(stepScope);
+
+        // Only e1 is reweighted, to 1
+        undoE1.run();
+        entitySelector.stepStarted(stepScope);
+        countMap = sample(entitySelector);
+        assertSampleRatio(countMap, e1, 1.0 / 4.0);
+        assertSampleRatio(countMap, e2, 1.0 / 4.0);
+        assertSampleRatio(countMap, e3, 2.0 / 4.0);
+        entitySelector.stepEnded(stepScope);
+
+        entitySelector.phaseEnded(phaseScope);
+        verify(scoreDirector, times(1)).enableIndictmentPenaltyTracking();
+        verify(scoreDirector, times(1)).disableIndictmentPenaltyTracking();
+        entitySelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    public void entityWithoutPenaltyIsStillSelected() {
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+        EntitySelector<TestdataSolution> childEntitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataEntity.class, e1, e2);
+        IndictmentWeightedEntitySelector<TestdataSolution> entitySelector =
+                new IndictmentWeightedEntitySelector<>(childEntitySelector);
+
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.enableIndictmentPenaltyTracking()).thenReturn(new IndictmentPenaltyTracker());
+        Random workingRandom = new Random(37L);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getScoreDirector()).thenReturn(scoreDirector);
+
+        entitySelector.solvingStarted(solverScope);
+        entitySelector.phaseStarted(phaseScope);
+        Map<Object, Integer> countMap = sample(entitySelector);
+        assertSampleRatio(countMap, e1, 1.0 / 2.0);
+        assertSampleRatio(countMap, e2, 1.0 / 2.0);
+        entitySelector.phaseEnded(phaseScope);
+        entitySelector.solvingEnded(solverScope);
+    }
+
+    private static Map<Object, Integer> sample(EntitySelector<TestdataSolution> entitySelector) {
+        Map<Object, Integer> countMap = new IdentityHashMap<>();
+        Iterator<Object> iterator = entitySelector.iterator();
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            assertThat(iterator.hasNext()).isTrue();
+            countMap.merge(iterator.next(), 1, Integer::sum);
+        }
+        return countMap;
+    }
+
+    private static void assertSampleRatio(Map<Object, Integer> countMap, Object entity, double expectedRatio) {
+        double ratio = countMap.getOrDefault(entity, 0) / (double) SAMPLE_COUNT;
+        assertThat(ratio).isCloseTo(expectedRatio, within(0.02));
+    }
+
+}
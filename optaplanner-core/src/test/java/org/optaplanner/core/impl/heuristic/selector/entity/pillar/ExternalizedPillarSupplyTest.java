@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
+import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
+
+public class ExternalizedPillarSupplyTest {
+
+    @Test
+    public void changeVariable() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        ExternalizedPillarSupply<TestdataSolution> supply = new ExternalizedPillarSupply<>(
+                Collections.singletonList(variableDescriptor), null, 1, null);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val3);
+        TestdataEntity d = new TestdataEntity("d", val2);
+        TestdataEntity e = new TestdataEntity("e", val3);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(val1, val2, val3));
+        solution.setEntityList(Arrays.asList(a, b, c, d, e));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertPillars(supply, "[a]", "[b, d]", "[c, e]");
+
+        changeValue(scoreDirector, supply, a, val2);
+        assertPillars(supply, "[a, b, d]", "[c, e]");
+
+        changeValue(scoreDirector, supply, c, null);
+        changeValue(scoreDirector, supply, e, val1);
+        assertPillars(supply, "[a, b, d]", "[c]", "[e]");
+
+        // Undo
+        changeValue(scoreDirector, supply, e, val3);
+        changeValue(scoreDirector, supply, c, val3);
+        changeValue(scoreDirector, supply, a, val1);
+        assertPillars(supply, "[a]", "[b, d]", "[c, e]");
+
+        supply.close();
+    }
+
+    @Test
+    public void minimumPillarSizeAndComparator() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        Comparator<Object> comparator = Comparator.comparing(entity -> ((TestdataObject) entity).getCode());
+        ExternalizedPillarSupply<TestdataSolution> supply = new ExternalizedPillarSupply<>(
+                Collections.singletonList(variableDescriptor), null, 2, comparator);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val2);
+        TestdataEntity d = new TestdataEntity("d", val2);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(val1, val2));
+        solution.setEntityList(Arrays.asList(d, a, c, b));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertSequentialPillars(supply, "[b, c, d]");
+
+        changeValue(scoreDirector, supply, c, val1);
+        assertSequentialPillars(supply, "[a, c]", "[b, d]");
+
+        changeValue(scoreDirector, supply, b, val1);
+        assertSequentialPillars(supply, "[a, b, c]");
+
+        supply.close();
+    }
+
+    @Test
+    public void pinnedEntity() {
+        EntityDescriptor<TestdataPinnedSolution> entityDescriptor = TestdataPinnedEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor<TestdataPinnedSolution> variableDescriptor =
+                entityDescriptor.getGenuineVariableDescriptor("value");
+        InnerScoreDirector<TestdataPinnedSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        ExternalizedPillarSupply<TestdataPinnedSolution> supply = new ExternalizedPillarSupply<>(
+                Collections.singletonList(variableDescriptor),
+                entityDescriptor.getEffectiveMovableEntitySelectionFilter(), 1, null);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataPinnedEntity a = new TestdataPinnedEntity("a", val1, false, false);
+        TestdataPinnedEntity b = new TestdataPinnedEntity("b", val1, false, true);
+        TestdataPinnedEntity c = new TestdataPinnedEntity("c", val1, true, false);
+        TestdataPinnedEntity d = new TestdataPinnedEntity("d", val1, false, false);
+
+        TestdataPinnedSolution solution = new TestdataPinnedSolution("solution");
+        solution.setValueList(Arrays.asList(val1));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertPillars(supply, "[a, d]");
+
+        // A problem fact change pins d
+        d.setPinned(true);
+        when(scoreDirector.getWorkingProblemChangeRevision()).thenReturn(1L);
+        assertPillars(supply, "[a]");
+
+        supply.close();
+    }
+
+    @Test
+    public void selectedPillarDoesNotChange() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        ExternalizedPillarSupply<TestdataSolution> supply = new ExternalizedPillarSupply<>(
+                Collections.singletonList(variableDescriptor), null, 2, null);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", val2);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(val1, val2));
+        solution.setEntityList(Arrays.asList(a, b, c));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertThat(supply.getPillarCount()).isEqualTo(1);
+        List<Object> pillar = supply.getPillar(0);
+        assertThat(pillar).containsExactlyInAnyOrder(a, b);
+        assertThatThrownBy(() -> pillar.add(c)).isInstanceOf(UnsupportedOperationException.class);
+
+        changeValue(scoreDirector, supply, a, val2);
+        changeValue(scoreDirector, supply, b, val2);
+        assertPillars(supply, "[a, b, c]");
+        assertThat(pillar).containsExactlyInAnyOrder(a, b);
+
+        supply.close();
+    }
+
+    private static <Solution_> void changeValue(ScoreDirector<Solution_> scoreDirector,
+            ExternalizedPillarSupply<Solution_> supply, TestdataEntity entity, TestdataValue value) {
+        supply.beforeVariableChanged(scoreDirector, entity);
+        entity.setValue(value);
+        supply.afterVariableChanged(scoreDirector, entity);
+    }
+
+    private static void assertPillars(PillarSupply supply, String... pillarCodes) {
+        List<String> actualPillarCodes = new ArrayList<>(supply.getPillarCount());
+        for (int i = 0; i < supply.getPillarCount(); i++) {
+            actualPillarCodes.add(supply.getPillar(i).stream()
+                    .map(entity -> ((TestdataObject) entity).getCode())
+                    .sorted()
+                    .collect(Collectors.joining(", ", "[", "]")));
+        }
+        assertThat(actualPillarCodes).containsExactlyInAnyOrder(pillarCodes);
+    }
+
+    private static void assertSequentialPillars(PillarSupply supply, String... pillarCodes) {
+        List<String> actualPillarCodes = new ArrayList<>(supply.getPillarCount());
+        for (int i = 0; i < supply.getPillarCount(); i++) {
+            actualPillarCodes.add(supply.getPillar(i).stream()
+                    .map(entity -> ((TestdataObject) entity).getCode())
+                    .collect(Collectors.joining(", ", "[", "]")));
+        }
+        assertThat(actualPillarCodes).containsExactlyInAnyOrder(pillarCodes);
+    }
+
+}
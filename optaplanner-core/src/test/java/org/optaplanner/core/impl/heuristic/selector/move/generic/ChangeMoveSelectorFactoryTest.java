@@ -31,6 +31,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelector;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
 import org.optaplanner.core.impl.testdata.domain.multientity.TestdataHerdEntity;
 import org.optaplanner.core.impl.testdata.domain.multientity.TestdataMultiEntitySolution;
 import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
@@ -103,4 +104,15 @@ class ChangeMoveSelectorFactoryTest extends AbstractSelectorFactoryTest {
         assertThat(((UnionMoveSelector) moveSelector).getChildMoveSelectorList().size()).isEqualTo(2);
     }
 
+    @Test
+    void listVariable() {
+        SolutionDescriptor solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        assertThatIllegalArgumentException().isThrownBy(() -> MoveSelectorFactory.create(moveSelectorConfig).buildMoveSelector(
+                buildHeuristicConfigPolicy(solutionDescriptor),
+                SelectionCacheType.JUST_IN_TIME,
+                SelectionOrder.RANDOM))
+                .withMessageContaining("valueList");
+    }
+
 }
@@ -32,6 +32,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelector;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
 import org.optaplanner.core.impl.testdata.domain.multientity.TestdataHerdEntity;
 import org.optaplanner.core.impl.testdata.domain.multientity.TestdataLeadEntity;
 import org.optaplanner.core.impl.testdata.domain.multientity.TestdataMultiEntitySolution;
@@ -141,4 +142,15 @@ class SwapMoveSelectorFactoryTest extends AbstractSelectorFactoryTest {
         assertThat(((UnionMoveSelector) moveSelector).getChildMoveSelectorList().size()).isEqualTo(2);
     }
 
+    @Test
+    void listVariable() {
+        SolutionDescriptor solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        SwapMoveSelectorConfig moveSelectorConfig = new SwapMoveSelectorConfig();
+        assertThatIllegalArgumentException().isThrownBy(() -> MoveSelectorFactory.create(moveSelectorConfig).buildMoveSelector(
+                buildHeuristicConfigPolicy(solutionDescriptor),
+                SelectionCacheType.JUST_IN_TIME,
+                SelectionOrder.RANDOM))
+                .withMessageContaining("valueList");
+    }
+
 }
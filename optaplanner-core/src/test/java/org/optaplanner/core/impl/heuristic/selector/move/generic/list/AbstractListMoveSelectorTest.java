@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.AbstractListMoveSelector.ListPositions;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class AbstractListMoveSelectorTest {
+
+    private final ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+            TestdataListEntity.buildVariableDescriptorForValueList();
+
+    @Test
+    public void findEntityIndex() {
+        ListPositions positions = buildPositions(2, 3, 1);
+        assertThat(positions.getEntityCount()).isEqualTo(3);
+        assertThat(positions.getValueCount()).isEqualTo(6);
+        assertThat(positions.getFirstPosition(2)).isEqualTo(5);
+        assertThat(positions.findEntityIndex(0)).isEqualTo(0);
+        assertThat(positions.findEntityIndex(1)).isEqualTo(0);
+        assertThat(positions.findEntityIndex(2)).isEqualTo(1);
+        assertThat(positions.findEntityIndex(4)).isEqualTo(1);
+        assertThat(positions.findEntityIndex(5)).isEqualTo(2);
+    }
+
+    @Test
+    public void findEntityIndexSkipsEmptyLists() {
+        ListPositions positions = buildPositions(0, 0, 2, 0, 0, 1, 0);
+        assertThat(positions.getValueCount()).isEqualTo(3);
+        assertThat(positions.findEntityIndex(0)).isEqualTo(2);
+        assertThat(positions.findEntityIndex(1)).isEqualTo(2);
+        assertThat(positions.findEntityIndex(2)).isEqualTo(5);
+    }
+
+    @Test
+    public void findEntityIndexMatchesLinearScan() {
+        Random random = new Random(37);
+        for (int i = 0; i < 1000; i++) {
+            int[] listSizes = new int[1 + random.nextInt(10)];
+            for (int j = 0; j < listSizes.length; j++) {
+                // Plenty of empty lists
+                listSizes[j] = Math.max(0, random.nextInt(6) - 2);
+            }
+            ListPositions positions = buildPositions(listSizes);
+            int position = 0;
+            for (int entityIndex = 0; entityIndex < listSizes.length; entityIndex++) {
+                for (int index = 0; index < listSizes[entityIndex]; index++) {
+                    assertThat(positions.findEntityIndex(position))
+                            .as("Position (%d) of list sizes %s", position, Arrays.toString(listSizes))
+                            .isEqualTo(entityIndex);
+                    position++;
+                }
+            }
+            assertThat(positions.getValueCount()).isEqualTo(position);
+        }
+    }
+
+    private ListPositions buildPositions(int... listSizes) {
+        List<Object> entityList = new ArrayList<>(listSizes.length);
+        for (int i = 0; i < listSizes.length; i++) {
+            TestdataListEntity entity = new TestdataListEntity("e" + i);
+            for (int j = 0; j < listSizes[i]; j++) {
+                entity.getValueList().add(new TestdataListValue("v" + i + "_" + j));
+            }
+            entityList.add(entity);
+        }
+        return new ListPositions(variableDescriptor, entityList.iterator());
+    }
+
+}
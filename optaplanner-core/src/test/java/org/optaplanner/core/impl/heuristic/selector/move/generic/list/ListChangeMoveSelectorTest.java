@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListChangeMoveSelectorTest {
+
+    @Test
+    public void original() {
+        EntitySelector<TestdataListSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataListEntity.buildEntityDescriptor(),
+                new TestdataListEntity("a", new TestdataListValue("1"), new TestdataListValue("2")),
+                new TestdataListEntity("b"),
+                new TestdataListEntity("c", new TestdataListValue("3")));
+        ListChangeMoveSelector<TestdataListSolution> moveSelector = new ListChangeMoveSelector<>(entitySelector, false);
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        AbstractStepScope<TestdataListSolution> stepScope = startStep(moveSelector, solverScope);
+
+        assertThat(moveSelector.isNeverEnding()).isFalse();
+        assertThat(moveSelector.getSize()).isEqualTo(15L);
+        assertThat(toStrings(moveSelector.iterator(), 16)).containsExactly(
+                "{a[0] -> a[0]}", "{a[0] -> a[1]}", "{a[0] -> b[0]}", "{a[0] -> c[0]}", "{a[0] -> c[1]}",
+                "{a[1] -> a[0]}", "{a[1] -> a[1]}", "{a[1] -> b[0]}", "{a[1] -> c[0]}", "{a[1] -> c[1]}",
+                "{c[0] -> a[0]}", "{c[0] -> a[1]}", "{c[0] -> a[2]}", "{c[0] -> b[0]}", "{c[0] -> c[0]}");
+
+        endStep(moveSelector, stepScope, solverScope);
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
+    @Test
+    public void random() {
+        EntitySelector<TestdataListSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataListEntity.buildEntityDescriptor(),
+                new TestdataListEntity("a", new TestdataListValue("1"), new TestdataListValue("2")),
+                new TestdataListEntity("b"),
+                new TestdataListEntity("c", new TestdataListValue("3")));
+        ListChangeMoveSelector<TestdataListSolution> moveSelector = new ListChangeMoveSelector<>(entitySelector, true);
+        Random workingRandom = mock(Random.class);
+        // Source position, destination entity, destination index
+        when(workingRandom.nextInt(anyInt())).thenReturn(2, 0, 2, 1, 1, 0, 0, 2, 1);
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        AbstractStepScope<TestdataListSolution> stepScope = startStep(moveSelector, solverScope);
+
+        assertThat(moveSelector.isNeverEnding()).isTrue();
+        assertThat(toStrings(moveSelector.iterator(), 3)).containsExactly(
+                "{c[0] -> a[2]}", "{a[1] -> b[0]}", "{a[0] -> c[1]}");
+
+        endStep(moveSelector, stepScope, solverScope);
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
+    @Test
+    public void emptyLists() {
+        EntitySelector<TestdataListSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataListEntity.buildEntityDescriptor(), new TestdataListEntity("a"), new TestdataListEntity("b"));
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(new Random(0));
+        for (boolean randomSelection : new boolean[] { false, true }) {
+            ListChangeMoveSelector<TestdataListSolution> moveSelector =
+                    new ListChangeMoveSelector<>(entitySelector, randomSelection);
+            AbstractStepScope<TestdataListSolution> stepScope = startStep(moveSelector, solverScope);
+            assertThat(moveSelector.getSize()).isEqualTo(0L);
+            assertThat(moveSelector.iterator().hasNext()).isFalse();
+            endStep(moveSelector, stepScope, solverScope);
+        }
+    }
+
+    static AbstractStepScope<TestdataListSolution> startStep(AbstractListMoveSelector<TestdataListSolution> moveSelector,
+            SolverScope<TestdataListSolution> solverScope) {
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataListSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        AbstractStepScope<TestdataListSolution> stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        return stepScope;
+    }
+
+    static void endStep(AbstractListMoveSelector<TestdataListSolution> moveSelector,
+            AbstractStepScope<TestdataListSolution> stepScope, SolverScope<TestdataListSolution> solverScope) {
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(stepScope.getPhaseScope());
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    /**
+     * @param iterator never null
+     * @param limit the maximum number of moves to take, to stop a never ending iterator
+     * @return never null
+     */
+    static List<String> toStrings(Iterator<Move<TestdataListSolution>> iterator, int limit) {
+        List<String> moveStrings = new ArrayList<>();
+        while (moveStrings.size() < limit && iterator.hasNext()) {
+            moveStrings.add(iterator.next().toString());
+        }
+        return moveStrings;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMoveSelectorTest.endStep;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMoveSelectorTest.startStep;
+import static org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMoveSelectorTest.toStrings;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListSwapMoveSelectorTest {
+
+    @Test
+    public void original() {
+        EntitySelector<TestdataListSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataListEntity.buildEntityDescriptor(),
+                new TestdataListEntity("a", new TestdataListValue("1"), new TestdataListValue("2")),
+                new TestdataListEntity("b"),
+                new TestdataListEntity("c", new TestdataListValue("3")));
+        ListSwapMoveSelector<TestdataListSolution> moveSelector = new ListSwapMoveSelector<>(entitySelector, false);
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        AbstractStepScope<TestdataListSolution> stepScope = startStep(moveSelector, solverScope);
+
+        assertThat(moveSelector.isNeverEnding()).isFalse();
+        assertThat(moveSelector.getSize()).isEqualTo(3L);
+        assertThat(toStrings(moveSelector.iterator(), 4)).containsExactly(
+                "{a[0] <-> a[1]}", "{a[0] <-> c[0]}", "{a[1] <-> c[0]}");
+
+        endStep(moveSelector, stepScope, solverScope);
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
+    @Test
+    public void random() {
+        EntitySelector<TestdataListSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataListEntity.buildEntityDescriptor(),
+                new TestdataListEntity("a", new TestdataListValue("1"), new TestdataListValue("2")),
+                new TestdataListEntity("b"),
+                new TestdataListEntity("c", new TestdataListValue("3")));
+        ListSwapMoveSelector<TestdataListSolution> moveSelector = new ListSwapMoveSelector<>(entitySelector, true);
+        Random workingRandom = mock(Random.class);
+        // Left position, right position
+        when(workingRandom.nextInt(anyInt())).thenReturn(0, 2, 2, 1, 1, 1);
+        SolverScope<TestdataListSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        AbstractStepScope<TestdataListSolution> stepScope = startStep(moveSelector, solverScope);
+
+        assertThat(moveSelector.isNeverEnding()).isTrue();
+        assertThat(toStrings(moveSelector.iterator(), 3)).containsExactly(
+                "{a[0] <-> c[0]}", "{c[0] <-> a[1]}", "{a[1] <-> a[1]}");
+
+        endStep(moveSelector, stepScope, solverScope);
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
+}
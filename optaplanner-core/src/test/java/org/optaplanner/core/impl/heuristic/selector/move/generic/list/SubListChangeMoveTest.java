@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class SubListChangeMoveTest {
+
+    private final ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+            TestdataListEntity.buildVariableDescriptorForValueList();
+
+    @Test
+    public void isMoveDoable() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 2, a, 0, false).isMoveDoable(scoreDirector))
+                .isFalse();
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 2, a, 0, true).isMoveDoable(scoreDirector))
+                .isTrue();
+        assertThat(new SubListChangeMove<>(variableDescriptor, a, 0, 1, a, 0, true).isMoveDoable(scoreDirector))
+                .isFalse();
+    }
+
+    @Test
+    public void doMoveAndUndo() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3);
+        TestdataListEntity b = new TestdataListEntity("b", v4, v5);
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+
+        Move<TestdataListSolution> undoMove =
+                new SubListChangeMove<>(variableDescriptor, a, 1, 2, b, 1, false).doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1);
+        assertThat(b.getValueList()).containsExactly(v4, v2, v3, v5);
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2, v3);
+        assertThat(b.getValueList()).containsExactly(v4, v5);
+
+        undoMove = new SubListChangeMove<>(variableDescriptor, a, 0, 2, b, 2, true).doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v3);
+        assertThat(b.getValueList()).containsExactly(v4, v5, v2, v1);
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2, v3);
+        assertThat(b.getValueList()).containsExactly(v4, v5);
+    }
+
+}
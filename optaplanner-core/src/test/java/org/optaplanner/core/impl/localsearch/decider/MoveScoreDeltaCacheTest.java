@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class MoveScoreDeltaCacheTest {
+
+    @Test
+    void reuseDeltaOfUntouchedMove() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        Move<TestdataSolution> moveA = mockMove(a);
+        Move<TestdataSolution> stepB = mockMove(b);
+        MoveScoreDeltaCache<TestdataSolution, SimpleScore> cache = new MoveScoreDeltaCache<>();
+
+        assertThat(cache.lookUpScore(moveA, SimpleScore.of(-10))).isNull();
+        cache.put(moveA, SimpleScore.of(-10), SimpleScore.of(-7));
+        cache.stepEnded(stepB);
+
+        assertThat(cache.lookUpScore(moveA, SimpleScore.of(-5))).isEqualTo(SimpleScore.of(-2));
+        assertThat(cache.isEstimated(moveA)).isTrue();
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void lookUpByIdentity() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataValue v1 = new TestdataValue("v1");
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        Move<TestdataSolution> move = new ChangeMove<>(a, variableDescriptor, v1);
+        Move<TestdataSolution> equalMove = new ChangeMove<>(a, variableDescriptor, v1);
+        assertThat(equalMove).isEqualTo(move);
+        MoveScoreDeltaCache<TestdataSolution, SimpleScore> cache = new MoveScoreDeltaCache<>();
+
+        cache.put(move, SimpleScore.of(-10), SimpleScore.of(-7));
+        cache.stepEnded(mockMove(b));
+
+        assertThat(cache.lookUpScore(equalMove, SimpleScore.of(-5))).isNull();
+        assertThat(cache.lookUpScore(move, SimpleScore.of(-5))).isEqualTo(SimpleScore.of(-2));
+    }
+
+    @Test
+    void invalidateMoveTouchedByStep() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        Move<TestdataSolution> moveAB = mockMove(a, b);
+        Move<TestdataSolution> stepB = mockMove(b);
+        MoveScoreDeltaCache<TestdataSolution, SimpleScore> cache = new MoveScoreDeltaCache<>();
+
+        cache.put(moveAB, SimpleScore.of(-10), SimpleScore.of(-7));
+        cache.stepEnded(stepB);
+
+        assertThat(cache.lookUpScore(moveAB, SimpleScore.of(-5))).isNull();
+        assertThat(cache.isEstimated(moveAB)).isFalse();
+    }
+
+    @Test
+    void evictMoveNotSelectedDuringStep() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        Move<TestdataSolution> moveA = mockMove(a);
+        Move<TestdataSolution> stepB = mockMove(b);
+        MoveScoreDeltaCache<TestdataSolution, SimpleScore> cache = new MoveScoreDeltaCache<>();
+
+        cache.put(moveA, SimpleScore.of(-10), SimpleScore.of(-7));
+        cache.stepEnded(stepB);
+        // moveA is not selected in this step
+        cache.stepEnded(stepB);
+
+        assertThat(cache.lookUpScore(moveA, SimpleScore.of(-5))).isNull();
+    }
+
+    @Test
+    void estimatedOnlyDuringStepOfHit() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        Move<TestdataSolution> moveA = mockMove(a);
+        Move<TestdataSolution> stepB = mockMove(b);
+        MoveScoreDeltaCache<TestdataSolution, SimpleScore> cache = new MoveScoreDeltaCache<>();
+
+        cache.put(moveA, SimpleScore.of(-10), SimpleScore.of(-7));
+        assertThat(cache.isEstimated(moveA)).isFalse();
+        cache.stepEnded(stepB);
+        cache.lookUpScore(moveA, SimpleScore.of(-5));
+        assertThat(cache.isEstimated(moveA)).isTrue();
+        cache.stepEnded(stepB);
+        assertThat(cache.isEstimated(moveA)).isFalse();
+    }
+
+    private static Move<TestdataSolution> mockMove(Object... planningEntities) {
+        Move<TestdataSolution> move = mock(Move.class);
+        doReturn(Arrays.asList(planningEntities)).when(move).getPlanningEntities();
+        return move;
+    }
+
+}
@@ -16,11 +16,16 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -28,22 +33,29 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.phase.PhaseConfig;
+import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
@@ -82,6 +94,10 @@ public class DefaultPartitionedSearchPhaseTest {
     }
 
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
+        return SolverFactory.create(createSolverFactoryConfig(infinite, moveThreadCount, partSize));
+    }
+
+    private static SolverConfig createSolverFactoryConfig(boolean infinite, String moveThreadCount, int partSize) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
         solverConfig.setMoveThreadCount(moveThreadCount);
@@ -98,7 +114,7 @@ public class DefaultPartitionedSearchPhaseTest {
         }
         partitionedSearchPhaseConfig.setPhaseConfigList(
                 Arrays.asList(constructionHeuristicPhaseConfig, localSearchPhaseConfig));
-        return SolverFactory.create(solverConfig);
+        return solverConfig;
     }
 
     private static TestdataSolution createSolution(int entities, int values) {
@@ -112,6 +128,85 @@ public class DefaultPartitionedSearchPhaseTest {
         return solution;
     }
 
+    @Test
+    @Timeout(5)
+    public void repartitionWithMorePartsThanThreads() {
+        final int partSize = 3;
+        final int partCount = 7;
+        SolverConfig solverConfig = createSolverFactoryConfig(true, SolverConfig.MOVE_THREAD_COUNT_NONE, partSize)
+                .withTerminationSpentLimit(Duration.ofMillis(500L));
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(RoundRecordingSolutionPartitioner.class);
+        partitionedSearchPhaseConfig.setRunnablePartThreadLimit("2");
+        partitionedSearchPhaseConfig.setRepartitionInterval(Duration.ofMillis(70L));
+        partitionedSearchPhaseConfig.setBoundaryLocalSearchPhaseConfig(createBoundaryLocalSearchPhaseConfig());
+        List<PhaseConfig> partPhaseConfigList = new ArrayList<>(partitionedSearchPhaseConfig.getPhaseConfigList());
+        CustomPhaseCommand<TestdataSolution> solvedPartCounter =
+                scoreDirector -> RoundRecordingSolutionPartitioner.solvedPartCount.incrementAndGet();
+        partPhaseConfigList.add(0, new CustomPhaseConfig().withCustomPhaseCommandList(
+                Collections.singletonList(solvedPartCounter)));
+        partitionedSearchPhaseConfig.setPhaseConfigList(partPhaseConfigList);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+
+        RoundRecordingSolutionPartitioner.reset();
+        TestdataSolution solution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        List<Integer> solvedPartCountList = RoundRecordingSolutionPartitioner.roundStartingSolvedPartCountList;
+        List<SimpleScore> scoreList = RoundRecordingSolutionPartitioner.roundStartingScoreList;
+        assertThat(solvedPartCountList).hasSizeGreaterThan(1);
+        for (int roundIndex = 1; roundIndex < solvedPartCountList.size(); roundIndex++) {
+            // Every part of every earlier round was solved, even though there are fewer threads than parts
+            assertThat(solvedPartCountList.get(roundIndex)).isEqualTo(roundIndex * partCount);
+            assertThat(scoreList.get(roundIndex)).isGreaterThanOrEqualTo(scoreList.get(roundIndex - 1));
+        }
+    }
+
+    /**
+     * Records the state of the working solution at the start of each round.
+     */
+    public static class RoundRecordingSolutionPartitioner extends TestdataSolutionPartitioner {
+
+        private static final AtomicInteger solvedPartCount = new AtomicInteger();
+        private static final List<Integer> roundStartingSolvedPartCountList = new ArrayList<>();
+        private static final List<SimpleScore> roundStartingScoreList = new ArrayList<>();
+
+        private static void reset() {
+            solvedPartCount.set(0);
+            roundStartingSolvedPartCountList.clear();
+            roundStartingScoreList.clear();
+        }
+
+        @Override
+        public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit) {
+            roundStartingSolvedPartCountList.add(solvedPartCount.get());
+            roundStartingScoreList.add(
+                    ((InnerScoreDirector<TestdataSolution, SimpleScore>) scoreDirector).calculateScore());
+            return super.splitWorkingSolution(scoreDirector, runnablePartThreadLimit);
+        }
+
+    }
+
+    @Test
+    public void boundaryLocalSearchWithoutRepartitionInterval() {
+        SolverConfig solverConfig = createSolverFactoryConfig(false, SolverConfig.MOVE_THREAD_COUNT_NONE, 1);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setBoundaryLocalSearchPhaseConfig(createBoundaryLocalSearchPhaseConfig());
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("repartitionInterval");
+    }
+
+    private static LocalSearchPhaseConfig createBoundaryLocalSearchPhaseConfig() {
+        LocalSearchPhaseConfig boundaryLocalSearchPhaseConfig = new LocalSearchPhaseConfig();
+        boundaryLocalSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(1));
+        return boundaryLocalSearchPhaseConfig;
+    }
+
     @Test
     @Timeout(5)
     public void exceptionPropagation() {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class ConnectedComponentSolutionPartitionerTest {
+
+    @Test
+    public void splitIndependentEntitiesIntoBalancedParts() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 10);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        ConnectedComponentSolutionPartitioner<TestdataSolution> partitioner =
+                new ConnectedComponentSolutionPartitioner<>();
+        partitioner.setPartCount(3);
+
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, null);
+        assertThat(partList).hasSize(3);
+        assertThat(partList).extracting(part -> part.getEntityList().size())
+                .containsExactlyInAnyOrder(4, 3, 3);
+        List<String> partEntityCodeList = partList.stream()
+                .flatMap(part -> part.getEntityList().stream())
+                .map(TestdataEntity::getCode)
+                .collect(Collectors.toList());
+        assertThat(partEntityCodeList).containsExactlyInAnyOrderElementsOf(solution.getEntityList().stream()
+                .map(TestdataEntity::getCode).collect(Collectors.toList()));
+        for (TestdataSolution part : partList) {
+            assertThat(part).isNotSameAs(solution);
+            assertThat(part.getValueList()).isSameAs(solution.getValueList());
+            for (TestdataEntity partEntity : part.getEntityList()) {
+                assertThat(solution.getEntityList()).doesNotContain(partEntity);
+            }
+        }
+        // The working solution is untouched
+        assertThat(solution.getEntityList()).hasSize(10);
+    }
+
+    @Test
+    public void partCountDefaultsToRunnablePartThreadLimitAndIsCappedByEntityCount() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 10));
+        ConnectedComponentSolutionPartitioner<TestdataSolution> partitioner =
+                new ConnectedComponentSolutionPartitioner<>();
+        assertThat(partitioner.splitWorkingSolution(scoreDirector, 2)).hasSize(2);
+        assertThat(partitioner.splitWorkingSolution(scoreDirector, 20)).hasSize(10);
+    }
+
+    @Test
+    public void chainedVariableIsNotSupported() {
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataChainedSolution.buildSolutionDescriptor());
+        ConnectedComponentSolutionPartitioner<TestdataChainedSolution> partitioner =
+                new ConnectedComponentSolutionPartitioner<>();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> partitioner.splitWorkingSolution(scoreDirector, 2))
+                .withMessageContaining("chained");
+    }
+
+}
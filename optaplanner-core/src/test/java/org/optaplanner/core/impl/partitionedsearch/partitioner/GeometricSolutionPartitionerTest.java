@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class GeometricSolutionPartitionerTest {
+
+    @Test
+    public void splitByDistance() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 10));
+        GeometricSolutionPartitioner<TestdataSolution> partitioner = new GeometricSolutionPartitioner<>();
+        partitioner.setNearbyDistanceMeterClass(TestdataEntityIndexDistanceMeter.class.getName());
+        partitioner.setPartCount(2);
+
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, null);
+        assertThat(partList).hasSize(2);
+        List<List<Integer>> partEntityIndexList = partList.stream()
+                .map(part -> part.getEntityList().stream()
+                        .map(TestdataEntityIndexDistanceMeter::parseIndex)
+                        .sorted()
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        assertThat(partEntityIndexList).containsExactlyInAnyOrder(
+                asList(0, 1, 2, 3, 4),
+                asList(5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void withoutNearbyDistanceMeter() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 10));
+        GeometricSolutionPartitioner<TestdataSolution> partitioner = new GeometricSolutionPartitioner<>();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> partitioner.splitWorkingSolution(scoreDirector, 2))
+                .withMessageContaining("nearbyDistanceMeterClass");
+    }
+
+    public static class TestdataEntityIndexDistanceMeter
+            implements NearbyDistanceMeter<TestdataEntity, TestdataEntity> {
+
+        private static int parseIndex(TestdataEntity entity) {
+            String code = entity.getCode();
+            return Integer.parseInt(code.substring(code.lastIndexOf(' ') + 1));
+        }
+
+        @Override
+        public double getNearbyDistance(TestdataEntity origin, TestdataEntity destination) {
+            return Math.abs(parseIndex(origin) - parseIndex(destination));
+        }
+
+    }
+
+}
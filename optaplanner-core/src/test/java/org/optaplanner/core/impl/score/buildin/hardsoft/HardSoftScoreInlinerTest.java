@@ -18,12 +18,16 @@ package org.optaplanner.core.impl.score.buildin.hardsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.buildin.AbstractScoreInlinerTest;
+import org.optaplanner.core.impl.score.inliner.IndictmentPenaltyTracker;
 import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
@@ -118,6 +122,72 @@ public class HardSoftScoreInlinerTest
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    public void constraintMatchesRebuiltLazily() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.ofHard(10));
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled);
+
+        WeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        int[] justificationsSupplierCallCount = { 0 };
+        UndoScoreImpacter undo1 = hardImpacter.impactScore(1, () -> {
+            justificationsSupplierCallCount[0]++;
+            return Arrays.asList("a", "a");
+        });
+        UndoScoreImpacter undo2 = hardImpacter.impactScore(2, () -> {
+            justificationsSupplierCallCount[0]++;
+            return Arrays.asList("a", "b");
+        });
+        assertThat(justificationsSupplierCallCount[0]).isZero();
+
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.ofHard(30));
+        assertThat(scoreInliner.getIndictmentMap().get("a").getScore())
+                .isEqualTo(HardSoftScore.ofHard(30));
+        assertThat(scoreInliner.getIndictmentMap().get("b").getScore())
+                .isEqualTo(HardSoftScore.ofHard(20));
+        assertThat(justificationsSupplierCallCount[0]).isEqualTo(2);
+
+        undo2.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.ofHard(10));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("a");
+
+        undo1.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).isEmpty();
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+    }
+
+    @Test
+    public void indictmentPenaltyTracking() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(-2, -3));
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(getConstaintToWeightMap(constraint), false);
+        IndictmentPenaltyTracker indictmentPenaltyTracker = new IndictmentPenaltyTracker();
+        List<Object> changedJustificationList = new ArrayList<>();
+        indictmentPenaltyTracker.addPenaltyChangeListener(changedJustificationList::add);
+        scoreInliner.setIndictmentPenaltyTracker(indictmentPenaltyTracker);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = impacter.impactScore(1, () -> Arrays.asList("a", "a"));
+        UndoScoreImpacter undo2 = impacter.impactScore(2, () -> Arrays.asList("a", "b"));
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-6, -9));
+        assertThat(indictmentPenaltyTracker.getPenalty("a")).isEqualTo(15.0);
+        assertThat(indictmentPenaltyTracker.getPenalty("b")).isEqualTo(10.0);
+        assertThat(indictmentPenaltyTracker.getPenalty("c")).isEqualTo(0.0);
+        assertThat(changedJustificationList).containsExactly("a", "a", "b");
+
+        undo2.run();
+        assertThat(indictmentPenaltyTracker.getPenalty("a")).isEqualTo(5.0);
+        assertThat(indictmentPenaltyTracker.getPenalty("b")).isEqualTo(0.0);
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
+        assertThat(indictmentPenaltyTracker.getPenalty("a")).isEqualTo(0.0);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.inliner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+
+public class IndictmentPenaltyTrackerTest {
+
+    @Test
+    public void addAndRetract() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        List<Object> changedJustificationList = new ArrayList<>();
+        tracker.addPenaltyChangeListener(changedJustificationList::add);
+
+        Runnable undo1 = tracker.add(HardSoftScore.of(-2, -3), Arrays.asList(a, a));
+        Runnable undo2 = tracker.add(HardSoftScore.ofSoft(-4), Arrays.asList(a, b));
+        assertThat(tracker.getPenalty(a)).isEqualTo(9.0);
+        assertThat(tracker.getPenalty(b)).isEqualTo(4.0);
+        assertThat(changedJustificationList).containsExactly(a, a, b);
+
+        changedJustificationList.clear();
+        undo2.run();
+        assertThat(tracker.getPenalty(a)).isEqualTo(5.0);
+        assertThat(tracker.getPenalty(b)).isEqualTo(0.0);
+        assertThat(changedJustificationList).containsExactly(a, b);
+
+        undo1.run();
+        assertThat(tracker.getPenalty(a)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void rewardsAreIgnored() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+        List<Object> changedJustificationList = new ArrayList<>();
+        tracker.addPenaltyChangeListener(changedJustificationList::add);
+
+        tracker.add(HardSoftScore.of(0, 5), Collections.singletonList(a)).run();
+        tracker.add(HardSoftScore.of(-1, 5), Collections.singletonList(a));
+        assertThat(tracker.getPenalty(a)).isEqualTo(1.0);
+        assertThat(changedJustificationList).containsExactly(a);
+    }
+
+    @Test
+    public void identity() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        // Equal, but not the same
+        String a1 = new String("a");
+        String a2 = new String("a");
+
+        tracker.add(HardSoftScore.ofHard(-1), Collections.singletonList(a1));
+        tracker.add(HardSoftScore.ofHard(-2), Arrays.asList(a2, a2));
+        assertThat(tracker.getPenalty(a1)).isEqualTo(1.0);
+        assertThat(tracker.getPenalty(a2)).isEqualTo(2.0);
+        assertThat(tracker.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void pruneOnceNoMatchPenalizesIt() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+
+        Runnable undo1 = tracker.add(HardSoftScore.ofSoft(-1), Arrays.asList(a, b));
+        Runnable undo2 = tracker.add(HardSoftScore.ofSoft(-2), Collections.singletonList(a));
+        assertThat(tracker.size()).isEqualTo(2);
+        undo1.run();
+        assertThat(tracker.size()).isEqualTo(1);
+        undo2.run();
+        assertThat(tracker.size()).isEqualTo(0);
+
+        // Many moves that are evaluated and undone don't leave anything behind
+        for (int i = 0; i < 1000; i++) {
+            TestdataEntity entity = new TestdataEntity("e" + i);
+            tracker.add(HardSoftScore.ofSoft(-1), Collections.singletonList(entity)).run();
+        }
+        assertThat(tracker.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void pruneDropsRoundingErrors() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+
+        Runnable undo1 = tracker.add(SimpleBigDecimalScore.of(new BigDecimal("-0.1")), Collections.singletonList(a));
+        for (int i = 0; i < 10; i++) {
+            // Matches that are undone in a different order than they were added leave rounding errors in a double
+            Runnable undo2 = tracker.add(SimpleBigDecimalScore.of(new BigDecimal("-0.2")),
+                    Collections.singletonList(a));
+            undo1.run();
+            undo1 = tracker.add(SimpleBigDecimalScore.of(new BigDecimal("-0.1")), Collections.singletonList(a));
+            undo2.run();
+        }
+        undo1.run();
+        assertThat(tracker.getPenalty(a)).isEqualTo(0.0);
+        assertThat(tracker.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void removePenaltyChangeListener() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+        List<Object> changedJustificationList = new ArrayList<>();
+        Consumer<Object> listener = changedJustificationList::add;
+        tracker.addPenaltyChangeListener(listener);
+        tracker.removePenaltyChangeListener(listener);
+
+        tracker.add(HardSoftScore.ofSoft(-1), Collections.singletonList(a));
+        assertThat(changedJustificationList).isEmpty();
+        assertThat(tracker.getPenalty(a)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void clear() {
+        IndictmentPenaltyTracker tracker = new IndictmentPenaltyTracker();
+        TestdataEntity a = new TestdataEntity("a");
+
+        Runnable undo = tracker.add(HardSoftScore.ofSoft(-1), Collections.singletonList(a));
+        tracker.clear();
+        assertThat(tracker.getPenalty(a)).isEqualTo(0.0);
+        // The match of a discarded session must not corrupt the penalties
+        undo.run();
+        assertThat(tracker.getPenalty(a)).isEqualTo(0.0);
+        assertThat(tracker.size()).isEqualTo(0);
+    }
+
+}
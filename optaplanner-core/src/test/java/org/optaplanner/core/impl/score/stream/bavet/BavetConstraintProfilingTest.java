@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintNodeProfile;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+
+public class BavetConstraintProfilingTest {
+
+    private static final String PACKAGE = TestdataLavishSolution.class.getPackage().getName();
+
+    @Test
+    void profilingDisabled() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(false);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        scoreDirector.calculateScore();
+        assertThat(scoreDirector.getConstraintProfileMap()).isNull();
+    }
+
+    @Test
+    void profileEveryConstraint() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(true);
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+
+        Map<String, ConstraintProfile> constraintProfileMap = scoreDirector.getConstraintProfileMap();
+        assertThat(constraintProfileMap).containsOnlyKeys(PACKAGE + "/Entity with value",
+                PACKAGE + "/Entity with entity group");
+        int entityCount = solution.getEntityList().size();
+        for (ConstraintProfile constraintProfile : constraintProfileMap.values()) {
+            assertThat(constraintProfile.getNodeProfileList())
+                    .extracting(ConstraintNodeProfile::getNodeType)
+                    .contains("From", "Filter", "Scoring");
+            assertThat(constraintProfile.getTupleCount()).isGreaterThanOrEqualTo(entityCount);
+            assertThat(constraintProfile.getPropagationTimeNanos()).isGreaterThanOrEqualTo(0L);
+        }
+    }
+
+    @Test
+    void profileSurvivesSessionReset() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(true);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        scoreDirector.calculateScore();
+        ConstraintProfile firstProfile = scoreDirector.getConstraintProfileMap()
+                .get(PACKAGE + "/Entity with value");
+
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        scoreDirector.calculateScore();
+        ConstraintProfile secondProfile = scoreDirector.getConstraintProfileMap()
+                .get(PACKAGE + "/Entity with value");
+        // The nodes of the new session are accumulated on those of the old session
+        assertThat(secondProfile.getNodeProfileList()).hasSameSizeAs(firstProfile.getNodeProfileList());
+        assertThat(secondProfile.getTupleCount()).isEqualTo(firstProfile.getTupleCount() * 2);
+    }
+
+    private BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            boolean constraintStreamProfilingEnabled) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                entityWithValue(constraintFactory),
+                                entityWithEntityGroup(constraintFactory)
+                        });
+        scoreDirectorFactory.setConstraintStreamProfilingEnabled(constraintStreamProfilingEnabled);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+    private static Constraint entityWithValue(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(TestdataLavishEntity.class)
+                .filter(entity -> entity.getValue() != null)
+                .penalize("Entity with value", SimpleScore.ONE);
+    }
+
+    private static Constraint entityWithEntityGroup(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(TestdataLavishEntity.class)
+                .filter(entity -> entity.getEntityGroup() != null)
+                .penalize("Entity with entity group", SimpleScore.ONE);
+    }
+
+}
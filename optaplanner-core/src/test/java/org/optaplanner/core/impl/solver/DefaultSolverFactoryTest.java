@@ -21,9 +21,25 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 class DefaultSolverFactoryTest {
 
+    @Test
+    void scoreDirectorFactoryIsSharedBySolvers() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        DefaultSolverFactory<TestdataSolution> solverFactory = new DefaultSolverFactory<>(solverConfig);
+        DefaultSolver<TestdataSolution> solver1 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        DefaultSolver<TestdataSolution> solver2 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertThat(solver1.getScoreDirectorFactory())
+                .isSameAs(solver2.getScoreDirectorFactory())
+                .isSameAs(solverFactory.getScoreDirectorFactory());
+        assertThat(solver1.getSolverScope().getScoreDirector())
+                .isNotSameAs(solver2.getSolverScope().getScoreDirector());
+    }
+
     @Test
     void moveThreadCountAutoIsCorrectlyResolvedWhenCpuCountIsPositive() {
         assertThat(mockMoveThreadCountResolverAuto(1)).isNull();
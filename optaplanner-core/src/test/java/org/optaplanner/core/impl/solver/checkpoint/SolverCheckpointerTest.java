@@ -0,0 +1,253 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.checkpoint.SolutionCheckpointIO;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.checkpoint.SolverCheckpointConfig;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class SolverCheckpointerTest {
+
+    @Test
+    public void solveFromCheckpointWithoutCheckpointConfig() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        DefaultSolver<TestdataSolution> solver = buildSolver(solverConfig);
+        TestdataSolution problem = TestdataSolution.generateSolution(2, 3);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solver.solveFromCheckpoint(problem))
+                .withMessageContaining("checkpointConfig");
+    }
+
+    @Test
+    public void solveFromCheckpointWithoutCheckpoint(@TempDir Path checkpointDirectory) throws IOException {
+        SolverConfig solverConfig = buildSolverConfig(checkpointDirectory);
+        DefaultSolver<TestdataSolution> solver = buildSolver(solverConfig);
+        TestdataSolution solution = solver.solveFromCheckpoint(TestdataSolution.generateSolution(2, 3));
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+
+        // Both phases completed
+        Properties state = readState(checkpointDirectory);
+        assertThat(state.getProperty("phaseIndex")).isEqualTo("2");
+        assertThat(state.getProperty("stepIndex")).isEqualTo("-1");
+        assertThat(state.getProperty("workingRandom")).isNotNull();
+        TestdataSolution checkpointSolution = new TestdataSolutionCheckpointIO()
+                .read(checkpointDirectory.resolve(SolverCheckpointer.SOLUTION_FILE_NAME).toFile());
+        assertThat(checkpointSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(solution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void solveFromCheckpointSkipsCompletedPhases(@TempDir Path checkpointDirectory) throws IOException {
+        TestdataSolution checkpointSolution = TestdataSolution.generateSolution(2, 3);
+        for (TestdataEntity entity : checkpointSolution.getEntityList()) {
+            entity.setValue(checkpointSolution.getValueList().get(1));
+        }
+        new TestdataSolutionCheckpointIO().write(checkpointSolution,
+                checkpointDirectory.resolve(SolverCheckpointer.SOLUTION_FILE_NAME).toFile());
+        Properties state = new Properties();
+        state.setProperty("phaseIndex", "1");
+        state.setProperty("stepIndex", "7");
+        state.setProperty("timeMillisSpent", "1000");
+        try (OutputStream out = new FileOutputStream(
+                checkpointDirectory.resolve(SolverCheckpointer.STATE_FILE_NAME).toFile())) {
+            state.store(out, null);
+        }
+
+        SolverConfig solverConfig = buildSolverConfig(checkpointDirectory)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(new FailingCustomPhaseCommand()),
+                        new ConstructionHeuristicPhaseConfig());
+        DefaultSolver<TestdataSolution> solver = buildSolver(solverConfig);
+        TestdataSolution solution = solver.solveFromCheckpoint(TestdataSolution.generateSolution(5, 7));
+        assertThat(solution.getEntityList()).hasSize(3);
+        assertThat(solution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsOnly("Generated Value 1");
+        assertThat(readState(checkpointDirectory).getProperty("phaseIndex")).isEqualTo("2");
+    }
+
+    @Test
+    public void readCheckpointAfterCrashBetweenFileReplacements(@TempDir Path checkpointDirectory) throws IOException {
+        SolverConfig solverConfig = buildSolverConfig(checkpointDirectory);
+        buildSolver(solverConfig)
+                .solveFromCheckpoint(TestdataSolution.generateSolution(2, 3));
+        // The new state file didn't replace the old one yet
+        Path stateFile = checkpointDirectory.resolve(SolverCheckpointer.STATE_FILE_NAME);
+        Files.move(stateFile, checkpointDirectory.resolve(SolverCheckpointer.STATE_FILE_NAME + ".tmp"));
+        Properties oldState = new Properties();
+        oldState.setProperty("phaseIndex", "1");
+        oldState.setProperty("stepIndex", "-1");
+        oldState.setProperty("timeMillisSpent", "0");
+        oldState.setProperty("bestSolutionChecksum", "0");
+        try (OutputStream out = new FileOutputStream(stateFile.toFile())) {
+            oldState.store(out, null);
+        }
+
+        SolverCheckpoint<TestdataSolution> checkpoint = buildSolverCheckpointer(checkpointDirectory).readCheckpoint();
+        assertThat(checkpoint.getPhaseIndex()).isEqualTo(2);
+        assertThat(checkpoint.getBestSolution().getEntityList()).hasSize(3);
+    }
+
+    @Test
+    public void readCheckpointWithChangedSolutionFile(@TempDir Path checkpointDirectory) {
+        SolverConfig solverConfig = buildSolverConfig(checkpointDirectory);
+        buildSolver(solverConfig)
+                .solveFromCheckpoint(TestdataSolution.generateSolution(2, 3));
+        new TestdataSolutionCheckpointIO().write(TestdataSolution.generateSolution(2, 4),
+                checkpointDirectory.resolve(SolverCheckpointer.SOLUTION_FILE_NAME).toFile());
+
+        SolverCheckpointer<TestdataSolution> solverCheckpointer = buildSolverCheckpointer(checkpointDirectory);
+        assertThatIllegalStateException()
+                .isThrownBy(solverCheckpointer::readCheckpoint)
+                .withMessageContaining("checksum");
+    }
+
+    @Test
+    public void restoreWorkingRandom() {
+        Random workingRandom = new Random(37L);
+        byte[] serializedWorkingRandom;
+        try (ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+                ObjectOutputStream out = new ObjectOutputStream(bytesOut)) {
+            out.writeObject(workingRandom);
+            out.flush();
+            serializedWorkingRandom = bytesOut.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        SolverCheckpoint<TestdataSolution> checkpoint = new SolverCheckpoint<>(new TestdataSolution(), 0, -1, 0L,
+                serializedWorkingRandom);
+        Random restoredWorkingRandom = checkpoint.restoreWorkingRandom();
+        assertThat(restoredWorkingRandom.nextLong()).isEqualTo(workingRandom.nextLong());
+        assertThat(new SolverCheckpoint<>(new TestdataSolution(), 0, -1, 0L, null).restoreWorkingRandom()).isNull();
+    }
+
+    private static DefaultSolver<TestdataSolution> buildSolver(SolverConfig solverConfig) {
+        return (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+    }
+
+    private static SolverConfig buildSolverConfig(Path checkpointDirectory) {
+        return PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withCheckpointConfig(new SolverCheckpointConfig()
+                        .withCheckpointDirectory(checkpointDirectory.toFile())
+                        .withSolutionCheckpointIOClass(TestdataSolutionCheckpointIO.class));
+    }
+
+    private static SolverCheckpointer<TestdataSolution> buildSolverCheckpointer(Path checkpointDirectory) {
+        return new SolverCheckpointer<>(checkpointDirectory.toFile(), 0L, new TestdataSolutionCheckpointIO(), null,
+                null);
+    }
+
+    private static Properties readState(Path checkpointDirectory) throws IOException {
+        Properties state = new Properties();
+        try (InputStream in = new FileInputStream(
+                checkpointDirectory.resolve(SolverCheckpointer.STATE_FILE_NAME).toFile())) {
+            state.load(in);
+        }
+        return state;
+    }
+
+    public static class FailingCustomPhaseCommand implements CustomPhaseCommand<TestdataSolution> {
+
+        @Override
+        public void changeWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector) {
+            throw new IllegalStateException("The completed phase must be skipped.");
+        }
+
+    }
+
+    /**
+     * Writes the value codes on the first line and an entity code with its value code on each other line.
+     */
+    public static class TestdataSolutionCheckpointIO implements SolutionCheckpointIO<TestdataSolution> {
+
+        @Override
+        public TestdataSolution read(File inputSolutionFile) {
+            List<String> lineList;
+            try {
+                lineList = Files.readAllLines(inputSolutionFile.toPath(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Map<String, TestdataValue> valueMap = new LinkedHashMap<>();
+            for (String valueCode : lineList.get(0).split(",")) {
+                valueMap.put(valueCode, new TestdataValue(valueCode));
+            }
+            List<TestdataEntity> entityList = new ArrayList<>(lineList.size() - 1);
+            for (String line : lineList.subList(1, lineList.size())) {
+                String[] tokens = line.split("=", -1);
+                entityList.add(new TestdataEntity(tokens[0], valueMap.get(tokens[1])));
+            }
+            TestdataSolution solution = new TestdataSolution("s1");
+            solution.setValueList(new ArrayList<>(valueMap.values()));
+            solution.setEntityList(entityList);
+            return solution;
+        }
+
+        @Override
+        public void write(TestdataSolution solution, File outputSolutionFile) {
+            List<String> lineList = new ArrayList<>(solution.getEntityList().size() + 1);
+            lineList.add(solution.getValueList().stream().map(TestdataValue::getCode)
+                    .collect(Collectors.joining(",")));
+            for (TestdataEntity entity : solution.getEntityList()) {
+                lineList.add(entity.getCode() + "=" + (entity.getValue() == null ? "" : entity.getValue().getCode()));
+            }
+            try {
+                Files.write(outputSolutionFile.toPath(), lineList, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.event.BestSolutionDeltaEvent;
+import org.optaplanner.core.api.solver.event.BestSolutionDeltaListener;
+import org.optaplanner.core.api.solver.event.PlanningVariableChange;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class BestSolutionDeltaRecorderTest {
+
+    @Test
+    public void extractVariableChangeList() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = PlannerTestUtils.mockScoreDirector(solutionDescriptor);
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 3);
+        TestdataValue v0 = solution.getValueList().get(0);
+        TestdataValue v1 = solution.getValueList().get(1);
+        TestdataValue v2 = solution.getValueList().get(2);
+        TestdataEntity e0 = solution.getEntityList().get(0);
+        TestdataEntity e1 = solution.getEntityList().get(1);
+        TestdataEntity e2 = solution.getEntityList().get(2);
+        e0.setValue(v0);
+        e1.setValue(v1);
+        e2.setValue(v2);
+        scoreDirector.setWorkingSolution(solution);
+        BestSolutionDeltaRecorder<TestdataSolution> recorder = new BestSolutionDeltaRecorder<>();
+        scoreDirector.setBestSolutionDeltaRecorder(recorder);
+
+        // Changed and changed back
+        scoreDirector.changeVariableFacade(variableDescriptor, e0, v2);
+        scoreDirector.changeVariableFacade(variableDescriptor, e0, v0);
+        // Changed twice
+        scoreDirector.changeVariableFacade(variableDescriptor, e1, v0);
+        scoreDirector.changeVariableFacade(variableDescriptor, e1, v2);
+        assertThat(recorder.isComplete()).isTrue();
+        TestdataSolution newBestSolution = scoreDirector.cloneWorkingSolution();
+        List<PlanningVariableChange> variableChangeList =
+                recorder.extractVariableChangeList(scoreDirector, newBestSolution);
+        assertThat(variableChangeList).hasSize(1);
+        PlanningVariableChange variableChange = variableChangeList.get(0);
+        assertThat(variableChange.getEntity()).isSameAs(newBestSolution.getEntityList().get(1));
+        assertThat(variableChange.getVariableName()).isEqualTo("value");
+        assertThat(variableChange.getNewValue()).isSameAs(newBestSolution.getValueList().get(2));
+
+        // The previous extraction is the new reference
+        newBestSolution = scoreDirector.cloneWorkingSolution();
+        assertThat(recorder.extractVariableChangeList(scoreDirector, newBestSolution)).isEmpty();
+        scoreDirector.changeVariableFacade(variableDescriptor, e1, v1);
+        newBestSolution = scoreDirector.cloneWorkingSolution();
+        variableChangeList = recorder.extractVariableChangeList(scoreDirector, newBestSolution);
+        assertThat(variableChangeList).extracting(PlanningVariableChange::getNewValue)
+                .containsExactly(newBestSolution.getValueList().get(1));
+    }
+
+    @Test
+    public void problemFactChangeMarksIncomplete() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = PlannerTestUtils.mockScoreDirector(solutionDescriptor);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        scoreDirector.setWorkingSolution(solution);
+        BestSolutionDeltaRecorder<TestdataSolution> recorder = new BestSolutionDeltaRecorder<>();
+        scoreDirector.setBestSolutionDeltaRecorder(recorder);
+
+        scoreDirector.changeVariableFacade(variableDescriptor, solution.getEntityList().get(0),
+                solution.getValueList().get(0));
+        TestdataValue value = solution.getValueList().get(1);
+        scoreDirector.beforeProblemPropertyChanged(value);
+        value.setCode("Changed value");
+        scoreDirector.afterProblemPropertyChanged(value);
+        assertThat(recorder.isComplete()).isFalse();
+        assertThat(recorder.extractVariableChangeList(scoreDirector, scoreDirector.cloneWorkingSolution())).isEmpty();
+        // Complete again after the extraction
+        assertThat(recorder.isComplete()).isTrue();
+    }
+
+    @Test
+    public void solveWithBestSolutionDeltaListener() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataSolution problem = TestdataSolution.generateSolution(4, 4);
+        // Mirrors the best solution by applying only the changes of each event
+        Map<String, String> valueCodeMap = new HashMap<>();
+        List<BestSolutionDeltaEvent<TestdataSolution>> eventList = new ArrayList<>();
+        BestSolutionDeltaListener<TestdataSolution> listener = event -> {
+            eventList.add(event);
+            for (PlanningVariableChange variableChange : event.getVariableChangeList()) {
+                assertThat(event.getNewBestSolution().getEntityList()).containsOnlyOnce(
+                        (TestdataEntity) variableChange.getEntity());
+                TestdataValue newValue = (TestdataValue) variableChange.getNewValue();
+                valueCodeMap.put(((TestdataEntity) variableChange.getEntity()).getCode(),
+                        newValue == null ? null : newValue.getCode());
+            }
+        };
+        solver.addEventListener(listener);
+        TestdataSolution bestSolution = solver.solve(problem);
+
+        assertThat(eventList).isNotEmpty();
+        assertThat(eventList).allMatch(BestSolutionDeltaEvent::isVariableChangeListComplete);
+        assertThat(valueCodeMap).hasSize(4);
+        for (TestdataEntity entity : bestSolution.getEntityList()) {
+            assertThat(valueCodeMap.get(entity.getCode())).isEqualTo(entity.getValue().getCode());
+        }
+    }
+
+}
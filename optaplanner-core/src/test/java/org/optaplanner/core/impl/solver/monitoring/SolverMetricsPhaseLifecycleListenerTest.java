@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.monitoring.SolverMetric;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class SolverMetricsPhaseLifecycleListenerTest {
+
+    @Test
+    public void solveReportsMetrics() {
+        SolverMetricsRegistry metricsRegistry = mock(SolverMetricsRegistry.class);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withMetricsRegistry(metricsRegistry);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        solution = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver().solve(solution);
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+
+        verify(metricsRegistry, atLeastOnce()).recordNanos(eq(SolverMetric.STEP_TIME), anyLong());
+        verify(metricsRegistry, atLeastOnce()).recordNanos(eq(SolverMetric.SOLUTION_CLONE_TIME), anyLong());
+        verify(metricsRegistry, atLeastOnce()).increment(eq(SolverMetric.SCORE_CALCULATION_COUNT), isNull(), anyLong());
+        verify(metricsRegistry, atLeastOnce()).gauge(eq(SolverMetric.SCORE_CALCULATION_SPEED), isNull(), anyDouble());
+        verify(metricsRegistry, atLeastOnce()).gauge(eq(SolverMetric.BEST_SCORE), eq("score"), anyDouble());
+        // Only the local search phase (the 2nd phase) evaluates moves through a move selector
+        verify(metricsRegistry, never()).increment(eq(SolverMetric.MOVE_EVALUATED_COUNT), eq("0"), anyLong());
+        verify(metricsRegistry, atLeastOnce()).increment(eq(SolverMetric.MOVE_EVALUATED_COUNT), eq("1"), anyLong());
+        verify(metricsRegistry, atLeastOnce()).increment(eq(SolverMetric.MOVE_ACCEPTED_COUNT), eq("1"), anyLong());
+        verify(metricsRegistry, never()).recordNanos(eq(SolverMetric.PROBLEM_FACT_CHANGE_TIME), anyLong());
+        verify(metricsRegistry, never()).increment(any(), eq("2"), anyLong());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.solver.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ProbabilityWeightTreeTest {
+
+    @Test
+    public void sample() {
+        ProbabilityWeightTree<String> tree = new ProbabilityWeightTree<>();
+        tree.add("a", 1000.0);
+        tree.add("b", 200.0);
+        tree.add("c", 30.0);
+        tree.add("d", 4.0);
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.getProbabilityWeightTotal()).isEqualTo(1234.0);
+
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextDouble()).thenReturn(1222.0 / 1234.0, 111.0 / 1234.0, 0.0, 1230.0 / 1234.0,
+                1199.0 / 1234.0, 1200.0 / 1234.0);
+        assertThat(tree.sample(workingRandom)).isEqualTo("c");
+        assertThat(tree.sample(workingRandom)).isEqualTo("a");
+        assertThat(tree.sample(workingRandom)).isEqualTo("a");
+        assertThat(tree.sample(workingRandom)).isEqualTo("d");
+        assertThat(tree.sample(workingRandom)).isEqualTo("b");
+        assertThat(tree.sample(workingRandom)).isEqualTo("c");
+    }
+
+    @Test
+    public void sampleSkipsZeroProbabilityWeight() {
+        ProbabilityWeightTree<String> tree = new ProbabilityWeightTree<>(1);
+        tree.add("a", 5.0);
+        tree.add("b", 0.0);
+        tree.add("c", 3.0);
+        tree.add("d", 0.0);
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextDouble()).thenReturn(0.0, 4.0 / 8.0, 5.0 / 8.0, 7.0 / 8.0);
+        assertThat(tree.sample(workingRandom)).isEqualTo("a");
+        assertThat(tree.sample(workingRandom)).isEqualTo("a");
+        assertThat(tree.sample(workingRandom)).isEqualTo("c");
+        assertThat(tree.sample(workingRandom)).isEqualTo("c");
+    }
+
+    @Test
+    public void setProbabilityWeight() {
+        ProbabilityWeightTree<String> tree = new ProbabilityWeightTree<>();
+        for (int i = 0; i < 20; i++) {
+            tree.add("e" + i, 1.0);
+        }
+        tree.setProbabilityWeight(0, 0.0);
+        tree.setProbabilityWeight(13, 11.0);
+        assertThat(tree.getProbabilityWeight(13)).isEqualTo(11.0);
+        assertThat(tree.getProbabilityWeightTotal()).isEqualTo(29.0);
+
+        Random workingRandom = mock(Random.class);
+        // e1 to e12 cover [0, 12[, e13 covers [12, 23[ and e14 to e19 cover [23, 29[
+        when(workingRandom.nextDouble()).thenReturn(0.0, 11.5 / 29.0, 12.0 / 29.0, 22.5 / 29.0, 23.0 / 29.0,
+                28.5 / 29.0);
+        assertThat(tree.sample(workingRandom)).isEqualTo("e1");
+        assertThat(tree.sample(workingRandom)).isEqualTo("e12");
+        assertThat(tree.sample(workingRandom)).isEqualTo("e13");
+        assertThat(tree.sample(workingRandom)).isEqualTo("e13");
+        assertThat(tree.sample(workingRandom)).isEqualTo("e14");
+        assertThat(tree.sample(workingRandom)).isEqualTo("e19");
+    }
+
+    @Test
+    public void negativeProbabilityWeight() {
+        ProbabilityWeightTree<String> tree = new ProbabilityWeightTree<>();
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.add("a", -1.0));
+        tree.add("a", 1.0);
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.setProbabilityWeight(0, Double.NaN));
+    }
+
+    @Test
+    public void sampleWithoutProbabilityWeight() {
+        ProbabilityWeightTree<String> tree = new ProbabilityWeightTree<>();
+        tree.add("a", 0.0);
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.sample(new Random(37)));
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+public class DiminishedReturnsTerminationTest {
+
+    private static final long START_TIME_MILLIS = 0L;
+
+    @Test
+    public void forNonPositiveTimeMillis_exceptionIsThrown() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DiminishedReturnsTermination<>(0L, SimpleScore.of(1)))
+                .withMessageContaining("must be positive");
+    }
+
+    @Test
+    public void noImprovement_terminatesAfterOneInterval() {
+        SolverScope<?> solverScope = mock(SolverScope.class);
+        AbstractPhaseScope<?> phaseScope = mock(LocalSearchPhaseScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination termination = new DiminishedReturnsTermination<>(1000L, SimpleScore.of(10), clock);
+        doReturn(solverScope).when(phaseScope).getSolverScope();
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        when(solverScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
+        when(phaseScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
+        when(solverScope.getBestScore()).thenReturn(SimpleScore.of(0));
+
+        termination.solvingStarted(solverScope);
+        termination.phaseStarted(phaseScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 999L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(-1.0);
+    }
+
+    @Test
+    public void improvementsFlatten_terminates() {
+        SolverScope<?> solverScope = mock(SolverScope.class);
+        AbstractPhaseScope<?> phaseScope = mock(LocalSearchPhaseScope.class);
+        AbstractStepScope<?> stepScope = mock(LocalSearchStepScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination termination = new DiminishedReturnsTermination<>(1000L, SimpleScore.of(10), clock);
+        doReturn(solverScope).when(phaseScope).getSolverScope();
+        doReturn(phaseScope).when(stepScope).getPhaseScope();
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        when(solverScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
+        when(phaseScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
+        when(solverScope.getBestSolutionTimeMillis()).thenReturn(START_TIME_MILLIS);
+        when(solverScope.getBestScore()).thenReturn(SimpleScore.of(-1000));
+
+        termination.solvingStarted(solverScope);
+        termination.phaseStarted(phaseScope);
+
+        // big improvement after 1 second => predicted gain of 292 per second
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
+        when(solverScope.getBestSolutionTimeMillis()).thenReturn(START_TIME_MILLIS + 1000L);
+        when(stepScope.getBestScoreImproved()).thenReturn(Boolean.TRUE);
+        when(solverScope.getBestScore()).thenReturn(SimpleScore.of(-500));
+        termination.stepEnded(stepScope);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+
+        // no improvements since => predicted gain of 14 per second
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 10_000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+
+        // still no improvements => predicted gain of 5 per second
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 20_000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+    }
+
+}
@@ -193,4 +193,35 @@ class TerminationFactoryTest {
                 .isThrownBy(() -> terminationFactory.buildTimeBasedTermination(heuristicConfigPolicy))
                 .withMessageContaining("can only be used if an unimproved*SpentLimit");
     }
+
+    @Test
+    void buildTimeBasedTermination_withDiminishedReturns() {
+        HeuristicConfigPolicy<TestdataSolution> heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
+        when(heuristicConfigPolicy.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+
+        TerminationConfig terminationConfig = new TerminationConfig()
+                .withDiminishedReturnsSpentLimit(Duration.ofSeconds(30L))
+                .withDiminishedReturnsScoreThreshold("0hard/10soft");
+        List<Termination<TestdataSolution>> terminationList =
+                TerminationFactory.<TestdataSolution> create(terminationConfig)
+                        .buildTimeBasedTermination(heuristicConfigPolicy);
+        assertThat(terminationList)
+                .hasSize(1)
+                .hasOnlyElementsOfType(DiminishedReturnsTermination.class);
+        DiminishedReturnsTermination<?> termination = (DiminishedReturnsTermination<?>) terminationList.get(0);
+        assertThat(termination.getDiminishedReturnsTimeMillisSpentLimit()).isEqualTo(30_000L);
+    }
+
+    @Test
+    void diminishedReturnsScoreThreshold_mustBeUsedWithDiminishedReturnsSpentLimit() {
+        HeuristicConfigPolicy<TestdataSolution> heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
+
+        TerminationConfig terminationConfig = new TerminationConfig()
+                .withDiminishedReturnsScoreThreshold("0hard/10soft");
+
+        TerminationFactory<TestdataSolution> terminationFactory = TerminationFactory.create(terminationConfig);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> terminationFactory.buildTimeBasedTermination(heuristicConfigPolicy))
+                .withMessageContaining("can only be used if a diminishedReturnsSpentLimit");
+    }
 }
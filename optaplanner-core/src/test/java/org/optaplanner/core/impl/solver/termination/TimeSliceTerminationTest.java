@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+public class TimeSliceTerminationTest {
+
+    @Test
+    public void notStarted() {
+        Termination termination = new TimeSliceTermination(0L);
+        SolverScope solverScope = mock(SolverScope.class);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.0));
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.0, offset(0.0));
+    }
+
+    @Test
+    public void withinTimeSlice() {
+        TimeSliceTermination termination = new TimeSliceTermination(1_000_000L);
+        SolverScope solverScope = mock(SolverScope.class);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        termination.start();
+
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.001));
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.0, offset(0.001));
+    }
+
+    @Test
+    public void timeSliceSpent() {
+        TimeSliceTermination termination = new TimeSliceTermination(0L);
+        SolverScope solverScope = mock(SolverScope.class);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        termination.start();
+
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(1.0, offset(0.0));
+    }
+
+    @Test
+    public void negativeTimeSlice() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimeSliceTermination<>(-1L));
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+@PlanningEntity
+public class TestdataListEntity extends TestdataObject {
+
+    public static EntityDescriptor<TestdataListSolution> buildEntityDescriptor() {
+        return TestdataListSolution.buildSolutionDescriptor().findEntityDescriptorOrFail(TestdataListEntity.class);
+    }
+
+    public static ListVariableDescriptor<TestdataListSolution> buildVariableDescriptorForValueList() {
+        return TestdataListSolution.buildSolutionDescriptor().getListVariableDescriptor();
+    }
+
+    private List<TestdataListValue> valueList = new ArrayList<>();
+
+    public TestdataListEntity() {
+    }
+
+    public TestdataListEntity(String code, TestdataListValue... values) {
+        super(code);
+        valueList.addAll(Arrays.asList(values));
+        for (int i = 0; i < values.length; i++) {
+            values[i].setEntity(this);
+            values[i].setIndex(i);
+        }
+    }
+
+    @PlanningListVariable(valueRangeProviderRefs = "valueRange")
+    public List<TestdataListValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataListValue> valueList) {
+        this.valueList = valueList;
+    }
+
+}
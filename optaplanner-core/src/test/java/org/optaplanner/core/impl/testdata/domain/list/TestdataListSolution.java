@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+@PlanningSolution
+public class TestdataListSolution extends TestdataObject {
+
+    public static SolutionDescriptor<TestdataListSolution> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(TestdataListSolution.class,
+                TestdataListEntity.class, TestdataListValue.class);
+    }
+
+    public static TestdataListSolution generateUninitializedSolution(int valueListSize, int entityListSize) {
+        TestdataListSolution solution = new TestdataListSolution("Generated Solution 0");
+        List<TestdataListValue> valueList = new ArrayList<>(valueListSize);
+        for (int i = 0; i < valueListSize; i++) {
+            valueList.add(new TestdataListValue("Generated Value " + i));
+        }
+        solution.setValueList(valueList);
+        List<TestdataListEntity> entityList = new ArrayList<>(entityListSize);
+        for (int i = 0; i < entityListSize; i++) {
+            entityList.add(new TestdataListEntity("Generated Entity " + i));
+        }
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    private List<TestdataListValue> valueList;
+    private List<TestdataListEntity> entityList;
+
+    private SimpleScore score;
+
+    public TestdataListSolution() {
+    }
+
+    public TestdataListSolution(String code) {
+        super(code);
+    }
+
+    @ValueRangeProvider(id = "valueRange")
+    @PlanningEntityCollectionProperty
+    public List<TestdataListValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataListValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<TestdataListEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<TestdataListEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+@PlanningEntity
+public class TestdataRenamedFieldListEntity extends TestdataObject {
+
+    // Not named after the getter
+    private List<TestdataValue> assignedValues = new ArrayList<>();
+    private String note;
+
+    public TestdataRenamedFieldListEntity() {
+    }
+
+    public TestdataRenamedFieldListEntity(String code) {
+        super(code);
+    }
+
+    @PlanningListVariable(valueRangeProviderRefs = "valueRange")
+    public List<TestdataValue> getValueList() {
+        return assignedValues;
+    }
+
+    public void setValueList(List<TestdataValue> valueList) {
+        this.assignedValues = valueList;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+}
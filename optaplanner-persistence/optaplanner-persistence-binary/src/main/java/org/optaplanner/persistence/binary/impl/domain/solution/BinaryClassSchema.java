@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The fields of a class that are written to a binary solution file:
+ * all non-static, non-transient fields of the class and its superclasses, superclass fields first.
+ */
+final class BinaryClassSchema {
+
+    /**
+     * Whether instances of the class are written once, in the object table of the file,
+     * and referenced by their index.
+     * That's the case for the solution, its problem facts and planning entities and any other domain object they use.
+     * Instances of JDK classes (other than the {@link BinaryValueType.Kind built-in kinds})
+     * are written with Java serialization instead.
+     *
+     * @param objectClass never null
+     * @return true if its instances belong in the object table
+     */
+    static boolean isTableClass(Class<?> objectClass) {
+        if (objectClass.isArray() || objectClass.isEnum() || objectClass.isPrimitive()) {
+            return false;
+        }
+        String className = objectClass.getName();
+        return !className.startsWith("java.") && !className.startsWith("javax.")
+                && BinaryValueType.of(objectClass).getKind() == BinaryValueType.Kind.OBJECT;
+    }
+
+    private final Class<?> objectClass;
+    private final List<FieldSchema> fieldList;
+    private Constructor<?> constructor = null;
+
+    BinaryClassSchema(Class<?> objectClass) {
+        this.objectClass = objectClass;
+        List<Class<?>> lineage = new ArrayList<>();
+        for (Class<?> clazz = objectClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            lineage.add(clazz);
+        }
+        Collections.reverse(lineage);
+        List<FieldSchema> fieldList = new ArrayList<>();
+        for (Class<?> clazz : lineage) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fieldList.add(new FieldSchema(field));
+            }
+        }
+        this.fieldList = fieldList;
+    }
+
+    Class<?> getObjectClass() {
+        return objectClass;
+    }
+
+    List<FieldSchema> getFieldList() {
+        return fieldList;
+    }
+
+    Object newInstance() {
+        try {
+            if (constructor == null) {
+                constructor = objectClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            }
+            return constructor.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The class (" + objectClass
+                    + ") has no no-arg constructor, so it cannot be read from a binary solution file.\n"
+                    + "Maybe add a no-arg constructor, it can be private.", e);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("The class (" + objectClass + ") could not be instantiated.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return objectClass.getName() + fieldList;
+    }
+
+    static final class FieldSchema {
+
+        private final Field field;
+        private final String typeName;
+        private final BinaryValueType valueType;
+        private final List<Class<?>> enumTypeList;
+
+        private FieldSchema(Field field) {
+            this.field = field;
+            typeName = field.getGenericType().getTypeName();
+            valueType = BinaryValueType.of(field.getGenericType());
+            List<Class<?>> enumTypeList = new ArrayList<>(0);
+            collectEnumTypes(valueType, enumTypeList);
+            this.enumTypeList = enumTypeList;
+        }
+
+        private static void collectEnumTypes(BinaryValueType valueType, List<Class<?>> enumTypeList) {
+            if (valueType == null) {
+                return;
+            }
+            if (valueType.getKind() == BinaryValueType.Kind.ENUM) {
+                enumTypeList.add(valueType.getType());
+            }
+            collectEnumTypes(valueType.getElementType(), enumTypeList);
+            collectEnumTypes(valueType.getValueType(), enumTypeList);
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        String getName() {
+            return field.getName();
+        }
+
+        /**
+         * @return the declared generic type, written in the file to detect domain changes
+         */
+        String getTypeName() {
+            return typeName;
+        }
+
+        BinaryValueType getValueType() {
+            return valueType;
+        }
+
+        /**
+         * Enums are written by ordinal, so the names of their constants are written in the file too,
+         * to map each ordinal to the same constant if the enum has changed since the file was written.
+         *
+         * @return never null, every enum type in the value type, including the element and map value types
+         */
+        List<Class<?>> getEnumTypeList() {
+            return enumTypeList;
+        }
+
+        @Override
+        public String toString() {
+            return field.getName();
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.persistence.binary.impl.domain.solution.BinaryClassSchema.FieldSchema;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * A compact binary {@link SolutionFileIO}, for large datasets, snapshots and checkpoints.
+ * <p>
+ * The file starts with a schema: for every class of the solution, its problem facts, its planning entities
+ * and any other domain object they reference, the names and declared types of its fields.
+ * Then follow the field values of every object, without any tags:
+ * numbers are variable length encoded, references to other objects are their index in the file
+ * and the {@link PlanningSolution} score is written as its score levels.
+ * Enums are written by ordinal, but the schema also lists their constant names,
+ * so reordered or added constants are still read correctly.
+ * A few JDK value classes that aren't natively supported, such as {@link UUID} and {@link java.time.Instant},
+ * are written with Java serialization.
+ * <p>
+ * Writing streams the file. Reading memory-maps it and resolves every reference in a single pass.
+ * Reading fails fast if a class has changed since the file was written.
+ * It only instantiates the domain classes that are reachable from the {@link SolutionDescriptor}
+ * through the declared field types and only deserializes those JDK value classes,
+ * so a tampered file can't make it load or instantiate any other class.
+ * Every domain class needs a no-arg constructor, which can be private.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BinarySolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    static final int MAGIC_NUMBER = 0x4F50534C; // "OPSL"
+    static final byte FORMAT_VERSION = 2;
+
+    static final byte SCORE_NULL = 0;
+    static final byte SCORE_LEVELS = 1;
+    static final byte SCORE_SERIALIZED = 2;
+    static final byte SCORE_LEVEL_INT = 0;
+    static final byte SCORE_LEVEL_LONG = 1;
+    static final byte SCORE_LEVEL_BIG_DECIMAL = 2;
+
+    /**
+     * The JDK classes that are written with Java serialization, including their serializable superclasses.
+     */
+    private static final Set<String> SERIALIZED_JDK_CLASS_NAME_SET = new HashSet<>(Arrays.asList(
+            Number.class.getName(), Boolean.class.getName(), Byte.class.getName(), Short.class.getName(),
+            Character.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(),
+            Double.class.getName(), BigInteger.class.getName(), BigDecimal.class.getName(),
+            UUID.class.getName(), Date.class.getName(),
+            // The serialized form of every java.time class
+            "java.time.Ser",
+            boolean[].class.getName(), byte[].class.getName(), short[].class.getName(), char[].class.getName(),
+            int[].class.getName(), long[].class.getName(), float[].class.getName(), double[].class.getName()));
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final Map<Class<?>, BinaryClassSchema> classSchemaMap = new ConcurrentHashMap<>();
+    /**
+     * The concrete domain classes that can be in the object table of a file, by name.
+     */
+    private final Map<String, Class<?>> domainClassMap;
+    private final Set<String> serializedClassNameSet;
+
+    public BinarySolutionFileIO(Class<Solution_> clazz, Class<?>... entityClasses) {
+        this(SolutionDescriptor.buildSolutionDescriptor(clazz, entityClasses));
+    }
+
+    public BinarySolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        domainClassMap = discoverDomainClasses(solutionDescriptor);
+        serializedClassNameSet = new HashSet<>(SERIALIZED_JDK_CLASS_NAME_SET);
+        // A score with other score levels than int, long or BigDecimal is written with Java serialization
+        for (Class<?> scoreClass = solutionDescriptor.getScoreDefinition().getScoreClass();
+                scoreClass != null && scoreClass != Object.class; scoreClass = scoreClass.getSuperclass()) {
+            serializedClassNameSet.add(scoreClass.getName());
+        }
+    }
+
+    private Map<String, Class<?>> discoverDomainClasses(SolutionDescriptor<Solution_> solutionDescriptor) {
+        Map<String, Class<?>> domainClassMap = new HashMap<>();
+        Set<Class<?>> visitedClassSet = new HashSet<>();
+        Deque<Type> typeQueue = new ArrayDeque<>();
+        typeQueue.add(solutionDescriptor.getSolutionClass());
+        typeQueue.addAll(solutionDescriptor.getEntityClassSet());
+        typeQueue.addAll(solutionDescriptor.getProblemFactOrEntityClassSet());
+        while (!typeQueue.isEmpty()) {
+            Type type = typeQueue.poll();
+            if (type instanceof ParameterizedType) {
+                typeQueue.add(((ParameterizedType) type).getRawType());
+                typeQueue.addAll(Arrays.asList(((ParameterizedType) type).getActualTypeArguments()));
+            } else if (type instanceof GenericArrayType) {
+                typeQueue.add(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                typeQueue.addAll(Arrays.asList(((WildcardType) type).getUpperBounds()));
+            } else if (type instanceof Class) {
+                Class<?> clazz = (Class<?>) type;
+                if (clazz.isArray()) {
+                    typeQueue.add(clazz.getComponentType());
+                } else if (BinaryClassSchema.isTableClass(clazz) && visitedClassSet.add(clazz)) {
+                    if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+                        domainClassMap.put(clazz.getName(), clazz);
+                    }
+                    for (FieldSchema fieldSchema : getClassSchema(clazz).getFieldList()) {
+                        typeQueue.add(fieldSchema.getField().getGenericType());
+                    }
+                }
+            }
+            // Type variables are declared as Object, so they don't add any domain class
+        }
+        return domainClassMap;
+    }
+
+    SolutionDescriptor<Solution_> getSolutionDescriptor() {
+        return solutionDescriptor;
+    }
+
+    BinaryClassSchema getClassSchema(Class<?> objectClass) {
+        return classSchemaMap.computeIfAbsent(objectClass, BinaryClassSchema::new);
+    }
+
+    /**
+     * @param objectClass never null, the class of an object that is written in the object table
+     * @return never null
+     * @throws IllegalArgumentException if the class isn't a domain class of the {@link SolutionDescriptor}
+     */
+    BinaryClassSchema getDomainClassSchema(Class<?> objectClass) {
+        if (domainClassMap.get(objectClass.getName()) != objectClass) {
+            throw new IllegalArgumentException("The class (" + objectClass.getName()
+                    + ") is not reachable from the solutionClass (" + solutionDescriptor.getSolutionClass().getName()
+                    + ") or its entity classes through the declared field types, so it cannot be written.\n"
+                    + "Maybe declare it as a planning entity class or as the type of a field.");
+        }
+        return getClassSchema(objectClass);
+    }
+
+    /**
+     * Never loads a class that isn't a domain class of the {@link SolutionDescriptor},
+     * because the class name comes from the file.
+     *
+     * @param className never null
+     * @return never null
+     * @throws IllegalArgumentException if the class isn't a domain class of the {@link SolutionDescriptor}
+     */
+    BinaryClassSchema getDomainClassSchema(String className) {
+        Class<?> objectClass = domainClassMap.get(className);
+        if (objectClass == null) {
+            throw new IllegalArgumentException("The class (" + className + ") in the file is not reachable from the"
+                    + " solutionClass (" + solutionDescriptor.getSolutionClass().getName()
+                    + ") or its entity classes through the declared field types.");
+        }
+        return getClassSchema(objectClass);
+    }
+
+    /**
+     * @param className never null
+     * @return true if instances of that class can be written and read with Java serialization
+     */
+    boolean isSerializedClassAllowed(String className) {
+        return serializedClassNameSet.contains(className);
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "dat";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (FileChannel channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile
+                        + ") has a size (" + size + ") that is too large to map in memory.");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            return new BinarySolutionReader<>(this).read(buffer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (OutputStream outputStream = new FileOutputStream(outputSolutionFile)) {
+            write(solution, outputStream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param solution never null
+     * @param outputStream never null, not closed
+     * @throws IOException if the outputStream fails
+     */
+    public void write(Solution_ solution, OutputStream outputStream) throws IOException {
+        new BinarySolutionWriter<>(this).write(solution, outputStream);
+    }
+
+}
@@ -0,0 +1,582 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.persistence.binary.impl.domain.solution.BinaryClassSchema.FieldSchema;
+
+/**
+ * Reads 1 solution from a (memory-mapped) buffer. Not thread-safe.
+ * <p>
+ * All objects are instantiated before any field is read, so every reference resolves in a single pass.
+ * Sets and maps are only filled once all objects are complete,
+ * because their elements' {@link Object#hashCode()} or {@link Comparable#compareTo(Object)} might rely on fields.
+ * <p>
+ * The file is not trusted: every count and size is validated against the remaining bytes before anything is allocated,
+ * only domain classes of the {@link SolutionDescriptor} are instantiated
+ * and only the JDK value classes that {@link BinarySolutionWriter} serializes are deserialized.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class BinarySolutionReader<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ScoreDefinition<?> scoreDefinition;
+    private final BinarySolutionFileIO<Solution_> solutionFileIO;
+
+    private final List<Runnable> deferredFillList = new ArrayList<>();
+    /**
+     * Maps the ordinals in the file to the current enum constants, by their constant name.
+     */
+    private final Map<Class<?>, EnumMapping> enumMappingMap = new HashMap<>();
+    private ByteBuffer buffer;
+    private Object[] objects;
+
+    BinarySolutionReader(BinarySolutionFileIO<Solution_> solutionFileIO) {
+        this.solutionFileIO = solutionFileIO;
+        solutionDescriptor = solutionFileIO.getSolutionDescriptor();
+        scoreDefinition = solutionDescriptor.getScoreDefinition();
+    }
+
+    Solution_ read(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int magicNumber = buffer.getInt();
+        if (magicNumber != BinarySolutionFileIO.MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The input is not a binary solution file.");
+        }
+        byte formatVersion = buffer.get();
+        if (formatVersion != BinarySolutionFileIO.FORMAT_VERSION) {
+            throw new IllegalArgumentException("The formatVersion (" + formatVersion
+                    + ") is not supported, only formatVersion (" + BinarySolutionFileIO.FORMAT_VERSION + ") is.");
+        }
+        Class<Solution_> solutionClass = solutionDescriptor.getSolutionClass();
+        String solutionClassName = readString();
+        if (!solutionClass.getName().equals(solutionClassName)) {
+            throw new IllegalArgumentException("The file contains a solution of class (" + solutionClassName
+                    + ") instead of the solutionClass (" + solutionClass.getName() + ").");
+        }
+        int classCount = readSize("classCount", 1);
+        BinaryClassSchema[] classSchemas = new BinaryClassSchema[classCount];
+        int[] objectCounts = new int[classCount];
+        long totalObjectCount = 0L;
+        for (int i = 0; i < classCount; i++) {
+            classSchemas[i] = solutionFileIO.getDomainClassSchema(readString());
+            objectCounts[i] = readVarInt();
+            if (objectCounts[i] < 0 || objectCounts[i] - 1L > buffer.remaining()) {
+                throw new IllegalStateException("The objectCount (" + objectCounts[i] + ") of the class ("
+                        + classSchemas[i].getObjectClass().getName()
+                        + ") is negative or doesn't fit in the remaining bytes (" + buffer.remaining()
+                        + "), the file is corrupt.");
+            }
+            // The writer always writes the solution as the first object
+            if (i == 0 && (classSchemas[0].getObjectClass() != solutionClass || objectCounts[0] == 0)) {
+                throw new IllegalStateException("The first class (" + classSchemas[0].getObjectClass().getName()
+                        + ") with objectCount (" + objectCounts[0] + ") is not the solutionClass ("
+                        + solutionClass.getName() + "), the file is corrupt.");
+            }
+            validateFields(classSchemas[i]);
+            totalObjectCount += objectCounts[i];
+        }
+        // Every object, except the solution, is referenced at least once and every reference takes at least 1 byte
+        if (totalObjectCount == 0L || totalObjectCount - 1L > buffer.remaining()) {
+            throw new IllegalStateException("The totalObjectCount (" + totalObjectCount
+                    + ") doesn't fit in the remaining bytes (" + buffer.remaining() + "), the file is corrupt.");
+        }
+        objects = new Object[(int) totalObjectCount];
+        int index = 0;
+        for (int i = 0; i < classCount; i++) {
+            for (int j = 0; j < objectCounts[i]; j++) {
+                objects[index++] = classSchemas[i].newInstance();
+            }
+        }
+        index = 0;
+        for (int i = 0; i < classCount; i++) {
+            List<FieldSchema> fieldList = classSchemas[i].getFieldList();
+            for (int j = 0; j < objectCounts[i]; j++) {
+                Object object = objects[index++];
+                for (FieldSchema fieldSchema : fieldList) {
+                    readField(object, fieldSchema);
+                }
+            }
+        }
+        for (Runnable deferredFill : deferredFillList) {
+            deferredFill.run();
+        }
+        return solutionClass.cast(objects[0]);
+    }
+
+    private void validateFields(BinaryClassSchema classSchema) {
+        List<FieldSchema> fieldList = classSchema.getFieldList();
+        int fieldCount = readSize("fieldCount", 2);
+        for (int i = 0; i < fieldCount; i++) {
+            String fieldName = readString();
+            String typeName = readString();
+            if (i >= fieldList.size() || !fieldList.get(i).getName().equals(fieldName)
+                    || !fieldList.get(i).getTypeName().equals(typeName)) {
+                throw new IllegalArgumentException("The class (" + classSchema.getObjectClass().getName()
+                        + ") has changed since the file was written: its fields (" + fieldList
+                        + ") no longer match the field (" + fieldName + ") of type (" + typeName + ") in the file.");
+            }
+            for (Class<?> enumType : fieldList.get(i).getEnumTypeList()) {
+                readEnumMapping(enumType);
+            }
+        }
+        if (fieldCount != fieldList.size()) {
+            throw new IllegalArgumentException("The class (" + classSchema.getObjectClass().getName()
+                    + ") has changed since the file was written: it has " + fieldList.size()
+                    + " fields (" + fieldList + ") instead of " + fieldCount + ".");
+        }
+    }
+
+    private void readEnumMapping(Class<?> enumType) {
+        String[] constantNames = new String[readSize("enum constant count", 1)];
+        for (int i = 0; i < constantNames.length; i++) {
+            constantNames[i] = readString();
+        }
+        EnumMapping enumMapping = enumMappingMap.get(enumType);
+        if (enumMapping == null) {
+            enumMappingMap.put(enumType, new EnumMapping(enumType, constantNames));
+        } else if (!Arrays.equals(enumMapping.constantNames, constantNames)) {
+            throw new IllegalStateException("The enum class (" + enumType.getName()
+                    + ") has different constants (" + Arrays.toString(constantNames) + ") and ("
+                    + Arrays.toString(enumMapping.constantNames) + ") in the same file, the file is corrupt.");
+        }
+    }
+
+    // ************************************************************************
+    // Read methods
+    // ************************************************************************
+
+    private void readField(Object object, FieldSchema fieldSchema) {
+        Field field = fieldSchema.getField();
+        BinaryValueType valueType = fieldSchema.getValueType();
+        try {
+            if (valueType.isNullable()) {
+                field.set(object, readValue(valueType));
+                return;
+            }
+            // Avoid boxing primitive fields
+            switch (valueType.getKind()) {
+                case BOOLEAN:
+                    field.setBoolean(object, buffer.get() != 0);
+                    break;
+                case BYTE:
+                    field.setByte(object, buffer.get());
+                    break;
+                case SHORT:
+                    field.setShort(object, (short) readZigZagInt());
+                    break;
+                case CHAR:
+                    field.setChar(object, (char) readVarInt());
+                    break;
+                case INT:
+                    field.setInt(object, readZigZagInt());
+                    break;
+                case LONG:
+                    field.setLong(object, readZigZagLong());
+                    break;
+                case FLOAT:
+                    field.setFloat(object, Float.intBitsToFloat(buffer.getInt()));
+                    break;
+                case DOUBLE:
+                    field.setDouble(object, Double.longBitsToDouble(buffer.getLong()));
+                    break;
+                default:
+                    throw new IllegalStateException("The valueType (" + valueType + ") is not primitive.");
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot set the field (" + field + ").", e);
+        }
+    }
+
+    private Object readValue(BinaryValueType valueType) {
+        switch (valueType.getKind()) {
+            case STRING:
+                return readString();
+            case ENUM:
+                return readEnum(valueType.getType());
+            case SCORE:
+                return readScore();
+            case COLLECTION:
+                return readCollection(valueType);
+            case MAP:
+                return readMap(valueType);
+            case ARRAY:
+                return readArray(valueType);
+            case OBJECT:
+                return readObject();
+            default:
+                break;
+        }
+        if (valueType.isNullable() && buffer.get() == 0) {
+            return null;
+        }
+        switch (valueType.getKind()) {
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case BYTE:
+                return buffer.get();
+            case SHORT:
+                return (short) readZigZagInt();
+            case CHAR:
+                return (char) readVarInt();
+            case INT:
+                return readZigZagInt();
+            case LONG:
+                return readZigZagLong();
+            case FLOAT:
+                return Float.intBitsToFloat(buffer.getInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong());
+            case BIG_DECIMAL:
+                return readBigDecimal();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(readZigZagLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(readVarLong());
+            case LOCAL_DATE_TIME:
+                LocalDate localDate = LocalDate.ofEpochDay(readZigZagLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(readVarLong()));
+            default:
+                throw new IllegalStateException("The valueType (" + valueType + ") is not implemented.");
+        }
+    }
+
+    private Object readEnum(Class<?> enumType) {
+        int ordinalPlusOne = readVarInt();
+        if (ordinalPlusOne == 0) {
+            return null;
+        }
+        EnumMapping enumMapping = enumMappingMap.get(enumType);
+        if (enumMapping == null) {
+            throw new IllegalStateException("The enum class (" + enumType.getName()
+                    + ") has no constants in the schema, the file is corrupt.");
+        }
+        int ordinal = ordinalPlusOne - 1;
+        if (ordinal < 0 || ordinal >= enumMapping.constantNames.length) {
+            throw new IllegalStateException("The enum ordinal (" + ordinal + ") of the enum class ("
+                    + enumType.getName() + ") is not within its constant count (" + enumMapping.constantNames.length
+                    + "), the file is corrupt.");
+        }
+        Object enumConstant = enumMapping.enumConstants[ordinal];
+        if (enumConstant == null) {
+            throw new IllegalArgumentException("The enum class (" + enumType.getName()
+                    + ") has changed since the file was written: it no longer has the constant ("
+                    + enumMapping.constantNames[ordinal] + ").");
+        }
+        return enumConstant;
+    }
+
+    private BigDecimal readBigDecimal() {
+        int scale = readZigZagInt();
+        return new BigDecimal(new BigInteger(readBytes()), scale);
+    }
+
+    private Object readScore() {
+        byte scoreFormat = buffer.get();
+        switch (scoreFormat) {
+            case BinarySolutionFileIO.SCORE_NULL:
+                return null;
+            case BinarySolutionFileIO.SCORE_LEVELS:
+                int initScore = readZigZagInt();
+                Number[] levelNumbers = new Number[readSize("levelCount", 2)];
+                for (int i = 0; i < levelNumbers.length; i++) {
+                    byte levelFormat = buffer.get();
+                    switch (levelFormat) {
+                        case BinarySolutionFileIO.SCORE_LEVEL_INT:
+                            levelNumbers[i] = readZigZagInt();
+                            break;
+                        case BinarySolutionFileIO.SCORE_LEVEL_LONG:
+                            levelNumbers[i] = readZigZagLong();
+                            break;
+                        case BinarySolutionFileIO.SCORE_LEVEL_BIG_DECIMAL:
+                            levelNumbers[i] = readBigDecimal();
+                            break;
+                        default:
+                            throw new IllegalArgumentException("The levelFormat (" + levelFormat
+                                    + ") is not supported.");
+                    }
+                }
+                return scoreDefinition.fromLevelNumbers(initScore, levelNumbers);
+            case BinarySolutionFileIO.SCORE_SERIALIZED:
+                return readSerialized();
+            default:
+                throw new IllegalArgumentException("The scoreFormat (" + scoreFormat + ") is not supported.");
+        }
+    }
+
+    private Collection<Object> readCollection(BinaryValueType valueType) {
+        int size = readNullableSize("collection size", 1);
+        if (size < 0) {
+            return null;
+        }
+        BinaryValueType elementType = valueType.getElementType();
+        Class<?> collectionClass = valueType.getType();
+        if (List.class.isAssignableFrom(collectionClass)) {
+            List<Object> list = collectionClass == ArrayList.class
+                    ? new ArrayList<>(size)
+                    : newInstance(collectionClass);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(elementType));
+            }
+            return list;
+        }
+        Collection<Object> collection = collectionClass == LinkedHashSet.class
+                ? new LinkedHashSet<>((int) (size / 0.75f) + 1)
+                : newInstance(collectionClass);
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = readValue(elementType);
+        }
+        deferredFillList.add(() -> {
+            for (Object element : elements) {
+                collection.add(element);
+            }
+        });
+        return collection;
+    }
+
+    private Map<Object, Object> readMap(BinaryValueType valueType) {
+        int size = readNullableSize("map size", 2);
+        if (size < 0) {
+            return null;
+        }
+        Map<Object, Object> map = newInstance(valueType.getType());
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = readValue(valueType.getElementType());
+            values[i] = readValue(valueType.getValueType());
+        }
+        deferredFillList.add(() -> {
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], values[i]);
+            }
+        });
+        return map;
+    }
+
+    private Object readArray(BinaryValueType valueType) {
+        int length = readNullableSize("array length", 1);
+        if (length < 0) {
+            return null;
+        }
+        Object array = Array.newInstance(valueType.getType(), length);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, readValue(valueType.getElementType()));
+        }
+        return array;
+    }
+
+    private Object readObject() {
+        int indexPlusTwo = readVarInt();
+        if (indexPlusTwo == 0) {
+            return null;
+        } else if (indexPlusTwo == 1) {
+            return readSerialized();
+        } else if (indexPlusTwo < 0 || indexPlusTwo - 2 >= objects.length) {
+            throw new IllegalStateException("The object index (" + (indexPlusTwo - 2)
+                    + ") is not within the object count (" + objects.length + "), the file is corrupt.");
+        } else {
+            return objects[indexPlusTwo - 2];
+        }
+    }
+
+    private Object readSerialized() {
+        byte[] bytes = readBytes();
+        try (ObjectInputStream objectInputStream = new ValidatingObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalArgumentException("Failed reading a serialized value.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(Class<?> clazz) {
+        try {
+            return (T) clazz.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new IllegalStateException("The class (" + clazz + ") could not be instantiated.", e);
+        }
+    }
+
+    // ************************************************************************
+    // Primitive read methods
+    // ************************************************************************
+
+    private int readVarInt() {
+        int value = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private long readVarLong() {
+        long value = 0L;
+        for (int shift = 0;; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private int readZigZagInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * @param name never null, used in the error message
+     * @param minimumBytesPerElement at least 1
+     * @return {@code >= 0}
+     */
+    private int readSize(String name, int minimumBytesPerElement) {
+        int size = readVarInt();
+        validateSize(name, size, minimumBytesPerElement);
+        return size;
+    }
+
+    /**
+     * @param name never null, used in the error message
+     * @param minimumBytesPerElement at least 1
+     * @return {@code >= 0}, or -1 for null
+     */
+    private int readNullableSize(String name, int minimumBytesPerElement) {
+        int sizePlusOne = readVarInt();
+        if (sizePlusOne == 0) {
+            return -1;
+        }
+        int size = sizePlusOne - 1;
+        validateSize(name, size, minimumBytesPerElement);
+        return size;
+    }
+
+    private void validateSize(String name, int size, int minimumBytesPerElement) {
+        if (size < 0 || (long) size * minimumBytesPerElement > buffer.remaining()) {
+            throw new IllegalStateException("The " + name + " (" + size
+                    + ") is negative or doesn't fit in the remaining bytes (" + buffer.remaining()
+                    + "), the file is corrupt.");
+        }
+    }
+
+    private byte[] readBytes() {
+        byte[] bytes = new byte[readSize("byte count", 1)];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private String readString() {
+        int length = readNullableSize("string length", 1);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class EnumMapping {
+
+        private final String[] constantNames;
+        /**
+         * The current constant of each ordinal in the file, null if that constant no longer exists.
+         */
+        private final Object[] enumConstants;
+
+        private EnumMapping(Class<?> enumType, String[] constantNames) {
+            this.constantNames = constantNames;
+            Map<String, Object> currentConstantMap = new HashMap<>();
+            for (Object enumConstant : enumType.getEnumConstants()) {
+                currentConstantMap.put(((Enum<?>) enumConstant).name(), enumConstant);
+            }
+            enumConstants = new Object[constantNames.length];
+            for (int i = 0; i < constantNames.length; i++) {
+                enumConstants[i] = currentConstantMap.get(constantNames[i]);
+            }
+        }
+
+    }
+
+    /**
+     * Rejects every class that {@link BinarySolutionWriter} doesn't serialize,
+     * so a tampered file can't deserialize any other class.
+     */
+    private final class ValidatingObjectInputStream extends ObjectInputStream {
+
+        private ValidatingObjectInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass objectStreamClass)
+                throws IOException, ClassNotFoundException {
+            if (!solutionFileIO.isSerializedClassAllowed(objectStreamClass.getName())) {
+                throw new InvalidClassException(objectStreamClass.getName(),
+                        "The class is not allowed in a binary solution file.");
+            }
+            return super.resolveClass(objectStreamClass);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaceNames) throws InvalidClassException {
+            throw new InvalidClassException(Arrays.toString(interfaceNames),
+                    "A proxy class is not allowed in a binary solution file.");
+        }
+
+    }
+
+}
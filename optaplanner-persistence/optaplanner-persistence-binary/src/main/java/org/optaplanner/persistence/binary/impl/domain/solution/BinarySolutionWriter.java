@@ -0,0 +1,555 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.persistence.binary.impl.domain.solution.BinaryClassSchema.FieldSchema;
+
+/**
+ * Writes 1 solution. Not thread-safe.
+ * <p>
+ * First it walks the object graph from the solution, its problem facts and its planning entities
+ * to number every domain object per class, then it streams the schema and the field values.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class BinarySolutionWriter<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ScoreDefinition<?> scoreDefinition;
+    private final BinarySolutionFileIO<Solution_> solutionFileIO;
+
+    private final Map<Class<?>, ClassEntry> classEntryMap = new LinkedHashMap<>();
+    private final Map<Class<?>, Boolean> tableClassMap = new HashMap<>();
+    private final IdentityHashMap<Object, Integer> positionMap = new IdentityHashMap<>();
+    private final Deque<Object> undiscoveredQueue = new ArrayDeque<>();
+
+    private BinaryOutput output;
+
+    BinarySolutionWriter(BinarySolutionFileIO<Solution_> solutionFileIO) {
+        this.solutionFileIO = solutionFileIO;
+        solutionDescriptor = solutionFileIO.getSolutionDescriptor();
+        scoreDefinition = solutionDescriptor.getScoreDefinition();
+    }
+
+    void write(Solution_ solution, OutputStream outputStream) throws IOException {
+        discover(solution);
+        output = new BinaryOutput(outputStream);
+        output.writeFixedInt(BinarySolutionFileIO.MAGIC_NUMBER);
+        output.writeByte(BinarySolutionFileIO.FORMAT_VERSION);
+        output.writeString(solutionDescriptor.getSolutionClass().getName());
+        output.writeVarInt(classEntryMap.size());
+        for (ClassEntry classEntry : classEntryMap.values()) {
+            List<FieldSchema> fieldList = classEntry.classSchema.getFieldList();
+            output.writeString(classEntry.classSchema.getObjectClass().getName());
+            output.writeVarInt(classEntry.objectList.size());
+            output.writeVarInt(fieldList.size());
+            for (FieldSchema fieldSchema : fieldList) {
+                output.writeString(fieldSchema.getName());
+                output.writeString(fieldSchema.getTypeName());
+                for (Class<?> enumType : fieldSchema.getEnumTypeList()) {
+                    Object[] enumConstants = enumType.getEnumConstants();
+                    output.writeVarInt(enumConstants.length);
+                    for (Object enumConstant : enumConstants) {
+                        output.writeString(((Enum<?>) enumConstant).name());
+                    }
+                }
+            }
+        }
+        for (ClassEntry classEntry : classEntryMap.values()) {
+            List<FieldSchema> fieldList = classEntry.classSchema.getFieldList();
+            for (Object object : classEntry.objectList) {
+                for (FieldSchema fieldSchema : fieldList) {
+                    writeField(object, fieldSchema);
+                }
+            }
+        }
+        output.flush();
+    }
+
+    // ************************************************************************
+    // Discovery methods
+    // ************************************************************************
+
+    private void discover(Solution_ solution) {
+        // The solution is always the first object
+        register(solution);
+        for (Object fact : solutionDescriptor.getAllFacts(solution)) {
+            register(fact);
+        }
+        while (!undiscoveredQueue.isEmpty()) {
+            Object object = undiscoveredQueue.poll();
+            for (FieldSchema fieldSchema : classEntryMap.get(object.getClass()).classSchema.getFieldList()) {
+                BinaryValueType valueType = fieldSchema.getValueType();
+                if (valueType.getKind() == BinaryValueType.Kind.OBJECT
+                        || valueType.getKind() == BinaryValueType.Kind.COLLECTION
+                        || valueType.getKind() == BinaryValueType.Kind.MAP
+                        || valueType.getKind() == BinaryValueType.Kind.ARRAY) {
+                    discoverValue(getFieldValue(object, fieldSchema.getField()), valueType);
+                }
+            }
+        }
+        int offset = 0;
+        for (ClassEntry classEntry : classEntryMap.values()) {
+            classEntry.offset = offset;
+            offset += classEntry.objectList.size();
+        }
+    }
+
+    private void register(Object object) {
+        if (positionMap.containsKey(object)) {
+            return;
+        }
+        ClassEntry classEntry = classEntryMap.computeIfAbsent(object.getClass(),
+                objectClass -> new ClassEntry(solutionFileIO.getDomainClassSchema(objectClass)));
+        positionMap.put(object, classEntry.objectList.size());
+        classEntry.objectList.add(object);
+        undiscoveredQueue.add(object);
+    }
+
+    private void discoverValue(Object value, BinaryValueType valueType) {
+        if (value == null) {
+            return;
+        }
+        switch (valueType.getKind()) {
+            case OBJECT:
+                if (isTableClass(value.getClass())) {
+                    register(value);
+                }
+                break;
+            case COLLECTION:
+                for (Object element : (Collection<?>) value) {
+                    discoverValue(element, valueType.getElementType());
+                }
+                break;
+            case MAP:
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    discoverValue(entry.getKey(), valueType.getElementType());
+                    discoverValue(entry.getValue(), valueType.getValueType());
+                }
+                break;
+            case ARRAY:
+                if (!valueType.getType().isPrimitive()) {
+                    for (Object element : (Object[]) value) {
+                        discoverValue(element, valueType.getElementType());
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isTableClass(Class<?> objectClass) {
+        return tableClassMap.computeIfAbsent(objectClass, BinaryClassSchema::isTableClass);
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    private void writeField(Object object, FieldSchema fieldSchema) throws IOException {
+        Field field = fieldSchema.getField();
+        BinaryValueType valueType = fieldSchema.getValueType();
+        if (valueType.isNullable()) {
+            writeValue(getFieldValue(object, field), valueType);
+            return;
+        }
+        try {
+            // Avoid boxing primitive fields
+            switch (valueType.getKind()) {
+                case BOOLEAN:
+                    output.writeByte(field.getBoolean(object) ? 1 : 0);
+                    break;
+                case BYTE:
+                    output.writeByte(field.getByte(object));
+                    break;
+                case SHORT:
+                    output.writeZigZagInt(field.getShort(object));
+                    break;
+                case CHAR:
+                    output.writeVarInt(field.getChar(object));
+                    break;
+                case INT:
+                    output.writeZigZagInt(field.getInt(object));
+                    break;
+                case LONG:
+                    output.writeZigZagLong(field.getLong(object));
+                    break;
+                case FLOAT:
+                    output.writeFixedInt(Float.floatToIntBits(field.getFloat(object)));
+                    break;
+                case DOUBLE:
+                    output.writeFixedLong(Double.doubleToLongBits(field.getDouble(object)));
+                    break;
+                default:
+                    throw new IllegalStateException("The valueType (" + valueType + ") is not primitive.");
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the field (" + field + ").", e);
+        }
+    }
+
+    private void writeValue(Object value, BinaryValueType valueType) throws IOException {
+        switch (valueType.getKind()) {
+            case STRING:
+                output.writeString((String) value);
+                return;
+            case ENUM:
+                output.writeVarInt(value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+                return;
+            case SCORE:
+                writeScore((Score<?>) value);
+                return;
+            case COLLECTION:
+                writeCollection((Collection<?>) value, valueType);
+                return;
+            case MAP:
+                writeMap((Map<?, ?>) value, valueType);
+                return;
+            case ARRAY:
+                writeArray(value, valueType);
+                return;
+            case OBJECT:
+                writeObject(value);
+                return;
+            default:
+                break;
+        }
+        if (valueType.isNullable()) {
+            if (value == null) {
+                output.writeByte(0);
+                return;
+            }
+            output.writeByte(1);
+        }
+        switch (valueType.getKind()) {
+            case BOOLEAN:
+                output.writeByte((Boolean) value ? 1 : 0);
+                break;
+            case BYTE:
+                output.writeByte((Byte) value);
+                break;
+            case SHORT:
+                output.writeZigZagInt((Short) value);
+                break;
+            case CHAR:
+                output.writeVarInt((Character) value);
+                break;
+            case INT:
+                output.writeZigZagInt((Integer) value);
+                break;
+            case LONG:
+                output.writeZigZagLong((Long) value);
+                break;
+            case FLOAT:
+                output.writeFixedInt(Float.floatToIntBits((Float) value));
+                break;
+            case DOUBLE:
+                output.writeFixedLong(Double.doubleToLongBits((Double) value));
+                break;
+            case BIG_DECIMAL:
+                writeBigDecimal((BigDecimal) value);
+                break;
+            case BIG_INTEGER:
+                output.writeBytes(((BigInteger) value).toByteArray());
+                break;
+            case LOCAL_DATE:
+                output.writeZigZagLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                output.writeVarLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                LocalDateTime localDateTime = (LocalDateTime) value;
+                output.writeZigZagLong(localDateTime.toLocalDate().toEpochDay());
+                output.writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+                break;
+            default:
+                throw new IllegalStateException("The valueType (" + valueType + ") is not implemented.");
+        }
+    }
+
+    private void writeBigDecimal(BigDecimal value) throws IOException {
+        output.writeZigZagInt(value.scale());
+        output.writeBytes(value.unscaledValue().toByteArray());
+    }
+
+    private void writeScore(Score<?> score) throws IOException {
+        if (score == null) {
+            output.writeByte(BinarySolutionFileIO.SCORE_NULL);
+        } else if (score.getClass() == scoreDefinition.getScoreClass()) {
+            output.writeByte(BinarySolutionFileIO.SCORE_LEVELS);
+            output.writeZigZagInt(score.getInitScore());
+            Number[] levelNumbers = score.toLevelNumbers();
+            output.writeVarInt(levelNumbers.length);
+            for (Number levelNumber : levelNumbers) {
+                if (levelNumber instanceof Integer) {
+                    output.writeByte(BinarySolutionFileIO.SCORE_LEVEL_INT);
+                    output.writeZigZagInt((Integer) levelNumber);
+                } else if (levelNumber instanceof Long) {
+                    output.writeByte(BinarySolutionFileIO.SCORE_LEVEL_LONG);
+                    output.writeZigZagLong((Long) levelNumber);
+                } else if (levelNumber instanceof BigDecimal) {
+                    output.writeByte(BinarySolutionFileIO.SCORE_LEVEL_BIG_DECIMAL);
+                    writeBigDecimal((BigDecimal) levelNumber);
+                } else {
+                    throw new IllegalStateException("The score (" + score + ")'s levelNumber (" + levelNumber
+                            + ") of type (" + levelNumber.getClass() + ") is not supported.");
+                }
+            }
+        } else {
+            output.writeByte(BinarySolutionFileIO.SCORE_SERIALIZED);
+            writeSerialized(score);
+        }
+    }
+
+    private void writeCollection(Collection<?> collection, BinaryValueType valueType) throws IOException {
+        if (collection == null) {
+            output.writeVarInt(0);
+            return;
+        }
+        output.writeVarInt(collection.size() + 1);
+        BinaryValueType elementType = valueType.getElementType();
+        for (Object element : collection) {
+            writeValue(element, elementType);
+        }
+    }
+
+    private void writeMap(Map<?, ?> map, BinaryValueType valueType) throws IOException {
+        if (map == null) {
+            output.writeVarInt(0);
+            return;
+        }
+        output.writeVarInt(map.size() + 1);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(entry.getKey(), valueType.getElementType());
+            writeValue(entry.getValue(), valueType.getValueType());
+        }
+    }
+
+    private void writeArray(Object array, BinaryValueType valueType) throws IOException {
+        if (array == null) {
+            output.writeVarInt(0);
+            return;
+        }
+        int length = Array.getLength(array);
+        output.writeVarInt(length + 1);
+        BinaryValueType elementType = valueType.getElementType();
+        for (int i = 0; i < length; i++) {
+            writeValue(Array.get(array, i), elementType);
+        }
+    }
+
+    private void writeObject(Object value) throws IOException {
+        if (value == null) {
+            output.writeVarInt(0);
+        } else if (isTableClass(value.getClass())) {
+            int index = classEntryMap.get(value.getClass()).offset + positionMap.get(value);
+            output.writeVarInt(index + 2);
+        } else {
+            output.writeVarInt(1);
+            writeSerialized(value);
+        }
+    }
+
+    private void writeSerialized(Object value) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ValidatingObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(value);
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException("The value (" + value + ") of class (" + value.getClass()
+                    + ") is neither a domain object nor " + Serializable.class.getSimpleName()
+                    + ", so it cannot be written to a binary solution file.", e);
+        }
+        output.writeBytes(byteArrayOutputStream.toByteArray());
+    }
+
+    private static Object getFieldValue(Object object, Field field) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the field (" + field + ").", e);
+        }
+    }
+
+    /**
+     * Only writes the classes that {@link BinarySolutionReader} accepts, so every file it writes can be read.
+     */
+    private final class ValidatingObjectOutputStream extends ObjectOutputStream {
+
+        private ValidatingObjectOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> clazz) {
+            if (!solutionFileIO.isSerializedClassAllowed(clazz.getName())) {
+                throw new IllegalArgumentException("The class (" + clazz.getName()
+                        + ") is neither a domain class nor a supported JDK value class,"
+                        + " so it cannot be written to a binary solution file.\n"
+                        + "Maybe declare the field with that class as its type.");
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> clazz) {
+            throw new IllegalArgumentException("The proxy class (" + clazz.getName()
+                    + ") cannot be written to a binary solution file.");
+        }
+
+    }
+
+    private static final class ClassEntry {
+
+        private final BinaryClassSchema classSchema;
+        private final List<Object> objectList = new ArrayList<>();
+        private int offset = -1;
+
+        private ClassEntry(BinaryClassSchema classSchema) {
+            this.classSchema = classSchema;
+        }
+
+    }
+
+    /**
+     * A buffered {@link OutputStream} wrapper that writes variable length integers:
+     * most ids, indexes and sizes fit in 1 or 2 bytes.
+     */
+    private static final class BinaryOutput {
+
+        private final OutputStream outputStream;
+        private final byte[] buffer = new byte[8192];
+        private int position = 0;
+
+        private BinaryOutput(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        private void writeByte(int value) throws IOException {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeFixedInt(int value) throws IOException {
+            writeByte(value >>> 24);
+            writeByte(value >>> 16);
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        private void writeFixedLong(long value) throws IOException {
+            writeFixedInt((int) (value >>> 32));
+            writeFixedInt((int) value);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0L) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        private void writeZigZagInt(int value) throws IOException {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        private void writeZigZagLong(long value) throws IOException {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            writeVarInt(bytes.length);
+            writeRawBytes(bytes);
+        }
+
+        /**
+         * @param value sometimes null
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeRawBytes(bytes);
+        }
+
+        private void writeRawBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                flushBuffer();
+                if (bytes.length > buffer.length) {
+                    outputStream.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void flushBuffer() throws IOException {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+
+        private void flush() throws IOException {
+            flushBuffer();
+            outputStream.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * How a value of a declared field type (or of an element of such a type) is encoded.
+ * It is derived from the declared (generic) type only, so the reader knows the encoding without any type tags.
+ */
+final class BinaryValueType {
+
+    enum Kind {
+        BOOLEAN,
+        BYTE,
+        SHORT,
+        CHAR,
+        INT,
+        LONG,
+        FLOAT,
+        DOUBLE,
+        STRING,
+        ENUM,
+        BIG_DECIMAL,
+        BIG_INTEGER,
+        LOCAL_DATE,
+        LOCAL_TIME,
+        LOCAL_DATE_TIME,
+        SCORE,
+        COLLECTION,
+        MAP,
+        ARRAY,
+        /**
+         * A reference to another object in the file, or a {@link java.io.Serializable} value.
+         */
+        OBJECT
+    }
+
+    private static final BinaryValueType OBJECT_TYPE = new BinaryValueType(Kind.OBJECT, Object.class, true, null, null);
+
+    static BinaryValueType of(Type type) {
+        Class<?> rawType = extractRawType(type);
+        if (rawType.isPrimitive()) {
+            return new BinaryValueType(findPrimitiveKind(rawType), rawType, false, null, null);
+        } else if (rawType == Boolean.class) {
+            return new BinaryValueType(Kind.BOOLEAN, rawType, true, null, null);
+        } else if (rawType == Byte.class) {
+            return new BinaryValueType(Kind.BYTE, rawType, true, null, null);
+        } else if (rawType == Short.class) {
+            return new BinaryValueType(Kind.SHORT, rawType, true, null, null);
+        } else if (rawType == Character.class) {
+            return new BinaryValueType(Kind.CHAR, rawType, true, null, null);
+        } else if (rawType == Integer.class) {
+            return new BinaryValueType(Kind.INT, rawType, true, null, null);
+        } else if (rawType == Long.class) {
+            return new BinaryValueType(Kind.LONG, rawType, true, null, null);
+        } else if (rawType == Float.class) {
+            return new BinaryValueType(Kind.FLOAT, rawType, true, null, null);
+        } else if (rawType == Double.class) {
+            return new BinaryValueType(Kind.DOUBLE, rawType, true, null, null);
+        } else if (rawType == String.class) {
+            return new BinaryValueType(Kind.STRING, rawType, true, null, null);
+        } else if (rawType.isEnum()) {
+            return new BinaryValueType(Kind.ENUM, rawType, true, null, null);
+        } else if (rawType == BigDecimal.class) {
+            return new BinaryValueType(Kind.BIG_DECIMAL, rawType, true, null, null);
+        } else if (rawType == BigInteger.class) {
+            return new BinaryValueType(Kind.BIG_INTEGER, rawType, true, null, null);
+        } else if (rawType == LocalDate.class) {
+            return new BinaryValueType(Kind.LOCAL_DATE, rawType, true, null, null);
+        } else if (rawType == LocalTime.class) {
+            return new BinaryValueType(Kind.LOCAL_TIME, rawType, true, null, null);
+        } else if (rawType == LocalDateTime.class) {
+            return new BinaryValueType(Kind.LOCAL_DATE_TIME, rawType, true, null, null);
+        } else if (Score.class.isAssignableFrom(rawType)) {
+            return new BinaryValueType(Kind.SCORE, rawType, true, null, null);
+        } else if (Collection.class.isAssignableFrom(rawType)) {
+            return new BinaryValueType(Kind.COLLECTION, findCollectionImplementation(rawType), true,
+                    of(extractTypeArgument(type, 0)), null);
+        } else if (Map.class.isAssignableFrom(rawType)) {
+            return new BinaryValueType(Kind.MAP, findMapImplementation(rawType), true,
+                    of(extractTypeArgument(type, 0)), of(extractTypeArgument(type, 1)));
+        } else if (rawType.isArray()) {
+            Type componentType = type instanceof GenericArrayType
+                    ? ((GenericArrayType) type).getGenericComponentType()
+                    : rawType.getComponentType();
+            return new BinaryValueType(Kind.ARRAY, rawType.getComponentType(), true, of(componentType), null);
+        } else {
+            return OBJECT_TYPE;
+        }
+    }
+
+    private static Class<?> extractRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            Class<?> componentType = extractRawType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(componentType, 0).getClass();
+        } else {
+            // Type variables and wildcards
+            return Object.class;
+        }
+    }
+
+    private static Type extractTypeArgument(Type type, int index) {
+        if (!(type instanceof ParameterizedType)) {
+            // Raw collection or map
+            return Object.class;
+        }
+        return ((ParameterizedType) type).getActualTypeArguments()[index];
+    }
+
+    private static Kind findPrimitiveKind(Class<?> primitiveType) {
+        if (primitiveType == boolean.class) {
+            return Kind.BOOLEAN;
+        } else if (primitiveType == byte.class) {
+            return Kind.BYTE;
+        } else if (primitiveType == short.class) {
+            return Kind.SHORT;
+        } else if (primitiveType == char.class) {
+            return Kind.CHAR;
+        } else if (primitiveType == int.class) {
+            return Kind.INT;
+        } else if (primitiveType == long.class) {
+            return Kind.LONG;
+        } else if (primitiveType == float.class) {
+            return Kind.FLOAT;
+        } else if (primitiveType == double.class) {
+            return Kind.DOUBLE;
+        } else {
+            throw new IllegalArgumentException("The primitiveType (" + primitiveType + ") is not supported.");
+        }
+    }
+
+    private static Class<?> findCollectionImplementation(Class<?> collectionType) {
+        if (!collectionType.isInterface() && !Modifier.isAbstract(collectionType.getModifiers())) {
+            return collectionType;
+        } else if (NavigableSet.class.isAssignableFrom(collectionType)
+                || SortedSet.class.isAssignableFrom(collectionType)) {
+            return TreeSet.class;
+        } else if (Set.class.isAssignableFrom(collectionType)) {
+            return LinkedHashSet.class;
+        } else if (collectionType.isAssignableFrom(ArrayList.class)) {
+            return ArrayList.class;
+        } else {
+            throw new IllegalArgumentException("The collectionType (" + collectionType + ") is not supported.\n"
+                    + "Maybe declare the field as a " + List.class.getSimpleName()
+                    + " or a " + Set.class.getSimpleName() + ".");
+        }
+    }
+
+    private static Class<?> findMapImplementation(Class<?> mapType) {
+        if (!mapType.isInterface() && !Modifier.isAbstract(mapType.getModifiers())) {
+            return mapType;
+        } else if (NavigableMap.class.isAssignableFrom(mapType) || SortedMap.class.isAssignableFrom(mapType)) {
+            return TreeMap.class;
+        } else if (mapType.isAssignableFrom(LinkedHashMap.class)) {
+            return LinkedHashMap.class;
+        } else {
+            throw new IllegalArgumentException("The mapType (" + mapType + ") is not supported.\n"
+                    + "Maybe declare the field as a " + Map.class.getSimpleName() + ".");
+        }
+    }
+
+    private final Kind kind;
+    /**
+     * For {@link Kind#ENUM}, the enum class.
+     * For {@link Kind#COLLECTION} and {@link Kind#MAP}, the class to instantiate.
+     * For {@link Kind#ARRAY}, the component type.
+     */
+    private final Class<?> type;
+    private final boolean nullable;
+    /**
+     * For {@link Kind#COLLECTION} and {@link Kind#ARRAY}, the element type. For {@link Kind#MAP}, the key type.
+     */
+    private final BinaryValueType elementType;
+    /**
+     * For {@link Kind#MAP}, the value type.
+     */
+    private final BinaryValueType valueType;
+
+    private BinaryValueType(Kind kind, Class<?> type, boolean nullable, BinaryValueType elementType,
+            BinaryValueType valueType) {
+        this.kind = kind;
+        this.type = type;
+        this.nullable = nullable;
+        this.elementType = elementType;
+        this.valueType = valueType;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return false for primitive types, which never need a null marker
+     */
+    boolean isNullable() {
+        return nullable;
+    }
+
+    BinaryValueType getElementType() {
+        return elementType;
+    }
+
+    BinaryValueType getValueType() {
+        return valueType;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(" + type.getSimpleName() + ")";
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfIterator;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+import org.optaplanner.persistence.binary.impl.testdata.domain.BinaryTestdataEntity;
+import org.optaplanner.persistence.binary.impl.testdata.domain.BinaryTestdataSolution;
+import org.optaplanner.persistence.binary.impl.testdata.domain.BinaryTestdataValue;
+
+public class BinarySolutionFileIOTest {
+
+    @TempDir
+    File solutionTestDir;
+
+    @Test
+    public void readAndWrite() {
+        BinarySolutionFileIO<BinaryTestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(BinaryTestdataSolution.class, BinaryTestdataEntity.class);
+        File file = new File(solutionTestDir, "testdataSolution.dat");
+
+        BinaryTestdataSolution original = new BinaryTestdataSolution("s1");
+        BinaryTestdataValue originalV1 = new BinaryTestdataValue("v1");
+        originalV1.setCapacity(-7);
+        originalV1.setCost(123_456_789_000L);
+        originalV1.setRatio(0.25);
+        originalV1.setActive(true);
+        originalV1.setLetter('x');
+        originalV1.setColor(BinaryTestdataValue.Color.GREEN);
+        originalV1.setPrice(new BigDecimal("-12.345"));
+        originalV1.setStart(LocalDateTime.of(2021, 6, 1, 9, 30));
+        originalV1.setTagList(Arrays.asList("a", null, "\u00E9"));
+        originalV1.setDistanceMap(Collections.singletonMap("v2", 300));
+        originalV1.setSlots(new int[] { 1, -2, 3 });
+        originalV1.setUuid(UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6"));
+        originalV1.setCachedLabel("transient");
+        BinaryTestdataValue originalV2 = new BinaryTestdataValue("v2");
+        originalV1.setNeighbourSet(new HashSet<>(Collections.singletonList(originalV2)));
+        originalV2.setNeighbourSet(new HashSet<>(Collections.singletonList(originalV1)));
+        original.setValueList(Arrays.asList(originalV1, originalV2));
+        original.setEntityList(Arrays.asList(
+                new BinaryTestdataEntity("e1"), new BinaryTestdataEntity("e2", originalV1),
+                new BinaryTestdataEntity("e3", originalV2)));
+        original.setScore(HardSoftBigDecimalScore.ofUninitialized(-2, new BigDecimal("-1"), new BigDecimal("3.50")));
+        solutionFileIO.write(original, file);
+        BinaryTestdataSolution copy = solutionFileIO.read(file);
+
+        assertThat(copy).isNotSameAs(original);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3");
+        BinaryTestdataValue copyV1 = copy.getValueList().get(0);
+        BinaryTestdataValue copyV2 = copy.getValueList().get(1);
+        assertThat(copy.getEntityList().get(0).getValue()).isNull();
+        assertThat(copy.getEntityList().get(1).getValue()).isSameAs(copyV1);
+        assertThat(copy.getEntityList().get(2).getValue()).isSameAs(copyV2);
+        assertThat(copyV1.getCapacity()).isEqualTo(-7);
+        assertThat(copyV1.getCost()).isEqualTo(123_456_789_000L);
+        assertThat(copyV1.getRatio()).isEqualTo(0.25);
+        assertThat(copyV1.isActive()).isTrue();
+        assertThat(copyV1.getLetter()).isEqualTo('x');
+        assertThat(copyV1.getColor()).isEqualTo(BinaryTestdataValue.Color.GREEN);
+        assertThat(copyV1.getPrice()).isEqualTo(new BigDecimal("-12.345"));
+        assertThat(copyV1.getStart()).isEqualTo(LocalDateTime.of(2021, 6, 1, 9, 30));
+        assertThat(copyV1.getTagList()).containsExactly("a", null, "\u00E9");
+        assertThat(copyV1.getDistanceMap()).containsOnlyKeys("v2").containsValue(300);
+        assertThat(copyV1.getSlots()).containsExactly(1, -2, 3);
+        assertThat(copyV1.getUuid()).isEqualTo(UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6"));
+        assertThat(copyV1.getCachedLabel()).isNull();
+        assertThat(copyV1.getNeighbourSet()).containsExactly(copyV2);
+        assertThat(copyV2.getNeighbourSet()).containsExactly(copyV1);
+        assertThat(copyV2.getCost()).isNull();
+        assertThat(copyV2.getColor()).isNull();
+        assertThat(copyV2.getTagList()).isNull();
+        assertThat(copy.getScore())
+                .isEqualTo(HardSoftBigDecimalScore.ofUninitialized(-2, new BigDecimal("-1"), new BigDecimal("3.50")));
+    }
+
+    @Test
+    public void readAndWriteChained() {
+        BinarySolutionFileIO<TestdataChainedSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataChainedSolution.buildSolutionDescriptor());
+        File file = new File(solutionTestDir, "testdataChainedSolution.dat");
+
+        TestdataChainedSolution original = new TestdataChainedSolution("s1");
+        TestdataChainedAnchor a1 = new TestdataChainedAnchor("a1");
+        TestdataChainedEntity e1 = new TestdataChainedEntity("e1", a1);
+        TestdataChainedEntity e2 = new TestdataChainedEntity("e2", e1);
+        original.setChainedAnchorList(Collections.singletonList(a1));
+        original.setChainedEntityList(Arrays.asList(e2, e1));
+        original.setUnchainedValueList(Collections.emptyList());
+        solutionFileIO.write(original, file);
+        TestdataChainedSolution copy = solutionFileIO.read(file);
+
+        TestdataChainedAnchor copyA1 = copy.getChainedAnchorList().get(0);
+        TestdataChainedEntity copyE2 = copy.getChainedEntityList().get(0);
+        TestdataChainedEntity copyE1 = copy.getChainedEntityList().get(1);
+        assertCode("e2", copyE2);
+        assertThat(copyE2.getChainedObject()).isSameAs(copyE1);
+        assertThat(copyE1.getChainedObject()).isSameAs(copyA1);
+        assertThat(copy.getScore()).isNull();
+    }
+
+    @Test
+    public void readOtherSolutionClass() {
+        File file = new File(solutionTestDir, "testdataSolution.dat");
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1");
+        new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class).write(solution, file);
+
+        BinarySolutionFileIO<TestdataChainedSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataChainedSolution.buildSolutionDescriptor());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining(TestdataSolution.class.getName());
+    }
+
+    @Test
+    public void readUnreachableClass() throws IOException {
+        File file = new File(solutionTestDir, "unreachableClass.dat");
+        writeHeader(file, ProcessBuilder.class.getName(), 1);
+
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining(ProcessBuilder.class.getName());
+    }
+
+    @Test
+    public void readCorruptClassCount() throws IOException {
+        File file = new File(solutionTestDir, "corruptClassCount.dat");
+        writeHeader(file, null, 1_000_000_000);
+
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining("classCount");
+    }
+
+    @Test
+    public void readCorruptObjectCount() throws IOException {
+        File file = new File(solutionTestDir, "corruptObjectCount.dat");
+        writeHeader(file, TestdataSolution.class.getName(), 1, 1_000_000_000);
+
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining("objectCount");
+    }
+
+    @Test
+    public void readEnumWithReorderedConstants() throws IOException {
+        File file = writeColorSolution();
+        // As if the file was written when GREEN was declared before RED
+        replaceBytes(file, enumConstantBytes("RED", "GREEN"), enumConstantBytes("GREEN", "RED"));
+
+        BinaryTestdataSolution copy =
+                new BinarySolutionFileIO<>(BinaryTestdataSolution.class, BinaryTestdataEntity.class).read(file);
+        assertThat(copy.getValueList().get(0).getColor()).isEqualTo(BinaryTestdataValue.Color.RED);
+    }
+
+    @Test
+    public void readEnumWithRemovedConstant() throws IOException {
+        File file = writeColorSolution();
+        replaceBytes(file, enumConstantBytes("RED", "GREEN"), enumConstantBytes("RED", "OLIVE"));
+
+        BinarySolutionFileIO<BinaryTestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(BinaryTestdataSolution.class, BinaryTestdataEntity.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining("OLIVE");
+    }
+
+    @Test
+    public void readOtherFirstClass() throws IOException {
+        File file = new File(solutionTestDir, "otherFirstClass.dat");
+        writeHeader(file, TestdataEntity.class.getName(), 1, 1);
+
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining("is not the solutionClass");
+    }
+
+    private File writeColorSolution() {
+        File file = new File(solutionTestDir, "colorSolution.dat");
+        BinaryTestdataSolution solution = new BinaryTestdataSolution("s1");
+        BinaryTestdataValue value = new BinaryTestdataValue("v1");
+        value.setColor(BinaryTestdataValue.Color.GREEN);
+        solution.setValueList(Collections.singletonList(value));
+        solution.setEntityList(Collections.singletonList(new BinaryTestdataEntity("e1", value)));
+        new BinarySolutionFileIO<>(BinaryTestdataSolution.class, BinaryTestdataEntity.class).write(solution, file);
+        return file;
+    }
+
+    private static byte[] enumConstantBytes(String... constantNames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeVarInt(out, constantNames.length);
+            for (String constantName : constantNames) {
+                writeString(out, constantName);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void replaceBytes(File file, byte[] oldBytes, byte[] newBytes) throws IOException {
+        byte[] fileBytes = Files.readAllBytes(file.toPath());
+        int count = 0;
+        for (int i = 0; i + oldBytes.length <= fileBytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(fileBytes, i, i + oldBytes.length), oldBytes)) {
+                System.arraycopy(newBytes, 0, fileBytes, i, newBytes.length);
+                count++;
+            }
+        }
+        assertThat(count).isEqualTo(1);
+        Files.write(file.toPath(), fileBytes);
+    }
+
+    /**
+     * Writes the start of a {@link TestdataSolution} file, as the {@link BinarySolutionWriter} does.
+     *
+     * @param className sometimes null, the first class in the schema
+     * @param varInts the class count, optionally followed by the object count of the first class
+     */
+    private static void writeHeader(File file, String className, int... varInts) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(BinarySolutionFileIO.MAGIC_NUMBER);
+            out.writeByte(BinarySolutionFileIO.FORMAT_VERSION);
+            writeString(out, TestdataSolution.class.getName());
+            writeVarInt(out, varInts[0]);
+            if (className != null) {
+                writeString(out, className);
+            }
+            for (int i = 1; i < varInts.length; i++) {
+                writeVarInt(out, varInts[i]);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+}
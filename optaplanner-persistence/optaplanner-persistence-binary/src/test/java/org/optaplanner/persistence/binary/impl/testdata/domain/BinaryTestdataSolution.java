@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.testdata.domain;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+
+@PlanningSolution
+public class BinaryTestdataSolution extends BinaryTestdataObject {
+
+    private List<BinaryTestdataValue> valueList;
+    private List<BinaryTestdataEntity> entityList;
+
+    private HardSoftBigDecimalScore score;
+
+    public BinaryTestdataSolution() {
+    }
+
+    public BinaryTestdataSolution(String code) {
+        super(code);
+    }
+
+    @ValueRangeProvider(id = "valueRange")
+    @ProblemFactCollectionProperty
+    public List<BinaryTestdataValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<BinaryTestdataValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<BinaryTestdataEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<BinaryTestdataEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public HardSoftBigDecimalScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftBigDecimalScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.testdata.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Has a field of every kind of value the binary format supports.
+ */
+public class BinaryTestdataValue extends BinaryTestdataObject {
+
+    public enum Color {
+        RED,
+        GREEN
+    }
+
+    private int capacity;
+    private Long cost;
+    private double ratio;
+    private boolean active;
+    private char letter;
+    private Color color;
+    private BigDecimal price;
+    private LocalDateTime start;
+    private List<String> tagList;
+    /**
+     * Hash based, so it must be filled once the values have their code.
+     */
+    private Set<BinaryTestdataValue> neighbourSet;
+    private Map<String, Integer> distanceMap;
+    private int[] slots;
+    /**
+     * Written with Java serialization.
+     */
+    private UUID uuid;
+    private transient String cachedLabel;
+
+    private BinaryTestdataValue() {
+    }
+
+    public BinaryTestdataValue(String code) {
+        super(code);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public Long getCost() {
+        return cost;
+    }
+
+    public void setCost(Long cost) {
+        this.cost = cost;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(double ratio) {
+        this.ratio = ratio;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public char getLetter() {
+        return letter;
+    }
+
+    public void setLetter(char letter) {
+        this.letter = letter;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public void setColor(Color color) {
+        this.color = color;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    public List<String> getTagList() {
+        return tagList;
+    }
+
+    public void setTagList(List<String> tagList) {
+        this.tagList = tagList;
+    }
+
+    public Set<BinaryTestdataValue> getNeighbourSet() {
+        return neighbourSet;
+    }
+
+    public void setNeighbourSet(Set<BinaryTestdataValue> neighbourSet) {
+        this.neighbourSet = neighbourSet;
+    }
+
+    public Map<String, Integer> getDistanceMap() {
+        return distanceMap;
+    }
+
+    public void setDistanceMap(Map<String, Integer> distanceMap) {
+        this.distanceMap = distanceMap;
+    }
+
+    public int[] getSlots() {
+        return slots;
+    }
+
+    public void setSlots(int[] slots) {
+        this.slots = slots;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    public String getCachedLabel() {
+        return cachedLabel;
+    }
+
+    public void setCachedLabel(String cachedLabel) {
+        this.cachedLabel = cachedLabel;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return code.equals(((BinaryTestdataValue) o).code);
+    }
+
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
+
+}
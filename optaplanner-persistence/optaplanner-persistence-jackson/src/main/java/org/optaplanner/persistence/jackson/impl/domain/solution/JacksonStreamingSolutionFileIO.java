@@ -0,0 +1,572 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * A {@link SolutionFileIO} for large datasets, which writes every genuine planning variable
+ * as the {@link PlanningId} of its value, instead of relying on Jackson object identity to link entities and values.
+ * <p>
+ * While reading, those references are queued in flat arrays and resolved once the whole file has been bound,
+ * with a single pass over the problem facts and planning entities to build a primitive id index.
+ * So Jackson doesn't need to track an object id for every value
+ * and the file can list the entities before or after their values.
+ * <p>
+ * Every planning entity class and every class of a genuine planning variable value
+ * (including the anchors of a chained variable) must have a {@link PlanningId}.
+ * Shadow variables are written and read by Jackson as usual.
+ * <p>
+ * {@link #writeVariableDelta(Object, Object, File)} writes only the genuine planning variables
+ * that changed between 2 solutions, for example between 2 best solutions,
+ * and {@link #applyVariableDelta(File, Object)} applies such a file on another copy of that solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonStreamingSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private static final String PENDING_REFERENCES_ATTRIBUTE = PendingReferences.class.getName();
+    private static final String DELTA_ID_FIELD_NAME = "id";
+    private static final JsonDeserializer<Object> UNUSED_VALUE_DESERIALIZER = new JsonDeserializer<Object>() {
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) {
+            throw new IllegalStateException("Impossible state: the planning variable is read by "
+                    + PlanningIdReferenceProperty.class.getSimpleName() + ".");
+        }
+    };
+
+    private final Class<Solution_> clazz;
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final Map<String, EntityDescriptor<Solution_>> entityClassNameToDescriptorMap;
+    private final Set<Class<?>> variablePropertyTypeSet;
+    private final Map<Class<?>, MemberAccessor> planningIdMemberAccessorMap = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JacksonStreamingSolutionFileIO(Class<Solution_> clazz, Class<?>... entityClasses) {
+        this(clazz, new ObjectMapper(), entityClasses);
+    }
+
+    /**
+     * @param clazz never null
+     * @param mapper never null, it is copied, so it isn't affected by the extra module this class registers
+     * @param entityClasses never null
+     */
+    public JacksonStreamingSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper, Class<?>... entityClasses) {
+        this.clazz = clazz;
+        solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(clazz, entityClasses);
+        entityClassNameToDescriptorMap = new HashMap<>();
+        variablePropertyTypeSet = new LinkedHashSet<>();
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            entityClassNameToDescriptorMap.put(entityDescriptor.getEntityClass().getName(), entityDescriptor);
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                variablePropertyTypeSet.add(variableDescriptor.getVariablePropertyType());
+            }
+        }
+        SimpleModule module = new SimpleModule(getClass().getSimpleName());
+        module.setSerializerModifier(new PlanningIdSerializerModifier());
+        module.setDeserializerModifier(new PlanningIdDeserializerModifier());
+        this.mapper = mapper.copy().registerModule(module);
+        reader = this.mapper.readerFor(clazz);
+        writer = this.mapper.writerFor(clazz);
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "json";
+    }
+
+    @Override
+    public String getOutputFileExtension() {
+        return "json";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        PendingReferences pendingReferences = new PendingReferences();
+        Solution_ solution;
+        try {
+            solution = reader.withAttribute(PENDING_REFERENCES_ATTRIBUTE, pendingReferences)
+                    .readValue(inputSolutionFile);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+        resolvePendingReferences(pendingReferences, solution);
+        return solution;
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try {
+            writer.writeValue(outputSolutionFile, solution);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    // ************************************************************************
+    // Delta methods
+    // ************************************************************************
+
+    /**
+     * Writes the genuine planning variables of the planning entities of the solution
+     * that differ from the same planning entity (by {@link PlanningId}) in the previous solution.
+     * The output looks like {@code {"com.example.Lesson": [{"id": 1, "timeslot": 7, "room": 3}]}}.
+     *
+     * @param previousSolution sometimes null, in which case every genuine planning variable is written
+     * @param solution never null
+     * @param outputFile never null
+     */
+    public void writeVariableDelta(Solution_ previousSolution, Solution_ solution, File outputFile) {
+        Map<EntityDescriptor<Solution_>, PlanningIdIndex> previousEntityIndexMap = previousSolution == null
+                ? Collections.emptyMap()
+                : buildEntityIndexMap(previousSolution);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            for (Map.Entry<EntityDescriptor<Solution_>, List<Object>> entry : groupEntities(solution).entrySet()) {
+                EntityDescriptor<Solution_> entityDescriptor = entry.getKey();
+                PlanningIdIndex previousEntityIndex = previousEntityIndexMap.get(entityDescriptor);
+                boolean arrayStarted = false;
+                for (Object entity : entry.getValue()) {
+                    Object id = extractPlanningId(entity);
+                    Object previousEntity = previousEntityIndex == null ? null : lookUp(previousEntityIndex, id);
+                    boolean entityStarted = false;
+                    for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                            .getGenuineVariableDescriptors()) {
+                        Object value = variableDescriptor.getValue(entity);
+                        if (previousEntity != null
+                                && isSameReference(value, variableDescriptor.getValue(previousEntity))) {
+                            continue;
+                        }
+                        if (!arrayStarted) {
+                            generator.writeArrayFieldStart(entityDescriptor.getEntityClass().getName());
+                            arrayStarted = true;
+                        }
+                        if (!entityStarted) {
+                            generator.writeStartObject();
+                            generator.writeFieldName(DELTA_ID_FIELD_NAME);
+                            writePlanningId(generator, id);
+                            entityStarted = true;
+                        }
+                        generator.writeFieldName(variableDescriptor.getVariableName());
+                        writeReference(generator, value);
+                    }
+                    if (entityStarted) {
+                        generator.writeEndObject();
+                    }
+                }
+                if (arrayStarted) {
+                    generator.writeEndArray();
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputFile (" + outputFile + ").", e);
+        }
+    }
+
+    /**
+     * Applies a file written by {@link #writeVariableDelta(Object, Object, File)} on the solution.
+     * <p>
+     * The genuine planning variables are set directly, so shadow variables are not updated
+     * and the solution must not be the working solution of a solver.
+     *
+     * @param inputFile never null
+     * @param solution never null
+     */
+    public void applyVariableDelta(File inputFile, Solution_ solution) {
+        Map<EntityDescriptor<Solution_>, PlanningIdIndex> entityIndexMap = buildEntityIndexMap(solution);
+        Map<Class<?>, PlanningIdIndex> valueIndexMap = buildValueIndexMap(solution);
+        try (JsonParser parser = mapper.getFactory().createParser(inputFile)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String entityClassName = parser.getCurrentName();
+                EntityDescriptor<Solution_> entityDescriptor = entityClassNameToDescriptorMap.get(entityClassName);
+                if (entityDescriptor == null) {
+                    throw new JsonParseException(parser, "The entityClass (" + entityClassName
+                            + ") is not a planning entity class of the solutionClass (" + clazz + ").");
+                }
+                PlanningIdIndex entityIndex = entityIndexMap.getOrDefault(entityDescriptor, new PlanningIdIndex());
+                expectToken(parser, parser.nextToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    expectToken(parser, parser.nextToken(), JsonToken.FIELD_NAME);
+                    if (!DELTA_ID_FIELD_NAME.equals(parser.getCurrentName())) {
+                        throw new JsonParseException(parser, "The first field (" + parser.getCurrentName()
+                                + ") of an entity must be the field (" + DELTA_ID_FIELD_NAME + ").");
+                    }
+                    parser.nextToken();
+                    Object entity = lookUpReference(parser, entityIndex);
+                    if (entity == null) {
+                        throw new JsonParseException(parser, "The planning id (" + parser.getText()
+                                + ") matches no planning entity of the entityClass (" + entityClassName + ").");
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String variableName = parser.getCurrentName();
+                        GenuineVariableDescriptor<Solution_> variableDescriptor =
+                                entityDescriptor.getGenuineVariableDescriptor(variableName);
+                        if (variableDescriptor == null) {
+                            throw new JsonParseException(parser,
+                                    entityDescriptor.buildInvalidVariableNameExceptionMessage(variableName));
+                        }
+                        parser.nextToken();
+                        Object value = null;
+                        if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                            value = lookUpReference(parser,
+                                    valueIndexMap.get(variableDescriptor.getVariablePropertyType()));
+                            if (value == null) {
+                                throw new JsonParseException(parser, "The planning variable ("
+                                        + variableDescriptor.getSimpleEntityAndVariableName()
+                                        + ") of entity (" + entity + ") references a planning id (" + parser.getText()
+                                        + ") that matches no problem fact or planning entity.");
+                            }
+                        }
+                        variableDescriptor.setValue(entity, value);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputFile (" + inputFile + ").", e);
+        }
+    }
+
+    // ************************************************************************
+    // Planning id methods
+    // ************************************************************************
+
+    private MemberAccessor findPlanningIdMemberAccessor(Class<?> objectClass) {
+        MemberAccessor memberAccessor = ConfigUtils.findPlanningIdMemberAccessor(objectClass,
+                solutionDescriptor.getDomainAccessType(), Collections.emptyMap());
+        if (memberAccessor == null) {
+            throw new IllegalArgumentException("The class (" + objectClass
+                    + ") has no member with a @" + PlanningId.class.getSimpleName() + " annotation,"
+                    + " so it cannot be referenced by a planning variable in a streaming solution file.\n"
+                    + "Maybe add a @" + PlanningId.class.getSimpleName() + " annotation on its id member.");
+        }
+        return memberAccessor;
+    }
+
+    private Object extractPlanningId(Object object) {
+        MemberAccessor memberAccessor = planningIdMemberAccessorMap.computeIfAbsent(object.getClass(),
+                this::findPlanningIdMemberAccessor);
+        Object id = memberAccessor.executeGetter(object);
+        if (id == null) {
+            throw new IllegalStateException("The object (" + object + ") of class (" + object.getClass()
+                    + ") has a null planning id, so it cannot be referenced in a streaming solution file.");
+        }
+        return id;
+    }
+
+    private void writeReference(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            writePlanningId(generator, extractPlanningId(value));
+        }
+    }
+
+    private static void writePlanningId(JsonGenerator generator, Object id) throws IOException {
+        if (PlanningIdIndex.isIntegralId(id)) {
+            generator.writeNumber(((Number) id).longValue());
+        } else {
+            generator.writeString(id.toString());
+        }
+    }
+
+    private boolean isSameReference(Object value, Object previousValue) {
+        if (value == null || previousValue == null) {
+            return value == previousValue;
+        }
+        return Objects.equals(extractPlanningId(value), extractPlanningId(previousValue));
+    }
+
+    private static Object lookUp(PlanningIdIndex index, Object id) {
+        return PlanningIdIndex.isIntegralId(id) ? index.get(((Number) id).longValue()) : index.get(id.toString());
+    }
+
+    private static Object lookUpReference(JsonParser parser, PlanningIdIndex index) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return index.get(parser.getLongValue());
+        } else if (token == JsonToken.VALUE_STRING) {
+            return index.get(parser.getText());
+        } else {
+            throw new JsonParseException(parser, "A planning id must be a number or a string, but it is a ("
+                    + token + ").");
+        }
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken token, JsonToken expectedToken) throws IOException {
+        if (token != expectedToken) {
+            throw new JsonParseException(parser, "Expected a token (" + expectedToken + ") but got (" + token + ").");
+        }
+    }
+
+    private void addToIndex(PlanningIdIndex index, Object object) {
+        Object id = extractPlanningId(object);
+        Object duplicate = index.put(id, object);
+        if (duplicate != null && duplicate != object) {
+            throw new IllegalStateException("The objects (" + duplicate + ", " + object
+                    + ") have the same planning id (" + id + ").");
+        }
+    }
+
+    private Map<Class<?>, PlanningIdIndex> buildValueIndexMap(Solution_ solution) {
+        Map<Class<?>, PlanningIdIndex> valueIndexMap = new LinkedHashMap<>(variablePropertyTypeSet.size());
+        for (Class<?> variablePropertyType : variablePropertyTypeSet) {
+            valueIndexMap.put(variablePropertyType, new PlanningIdIndex());
+        }
+        // Includes the planning entities too, for chained variables
+        for (Object fact : solutionDescriptor.getAllFacts(solution)) {
+            for (Map.Entry<Class<?>, PlanningIdIndex> entry : valueIndexMap.entrySet()) {
+                if (entry.getKey().isInstance(fact)) {
+                    addToIndex(entry.getValue(), fact);
+                }
+            }
+        }
+        return valueIndexMap;
+    }
+
+    private Map<EntityDescriptor<Solution_>, List<Object>> groupEntities(Solution_ solution) {
+        Map<EntityDescriptor<Solution_>, List<Object>> entityDescriptorToEntitiesMap = new LinkedHashMap<>();
+        for (Object entity : solutionDescriptor.getEntityList(solution)) {
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            entityDescriptorToEntitiesMap.computeIfAbsent(entityDescriptor, k -> new ArrayList<>()).add(entity);
+        }
+        return entityDescriptorToEntitiesMap;
+    }
+
+    private Map<EntityDescriptor<Solution_>, PlanningIdIndex> buildEntityIndexMap(Solution_ solution) {
+        Map<EntityDescriptor<Solution_>, PlanningIdIndex> entityIndexMap = new HashMap<>();
+        for (Object entity : solutionDescriptor.getEntityList(solution)) {
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            addToIndex(entityIndexMap.computeIfAbsent(entityDescriptor, k -> new PlanningIdIndex()), entity);
+        }
+        return entityIndexMap;
+    }
+
+    private void resolvePendingReferences(PendingReferences pendingReferences, Solution_ solution) {
+        if (pendingReferences.size == 0) {
+            return;
+        }
+        Map<Class<?>, PlanningIdIndex> valueIndexMap = buildValueIndexMap(solution);
+        for (int i = 0; i < pendingReferences.size; i++) {
+            Object entity = pendingReferences.entities[i];
+            GenuineVariableDescriptor<?> variableDescriptor = pendingReferences.variableDescriptors[i];
+            PlanningIdIndex valueIndex = valueIndexMap.get(variableDescriptor.getVariablePropertyType());
+            String stringId = pendingReferences.stringIds[i];
+            Object value = stringId == null ? valueIndex.get(pendingReferences.longIds[i]) : valueIndex.get(stringId);
+            if (value == null) {
+                throw new IllegalStateException("The planning variable ("
+                        + variableDescriptor.getSimpleEntityAndVariableName()
+                        + ") of entity (" + entity + ") references a planning id ("
+                        + (stringId == null ? pendingReferences.longIds[i] : stringId)
+                        + ") that matches no problem fact or planning entity.");
+            }
+            variableDescriptor.setValue(entity, value);
+        }
+    }
+
+    // ************************************************************************
+    // Jackson extensions
+    // ************************************************************************
+
+    /**
+     * The genuine planning variables of all entities read from a file, in flat arrays,
+     * so a file with millions of entities doesn't create a holder object per reference.
+     */
+    private static final class PendingReferences {
+
+        private int size = 0;
+        private Object[] entities = new Object[64];
+        private GenuineVariableDescriptor<?>[] variableDescriptors = new GenuineVariableDescriptor<?>[64];
+        private long[] longIds = new long[64];
+        /**
+         * An element is null if the id is integral and therefore in {@link #longIds}.
+         */
+        private String[] stringIds = new String[64];
+
+        private void add(JsonParser parser, Object entity, GenuineVariableDescriptor<?> variableDescriptor)
+                throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            if (size == entities.length) {
+                int capacity = size * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                variableDescriptors = Arrays.copyOf(variableDescriptors, capacity);
+                longIds = Arrays.copyOf(longIds, capacity);
+                stringIds = Arrays.copyOf(stringIds, capacity);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                longIds[size] = parser.getLongValue();
+                stringIds[size] = null;
+            } else if (token == JsonToken.VALUE_STRING) {
+                stringIds[size] = parser.getText();
+            } else {
+                throw new JsonParseException(parser, "The planning variable ("
+                        + variableDescriptor.getSimpleEntityAndVariableName()
+                        + ") must be a planning id (a number or a string), but it is a (" + token + ").");
+            }
+            entities[size] = entity;
+            variableDescriptors[size] = variableDescriptor;
+            size++;
+        }
+
+    }
+
+    private final class PlanningIdSerializer extends JsonSerializer<Object> {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            writeReference(generator, value);
+        }
+
+    }
+
+    private final class PlanningIdSerializerModifier extends BeanSerializerModifier {
+
+        private final PlanningIdSerializer planningIdSerializer = new PlanningIdSerializer();
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                List<BeanPropertyWriter> beanProperties) {
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptor(beanDesc.getBeanClass());
+            if (entityDescriptor != null) {
+                for (BeanPropertyWriter beanProperty : beanProperties) {
+                    if (entityDescriptor.getGenuineVariableDescriptor(beanProperty.getName()) != null) {
+                        beanProperty.assignSerializer(planningIdSerializer);
+                    }
+                }
+            }
+            return beanProperties;
+        }
+
+    }
+
+    private final class PlanningIdDeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                BeanDeserializerBuilder builder) {
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptor(beanDesc.getBeanClass());
+            if (entityDescriptor != null) {
+                for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                        .getGenuineVariableDescriptorList()) {
+                    SettableBeanProperty property =
+                            builder.findProperty(PropertyName.construct(variableDescriptor.getVariableName()));
+                    if (property != null) {
+                        // Without a value deserializer, Jackson would resolve one itself
+                        // and bypass this property if the value class has a @JsonIdentityInfo
+                        property = property.withValueDeserializer(UNUSED_VALUE_DESERIALIZER);
+                        builder.addOrReplaceProperty(
+                                new PlanningIdReferenceProperty(property, variableDescriptor), true);
+                    }
+                }
+            }
+            return builder;
+        }
+
+    }
+
+    /**
+     * Defers setting a genuine planning variable until all problem facts have been read.
+     */
+    private static final class PlanningIdReferenceProperty extends SettableBeanProperty.Delegating {
+
+        private final GenuineVariableDescriptor<?> variableDescriptor;
+
+        private PlanningIdReferenceProperty(SettableBeanProperty delegate,
+                GenuineVariableDescriptor<?> variableDescriptor) {
+            super(delegate);
+            this.variableDescriptor = variableDescriptor;
+        }
+
+        @Override
+        protected SettableBeanProperty withDelegate(SettableBeanProperty delegate) {
+            return new PlanningIdReferenceProperty(delegate, variableDescriptor);
+        }
+
+        @Override
+        public void deserializeAndSet(JsonParser parser, DeserializationContext context, Object instance)
+                throws IOException {
+            PendingReferences pendingReferences =
+                    (PendingReferences) context.getAttribute(PENDING_REFERENCES_ATTRIBUTE);
+            pendingReferences.add(parser, instance, variableDescriptor);
+        }
+
+        @Override
+        public Object deserializeSetAndReturn(JsonParser parser, DeserializationContext context, Object instance)
+                throws IOException {
+            deserializeAndSet(parser, context, instance);
+            return instance;
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+/**
+ * Maps {@link PlanningId planning ids} to the objects that have them.
+ * <p>
+ * Integral ids ({@link Long}, {@link Integer}, {@link Short} and {@link Byte}) are kept in an open addressing table
+ * of primitive longs, so looking up an id that was just parsed from JSON doesn't box it.
+ * Other ids are keyed by their {@link Object#toString()}, which is also how they are written in JSON.
+ */
+final class PlanningIdIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] longKeys = new long[INITIAL_CAPACITY];
+    private Object[] longValues = new Object[INITIAL_CAPACITY];
+    private int longSize = 0;
+    private final Map<String, Object> stringIdMap = new HashMap<>();
+
+    static boolean isIntegralId(Object id) {
+        return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+    }
+
+    /**
+     * @param id never null
+     * @param object never null
+     * @return null if no other object had that id yet, otherwise the other object
+     */
+    Object put(Object id, Object object) {
+        if (isIntegralId(id)) {
+            return putLong(((Number) id).longValue(), object);
+        } else {
+            return stringIdMap.putIfAbsent(id.toString(), object);
+        }
+    }
+
+    Object get(long id) {
+        int mask = longKeys.length - 1;
+        for (int i = hash(id) & mask;; i = (i + 1) & mask) {
+            Object value = longValues[i];
+            if (value == null || longKeys[i] == id) {
+                return value;
+            }
+        }
+    }
+
+    Object get(String id) {
+        return stringIdMap.get(id);
+    }
+
+    private Object putLong(long id, Object object) {
+        if ((longSize + 1) * 2 > longKeys.length) {
+            resize(longKeys.length * 2);
+        }
+        int mask = longKeys.length - 1;
+        for (int i = hash(id) & mask;; i = (i + 1) & mask) {
+            Object value = longValues[i];
+            if (value == null) {
+                longKeys[i] = id;
+                longValues[i] = object;
+                longSize++;
+                return null;
+            } else if (longKeys[i] == id) {
+                return value;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = longKeys;
+        Object[] oldValues = longValues;
+        longKeys = new long[capacity];
+        longValues = new Object[capacity];
+        longSize = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                putLong(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "PlanningIdIndex(" + (longSize + stringIdMap.size()) + ")";
+    }
+
+}
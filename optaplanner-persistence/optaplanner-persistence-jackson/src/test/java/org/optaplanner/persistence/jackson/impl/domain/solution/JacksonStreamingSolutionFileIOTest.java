@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfIterator;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataEntity;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
+
+public class JacksonStreamingSolutionFileIOTest {
+
+    @TempDir
+    File solutionTestDir;
+
+    private final JacksonStreamingSolutionFileIO<JacksonTestdataSolution> solutionFileIO =
+            new JacksonStreamingSolutionFileIO<>(JacksonTestdataSolution.class, JacksonTestdataEntity.class);
+
+    @Test
+    public void readAndWrite() throws IOException {
+        File file = new File(solutionTestDir, "testdataSolution.json");
+
+        JacksonTestdataSolution original = buildSolution();
+        solutionFileIO.write(original, file);
+        assertThat(new String(Files.readAllBytes(file.toPath()), "UTF-8")).contains("\"value\":\"v1\"");
+        JacksonTestdataSolution copy = solutionFileIO.read(file);
+
+        assertThat(copy).isNotSameAs(original);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3");
+        JacksonTestdataValue copyV1 = copy.getValueList().get(0);
+        assertThat(copy.getEntityList().get(0).getValue()).isNull();
+        assertThat(copy.getEntityList().get(1).getValue()).isSameAs(copyV1);
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(-321));
+    }
+
+    @Test
+    public void writeAndApplyVariableDelta() throws IOException {
+        File solutionFile = new File(solutionTestDir, "testdataSolution.json");
+        File deltaFile = new File(solutionTestDir, "testdataSolutionDelta.json");
+
+        JacksonTestdataSolution previous = buildSolution();
+        solutionFileIO.write(previous, solutionFile);
+        JacksonTestdataSolution next = solutionFileIO.read(solutionFile);
+        next.getEntityList().get(0).setValue(next.getValueList().get(1));
+        next.getEntityList().get(1).setValue(next.getValueList().get(1));
+        solutionFileIO.writeVariableDelta(previous, next, deltaFile);
+        String delta = new String(Files.readAllBytes(deltaFile.toPath()), "UTF-8");
+        assertThat(delta).contains("\"e1\"", "\"e2\"").doesNotContain("\"e3\"", "\"v1\"");
+
+        JacksonTestdataSolution replica = solutionFileIO.read(solutionFile);
+        solutionFileIO.applyVariableDelta(deltaFile, replica);
+        JacksonTestdataValue replicaV2 = replica.getValueList().get(1);
+        assertThat(replica.getEntityList().get(0).getValue()).isSameAs(replicaV2);
+        assertThat(replica.getEntityList().get(1).getValue()).isSameAs(replicaV2);
+        assertThat(replica.getEntityList().get(2).getValue()).isNull();
+    }
+
+    @Test
+    public void writeVariableDeltaWithoutPreviousSolution() {
+        File deltaFile = new File(solutionTestDir, "testdataSolutionDelta.json");
+
+        solutionFileIO.writeVariableDelta(null, buildSolution(), deltaFile);
+        JacksonTestdataSolution replica = buildSolution();
+        replica.getEntityList().forEach(entity -> entity.setValue(replica.getValueList().get(1)));
+        solutionFileIO.applyVariableDelta(deltaFile, replica);
+        assertThat(replica.getEntityList().get(0).getValue()).isNull();
+        assertThat(replica.getEntityList().get(1).getValue()).isSameAs(replica.getValueList().get(0));
+        assertThat(replica.getEntityList().get(2).getValue()).isNull();
+    }
+
+    private static JacksonTestdataSolution buildSolution() {
+        JacksonTestdataSolution solution = new JacksonTestdataSolution("s1");
+        JacksonTestdataValue v1 = new JacksonTestdataValue("v1");
+        solution.setValueList(Arrays.asList(v1, new JacksonTestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", v1), new JacksonTestdataEntity("e3")));
+        solution.setScore(SimpleScore.of(-321));
+        return solution;
+    }
+
+}
@@ -55,6 +55,7 @@ import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.quarkus.OptaPlannerBeanProvider;
+import org.optaplanner.quarkus.OptaPlannerMicrometerBeanProvider;
 import org.optaplanner.quarkus.OptaPlannerRecorder;
 import org.optaplanner.quarkus.config.OptaPlannerRuntimeConfig;
 import org.optaplanner.quarkus.deployment.config.OptaPlannerBuildTimeConfig;
@@ -210,6 +211,9 @@ class OptaPlannerProcessor {
                 .supplier(recorder.solverManagerConfig(solverManagerConfig)).done());
 
         additionalBeans.produce(new AdditionalBeanBuildItem(OptaPlannerBeanProvider.class));
+        if (capabilities.isPresent("io.quarkus.micrometer")) {
+            additionalBeans.produce(new AdditionalBeanBuildItem(OptaPlannerMicrometerBeanProvider.class));
+        }
         unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(OptaPlannerRuntimeConfig.class));
     }
 
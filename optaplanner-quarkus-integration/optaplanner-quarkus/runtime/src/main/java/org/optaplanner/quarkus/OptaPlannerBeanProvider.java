@@ -16,6 +16,7 @@
 
 package org.optaplanner.quarkus;
 
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Singleton;
 
@@ -34,6 +35,7 @@ import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalS
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.quarkus.config.OptaPlannerRuntimeConfig;
@@ -46,7 +48,11 @@ public class OptaPlannerBeanProvider {
     @Singleton
     @Produces
     <Solution_> SolverFactory<Solution_> solverFactory(SolverConfig solverConfig,
-            OptaPlannerRuntimeConfig optaPlannerRunTimeConfig) {
+            OptaPlannerRuntimeConfig optaPlannerRunTimeConfig,
+            Instance<SolverMetricsRegistry> metricsRegistryInstance) {
+        if (solverConfig.getMetricsRegistry() == null && metricsRegistryInstance.isResolvable()) {
+            solverConfig = new SolverConfig(solverConfig).withMetricsRegistry(metricsRegistryInstance.get());
+        }
         SolverFactory<Solution_> solverFactory = SolverFactory.create(solverConfig);
         return solverFactory;
     }
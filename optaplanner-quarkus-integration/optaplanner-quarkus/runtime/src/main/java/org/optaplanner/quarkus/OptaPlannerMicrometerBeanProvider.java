@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.quarkus;
+
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.monitoring.MicrometerSolverMetricsRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * Only registered if the quarkus-micrometer extension is present.
+ */
+public class OptaPlannerMicrometerBeanProvider {
+
+    @DefaultBean
+    @Singleton
+    @Produces
+    SolverMetricsRegistry solverMetricsRegistry(MeterRegistry meterRegistry) {
+        return new MicrometerSolverMetricsRegistry(meterRegistry);
+    }
+
+}
@@ -35,10 +35,12 @@ import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.api.solver.monitoring.SolverMetricsRegistry;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.solver.monitoring.MicrometerSolverMetricsRegistry;
 import org.optaplanner.persistence.jackson.api.OptaPlannerJacksonModule;
 import org.optaplanner.test.api.score.stream.ConstraintVerifier;
 import org.optaplanner.test.api.score.stream.MultiConstraintVerification;
@@ -46,7 +48,9 @@ import org.optaplanner.test.api.score.stream.SingleConstraintVerification;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -63,7 +67,11 @@ import org.springframework.util.ClassUtils;
 
 import com.fasterxml.jackson.databind.Module;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
+@AutoConfigureAfter(
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnClass({ SolverConfig.class, SolverFactory.class, ScoreManager.class, SolverManager.class })
 @ConditionalOnMissingBean({ SolverConfig.class, SolverFactory.class, ScoreManager.class, SolverManager.class })
 @EnableConfigurationProperties({ OptaPlannerProperties.class })
@@ -130,6 +138,9 @@ public class OptaPlannerAutoConfiguration implements BeanClassLoaderAware {
         }
 
         applySolverProperties(solverConfig);
+        if (solverConfig.getMetricsRegistry() == null) {
+            solverConfig.setMetricsRegistry(context.getBeanProvider(SolverMetricsRegistry.class).getIfAvailable());
+        }
         return solverConfig;
     }
 
@@ -379,6 +390,20 @@ public class OptaPlannerAutoConfiguration implements BeanClassLoaderAware {
 
     }
 
+    // @Bean wrapped by static class to avoid classloading issues if dependencies are absent
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ MeterRegistry.class })
+    @ConditionalOnBean({ MeterRegistry.class })
+    static class OptaPlannerMicrometerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        SolverMetricsRegistry solverMetricsRegistry(MeterRegistry meterRegistry) {
+            return new MicrometerSolverMetricsRegistry(meterRegistry);
+        }
+
+    }
+
     private static class IncludeAbstractClassesEntityScanner extends EntityScanner {
 
         public IncludeAbstractClassesEntityScanner(ApplicationContext context) {